@@ -32,6 +32,8 @@ subprojects {
         // Lombok 라이브러리
         implementation("org.projectlombok:lombok") // Lombok 라이브러리
         annotationProcessor("org.projectlombok:lombok") // Lombok annotation processor
+
+        testImplementation("org.springframework.boot:spring-boot-starter-test") // JUnit 5, spring-test 목 객체
     }
 
     java {
@@ -39,4 +41,29 @@ subprojects {
             languageVersion.set(JavaLanguageVersion.of(21))
         }
     }
+
+    tasks.withType<Test> {
+        useJUnitPlatform()
+    }
+
+    // JMH 벤치마크 (src/jmh/java)
+    val jmh = sourceSets.create("jmh") {
+        compileClasspath += sourceSets["main"].output + configurations["runtimeClasspath"]
+        runtimeClasspath += sourceSets["main"].output + configurations["runtimeClasspath"]
+    }
+
+    dependencies {
+        "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+        "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+        "jmhImplementation"("org.springframework:spring-test") // 벤치마크 입력용 목 요청 및 응답
+    }
+
+    // 예: ./gradlew :common-module:jmh -PjmhArgs="CachedServletInputStreamBenchmark -prof gc"
+    tasks.register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "src/jmh/java의 JMH 벤치마크를 실행합니다."
+        classpath = jmh.runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        args((findProperty("jmhArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList<String>())
+    }
 }
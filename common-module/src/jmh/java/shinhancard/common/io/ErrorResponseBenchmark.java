@@ -0,0 +1,58 @@
+package shinhancard.common.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import shinhancard.common.trace.RandomTraceIdGenerator;
+import shinhancard.common.trace.TraceIdGenerator;
+
+/**
+ * 요청을 거부할 때 에러 응답 본문을 만드는 비용을 비교합니다.
+ * <p>
+ * 이전 방식은 요청마다 {@link UUID}로 traceId를 만들고 {@link ResponseVo}를 Jackson으로 직렬화한 뒤 바이트로 인코딩했습니다.
+ * 현재 방식은 {@link RandomTraceIdGenerator}로 만든 traceId를 {@link ErrorResponseTemplates}의 템플릿에 끼워 넣습니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ErrorResponseBenchmark {
+
+	private static final ResponseCode RESPONSE_CODE = ResponseCode.XSS_IN_BODY;
+
+	private final TraceIdGenerator traceIdGenerator = new RandomTraceIdGenerator();
+
+	@Benchmark
+	public byte[] serializeResponseVo() {
+		String traceId = UUID.randomUUID().toString();
+		return ResponseVo.error(RESPONSE_CODE, Optional.of(traceId)).toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public byte[] templateToBytes() {
+		return ErrorResponseTemplates.toBytes(RESPONSE_CODE, Optional.of(traceIdGenerator.generate()));
+	}
+
+	@Benchmark
+	public int templateWriteTo() throws IOException {
+		return ErrorResponseTemplates.writeTo(OutputStream.nullOutputStream(), RESPONSE_CODE,
+			Optional.of(traceIdGenerator.generate()));
+	}
+}
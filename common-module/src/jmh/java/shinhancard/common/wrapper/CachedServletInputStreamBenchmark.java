@@ -0,0 +1,123 @@
+package shinhancard.common.wrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+/**
+ * 캐시된 요청 본문을 읽는 비용을 {@link CachedServletInputStream}과 바이트 단위로만 읽던 이전 구현으로 비교합니다.
+ * <p>
+ * Jackson처럼 고정 크기 배열로 나누어 읽는 경우, {@link InputStream#readAllBytes()}로 한 번에 읽는 경우,
+ * {@link InputStream#transferTo(OutputStream)}로 전송하는 경우를 측정합니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CachedServletInputStreamBenchmark {
+
+	@Param({"4096", "65536"})
+	private int bodySize;
+
+	private byte[] body;
+	private final byte[] readBuffer = new byte[8000]; // Jackson의 기본 읽기 버퍼 크기
+
+	@Setup
+	public void setUp() {
+		body = new byte[bodySize];
+		Arrays.fill(body, (byte)'a');
+	}
+
+	@Benchmark
+	public int bufferedReadPerByte() throws IOException {
+		return drain(new PerByteServletInputStream(body));
+	}
+
+	@Benchmark
+	public int bufferedReadCached() throws IOException {
+		return drain(new CachedServletInputStream(ByteBuffer.wrap(body)));
+	}
+
+	@Benchmark
+	public byte[] readAllBytesPerByte() throws IOException {
+		return new PerByteServletInputStream(body).readAllBytes();
+	}
+
+	@Benchmark
+	public byte[] readAllBytesCached() throws IOException {
+		return new CachedServletInputStream(ByteBuffer.wrap(body)).readAllBytes();
+	}
+
+	@Benchmark
+	public long transferToPerByte() throws IOException {
+		return new PerByteServletInputStream(body).transferTo(OutputStream.nullOutputStream());
+	}
+
+	@Benchmark
+	public long transferToCached() throws IOException {
+		return new CachedServletInputStream(ByteBuffer.wrap(body)).transferTo(OutputStream.nullOutputStream());
+	}
+
+	private int drain(InputStream inputStream) throws IOException {
+		int total = 0;
+		int count;
+		while ((count = inputStream.read(readBuffer, 0, readBuffer.length)) != -1) {
+			total += count;
+		}
+		return total;
+	}
+
+	/**
+	 * {@link #read()}만 재정의하여 배열 읽기도 바이트마다 호출하던 이전 {@link CachedServletInputStream}입니다.
+	 */
+	private static final class PerByteServletInputStream extends ServletInputStream {
+
+		private final ByteArrayInputStream inputStream;
+
+		PerByteServletInputStream(byte[] data) {
+			this.inputStream = new ByteArrayInputStream(data);
+		}
+
+		@Override
+		public boolean isFinished() {
+			return inputStream.available() == 0;
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setReadListener(ReadListener readListener) {
+			// 이전 구현은 리스너를 지원하지 않음
+		}
+
+		@Override
+		public int read() {
+			return inputStream.read();
+		}
+	}
+}
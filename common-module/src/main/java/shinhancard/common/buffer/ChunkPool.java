@@ -0,0 +1,104 @@
+package shinhancard.common.buffer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 고정 크기 바이트 청크를 재사용하기 위한 크기 제한 풀입니다.
+ * <p>
+ * 풀은 여러 개의 스트라이프로 나뉘며, 스레드마다 정해진 스트라이프를 먼저 사용하여 경합을 줄입니다.
+ * 풀이 비어 있으면 새 청크를 할당하고, 가득 차 있으면 반환된 청크를 버려 GC에 맡깁니다.
+ * 따라서 풀이 보관하는 메모리는 {@code chunkSize * maxPooledChunks}를 넘지 않습니다.
+ * </p>
+ */
+public final class ChunkPool {
+
+	/**
+	 * 기본 청크 크기 (바이트 단위).
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 8 * 1024;
+
+	/**
+	 * 기본 풀에 보관할 최대 청크 수.
+	 */
+	public static final int DEFAULT_MAX_POOLED_CHUNKS = 1024;
+
+	private static final ChunkPool DEFAULT = new ChunkPool(DEFAULT_CHUNK_SIZE, DEFAULT_MAX_POOLED_CHUNKS);
+
+	private final int chunkSize;
+	private final boolean pooling;
+	private final ArrayBlockingQueue<byte[]>[] stripes;
+	private final int stripeMask;
+
+	/**
+	 * {@link ChunkPool}의 생성자입니다.
+	 *
+	 * @param chunkSize 청크 하나의 크기 (바이트 단위)
+	 * @param maxPooledChunks 풀에 보관할 최대 청크 수
+	 * @throws IllegalArgumentException 청크 크기가 0 이하이거나 최대 청크 수가 음수인 경우
+	 */
+	@SuppressWarnings("unchecked")
+	public ChunkPool(int chunkSize, int maxPooledChunks) {
+		if (chunkSize <= 0 || maxPooledChunks < 0) {
+			throw new IllegalArgumentException("청크 크기는 0보다 커야 하고, 최대 청크 수는 0 이상이어야 합니다.");
+		}
+		this.chunkSize = chunkSize;
+		this.pooling = maxPooledChunks > 0;
+
+		// 스트라이프 수는 CPU 수와 최대 청크 수를 넘지 않는 2의 거듭제곱입니다.
+		int stripeCount = Integer.highestOneBit(
+			Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), maxPooledChunks)));
+		this.stripes = (ArrayBlockingQueue<byte[]>[])new ArrayBlockingQueue<?>[stripeCount];
+		this.stripeMask = stripeCount - 1;
+
+		int perStripe = Math.max(1, maxPooledChunks / stripeCount);
+		for (int i = 0; i < stripeCount; i++) {
+			stripes[i] = new ArrayBlockingQueue<>(perStripe);
+		}
+	}
+
+	/**
+	 * 애플리케이션 전체에서 공유하는 기본 풀을 반환합니다.
+	 *
+	 * @return 기본 {@link ChunkPool}
+	 */
+	public static ChunkPool getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * 청크 하나의 크기를 반환합니다.
+	 *
+	 * @return 청크 크기 (바이트 단위)
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * 풀에서 청크를 가져옵니다. 풀이 비어 있으면 새 청크를 할당합니다.
+	 *
+	 * @return 크기가 {@link #getChunkSize()}인 바이트 배열
+	 */
+	public byte[] acquire() {
+		byte[] chunk = stripe().poll();
+		return chunk != null ? chunk : new byte[chunkSize];
+	}
+
+	/**
+	 * 사용이 끝난 청크를 풀에 반환합니다.
+	 * <p>
+	 * 크기가 맞지 않는 청크나, 풀이 가득 찬 경우의 청크는 보관하지 않습니다.
+	 * </p>
+	 *
+	 * @param chunk 반환할 청크
+	 */
+	public void release(byte[] chunk) {
+		if (pooling && chunk != null && chunk.length == chunkSize) {
+			stripe().offer(chunk);
+		}
+	}
+
+	private ArrayBlockingQueue<byte[]> stripe() {
+		return stripes[(int)Thread.currentThread().threadId() & stripeMask];
+	}
+}
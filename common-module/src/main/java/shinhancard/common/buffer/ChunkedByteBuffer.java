@@ -0,0 +1,192 @@
+package shinhancard.common.buffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link ChunkPool}에서 가져온 고정 크기 청크 목록에 바이트를 기록하는 출력 버퍼입니다.
+ * <p>
+ * {@link java.io.ByteArrayOutputStream}과 달리 용량이 늘어날 때 기존 내용을 복사하지 않고 청크를 추가하며,
+ * 기록된 내용을 하나의 배열로 합치지 않고 청크 단위로 다른 스트림에 바로 기록할 수 있습니다.
+ * 사용이 끝나면 {@link #release()}로 청크를 풀에 반환해야 합니다.
+ * </p>
+ */
+public final class ChunkedByteBuffer extends OutputStream {
+
+	private final ChunkPool pool;
+	private final List<byte[]> chunks = new ArrayList<>(4);
+	private int size; // 기록된 전체 바이트 수
+
+	/**
+	 * 기본 {@link ChunkPool}을 사용하는 {@link ChunkedByteBuffer}를 생성합니다.
+	 */
+	public ChunkedByteBuffer() {
+		this(ChunkPool.getDefault());
+	}
+
+	/**
+	 * 주어진 {@link ChunkPool}을 사용하는 {@link ChunkedByteBuffer}를 생성합니다.
+	 * <p>
+	 * 청크는 처음 기록할 때 풀에서 가져오므로, 아무것도 기록하지 않은 버퍼는 청크를 사용하지 않습니다.
+	 * </p>
+	 *
+	 * @param pool 청크를 가져오고 반환할 풀
+	 */
+	public ChunkedByteBuffer(ChunkPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * 버퍼에 한 바이트를 기록합니다.
+	 *
+	 * @param b 기록할 바이트
+	 */
+	@Override
+	public void write(int b) {
+		int offset = size % pool.getChunkSize();
+		if (offset == 0 && size / pool.getChunkSize() == chunks.size()) {
+			chunks.add(pool.acquire());
+		}
+		chunks.get(size / pool.getChunkSize())[offset] = (byte)b;
+		size++;
+	}
+
+	/**
+	 * 버퍼에 바이트 배열의 일부를 기록합니다.
+	 *
+	 * @param b 기록할 바이트 배열
+	 * @param off 바이트 배열에서 기록을 시작할 오프셋
+	 * @param len 기록할 바이트 수
+	 */
+	@Override
+	public void write(byte[] b, int off, int len) {
+		Objects.checkFromIndexSize(off, len, b.length);
+		int chunkSize = pool.getChunkSize();
+
+		while (len > 0) {
+			int offset = size % chunkSize;
+			if (offset == 0 && size / chunkSize == chunks.size()) {
+				chunks.add(pool.acquire());
+			}
+			int count = Math.min(len, chunkSize - offset);
+			System.arraycopy(b, off, chunks.get(size / chunkSize), offset, count);
+			size += count;
+			off += count;
+			len -= count;
+		}
+	}
+
+	/**
+	 * 기록된 전체 바이트 수를 반환합니다.
+	 *
+	 * @return 기록된 바이트 수
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 주어진 위치부터 끝까지의 내용을 청크 단위로 출력 스트림에 기록합니다.
+	 * <p>
+	 * 내용을 하나의 배열로 복사하지 않고 각 청크를 그대로 기록합니다.
+	 * </p>
+	 *
+	 * @param out 내용을 기록할 출력 스트림
+	 * @param from 기록을 시작할 위치 (바이트 단위)
+	 * @throws IOException 출력 스트림에 기록하는 동안 I/O 오류가 발생한 경우
+	 */
+	public void writeTo(OutputStream out, int from) throws IOException {
+		int chunkSize = pool.getChunkSize();
+		int position = from;
+
+		while (position < size) {
+			byte[] chunk = chunks.get(position / chunkSize);
+			int offset = position % chunkSize;
+			int count = Math.min(chunkSize - offset, size - position);
+			out.write(chunk, offset, count);
+			position += count;
+		}
+	}
+
+	/**
+	 * 앞에서부터 최대 {@code maxBytes} 바이트를 주어진 문자 집합으로 디코딩하여 반환합니다.
+	 * <p>
+	 * 나머지 바이트는 복사하거나 디코딩하지 않습니다. 문자 집합이 UTF-8이고 여러 바이트로 인코딩된 문자가 경계에 걸치면
+	 * 그 문자 앞에서 자릅니다.
+	 * </p>
+	 *
+	 * @param charset 디코딩에 사용할 문자 집합
+	 * @param maxBytes 디코딩할 최대 바이트 수
+	 * @return 디코딩된 문자열
+	 */
+	public String toString(Charset charset, int maxBytes) {
+		int length = Math.min(size, maxBytes);
+		if (length < size && StandardCharsets.UTF_8.equals(charset)) {
+			int limit = Math.max(length - 3, 0); // UTF-8 문자는 최대 4바이트
+			while (length > limit && (byteAt(length) & 0xC0) == 0x80) {
+				length--;
+			}
+		}
+		if (length <= 0) {
+			return "";
+		}
+
+		int chunkSize = pool.getChunkSize();
+		if (length <= chunkSize) {
+			return new String(chunks.get(0), 0, length, charset);
+		}
+
+		byte[] content = new byte[length];
+		for (int position = 0; position < length; position += chunkSize) {
+			System.arraycopy(chunks.get(position / chunkSize), 0, content, position,
+				Math.min(chunkSize, length - position));
+		}
+		return new String(content, charset);
+	}
+
+	private byte byteAt(int position) {
+		return chunks.get(position / pool.getChunkSize())[position % pool.getChunkSize()];
+	}
+
+	/**
+	 * 전체 내용을 주어진 문자 집합으로 디코딩하여 반환합니다.
+	 *
+	 * @param charset 디코딩에 사용할 문자 집합
+	 * @return 디코딩된 문자열
+	 */
+	public String toString(Charset charset) {
+		return toString(charset, size);
+	}
+
+	/**
+	 * 기록된 내용을 비웁니다.
+	 * <p>
+	 * 첫 번째 청크는 이후 기록을 위해 남겨 두고, 나머지 청크는 풀에 반환합니다.
+	 * </p>
+	 */
+	public void reset() {
+		for (int i = chunks.size() - 1; i > 0; i--) {
+			pool.release(chunks.remove(i));
+		}
+		size = 0;
+	}
+
+	/**
+	 * 모든 청크를 풀에 반환하고 내용을 비웁니다.
+	 * <p>
+	 * 반환 이후에 다시 기록하면 풀에서 새 청크를 가져옵니다.
+	 * </p>
+	 */
+	public void release() {
+		for (byte[] chunk : chunks) {
+			pool.release(chunk);
+		}
+		chunks.clear();
+		size = 0;
+	}
+}
@@ -0,0 +1,413 @@
+package shinhancard.common.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * UTF-8로 인코딩된 바이트를 문자열로 디코딩하지 않고 {@link CharSequence}로 읽는 뷰입니다.
+ * <p>
+ * 바이트를 복사하지 않고 요청한 위치의 문자만 그때그때 디코딩하므로, 큰 요청 본문도 {@code char[]}를 만들지 않고
+ * 정규식이나 탐지 엔진으로 검사할 수 있습니다. 올바르지 않은 UTF-8 바이트는 {@link String#String(byte[], java.nio.charset.Charset)}과
+ * 같이 가장 긴 잘못된 부분마다 {@code U+FFFD} 하나로 읽으므로, 디코딩한 문자열과 같은 문자를 같은 위치에서 돌려줍니다.
+ * </p>
+ * <p>
+ * 모든 바이트가 ASCII이면 바이트 위치가 곧 문자 위치입니다. 그렇지 않으면 생성할 때 한 번 훑어
+ * 64문자마다 바이트 위치와 그 64문자가 모두 ASCII인지를 기록해 둡니다. 모두 ASCII인 구간의 문자는 바이트를 바로 읽고,
+ * 나머지 구간은 마지막으로 읽은 위치에서 앞뒤로 이동하며 디코딩하므로 앞에서부터 차례로 읽는 검사는 문자당 상수 시간에 읽을 수 있습니다.
+ * 한글 사이의 JSON 이름이나 숫자처럼 마지막으로 읽은 위치 뒤에 이어지는 ASCII 바이트도 디코딩하지 않고 바로 읽습니다.
+ * </p>
+ * <p>
+ * 마지막으로 읽은 위치를 기억하므로 이 클래스는 스레드 안전하지 않습니다. 스레드마다 따로 생성해야 합니다.
+ * </p>
+ */
+public final class Utf8CharSequence implements CharSequence {
+
+	private static final int CHECKPOINT_SHIFT = 6;
+	private static final int CHECKPOINT_INTERVAL = 1 << CHECKPOINT_SHIFT;
+
+	private static final int REPLACEMENT = 0xFFFD;
+	private static final int LENGTH_SHIFT = 24;
+	private static final int MALFORMED = 1 << 28;
+	private static final int CODE_POINT_MASK = (1 << LENGTH_SHIFT) - 1;
+
+	private final byte[] array; // 힙 배열에서 읽는 경우 (버퍼에서 읽는 경우 null)
+	private final ByteBuffer buffer; // 메모리 매핑된 버퍼 등에서 읽는 경우, 절대 위치로만 읽음
+	private final int offset;
+	private final int byteLength;
+	private final int length;
+	private final int[] checkpointBytes; // 모든 바이트가 ASCII이면 null
+	private final int[] checkpointChars;
+	private final boolean[] asciiBlocks; // 기록한 위치부터 64문자가 모두 ASCII인지 여부
+
+	private int cursorByte; // 마지막으로 읽은 코드 포인트의 바이트 위치
+	private int cursorChar; // 마지막으로 읽은 코드 포인트의 문자 위치
+	private int cursorDecoded; // 마지막으로 읽은 코드 포인트와 바이트 수
+	private int runChar; // 마지막으로 읽은 ASCII 구간의 문자 위치
+	private int runByte; // 마지막으로 읽은 ASCII 구간의 바이트 위치
+	private int runLength; // 마지막으로 읽은 ASCII 구간의 길이
+
+	/**
+	 * 바이트 배열의 일부를 읽는 {@link Utf8CharSequence}를 생성합니다. 배열을 복사하지 않습니다.
+	 *
+	 * @param bytes UTF-8로 인코딩된 바이트 배열
+	 * @param offset 읽기 시작할 위치
+	 * @param length 읽을 바이트 수
+	 * @throws IndexOutOfBoundsException 범위가 배열을 벗어난 경우
+	 */
+	public Utf8CharSequence(byte[] bytes, int offset, int length) {
+		this(bytes, null, Objects.checkFromIndexSize(offset, length, bytes.length), length);
+	}
+
+	/**
+	 * 버퍼의 현재 위치부터 한계까지의 바이트를 읽는 {@link Utf8CharSequence}를 생성합니다.
+	 * <p>
+	 * 버퍼의 위치와 한계는 변경하지 않으며, 뷰를 사용하는 동안 버퍼의 내용이 바뀌지 않아야 합니다.
+	 * 힙 배열로 된 버퍼를 읽을 때는 배열을 받는 생성자가 더 빠릅니다.
+	 * </p>
+	 *
+	 * @param bytes UTF-8로 인코딩된 바이트
+	 */
+	public Utf8CharSequence(ByteBuffer bytes) {
+		this(null, bytes, bytes.position(), bytes.remaining());
+	}
+
+	private Utf8CharSequence(byte[] array, ByteBuffer buffer, int offset, int byteLength) {
+		this.array = array;
+		this.buffer = buffer;
+		this.offset = offset;
+		this.byteLength = byteLength;
+
+		int firstNonAscii = 0;
+		while (firstNonAscii < byteLength && get(firstNonAscii) >= 0) {
+			firstNonAscii++;
+		}
+		if (firstNonAscii == byteLength) {
+			this.length = byteLength;
+			this.checkpointBytes = null;
+			this.checkpointChars = null;
+			this.asciiBlocks = null;
+			return;
+		}
+
+		// 문자 위치가 CHECKPOINT_INTERVAL의 배수인 문자를 포함하는 코드 포인트의 위치를 기록
+		int[] checkpointBytes = new int[(byteLength >> CHECKPOINT_SHIFT) + 2];
+		int[] checkpointChars = new int[checkpointBytes.length];
+		boolean[] asciiBlocks = new boolean[checkpointBytes.length];
+		int checkpoints = 0;
+		int charIndex = 0;
+		int byteIndex = 0;
+		while (byteIndex < byteLength) {
+			int b = get(byteIndex);
+			if (b >= 0) { // ASCII 바이트는 디코딩하지 않음
+				if ((charIndex & CHECKPOINT_INTERVAL - 1) == 0) {
+					checkpointBytes[checkpoints] = byteIndex;
+					checkpointChars[checkpoints] = charIndex;
+					asciiBlocks[checkpoints++] = true;
+				}
+				charIndex++;
+				byteIndex++;
+				continue;
+			}
+			int decoded = decode(byteIndex);
+			int end = charIndex + Character.charCount(decoded & CODE_POINT_MASK);
+			while (checkpoints << CHECKPOINT_SHIFT < end) {
+				checkpointBytes[checkpoints] = byteIndex;
+				checkpointChars[checkpoints++] = charIndex;
+			}
+			asciiBlocks[charIndex >> CHECKPOINT_SHIFT] = false;
+			asciiBlocks[end - 1 >> CHECKPOINT_SHIFT] = false;
+			charIndex = end;
+			byteIndex += decoded >>> LENGTH_SHIFT & 0xF;
+		}
+		this.length = charIndex;
+		this.checkpointBytes = checkpointBytes;
+		this.checkpointChars = checkpointChars;
+		this.asciiBlocks = asciiBlocks;
+		this.cursorDecoded = decode(0);
+	}
+
+	/**
+	 * 문자 수를 반환합니다. 디코딩한 문자열의 {@link String#length()}와 같습니다.
+	 *
+	 * @return UTF-16 문자 수
+	 */
+	@Override
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * 주어진 위치의 문자를 반환합니다. 보조 문자는 디코딩한 문자열과 같이 상위·하위 대리 문자로 나누어 반환합니다.
+	 *
+	 * @param index 문자 위치
+	 * @return 문자
+	 * @throws IndexOutOfBoundsException 위치가 범위를 벗어난 경우
+	 */
+	@Override
+	public char charAt(int index) {
+		Objects.checkIndex(index, length);
+		if (checkpointBytes == null) {
+			return (char)get(index);
+		}
+		int block = index >> CHECKPOINT_SHIFT;
+		if (asciiBlocks[block]) {
+			return (char)get(checkpointBytes[block] + (index & CHECKPOINT_INTERVAL - 1));
+		}
+		int run = index - runChar;
+		if (run >= 0 && run < runLength) {
+			return (char)get(runByte + run);
+		}
+		return decodeAt(index);
+	}
+
+	/**
+	 * 마지막으로 읽은 위치에서 앞뒤로 이동하며 주어진 위치의 문자를 디코딩합니다.
+	 */
+	private char decodeAt(int index) {
+		if (index < cursorChar ? !stepBack(index) : index - cursorChar > CHECKPOINT_INTERVAL) {
+			seek(index);
+		}
+		int codePoint = cursorDecoded & CODE_POINT_MASK;
+		while (cursorChar + Character.charCount(codePoint) <= index) {
+			cursorChar += Character.charCount(codePoint);
+			cursorByte += cursorDecoded >>> LENGTH_SHIFT & 0xF;
+			while (cursorChar < index && get(cursorByte) >= 0) { // ASCII 바이트는 디코딩하지 않고 건너뜀
+				cursorChar++;
+				cursorByte++;
+			}
+			cursorDecoded = decode(cursorByte);
+			codePoint = cursorDecoded & CODE_POINT_MASK;
+		}
+		if (codePoint < 0x80) {
+			markAsciiRun();
+			return (char)codePoint;
+		}
+		if (Character.isBmpCodePoint(codePoint)) {
+			return (char)codePoint;
+		}
+		return index == cursorChar ? Character.highSurrogate(codePoint) : Character.lowSurrogate(codePoint);
+	}
+
+	/**
+	 * 주어진 범위의 문자를 디코딩한 문자열을 반환합니다. 로그에 남길 일부분처럼 필요한 부분만 문자열로 만들 때 사용합니다.
+	 *
+	 * @param start 시작 위치 (포함)
+	 * @param end 끝 위치 (제외)
+	 * @return 범위의 문자열
+	 * @throws IndexOutOfBoundsException 범위가 올바르지 않은 경우
+	 */
+	@Override
+	public String subSequence(int start, int end) {
+		Objects.checkFromToIndex(start, end, length);
+		StringBuilder builder = new StringBuilder(end - start);
+		for (int i = start; i < end; i++) {
+			builder.append(charAt(i));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 바이트 수를 반환합니다.
+	 *
+	 * @return UTF-8 바이트 수
+	 */
+	public int byteLength() {
+		return byteLength;
+	}
+
+	/**
+	 * 주어진 위치의 바이트를 디코딩하지 않고 반환합니다.
+	 * <p>
+	 * UTF-8에서 ASCII 문자는 항상 한 바이트로 인코딩되고, 여러 바이트로 인코딩된 문자의 바이트는 모두 {@code 0x80} 이상이므로
+	 * ASCII 문자열은 바이트를 직접 비교하여 찾을 수 있습니다.
+	 * </p>
+	 *
+	 * @param index 바이트 위치
+	 * @return 바이트
+	 * @throws IndexOutOfBoundsException 위치가 범위를 벗어난 경우
+	 */
+	public byte byteAt(int index) {
+		Objects.checkIndex(index, byteLength);
+		return get(index);
+	}
+
+	/**
+	 * 바이트 범위를 디코딩하여 주어진 {@link StringBuilder}에 덧붙입니다.
+	 * <p>
+	 * JSON 문자열처럼 ASCII 바이트로 구분되는 범위를 바이트 위치로 찾은 뒤, 그 범위만 스레드별 버퍼 등에 디코딩할 때 사용합니다.
+	 * 범위의 앞뒤가 ASCII 바이트이거나 처음·끝이면 전체를 디코딩한 문자열의 해당 부분과 같은 문자를 덧붙입니다.
+	 * </p>
+	 *
+	 * @param target 디코딩한 문자를 덧붙일 {@link StringBuilder}
+	 * @param byteStart 시작 바이트 위치 (포함)
+	 * @param byteEnd 끝 바이트 위치 (제외)
+	 * @throws IndexOutOfBoundsException 범위가 올바르지 않은 경우
+	 */
+	public void appendTo(StringBuilder target, int byteStart, int byteEnd) {
+		Objects.checkFromToIndex(byteStart, byteEnd, byteLength);
+		int index = byteStart;
+		while (index < byteEnd) {
+			int b = get(index);
+			if (b >= 0) {
+				target.append((char)b);
+				index++;
+				continue;
+			}
+			int decoded = decode(index);
+			target.appendCodePoint(decoded & CODE_POINT_MASK);
+			index += decoded >>> LENGTH_SHIFT & 0xF;
+		}
+	}
+
+	/**
+	 * 전체를 디코딩한 문자열을 반환합니다.
+	 *
+	 * @return 디코딩한 문자열
+	 */
+	@Override
+	public String toString() {
+		return subSequence(0, length);
+	}
+
+	/**
+	 * 바로 앞의 코드 포인트로 한 개씩 이동합니다.
+	 * 기록해 둔 위치에서 앞으로 읽는 편이 가깝거나, 올바른 UTF-8이 아니어서 경계를 알 수 없으면 {@code false}를 반환합니다.
+	 */
+	private boolean stepBack(int index) {
+		if (cursorChar - index > index - checkpointChars[index >> CHECKPOINT_SHIFT]) {
+			return false;
+		}
+		while (index < cursorChar) {
+			int end = cursorByte;
+			int start = end - 1;
+			while (start > 0 && end - start < 4 && isContinuation(get(start))) {
+				start--;
+			}
+			int decoded = decode(start);
+			if ((decoded & MALFORMED) != 0 || (decoded >>> LENGTH_SHIFT & 0xF) != end - start) {
+				return false;
+			}
+			cursorByte = start;
+			cursorChar -= Character.charCount(decoded & CODE_POINT_MASK);
+			cursorDecoded = decoded;
+		}
+		return true;
+	}
+
+	/**
+	 * 현재 위치의 ASCII 문자부터 최대 64바이트까지 이어지는 ASCII 구간을 기록하고, 그 마지막 문자로 이동합니다.
+	 */
+	private void markAsciiRun() {
+		int end = cursorByte + 1;
+		int limit = Math.min(byteLength, cursorByte + CHECKPOINT_INTERVAL);
+		while (end < limit && get(end) >= 0) {
+			end++;
+		}
+		runChar = cursorChar;
+		runByte = cursorByte;
+		runLength = end - cursorByte;
+		cursorChar += runLength - 1;
+		cursorByte = end - 1;
+		cursorDecoded = 1 << LENGTH_SHIFT | get(cursorByte);
+	}
+
+	/**
+	 * 주어진 문자 위치보다 앞에서 가장 가까운 기록된 위치로 이동합니다.
+	 */
+	private void seek(int index) {
+		int checkpoint = index >> CHECKPOINT_SHIFT;
+		if (index >= cursorChar && checkpointChars[checkpoint] <= cursorChar) {
+			return; // 현재 위치에서 앞으로 읽는 편이 가까움
+		}
+		cursorByte = checkpointBytes[checkpoint];
+		cursorChar = checkpointChars[checkpoint];
+		cursorDecoded = decode(cursorByte);
+	}
+
+	/**
+	 * 바이트 위치에서 코드 포인트 하나를 디코딩합니다.
+	 * <p>
+	 * 반환값의 하위 24비트는 코드 포인트, 그 위 4비트는 바이트 수이며, 올바르지 않은 바이트이면 {@link #MALFORMED} 비트가 켜집니다.
+	 * 올바르지 않은 바이트를 {@code U+FFFD} 하나로 읽는 범위는 JDK의 {@link String} UTF-8 디코딩과 같게 정합니다.
+	 * 대리 영역의 3바이트 시퀀스는 3바이트를, 입력 끝에서 잘린 시퀀스는 남은 바이트 전체를 하나로 읽습니다.
+	 * </p>
+	 */
+	private int decode(int index) {
+		int b0 = byteAt0(index);
+		if (b0 < 0x80) {
+			return 1 << LENGTH_SHIFT | b0;
+		}
+		// 한글처럼 흔한 올바른 2·3바이트 시퀀스를 먼저 처리
+		if (b0 >= 0xC2 && b0 <= 0xDF && index + 1 < byteLength) {
+			int b1 = byteAt0(index + 1);
+			if (isContinuation(b1)) {
+				return 2 << LENGTH_SHIFT | (b0 & 0x1F) << 6 | b1 & 0x3F;
+			}
+		} else if (b0 >= 0xE1 && b0 <= 0xEF && index + 2 < byteLength) {
+			int b1 = byteAt0(index + 1);
+			int b2 = byteAt0(index + 2);
+			if (isContinuation(b1) && isContinuation(b2) && (b0 != 0xED || b1 < 0xA0)) {
+				return 3 << LENGTH_SHIFT | (b0 & 0x0F) << 12 | (b1 & 0x3F) << 6 | b2 & 0x3F;
+			}
+		}
+		return decodeSlow(index, b0);
+	}
+
+	private int decodeSlow(int index, int b0) {
+		int remaining = byteLength - index - 1;
+		int b1 = remaining >= 1 ? byteAt0(index + 1) : -1;
+		int b2 = remaining >= 2 ? byteAt0(index + 2) : -1;
+
+		if (b0 >= 0xC2 && b0 <= 0xDF) {
+			return isContinuation(b1) ? 2 << LENGTH_SHIFT | (b0 & 0x1F) << 6 | b1 & 0x3F : malformed(1);
+		}
+		if (b0 >= 0xE0 && b0 <= 0xEF) {
+			boolean overlong = b0 == 0xE0 && (b1 & 0xE0) == 0x80;
+			if (remaining < 2) {
+				return remaining == 1 && (overlong || !isContinuation(b1)) ? malformed(1) : malformed(remaining + 1);
+			}
+			if (overlong || !isContinuation(b1)) {
+				return malformed(1);
+			}
+			if (!isContinuation(b2)) {
+				return malformed(2);
+			}
+			int codePoint = (b0 & 0x0F) << 12 | (b1 & 0x3F) << 6 | b2 & 0x3F;
+			return Character.isSurrogate((char)codePoint) ? malformed(3) : 3 << LENGTH_SHIFT | codePoint;
+		}
+		if (b0 >= 0xF0 && b0 <= 0xF7) {
+			boolean invalidSecond = b0 > 0xF4 || b0 == 0xF0 && (b1 < 0x90 || b1 > 0xBF)
+				|| b0 == 0xF4 && (b1 & 0xF0) != 0x80 || !isContinuation(b1);
+			if (remaining < 3) {
+				if (invalidSecond && (b0 > 0xF4 || remaining >= 1)) {
+					return malformed(1);
+				}
+				return remaining == 2 && !isContinuation(b2) ? malformed(2) : malformed(remaining + 1);
+			}
+			int b3 = byteAt0(index + 3);
+			int codePoint = (b0 & 0x07) << 18 | (b1 & 0x3F) << 12 | (b2 & 0x3F) << 6 | b3 & 0x3F;
+			if (isContinuation(b1) && isContinuation(b2) && isContinuation(b3)
+				&& Character.isSupplementaryCodePoint(codePoint)) {
+				return 4 << LENGTH_SHIFT | codePoint;
+			}
+			return invalidSecond ? malformed(1) : !isContinuation(b2) ? malformed(2) : malformed(3);
+		}
+		return malformed(1);
+	}
+
+	private int byteAt0(int index) {
+		return get(index) & 0xFF;
+	}
+
+	private byte get(int index) {
+		return array != null ? array[offset + index] : buffer.get(offset + index);
+	}
+
+	private static boolean isContinuation(int b) {
+		return (b & 0xC0) == 0x80;
+	}
+
+	private static int malformed(int byteCount) {
+		return MALFORMED | byteCount << LENGTH_SHIFT | REPLACEMENT;
+	}
+}
@@ -0,0 +1,90 @@
+package shinhancard.common.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.ServletListenerRegistrationBean;
+import org.springframework.context.annotation.Bean;
+
+import shinhancard.common.io.RejectionWriter;
+import shinhancard.common.properties.BodyProperties;
+import shinhancard.common.properties.RejectionProperties;
+import shinhancard.common.properties.TraceProperties;
+import shinhancard.common.trace.RandomTraceIdGenerator;
+import shinhancard.common.trace.TraceIdGenerator;
+import shinhancard.common.trace.TraceIdResolver;
+import shinhancard.common.wrapper.CachedBodyCleanupListener;
+import shinhancard.common.wrapper.RequestBodyCapture;
+
+/**
+ * 필터 모듈이 공통으로 사용하는 구성 요소를 등록하는 자동 구성 클래스입니다.
+ * <p>
+ * 요청 본문 캐싱 기능과, 요청 종료 시 캐시를 해제하는 리스너, traceId 결정 기능, 거부 응답 전송 기능을 등록합니다.
+ * </p>
+ */
+@AutoConfiguration
+@EnableConfigurationProperties({BodyProperties.class, RejectionProperties.class, TraceProperties.class})
+public class CommonAutoConfiguration {
+
+	/**
+	 * 요청 본문 캐싱 기능 빈을 생성합니다.
+	 *
+	 * @param bodyProperties 요청 본문 캐싱 설정
+	 * @return {@link RequestBodyCapture} 객체
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public RequestBodyCapture requestBodyCapture(BodyProperties bodyProperties) {
+		return new RequestBodyCapture(bodyProperties);
+	}
+
+	/**
+	 * traceId 생성기 빈을 생성합니다.
+	 * <p>
+	 * 다른 생성 방식을 사용하려면 {@link TraceIdGenerator} 빈을 직접 등록합니다.
+	 * </p>
+	 *
+	 * @return {@link RandomTraceIdGenerator} 객체
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public TraceIdGenerator traceIdGenerator() {
+		return new RandomTraceIdGenerator();
+	}
+
+	/**
+	 * 요청의 traceId를 결정하는 빈을 생성합니다.
+	 *
+	 * @param traceIdGenerator traceId 생성기
+	 * @param traceProperties traceId 전파 설정
+	 * @return {@link TraceIdResolver} 객체
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public TraceIdResolver traceIdResolver(TraceIdGenerator traceIdGenerator, TraceProperties traceProperties) {
+		return new TraceIdResolver(traceIdGenerator, traceProperties);
+	}
+
+	/**
+	 * 필터의 거부 응답을 전송하는 빈을 생성합니다.
+	 *
+	 * @param rejectionProperties 거부 응답 설정
+	 * @param traceIdResolver 요청의 traceId를 결정하는 기능
+	 * @return {@link RejectionWriter} 객체
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public RejectionWriter rejectionWriter(RejectionProperties rejectionProperties, TraceIdResolver traceIdResolver) {
+		return new RejectionWriter(rejectionProperties, traceIdResolver);
+	}
+
+	/**
+	 * 요청 종료 시 캐시된 요청 본문을 해제하는 리스너를 등록합니다.
+	 *
+	 * @return {@link CachedBodyCleanupListener} 등록을 위한 {@link ServletListenerRegistrationBean} 객체
+	 */
+	@Bean
+	public ServletListenerRegistrationBean<CachedBodyCleanupListener> cachedBodyCleanupListener() {
+		return new ServletListenerRegistrationBean<>(new CachedBodyCleanupListener());
+	}
+}
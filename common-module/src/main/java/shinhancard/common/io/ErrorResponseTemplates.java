@@ -0,0 +1,139 @@
+package shinhancard.common.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * {@link ResponseCode}별 에러 응답 본문을 미리 직렬화해 두고, traceId만 끼워 넣어 반환하는 유틸리티입니다.
+ * <p>
+ * 에러 응답은 traceId를 제외하면 응답 코드마다 항상 같으므로, 클래스 로딩 시점에 응답 코드마다
+ * {@link ResponseVo#error(ResponseCode, Optional)}를 한 번 직렬화하여 traceId 앞뒤의 바이트를 보관합니다.
+ * 이후 요청마다 JSON 직렬화 없이 앞부분, traceId, 뒷부분을 이어 붙이기만 하므로
+ * 공격 요청이 몰려 거부 응답이 급증할 때의 비용을 줄입니다.
+ * </p>
+ */
+public final class ErrorResponseTemplates {
+
+	private static final String TRACE_ID_PLACEHOLDER = "__TRACE_ID_PLACEHOLDER__";
+	private static final Map<ResponseCode, Template> TEMPLATES = new EnumMap<>(ResponseCode.class);
+
+	static {
+		for (ResponseCode responseCode : ResponseCode.values()) {
+			TEMPLATES.put(responseCode, Template.of(responseCode));
+		}
+	}
+
+	private ErrorResponseTemplates() {
+	}
+
+	/**
+	 * 에러 응답 본문을 JSON 문자열로 반환합니다.
+	 * <p>
+	 * {@code ResponseVo.error(responseCode, traceId).toString()}과 같은 결과를 반환합니다.
+	 * </p>
+	 *
+	 * @param responseCode 응답 코드
+	 * @param traceId 요청에서 전달된 traceId. 비어 있으면 새로 생성합니다.
+	 * @return JSON 형식의 에러 응답 본문
+	 */
+	public static String toJson(ResponseCode responseCode, Optional<String> traceId) {
+		Template template = TEMPLATES.get(responseCode);
+		return template.prefixString + escape(resolveTraceId(traceId)) + template.suffixString;
+	}
+
+	/**
+	 * 에러 응답 본문을 UTF-8 바이트 배열로 반환합니다.
+	 *
+	 * @param responseCode 응답 코드
+	 * @param traceId 요청에서 전달된 traceId. 비어 있으면 새로 생성합니다.
+	 * @return UTF-8로 인코딩된 에러 응답 본문
+	 */
+	public static byte[] toBytes(ResponseCode responseCode, Optional<String> traceId) {
+		Template template = TEMPLATES.get(responseCode);
+		byte[] traceIdBytes = escape(resolveTraceId(traceId)).getBytes(StandardCharsets.UTF_8);
+
+		byte[] body = new byte[template.prefix.length + traceIdBytes.length + template.suffix.length];
+		System.arraycopy(template.prefix, 0, body, 0, template.prefix.length);
+		System.arraycopy(traceIdBytes, 0, body, template.prefix.length, traceIdBytes.length);
+		System.arraycopy(template.suffix, 0, body, template.prefix.length + traceIdBytes.length,
+			template.suffix.length);
+		return body;
+	}
+
+	/**
+	 * 에러 응답 본문을 하나의 배열로 합치지 않고 출력 스트림에 바로 기록합니다.
+	 *
+	 * @param out 응답 본문을 기록할 출력 스트림
+	 * @param responseCode 응답 코드
+	 * @param traceId 요청에서 전달된 traceId. 비어 있으면 새로 생성합니다.
+	 * @return 기록한 바이트 수
+	 * @throws IOException 출력 스트림에 기록하는 동안 I/O 오류가 발생한 경우
+	 */
+	public static int writeTo(OutputStream out, ResponseCode responseCode, Optional<String> traceId) throws
+		IOException {
+		Template template = TEMPLATES.get(responseCode);
+		byte[] traceIdBytes = escape(resolveTraceId(traceId)).getBytes(StandardCharsets.UTF_8);
+
+		out.write(template.prefix);
+		out.write(traceIdBytes);
+		out.write(template.suffix);
+		return template.prefix.length + traceIdBytes.length + template.suffix.length;
+	}
+
+	/**
+	 * traceId를 제외한 에러 응답 본문의 바이트 수를 반환합니다.
+	 *
+	 * @param responseCode 응답 코드
+	 * @return traceId를 제외한 바이트 수
+	 */
+	public static int templateLength(ResponseCode responseCode) {
+		Template template = TEMPLATES.get(responseCode);
+		return template.prefix.length + template.suffix.length;
+	}
+
+	private static String resolveTraceId(Optional<String> traceId) {
+		return traceId.orElseGet(ResponseVo::generateTraceId);
+	}
+
+	/**
+	 * JSON 문자열 안에 그대로 넣을 수 없는 문자가 있는 경우에만 이스케이프합니다.
+	 */
+	private static String escape(String traceId) {
+		for (int i = 0; i < traceId.length(); i++) {
+			char c = traceId.charAt(i);
+			if (c < 0x20 || c == '"' || c == '\\' || c > 0x7E) {
+				return new String(JsonStringEncoder.getInstance().quoteAsString(traceId));
+			}
+		}
+		return traceId;
+	}
+
+	/**
+	 * 응답 코드 하나에 대한 traceId 앞뒤의 직렬화 결과입니다.
+	 */
+	private record Template(byte[] prefix, byte[] suffix, String prefixString, String suffixString) {
+
+		static Template of(ResponseCode responseCode) {
+			String json = ResponseVo.error(responseCode, Optional.of(TRACE_ID_PLACEHOLDER)).toString();
+			int index = json.indexOf(TRACE_ID_PLACEHOLDER);
+			if (index < 0) {
+				throw new IllegalStateException("에러 응답 템플릿에서 traceId 위치를 찾을 수 없습니다: " + responseCode);
+			}
+
+			String prefixString = json.substring(0, index);
+			String suffixString = json.substring(index + TRACE_ID_PLACEHOLDER.length());
+			return new Template(
+				prefixString.getBytes(StandardCharsets.UTF_8),
+				suffixString.getBytes(StandardCharsets.UTF_8),
+				prefixString,
+				suffixString
+			);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package shinhancard.common.io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.springframework.http.MediaType;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import shinhancard.common.properties.RejectionProperties;
+import shinhancard.common.trace.TraceIdResolver;
+
+/**
+ * 필터가 요청을 거부할 때 에러 응답을 전송하는 클래스입니다.
+ * <p>
+ * {@link HttpServletResponse#sendError(int, String)}는 서블릿 컨테이너의 ERROR 디스패치를 일으켜
+ * 필터 체인과 에러 컨트롤러를 한 번 더 실행하고, 전달한 본문은 대부분 버려집니다.
+ * 이 클래스는 상태 코드와 콘텐츠 타입을 설정하고 {@link ErrorResponseTemplates}의 바이트를 응답에 직접 기록한 뒤
+ * 응답을 커밋하여, 거부된 요청이 한 번의 처리로 끝나도록 합니다.
+ * {@link RejectionProperties#isUseSendError()}가 {@code true}이면 기존과 같이 {@code sendError}를 사용합니다.
+ * 응답 본문의 traceId는 {@link TraceIdResolver}로 결정하므로 같은 요청의 로그와 같은 값을 사용합니다.
+ * </p>
+ */
+@Slf4j
+public class RejectionWriter {
+
+	/**
+	 * 요청을 거부한 {@link ResponseCode}를 저장하는 요청 속성 이름.
+	 */
+	public static final String REJECTION_ATTRIBUTE = RejectionWriter.class.getName() + ".REJECTION";
+
+	private final RejectionProperties rejectionProperties;
+	private final TraceIdResolver traceIdResolver;
+
+	/**
+	 * {@link RejectionWriter}의 생성자입니다.
+	 *
+	 * @param rejectionProperties 거부 응답 설정
+	 * @param traceIdResolver 요청의 traceId를 결정하는 {@link TraceIdResolver} 객체
+	 */
+	public RejectionWriter(RejectionProperties rejectionProperties, TraceIdResolver traceIdResolver) {
+		this.rejectionProperties = rejectionProperties;
+		this.traceIdResolver = traceIdResolver;
+	}
+
+	/**
+	 * 주어진 응답 코드로 에러 응답을 전송합니다.
+	 * <p>
+	 * 응답이 이미 커밋된 경우에는 상태 코드와 본문을 바꿀 수 없으므로 아무것도 하지 않습니다.
+	 * 거부한 응답 코드는 커밋 여부와 관계없이 {@link #REJECTION_ATTRIBUTE} 요청 속성에 기록됩니다.
+	 * </p>
+	 *
+	 * @param request HTTP 요청 객체
+	 * @param response HTTP 응답 객체
+	 * @param responseCode 응답 코드
+	 * @throws IOException 응답을 기록하는 동안 I/O 오류가 발생한 경우
+	 */
+	public void reject(HttpServletRequest request, HttpServletResponse response, ResponseCode responseCode) throws
+		IOException {
+		request.setAttribute(REJECTION_ATTRIBUTE, responseCode);
+		if (response.isCommitted()) {
+			log.warn("응답이 이미 커밋되어 거부 응답을 전송하지 못했습니다: {}", responseCode);
+			return;
+		}
+
+		Optional<String> traceId = Optional.of(traceIdResolver.resolve(request));
+
+		if (rejectionProperties.isUseSendError()) {
+			response.sendError(
+				responseCode.getHttpStatus().value(),
+				ErrorResponseTemplates.toJson(responseCode, traceId)
+			);
+			return;
+		}
+
+		byte[] body = ErrorResponseTemplates.toBytes(responseCode, traceId);
+
+		response.resetBuffer();
+		response.setStatus(responseCode.getHttpStatus().value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+		response.flushBuffer();
+	}
+
+	/**
+	 * 요청을 거부한 응답 코드를 반환합니다.
+	 *
+	 * @param request 요청 객체
+	 * @return 거부한 응답 코드, 거부되지 않았으면 빈 {@link Optional}
+	 */
+	public static Optional<ResponseCode> getRejection(ServletRequest request) {
+		return request.getAttribute(REJECTION_ATTRIBUTE) instanceof ResponseCode responseCode ?
+			Optional.of(responseCode) : Optional.empty();
+	}
+}
@@ -7,6 +7,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import shinhancard.common.exception.JsonProcessingException;
+import shinhancard.common.trace.RandomTraceIdGenerator;
+import shinhancard.common.trace.TraceIdGenerator;
 
 /**
  * 응답 데이터를 표현하는 불변 객체입니다.
@@ -18,6 +20,7 @@ public record ResponseVo<T>(
 	T dataBody
 ) {
 	private static final ObjectMapper objectMapper;
+	private static final TraceIdGenerator traceIdGenerator = new RandomTraceIdGenerator();
 
 	static {
 		objectMapper = new ObjectMapper()
@@ -61,12 +64,16 @@ public record ResponseVo<T>(
 	}
 
 	/**
-	 * traceId를 생성합니다. 예시로 간단히 UUID 기반으로 생성합니다.
+	 * traceId를 생성합니다. 스레드별 난수 기반의 {@link RandomTraceIdGenerator}를 사용합니다.
+	 * <p>
+	 * 요청을 처리하는 필터에서는 {@link shinhancard.common.trace.TraceIdResolver}로 결정한 traceId를 전달하므로,
+	 * 이 메서드는 traceId가 전달되지 않은 경우에만 사용됩니다.
+	 * </p>
 	 *
 	 * @return 생성된 traceId
 	 */
-	private static String generateTraceId() {
-		return java.util.UUID.randomUUID().toString();
+	static String generateTraceId() {
+		return traceIdGenerator.generate();
 	}
 
 	/**
@@ -0,0 +1,138 @@
+package shinhancard.common.pattern;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Queue;
+
+import shinhancard.common.buffer.Utf8CharSequence;
+
+/**
+ * 여러 ASCII 문자열 중 하나라도 입력에 포함되어 있는지 대소문자를 구분하지 않고 확인하는 Aho-Corasick 오토마톤입니다.
+ * <p>
+ * 실패 링크를 미리 전이 표에 반영한 DFA로 만들기 때문에, 입력의 문자마다 표를 한 번만 조회합니다.
+ * ASCII가 아닌 문자는 어떤 문자열에도 포함되지 않으므로 처음 상태로 돌아갑니다.
+ * UTF-8 바이트로 된 입력은 디코딩하지 않고 바이트 단위로 검사합니다.
+ * 이 클래스는 변경할 수 없으며 스레드 안전합니다.
+ * </p>
+ */
+final class AhoCorasick {
+
+	private static final int ALPHABET = 128;
+
+	private final int[] transitions; // 상태 * ALPHABET + 문자 -> 다음 상태
+	private final boolean[] accepting;
+
+	/**
+	 * {@link AhoCorasick}을 생성합니다.
+	 *
+	 * @param literals 찾을 문자열 목록, 모두 ASCII 소문자로 이루어져 있고 비어 있지 않아야 합니다.
+	 * @throws IllegalArgumentException 문자열이 비어 있거나 ASCII가 아닌 문자를 포함한 경우
+	 */
+	AhoCorasick(Collection<String> literals) {
+		int maxStates = 1 + literals.stream().mapToInt(String::length).sum();
+		int[] trie = new int[maxStates * ALPHABET];
+		Arrays.fill(trie, -1);
+		boolean[] terminal = new boolean[maxStates];
+		int states = 1;
+
+		for (String literal : literals) {
+			if (literal.isEmpty() || !literal.chars().allMatch(c -> c < ALPHABET)) {
+				throw new IllegalArgumentException("비어 있거나 ASCII가 아닌 문자열은 사용할 수 없습니다: " + literal);
+			}
+			int state = 0;
+			for (int i = 0; i < literal.length(); i++) {
+				int index = state * ALPHABET + literal.charAt(i);
+				if (trie[index] < 0) {
+					trie[index] = states++;
+				}
+				state = trie[index];
+			}
+			terminal[state] = true;
+		}
+
+		// 너비 우선으로 실패 링크를 계산하면서 없는 전이를 실패 상태의 전이로 채움
+		int[] failure = new int[states];
+		Queue<Integer> queue = new ArrayDeque<>();
+		for (int c = 0; c < ALPHABET; c++) {
+			int next = trie[c];
+			if (next < 0) {
+				trie[c] = 0;
+			} else {
+				failure[next] = 0;
+				queue.add(next);
+			}
+		}
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			terminal[state] |= terminal[failure[state]];
+			for (int c = 0; c < ALPHABET; c++) {
+				int index = state * ALPHABET + c;
+				int next = trie[index];
+				if (next < 0) {
+					trie[index] = trie[failure[state] * ALPHABET + c];
+				} else {
+					failure[next] = trie[failure[state] * ALPHABET + c];
+					queue.add(next);
+				}
+			}
+		}
+
+		this.transitions = Arrays.copyOf(trie, states * ALPHABET);
+		this.accepting = Arrays.copyOf(terminal, states);
+	}
+
+	/**
+	 * 입력에 문자열 중 하나라도 포함되어 있는지 확인합니다. ASCII 영문자는 대소문자를 구분하지 않습니다.
+	 *
+	 * @param input 검사할 문자열
+	 * @return 포함되어 있으면 {@code true}
+	 */
+	boolean containsAny(CharSequence input) {
+		int state = 0;
+		for (int i = 0, length = input.length(); i < length; i++) {
+			char c = input.charAt(i);
+			if (c >= ALPHABET) {
+				state = 0;
+				continue;
+			}
+			if (c >= 'A' && c <= 'Z') {
+				c += 'a' - 'A';
+			}
+			state = transitions[state * ALPHABET + c];
+			if (accepting[state]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * UTF-8 바이트로 된 입력에 문자열 중 하나라도 포함되어 있는지 디코딩하지 않고 확인합니다.
+	 * <p>
+	 * UTF-8에서 ASCII 문자는 한 바이트로 인코딩되고 여러 바이트로 인코딩된 문자의 바이트는 모두 {@code 0x80} 이상이므로,
+	 * 바이트를 그대로 전이 표에 넣고 {@code 0x80} 이상이면 처음 상태로 돌아가면 디코딩한 문자열을 검사한 결과와 같습니다.
+	 * </p>
+	 *
+	 * @param input 검사할 UTF-8 바이트
+	 * @return 포함되어 있으면 {@code true}
+	 */
+	boolean containsAny(Utf8CharSequence input) {
+		int state = 0;
+		for (int i = 0, length = input.byteLength(); i < length; i++) {
+			int c = input.byteAt(i);
+			if (c < 0) {
+				state = 0;
+				continue;
+			}
+			if (c >= 'A' && c <= 'Z') {
+				c += 'a' - 'A';
+			}
+			state = transitions[state * ALPHABET + c];
+			if (accepting[state]) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,215 @@
+package shinhancard.common.pattern;
+
+import java.util.Arrays;
+
+/**
+ * {@link LinearPattern}의 문자 클래스를 나타내는 변경할 수 없는 코드 포인트 집합입니다.
+ * <p>
+ * 코드 포인트 범위를 정렬된 배열로 보관하고, ASCII 문자는 128비트 비트맵으로 바로 확인합니다.
+ * </p>
+ */
+final class CharSet {
+
+	static final int MAX_CODE_POINT = Character.MAX_CODE_POINT;
+
+	private final int[] ranges; // [시작, 끝] 쌍, 정렬되어 있고 겹치지 않음
+	private final long asciiLow;
+	private final long asciiHigh;
+
+	private CharSet(int[] ranges) {
+		this.ranges = ranges;
+		long low = 0;
+		long high = 0;
+		for (int i = 0; i < ranges.length; i += 2) {
+			for (int c = ranges[i]; c <= Math.min(ranges[i + 1], 127); c++) {
+				if (c < 64) {
+					low |= 1L << c;
+				} else {
+					high |= 1L << (c - 64);
+				}
+			}
+		}
+		this.asciiLow = low;
+		this.asciiHigh = high;
+	}
+
+	/**
+	 * 코드 포인트가 집합에 포함되는지 확인합니다.
+	 *
+	 * @param codePoint 확인할 코드 포인트
+	 * @return 포함되면 {@code true}
+	 */
+	boolean matches(int codePoint) {
+		if (codePoint < 64) {
+			return (asciiLow & (1L << codePoint)) != 0;
+		}
+		if (codePoint < 128) {
+			return (asciiHigh & (1L << (codePoint - 64))) != 0;
+		}
+		int low = 0;
+		int high = ranges.length / 2 - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (codePoint < ranges[mid * 2]) {
+				high = mid - 1;
+			} else if (codePoint > ranges[mid * 2 + 1]) {
+				low = mid + 1;
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 집합에 포함된 모든 코드 포인트가 ASCII인지 확인합니다.
+	 *
+	 * @return 모두 ASCII이면 {@code true}
+	 */
+	boolean isAscii() {
+		return ranges.length == 0 || ranges[ranges.length - 1] < 128;
+	}
+
+	/**
+	 * 집합에 포함된 범위를 반환합니다. 반환된 배열을 수정해서는 안 됩니다.
+	 *
+	 * @return [시작, 끝] 쌍으로 이루어진 정렬된 배열
+	 */
+	int[] ranges() {
+		return ranges;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof CharSet charSet && Arrays.equals(ranges, charSet.ranges);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(ranges);
+	}
+
+	/**
+	 * {@link CharSet}을 만드는 빌더입니다.
+	 */
+	static final class Builder {
+
+		private int[] ranges = new int[16];
+		private int size;
+
+		/**
+		 * 코드 포인트 하나를 추가합니다.
+		 *
+		 * @param codePoint 추가할 코드 포인트
+		 * @return 이 빌더
+		 */
+		Builder add(int codePoint) {
+			return add(codePoint, codePoint);
+		}
+
+		/**
+		 * 코드 포인트 범위를 추가합니다.
+		 *
+		 * @param from 시작 코드 포인트
+		 * @param to 끝 코드 포인트 (포함)
+		 * @return 이 빌더
+		 */
+		Builder add(int from, int to) {
+			if (size + 2 > ranges.length) {
+				ranges = Arrays.copyOf(ranges, ranges.length * 2);
+			}
+			ranges[size++] = from;
+			ranges[size++] = to;
+			return this;
+		}
+
+		/**
+		 * 다른 집합의 모든 코드 포인트를 추가합니다.
+		 *
+		 * @param charSet 추가할 집합
+		 * @return 이 빌더
+		 */
+		Builder addAll(CharSet charSet) {
+			int[] other = charSet.ranges;
+			for (int i = 0; i < other.length; i += 2) {
+				add(other[i], other[i + 1]);
+			}
+			return this;
+		}
+
+		/**
+		 * 포함된 ASCII 영문자의 대문자와 소문자를 모두 추가합니다.
+		 * {@link java.util.regex.Pattern#CASE_INSENSITIVE}와 같이 ASCII 문자만 대소문자를 구분하지 않습니다.
+		 *
+		 * @return 이 빌더
+		 */
+		Builder foldAsciiCase() {
+			int count = size;
+			for (int i = 0; i < count; i += 2) {
+				addShifted(ranges[i], ranges[i + 1], 'a', 'z', 'A' - 'a');
+				addShifted(ranges[i], ranges[i + 1], 'A', 'Z', 'a' - 'A');
+			}
+			return this;
+		}
+
+		private void addShifted(int from, int to, int letterFrom, int letterTo, int shift) {
+			int low = Math.max(from, letterFrom);
+			int high = Math.min(to, letterTo);
+			if (low <= high) {
+				add(low + shift, high + shift);
+			}
+		}
+
+		/**
+		 * 집합을 만듭니다.
+		 *
+		 * @param negated 포함된 코드 포인트를 제외한 나머지로 만들려면 {@code true}
+		 * @return {@link CharSet}
+		 */
+		CharSet build(boolean negated) {
+			int[] normalized = normalize();
+			return new CharSet(negated ? negate(normalized) : normalized);
+		}
+
+		private int[] normalize() {
+			int count = size / 2;
+			long[] pairs = new long[count];
+			for (int i = 0; i < count; i++) {
+				pairs[i] = ((long)ranges[i * 2] << 32) | ranges[i * 2 + 1];
+			}
+			Arrays.sort(pairs);
+
+			int[] merged = new int[size];
+			int length = 0;
+			for (long pair : pairs) {
+				int from = (int)(pair >>> 32);
+				int to = (int)pair;
+				if (length > 0 && from <= merged[length - 1] + 1) {
+					merged[length - 1] = Math.max(merged[length - 1], to);
+				} else {
+					merged[length++] = from;
+					merged[length++] = to;
+				}
+			}
+			return Arrays.copyOf(merged, length);
+		}
+
+		private static int[] negate(int[] ranges) {
+			int[] negated = new int[ranges.length + 2];
+			int length = 0;
+			int next = 0;
+			for (int i = 0; i < ranges.length; i += 2) {
+				if (ranges[i] > next) {
+					negated[length++] = next;
+					negated[length++] = ranges[i] - 1;
+				}
+				next = ranges[i + 1] + 1;
+			}
+			if (next <= MAX_CODE_POINT) {
+				negated[length++] = next;
+				negated[length++] = MAX_CODE_POINT;
+			}
+			return Arrays.copyOf(negated, length);
+		}
+	}
+}
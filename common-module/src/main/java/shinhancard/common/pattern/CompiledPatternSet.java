@@ -0,0 +1,230 @@
+package shinhancard.common.pattern;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.extern.slf4j.Slf4j;
+import shinhancard.common.buffer.Utf8CharSequence;
+
+/**
+ * 탐지 패턴 목록을 하나의 정규식으로 미리 컴파일해 둔 변경할 수 없는 스냅샷입니다.
+ * <p>
+ * 설정이 바뀌면 새 스냅샷을 만들어 {@link java.util.concurrent.atomic.AtomicReference} 등으로 교체하므로,
+ * 요청 처리 중에는 패턴을 컴파일하지 않습니다. 검사 중인 요청은 교체 전의 스냅샷을 끝까지 사용합니다.
+ * </p>
+ * <p>
+ * {@link PatternEngine#LINEAR}로 컴파일하면 패턴을 {@link LinearPattern}으로 검사하여 검사 시간이 입력 길이에 비례하도록 보장합니다.
+ * {@link LinearPattern}이 지원하지 않는 패턴은 컴파일 시 경고 로그로 알리고, 그 패턴만 {@link java.util.regex.Pattern}으로 검사합니다.
+ * </p>
+ * <p>
+ * 모든 패턴에서 반드시 포함해야 하는 문자열({@code <}, {@code javascript:}, {@code eval(} 등)을 찾을 수 있으면,
+ * 이 문자열들로 대소문자를 구분하지 않는 {@link AhoCorasick} 오토마톤을 만들어 먼저 검사합니다.
+ * 어느 문자열도 포함하지 않는 입력은 한 번 훑는 것으로 검사를 마치고, 후보가 있는 입력만 패턴 엔진으로 검사합니다.
+ * 반드시 포함하는 문자열을 찾을 수 없는 패턴이 하나라도 있으면 사전 검사를 사용하지 않습니다.
+ * 입력이 {@link Utf8CharSequence}이면 사전 검사는 디코딩하지 않고 UTF-8 바이트를 그대로 훑습니다.
+ * </p>
+ * <p>
+ * {@link Matcher}는 스레드별로 하나씩 만들어 {@link Matcher#reset(CharSequence)}로 재사용하며,
+ * 검사가 끝나면 입력 문자열을 붙잡고 있지 않도록 빈 문자열로 되돌립니다. 이 클래스는 스레드 안전합니다.
+ * </p>
+ */
+@Slf4j
+public final class CompiledPatternSet {
+
+	/**
+	 * 어떤 입력과도 일치하지 않는 빈 패턴 집합입니다.
+	 */
+	public static final CompiledPatternSet EMPTY = new CompiledPatternSet(List.of(), Pattern.compile("(?!)"), null,
+		null, Map.of(), Set.of());
+
+	private final List<String> patterns;
+	private final Pattern pattern;
+	private final LinearPattern linearPattern;
+	private final Pattern regexPattern;
+	private final ThreadLocal<Matcher> matchers;
+	private final Map<String, String> unsupportedPatterns;
+	private final Set<String> prefilterLiterals;
+	private final AhoCorasick prefilter;
+
+	private CompiledPatternSet(List<String> patterns, Pattern pattern, LinearPattern linearPattern,
+		Pattern regexPattern, Map<String, String> unsupportedPatterns, Set<String> prefilterLiterals) {
+		this.patterns = patterns;
+		this.pattern = pattern;
+		this.linearPattern = linearPattern;
+		this.regexPattern = linearPattern == null && regexPattern == null ? pattern : regexPattern;
+		this.matchers = this.regexPattern == null ? null : ThreadLocal.withInitial(() -> this.regexPattern.matcher(""));
+		this.unsupportedPatterns = unsupportedPatterns;
+		this.prefilterLiterals = prefilterLiterals;
+		this.prefilter = prefilterLiterals.isEmpty() ? null : new AhoCorasick(prefilterLiterals);
+	}
+
+	/**
+	 * 패턴 목록을 {@code |}로 결합하여 {@link PatternEngine#REGEX}로 컴파일합니다.
+	 *
+	 * @param patterns 정규식 패턴 목록
+	 * @param flags {@link Pattern#compile(String, int)}에 전달할 플래그
+	 * @return 컴파일된 패턴 집합
+	 * @throws java.util.regex.PatternSyntaxException 패턴의 문법이 올바르지 않은 경우
+	 * @see #compile(Collection, int, PatternEngine)
+	 */
+	public static CompiledPatternSet compile(Collection<String> patterns, int flags) {
+		return compile(patterns, flags, PatternEngine.REGEX);
+	}
+
+	/**
+	 * 패턴 목록을 지정한 엔진으로 컴파일합니다.
+	 * <p>
+	 * 비어 있는 패턴은 모든 입력과 일치하므로 제외하고, 중복된 패턴은 한 번만 사용합니다.
+	 * 남은 패턴이 없으면 {@link #EMPTY}를 반환합니다.
+	 * </p>
+	 *
+	 * @param patterns 정규식 패턴 목록
+	 * @param flags {@link Pattern#compile(String, int)}에 전달할 플래그
+	 * @param engine 패턴을 검사할 엔진
+	 * @return 컴파일된 패턴 집합
+	 * @throws java.util.regex.PatternSyntaxException 패턴의 문법이 올바르지 않은 경우
+	 */
+	public static CompiledPatternSet compile(Collection<String> patterns, int flags, PatternEngine engine) {
+		if (patterns == null) {
+			return EMPTY;
+		}
+		List<String> sources = patterns.stream()
+			.filter(pattern -> pattern != null && !pattern.isBlank())
+			.distinct()
+			.toList();
+		if (sources.isEmpty()) {
+			return EMPTY;
+		}
+		Pattern pattern = Pattern.compile(String.join("|", sources), flags);
+		Set<String> prefilterLiterals = prefilterLiterals(sources, flags);
+		if (engine != PatternEngine.LINEAR) {
+			return new CompiledPatternSet(sources, pattern, null, null, Map.of(), prefilterLiterals);
+		}
+
+		List<String> linearSources = new ArrayList<>(sources.size());
+		Map<String, String> unsupported = new LinkedHashMap<>();
+		for (String source : sources) {
+			try {
+				LinearPattern.compile(source, flags);
+				linearSources.add(source);
+			} catch (UnsupportedPatternException e) {
+				unsupported.put(source, e.getMessage());
+				log.warn("선형 시간 엔진이 지원하지 않아 java.util.regex로 검사하는 패턴: {} ({})", source, e.getMessage());
+			}
+		}
+
+		LinearPattern linearPattern = linearSources.isEmpty() ? null : LinearPattern.compile(linearSources, flags);
+		Pattern regexPattern = unsupported.isEmpty() ? null :
+			Pattern.compile(String.join("|", unsupported.keySet()), flags);
+		return new CompiledPatternSet(sources, pattern, linearPattern, regexPattern,
+			Collections.unmodifiableMap(unsupported), prefilterLiterals);
+	}
+
+	/**
+	 * 모든 패턴의 반드시 포함하는 문자열 후보를 모읍니다. 하나라도 구할 수 없으면 빈 집합을 반환합니다.
+	 */
+	private static Set<String> prefilterLiterals(List<String> sources, int flags) {
+		Set<String> literals = new LinkedHashSet<>();
+		for (String source : sources) {
+			Set<String> required;
+			try {
+				required = LinearPattern.requiredLiterals(source, flags);
+			} catch (UnsupportedPatternException e) {
+				required = null;
+			}
+			if (required == null) {
+				log.info("반드시 포함하는 문자열을 찾을 수 없어 사전 검사를 사용하지 않습니다: {}", source);
+				return Set.of();
+			}
+			literals.addAll(required);
+		}
+		return Collections.unmodifiableSet(literals);
+	}
+
+	/**
+	 * 입력에 패턴과 일치하는 부분이 있는지 검사합니다.
+	 *
+	 * @param input 검사할 문자열
+	 * @return 일치하는 부분이 있으면 {@code true}
+	 */
+	public boolean find(CharSequence input) {
+		return findEnd(input) >= 0;
+	}
+
+	/**
+	 * 입력에서 패턴과 일치하는 부분을 찾아 그 끝 위치를 반환합니다.
+	 * <p>
+	 * 로그에 입력 전체 대신 일치한 부분 근처만 남길 때 사용합니다.
+	 * {@link PatternEngine#LINEAR}는 가장 먼저 끝나는 일치의 끝 위치를, {@link java.util.regex.Pattern}은 가장 앞에서 시작하는
+	 * 일치의 끝 위치를 반환합니다.
+	 * </p>
+	 *
+	 * @param input 검사할 문자열
+	 * @return 일치한 부분의 끝 위치 (제외), 일치하는 부분이 없으면 {@code -1}
+	 */
+	public int findEnd(CharSequence input) {
+		if (prefilter != null && !(input instanceof Utf8CharSequence bytes ?
+			prefilter.containsAny(bytes) : prefilter.containsAny(input))) {
+			return -1;
+		}
+		if (linearPattern != null) {
+			int end = linearPattern.findEnd(input);
+			if (end >= 0) {
+				return end;
+			}
+		}
+		if (matchers == null) {
+			return -1;
+		}
+		Matcher matcher = matchers.get();
+		try {
+			return matcher.reset(input).find() ? matcher.end() : -1;
+		} finally {
+			matcher.reset("");
+		}
+	}
+
+	/**
+	 * 결합하여 컴파일한 정규식을 반환합니다. 사용하는 엔진과 관계없이 모든 패턴을 포함합니다.
+	 *
+	 * @return 컴파일된 {@link Pattern}
+	 */
+	public Pattern getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * 컴파일에 사용한 패턴 목록을 반환합니다. 비어 있거나 중복된 패턴은 포함하지 않습니다.
+	 *
+	 * @return 수정할 수 없는 패턴 목록
+	 */
+	public List<String> getPatterns() {
+		return patterns;
+	}
+
+	/**
+	 * {@link PatternEngine#LINEAR}가 지원하지 않아 {@link java.util.regex.Pattern}으로 검사하는 패턴과 그 이유를 반환합니다.
+	 *
+	 * @return 수정할 수 없는 패턴별 이유, 없으면 빈 맵
+	 */
+	public Map<String, String> getUnsupportedPatterns() {
+		return unsupportedPatterns;
+	}
+
+	/**
+	 * 패턴 엔진보다 먼저 검사하는 문자열 목록을 반환합니다. ASCII 영문자는 소문자로 바꾼 형태입니다.
+	 *
+	 * @return 수정할 수 없는 문자열 목록, 사전 검사를 사용하지 않으면 빈 집합
+	 */
+	public Set<String> getPrefilterLiterals() {
+		return prefilterLiterals;
+	}
+}
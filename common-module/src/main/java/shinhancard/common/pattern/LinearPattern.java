@@ -0,0 +1,824 @@
+package shinhancard.common.pattern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 입력 길이에 비례하는 시간 안에 검사를 마치는 정규식 엔진입니다.
+ * <p>
+ * 패턴을 Thompson NFA 명령어로 컴파일하고, 입력을 한 번만 훑으면서 가능한 모든 상태를 동시에 진행시킵니다(Pike VM).
+ * 역추적을 하지 않으므로 {@code <.*?onload\s*=.*?>} 같은 패턴도 검사 시간이 {@code O(입력 길이 × 명령어 수)}를 넘지 않습니다.
+ * 여러 패턴은 하나의 프로그램으로 결합하여 한 번에 검사합니다.
+ * </p>
+ * <p>
+ * 일치 여부만 판단하므로 캡처 그룹은 기록하지 않고, 게으른 수량자({@code *?})는 탐욕적 수량자와 같게 처리합니다.
+ * 다음 문법은 지원하지 않으며 {@link UnsupportedPatternException}을 던집니다.
+ * </p>
+ * <ul>
+ *     <li>역참조 ({@code \1}, {@code \k<name>})</li>
+ *     <li>전후방 탐색과 독립 그룹 ({@code (?=)}, {@code (?!)}, {@code (?<=)}, {@code (?<!)}, {@code (?>)})</li>
+ *     <li>인라인 플래그 ({@code (?i)}), 소유 수량자 ({@code *+}), 1000을 넘는 반복 횟수</li>
+ *     <li>유니코드 속성 ({@code \p{..}}), 중첩 및 교집합 문자 클래스 ({@code [a[b]]}, {@code [a&&b]})</li>
+ *     <li>{@link Pattern#CASE_INSENSITIVE} 이외의 플래그</li>
+ * </ul>
+ * <p>
+ * 이 클래스는 스레드 안전하며, 검사에 필요한 상태는 스레드별로 재사용합니다.
+ * </p>
+ */
+public final class LinearPattern {
+
+	private static final int MAX_REPEAT = 1000;
+	private static final int MAX_PROGRAM_SIZE = 100_000;
+
+	private static final int CLASS = 0;
+	private static final int SPLIT = 1;
+	private static final int JUMP = 2;
+	private static final int ASSERT = 3;
+	private static final int MATCH = 4;
+
+	private static final int BEGIN_INPUT = 0;
+	private static final int END_INPUT = 1;
+	private static final int END_LINE = 2;
+	private static final int WORD_BOUNDARY = 3;
+	private static final int NOT_WORD_BOUNDARY = 4;
+
+	private static final CharSet DIGIT = new CharSet.Builder().add('0', '9').build(false);
+	private static final CharSet SPACE = new CharSet.Builder().add(' ').add('\t', '\r').build(false);
+	private static final CharSet WORD = new CharSet.Builder().add('a', 'z').add('A', 'Z').add('0', '9').add('_')
+		.build(false);
+	private static final CharSet DOT = new CharSet.Builder().add('\n').add('\r').add('\u0085')
+		.add('\u2028', '\u2029').build(true); // 줄 바꿈 문자를 제외한 모든 문자
+
+	private final int[] ops;
+	private final int[] args;
+	private final int[] targets;
+	private final CharSet[] charSets;
+	private final ThreadLocal<Machine> machines;
+
+	private LinearPattern(Program program) {
+		this.ops = Arrays.copyOf(program.ops, program.size);
+		this.args = Arrays.copyOf(program.args, program.size);
+		this.targets = Arrays.copyOf(program.targets, program.size);
+		this.charSets = program.charSets.toArray(new CharSet[0]);
+		this.machines = ThreadLocal.withInitial(() -> new Machine(ops.length));
+	}
+
+	/**
+	 * 정규식을 컴파일합니다.
+	 *
+	 * @param regex 정규식
+	 * @param flags {@link Pattern#CASE_INSENSITIVE} 또는 0
+	 * @return 컴파일된 {@link LinearPattern}
+	 * @throws java.util.regex.PatternSyntaxException 정규식의 문법이 올바르지 않은 경우
+	 * @throws UnsupportedPatternException 지원하지 않는 문법을 사용한 경우
+	 */
+	public static LinearPattern compile(String regex, int flags) {
+		return compile(List.of(regex), flags);
+	}
+
+	/**
+	 * 여러 정규식을 하나로 결합하여 컴파일합니다. 하나라도 일치하면 일치한 것으로 판단합니다.
+	 *
+	 * @param regexes 정규식 목록
+	 * @param flags {@link Pattern#CASE_INSENSITIVE} 또는 0
+	 * @return 컴파일된 {@link LinearPattern}
+	 * @throws java.util.regex.PatternSyntaxException 정규식의 문법이 올바르지 않은 경우
+	 * @throws UnsupportedPatternException 지원하지 않는 문법을 사용한 경우
+	 */
+	public static LinearPattern compile(List<String> regexes, int flags) {
+		if ((flags & ~Pattern.CASE_INSENSITIVE) != 0) {
+			throw new UnsupportedPatternException("CASE_INSENSITIVE 이외의 플래그는 지원하지 않습니다.");
+		}
+		if (regexes.isEmpty()) {
+			throw new IllegalArgumentException("패턴이 하나 이상 필요합니다.");
+		}
+		List<Node> alternatives = new ArrayList<>(regexes.size());
+		for (String regex : regexes) {
+			Pattern.compile(regex, flags); // 문법 오류는 java.util.regex와 같은 예외로 알림
+			alternatives.add(new Parser(regex, (flags & Pattern.CASE_INSENSITIVE) != 0).parse());
+		}
+
+		Program program = new Program();
+		program.emit(new Alternation(alternatives));
+		program.add(MATCH, 0);
+		return new LinearPattern(program);
+	}
+
+	/**
+	 * 정규식과 일치하는 모든 문자열이 반드시 포함하는 문자열 후보를 구합니다.
+	 * <p>
+	 * 반환된 후보 중 하나도 포함하지 않는 입력은 정규식과 일치하지 않습니다.
+	 * 후보는 ASCII 영문자를 소문자로 바꾼 문자열이며, ASCII가 아닌 문자를 포함하지 않습니다.
+	 * </p>
+	 *
+	 * @param regex 정규식
+	 * @param flags {@link Pattern#CASE_INSENSITIVE} 또는 0
+	 * @return 비어 있지 않은 후보 집합, 반드시 포함하는 문자열을 찾을 수 없으면 {@code null}
+	 * @throws java.util.regex.PatternSyntaxException 정규식의 문법이 올바르지 않은 경우
+	 * @throws UnsupportedPatternException 지원하지 않는 문법을 사용한 경우
+	 */
+	static Set<String> requiredLiterals(String regex, int flags) {
+		if ((flags & ~Pattern.CASE_INSENSITIVE) != 0) {
+			throw new UnsupportedPatternException("CASE_INSENSITIVE 이외의 플래그는 지원하지 않습니다.");
+		}
+		Pattern.compile(regex, flags);
+		Node node = new Parser(regex, (flags & Pattern.CASE_INSENSITIVE) != 0).parse();
+		return Literals.of(node).required();
+	}
+
+	/**
+	 * 입력에 패턴과 일치하는 부분이 있는지 검사합니다.
+	 *
+	 * @param input 검사할 문자열
+	 * @return 일치하는 부분이 있으면 {@code true}
+	 */
+	public boolean find(CharSequence input) {
+		return findEnd(input) >= 0;
+	}
+
+	/**
+	 * 입력에서 패턴과 일치하는 부분을 찾아 가장 먼저 끝나는 일치의 끝 위치를 반환합니다.
+	 * <p>
+	 * 일치를 찾는 즉시 검사를 멈추므로 {@link #find(CharSequence)}와 같은 시간에 끝납니다.
+	 * 로그에 남길 일치 부분을 잘라낼 때 사용합니다.
+	 * </p>
+	 *
+	 * @param input 검사할 문자열
+	 * @return 일치의 끝 위치 (제외), 일치하는 부분이 없으면 {@code -1}
+	 */
+	public int findEnd(CharSequence input) {
+		Machine machine = machines.get();
+		SparseSet current = machine.current;
+		SparseSet next = machine.next;
+		current.clear();
+
+		int length = input.length();
+		int position = 0;
+		while (true) {
+			if (addThread(machine, current, 0, input, position)) { // 모든 위치에서 새로 시작
+				return position;
+			}
+			if (position >= length) {
+				return -1;
+			}
+
+			int codePoint = Character.codePointAt(input, position);
+			int nextPosition = position + Character.charCount(codePoint);
+			next.clear();
+			for (int i = 0; i < current.size; i++) {
+				int pc = current.dense[i];
+				if (ops[pc] == CLASS && charSets[args[pc]].matches(codePoint)
+					&& addThread(machine, next, pc + 1, input, nextPosition)) {
+					return nextPosition;
+				}
+			}
+
+			SparseSet swap = current;
+			current = next;
+			next = swap;
+			position = nextPosition;
+		}
+	}
+
+	/**
+	 * 명령어에서 입력을 소비하지 않고 도달할 수 있는 모든 명령어를 집합에 추가합니다.
+	 *
+	 * @return {@link #MATCH}에 도달하면 {@code true}
+	 */
+	private boolean addThread(Machine machine, SparseSet threads, int startPc, CharSequence input, int position) {
+		if (threads.contains(startPc)) {
+			return false;
+		}
+		int[] stack = machine.stack;
+		int top = 0;
+		threads.add(startPc);
+		stack[top++] = startPc;
+
+		while (top > 0) {
+			int pc = stack[--top];
+			switch (ops[pc]) {
+				case MATCH:
+					return true;
+				case JUMP:
+					top = push(threads, stack, top, args[pc]);
+					break;
+				case SPLIT:
+					top = push(threads, stack, top, args[pc]);
+					top = push(threads, stack, top, targets[pc]);
+					break;
+				case ASSERT:
+					if (holds(args[pc], input, position)) {
+						top = push(threads, stack, top, pc + 1);
+					}
+					break;
+				default:
+					break; // CLASS는 다음 문자에서 진행
+			}
+		}
+		return false;
+	}
+
+	private static int push(SparseSet threads, int[] stack, int top, int pc) {
+		if (!threads.contains(pc)) {
+			threads.add(pc);
+			stack[top++] = pc;
+		}
+		return top;
+	}
+
+	private static boolean holds(int assertion, CharSequence input, int position) {
+		int length = input.length();
+		return switch (assertion) {
+			case BEGIN_INPUT -> position == 0;
+			case END_INPUT -> position == length;
+			case END_LINE -> position == length || isFinalLineTerminator(input, position);
+			case WORD_BOUNDARY -> isWordBefore(input, position) != isWordAt(input, position);
+			case NOT_WORD_BOUNDARY -> isWordBefore(input, position) == isWordAt(input, position);
+			default -> false;
+		};
+	}
+
+	/**
+	 * 위치 뒤에 마지막 줄 바꿈만 남아 있는지 확인합니다. {@code $}와 {@code \Z}는 이 위치에서도 일치합니다.
+	 */
+	private static boolean isFinalLineTerminator(CharSequence input, int position) {
+		int remaining = input.length() - position;
+		char c = input.charAt(position);
+		if (remaining == 2) {
+			return c == '\r' && input.charAt(position + 1) == '\n';
+		}
+		if (remaining != 1 || c == '\n' && position > 0 && input.charAt(position - 1) == '\r') {
+			return false;
+		}
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+
+	private static boolean isWordBefore(CharSequence input, int position) {
+		return position > 0 && isWord(Character.codePointBefore(input, position));
+	}
+
+	private static boolean isWordAt(CharSequence input, int position) {
+		return position < input.length() && isWord(Character.codePointAt(input, position));
+	}
+
+	private static boolean isWord(int codePoint) {
+		return WORD.matches(codePoint); // JDK 19부터 \b는 \w와 같은 ASCII 단어 문자를 기준으로 함
+	}
+
+	/**
+	 * 명령어 번호 집합입니다. 추가, 포함 확인, 비우기가 모두 상수 시간입니다.
+	 */
+	private static final class SparseSet {
+
+		private final int[] dense;
+		private final int[] sparse;
+		private int size;
+
+		SparseSet(int capacity) {
+			this.dense = new int[capacity];
+			this.sparse = new int[capacity];
+		}
+
+		boolean contains(int value) {
+			int index = sparse[value];
+			return index < size && dense[index] == value;
+		}
+
+		void add(int value) {
+			sparse[value] = size;
+			dense[size++] = value;
+		}
+
+		void clear() {
+			size = 0;
+		}
+	}
+
+	/**
+	 * 스레드별로 재사용하는 검사 상태입니다.
+	 */
+	private static final class Machine {
+
+		private final SparseSet current;
+		private final SparseSet next;
+		private final int[] stack;
+
+		Machine(int programSize) {
+			this.current = new SparseSet(programSize);
+			this.next = new SparseSet(programSize);
+			this.stack = new int[programSize];
+		}
+	}
+
+	private sealed interface Node permits CharNode, Concatenation, Alternation, Repetition, Assertion {
+	}
+
+	private record CharNode(CharSet charSet) implements Node {
+	}
+
+	private record Concatenation(List<Node> nodes) implements Node {
+	}
+
+	private record Alternation(List<Node> alternatives) implements Node {
+	}
+
+	private record Repetition(Node node, int min, int max) implements Node { // max가 -1이면 무한
+	}
+
+	private record Assertion(int kind) implements Node {
+	}
+
+	/**
+	 * 구문 트리가 일치하는 문자열에 대해 알 수 있는 문자열 정보입니다.
+	 * <p>
+	 * {@code exact}는 일치할 수 있는 문자열 전체의 집합이고, 알 수 없거나 너무 많으면 {@code null}입니다.
+	 * {@code candidates}는 일치하는 문자열이 반드시 포함하는 문자열 후보이고, 제약이 없으면 {@code null}입니다.
+	 * 모든 문자열은 ASCII 영문자를 소문자로 바꾼 형태로 보관합니다.
+	 * </p>
+	 */
+	private record Literals(Set<String> exact, Set<String> candidates) {
+
+		private static final int MAX_CLASS_SIZE = 8;
+		private static final int MAX_EXACT = 16;
+		private static final int MAX_REQUIRED = 64;
+		private static final Set<String> EMPTY_STRING = Set.of("");
+		private static final Literals ANY = new Literals(null, null);
+
+		static Literals of(Node node) {
+			return switch (node) {
+				case CharNode charNode -> ofCharSet(charNode.charSet());
+				case Assertion ignored -> exact(EMPTY_STRING);
+				case Concatenation concatenation -> ofConcatenation(concatenation.nodes());
+				case Alternation alternation -> ofAlternation(alternation.alternatives());
+				case Repetition repetition -> ofRepetition(repetition);
+			};
+		}
+
+		/**
+		 * 반드시 포함하는 문자열 후보를 반환합니다. 빈 문자열이 후보에 있으면 제약이 없는 것으로 봅니다.
+		 */
+		Set<String> required() {
+			Set<String> literals = exact != null ? exact : candidates;
+			return literals == null || literals.contains("") ? null : literals;
+		}
+
+		private static Literals exact(Set<String> literals) {
+			return new Literals(literals, null);
+		}
+
+		private static Literals ofCharSet(CharSet charSet) {
+			int[] ranges = charSet.ranges();
+			Set<String> chars = new LinkedHashSet<>();
+			int count = 0;
+			for (int i = 0; i < ranges.length; i += 2) {
+				count += ranges[i + 1] - ranges[i] + 1;
+				if (count > MAX_CLASS_SIZE || ranges[i + 1] >= 128) {
+					return ANY;
+				}
+				for (int c = ranges[i]; c <= ranges[i + 1]; c++) {
+					chars.add(String.valueOf(Character.toLowerCase((char)c)));
+				}
+			}
+			return chars.isEmpty() ? ANY : exact(chars);
+		}
+
+		private static Literals ofConcatenation(List<Node> nodes) {
+			Set<String> current = EMPTY_STRING;
+			Set<String> best = null;
+			boolean isExact = true;
+			for (Node node : nodes) {
+				Literals literals = of(node);
+				if (literals.exact != null) {
+					Set<String> product = product(current, literals.exact);
+					if (product != null) {
+						current = product;
+						continue;
+					}
+				}
+				// 이어 붙일 수 없으면 지금까지 이어 붙인 문자열과 이 노드의 후보 중 나은 것을 남기고 새로 시작
+				isExact = false;
+				best = better(best, exact(current).required());
+				best = better(best, literals.required());
+				current = literals.exact != null ? literals.exact : EMPTY_STRING;
+			}
+			if (isExact) {
+				return exact(current);
+			}
+			return new Literals(null, better(best, exact(current).required()));
+		}
+
+		private static Literals ofAlternation(List<Node> alternatives) {
+			Set<String> exact = new LinkedHashSet<>();
+			Set<String> required = new LinkedHashSet<>();
+			for (Node alternative : alternatives) {
+				Literals literals = of(alternative);
+				if (exact != null && literals.exact != null && exact.size() + literals.exact.size() <= MAX_EXACT) {
+					exact.addAll(literals.exact);
+				} else {
+					exact = null;
+				}
+				Set<String> candidates = literals.required();
+				if (required != null && candidates != null && required.size() + candidates.size() <= MAX_REQUIRED) {
+					required.addAll(candidates);
+				} else {
+					required = null;
+				}
+			}
+			return new Literals(exact, required);
+		}
+
+		private static Literals ofRepetition(Repetition repetition) {
+			if (repetition.max() == 0) {
+				return exact(EMPTY_STRING);
+			}
+			Literals inner = of(repetition.node());
+			if (repetition.min() == 0) {
+				if (repetition.max() == 1 && inner.exact != null) {
+					Set<String> optional = new LinkedHashSet<>(inner.exact);
+					optional.add("");
+					return exact(optional);
+				}
+				return ANY;
+			}
+			if (inner.exact != null && repetition.min() == repetition.max()) {
+				Set<String> repeated = EMPTY_STRING;
+				for (int i = 0; i < repetition.min() && repeated != null; i++) {
+					repeated = product(repeated, inner.exact);
+				}
+				if (repeated != null) {
+					return exact(repeated);
+				}
+			}
+			return new Literals(null, inner.required());
+		}
+
+		private static Set<String> product(Set<String> prefixes, Set<String> suffixes) {
+			if (prefixes.size() * suffixes.size() > MAX_EXACT) {
+				return null;
+			}
+			Set<String> product = new LinkedHashSet<>();
+			for (String prefix : prefixes) {
+				for (String suffix : suffixes) {
+					product.add(prefix + suffix);
+				}
+			}
+			return product;
+		}
+
+		/**
+		 * 가장 짧은 후보가 더 긴 쪽을, 같으면 후보 수가 적은 쪽을 고릅니다.
+		 */
+		private static Set<String> better(Set<String> left, Set<String> right) {
+			if (left == null || right == null) {
+				return left == null ? right : left;
+			}
+			int leftLength = left.stream().mapToInt(String::length).min().orElse(0);
+			int rightLength = right.stream().mapToInt(String::length).min().orElse(0);
+			if (leftLength != rightLength) {
+				return leftLength > rightLength ? left : right;
+			}
+			return left.size() <= right.size() ? left : right;
+		}
+	}
+
+	/**
+	 * 구문 트리를 명령어로 변환합니다.
+	 */
+	private static final class Program {
+
+		private int[] ops = new int[64];
+		private int[] args = new int[64];
+		private int[] targets = new int[64];
+		private int size;
+		private final List<CharSet> charSets = new ArrayList<>();
+		private final Map<CharSet, Integer> charSetIndexes = new HashMap<>();
+
+		int add(int op, int arg) {
+			if (size == MAX_PROGRAM_SIZE) {
+				throw new UnsupportedPatternException("패턴이 너무 큽니다.");
+			}
+			if (size == ops.length) {
+				ops = Arrays.copyOf(ops, size * 2);
+				args = Arrays.copyOf(args, size * 2);
+				targets = Arrays.copyOf(targets, size * 2);
+			}
+			ops[size] = op;
+			args[size] = arg;
+			return size++;
+		}
+
+		void emit(Node node) {
+			switch (node) {
+				case CharNode charNode -> add(CLASS, charSetIndexes.computeIfAbsent(charNode.charSet(), charSet -> {
+					charSets.add(charSet);
+					return charSets.size() - 1;
+				}));
+				case Concatenation concatenation -> concatenation.nodes().forEach(this::emit);
+				case Alternation alternation -> emitAlternation(alternation.alternatives());
+				case Repetition repetition -> emitRepetition(repetition);
+				case Assertion assertion -> add(ASSERT, assertion.kind());
+			}
+		}
+
+		private void emitAlternation(List<Node> alternatives) {
+			List<Integer> jumps = new ArrayList<>();
+			for (int i = 0; i < alternatives.size() - 1; i++) {
+				int split = add(SPLIT, size + 1);
+				emit(alternatives.get(i));
+				jumps.add(add(JUMP, 0));
+				targets[split] = size;
+			}
+			if (!alternatives.isEmpty()) {
+				emit(alternatives.get(alternatives.size() - 1));
+			}
+			for (int jump : jumps) {
+				args[jump] = size;
+			}
+		}
+
+		private void emitRepetition(Repetition repetition) {
+			for (int i = 0; i < repetition.min(); i++) {
+				emit(repetition.node());
+			}
+			if (repetition.max() < 0) {
+				int split = add(SPLIT, size + 1);
+				emit(repetition.node());
+				add(JUMP, split);
+				targets[split] = size;
+				return;
+			}
+			List<Integer> splits = new ArrayList<>();
+			for (int i = repetition.min(); i < repetition.max(); i++) {
+				splits.add(add(SPLIT, size + 1));
+				emit(repetition.node());
+			}
+			for (int split : splits) {
+				targets[split] = size;
+			}
+		}
+	}
+
+	/**
+	 * 정규식을 구문 트리로 변환합니다. 입력은 {@link Pattern#compile(String, int)}으로 검증된 문법이어야 합니다.
+	 */
+	private static final class Parser {
+
+		private final String regex;
+		private final boolean caseInsensitive;
+		private int position;
+
+		Parser(String regex, boolean caseInsensitive) {
+			this.regex = regex;
+			this.caseInsensitive = caseInsensitive;
+		}
+
+		Node parse() {
+			Node node = parseAlternation();
+			if (position < regex.length()) {
+				throw unsupported("짝이 맞지 않는 괄호");
+			}
+			return node;
+		}
+
+		private Node parseAlternation() {
+			List<Node> alternatives = new ArrayList<>();
+			alternatives.add(parseConcatenation());
+			while (peek() == '|') {
+				position++;
+				alternatives.add(parseConcatenation());
+			}
+			return alternatives.size() == 1 ? alternatives.get(0) : new Alternation(alternatives);
+		}
+
+		private Node parseConcatenation() {
+			List<Node> nodes = new ArrayList<>();
+			while (position < regex.length() && peek() != '|' && peek() != ')') {
+				nodes.add(parseRepetition());
+			}
+			return nodes.size() == 1 ? nodes.get(0) : new Concatenation(nodes);
+		}
+
+		private Node parseRepetition() {
+			Node node = parseAtom();
+			while (position < regex.length()) {
+				int min;
+				int max;
+				char c = peek();
+				if (c == '*') {
+					min = 0;
+					max = -1;
+				} else if (c == '+') {
+					min = 1;
+					max = -1;
+				} else if (c == '?') {
+					min = 0;
+					max = 1;
+				} else if (c == '{') {
+					int close = regex.indexOf('}', position);
+					String[] bounds = regex.substring(position + 1, close).split(",", -1);
+					min = parseBound(bounds[0]);
+					max = bounds.length == 1 ? min : bounds[1].isEmpty() ? -1 : parseBound(bounds[1]);
+					position = close;
+				} else {
+					break;
+				}
+				position++;
+				if (peek() == '+') {
+					throw unsupported("소유 수량자");
+				}
+				if (peek() == '?') {
+					position++; // 일치 여부만 판단하므로 게으른 수량자는 탐욕적 수량자와 같음
+				}
+				node = new Repetition(node, min, max);
+			}
+			return node;
+		}
+
+		private int parseBound(String bound) {
+			int value = Integer.parseInt(bound.trim());
+			if (value > MAX_REPEAT) {
+				throw unsupported(MAX_REPEAT + "을 넘는 반복 횟수");
+			}
+			return value;
+		}
+
+		private Node parseAtom() {
+			int c = regex.codePointAt(position);
+			position += Character.charCount(c);
+			return switch (c) {
+				case '(' -> parseGroup();
+				case '[' -> new CharNode(parseCharClass());
+				case '.' -> new CharNode(DOT);
+				case '^' -> new Assertion(BEGIN_INPUT);
+				case '$' -> new Assertion(END_LINE);
+				case '\\' -> parseEscape();
+				default -> literal(c);
+			};
+		}
+
+		private Node parseGroup() {
+			if (regex.startsWith("?:", position)) {
+				position += 2;
+			} else if (regex.startsWith("?<", position) && position + 2 < regex.length()
+				&& Character.isLetter(regex.charAt(position + 2))) {
+				position = regex.indexOf('>', position) + 1; // 이름 있는 그룹
+			} else if (peek() == '?') {
+				throw unsupported("전후방 탐색, 독립 그룹 또는 인라인 플래그");
+			}
+			Node node = parseAlternation();
+			position++; // ')'
+			return node;
+		}
+
+		private Node parseEscape() {
+			char c = regex.charAt(position++);
+			switch (c) {
+				case 'd', 'D', 's', 'S', 'w', 'W':
+					return new CharNode(predefined(c));
+				case 'b':
+					return new Assertion(WORD_BOUNDARY);
+				case 'B':
+					return new Assertion(NOT_WORD_BOUNDARY);
+				case 'A':
+					return new Assertion(BEGIN_INPUT);
+				case 'z':
+					return new Assertion(END_INPUT);
+				case 'Z':
+					return new Assertion(END_LINE);
+				case 'Q':
+					int end = regex.indexOf("\\E", position);
+					String quoted = regex.substring(position, end < 0 ? regex.length() : end);
+					position = end < 0 ? regex.length() : end + 2;
+					return new Concatenation(quoted.codePoints().mapToObj(this::literal).toList());
+				default:
+					return literal(escapedCodePoint(c));
+			}
+		}
+
+		private CharSet parseCharClass() {
+			boolean negated = peek() == '^';
+			if (negated) {
+				position++;
+			}
+			if (peek() == ']') {
+				throw unsupported("']'로 시작하는 문자 클래스");
+			}
+
+			CharSet.Builder builder = new CharSet.Builder();
+			while (peek() != ']') {
+				char c = peek();
+				if (c == '[' || c == '&' && regex.startsWith("&&", position)) {
+					throw unsupported("중첩 또는 교집합 문자 클래스");
+				}
+				int from;
+				if (c == '\\') {
+					position++;
+					char escaped = regex.charAt(position++);
+					if ("dDsSwW".indexOf(escaped) >= 0) {
+						builder.addAll(predefined(escaped));
+						continue;
+					}
+					from = escapedCodePoint(escaped);
+				} else {
+					from = regex.codePointAt(position);
+					position += Character.charCount(from);
+				}
+
+				if (peek() == '-' && position + 1 < regex.length() && regex.charAt(position + 1) != ']') {
+					position++;
+					int to;
+					if (peek() == '\\') {
+						position++;
+						to = escapedCodePoint(regex.charAt(position++));
+					} else {
+						to = regex.codePointAt(position);
+						position += Character.charCount(to);
+					}
+					builder.add(from, to);
+				} else {
+					builder.add(from);
+				}
+			}
+			position++; // ']'
+
+			if (caseInsensitive) {
+				builder.foldAsciiCase();
+			}
+			return builder.build(negated);
+		}
+
+		private int escapedCodePoint(char c) {
+			switch (c) {
+				case 't':
+					return '\t';
+				case 'n':
+					return '\n';
+				case 'r':
+					return '\r';
+				case 'f':
+					return '\f';
+				case 'a':
+					return '\u0007';
+				case 'e':
+					return '\u001B';
+				case 'c':
+					return regex.charAt(position++) ^ 64;
+				case '0':
+					int octal = 0;
+					for (int i = 0; i < 3 && position < regex.length() && peek() >= '0' && peek() <= '7'
+						&& octal * 8 + (peek() - '0') <= 0377; i++) {
+						octal = octal * 8 + (regex.charAt(position++) - '0');
+					}
+					return octal;
+				case 'x':
+					if (peek() == '{') {
+						int close = regex.indexOf('}', position);
+						int value = Integer.parseInt(regex.substring(position + 1, close), 16);
+						position = close + 1;
+						return value;
+					}
+					position += 2;
+					return Integer.parseInt(regex.substring(position - 2, position), 16);
+				case 'u':
+					position += 4;
+					return Integer.parseInt(regex.substring(position - 4, position), 16);
+				default:
+					if (Character.isLetterOrDigit(c)) {
+						throw unsupported("\\" + c);
+					}
+					return c;
+			}
+		}
+
+		private CharSet predefined(char c) {
+			return switch (c) {
+				case 'd' -> DIGIT;
+				case 's' -> SPACE;
+				case 'w' -> WORD;
+				default -> new CharSet.Builder().addAll(predefined(Character.toLowerCase(c))).build(true);
+			};
+		}
+
+		private Node literal(int codePoint) {
+			CharSet.Builder builder = new CharSet.Builder().add(codePoint);
+			if (caseInsensitive) {
+				builder.foldAsciiCase();
+			}
+			return new CharNode(builder.build(false));
+		}
+
+		private char peek() {
+			return position < regex.length() ? regex.charAt(position) : '\0';
+		}
+
+		private UnsupportedPatternException unsupported(String feature) {
+			return new UnsupportedPatternException("지원하지 않는 문법: " + feature);
+		}
+	}
+}
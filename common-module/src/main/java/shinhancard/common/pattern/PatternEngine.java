@@ -0,0 +1,18 @@
+package shinhancard.common.pattern;
+
+/**
+ * 탐지 패턴을 검사할 정규식 엔진입니다.
+ */
+public enum PatternEngine {
+	/**
+	 * {@link java.util.regex.Pattern}으로 검사합니다.
+	 * 역참조와 전후방 탐색 등 모든 문법을 지원하지만, 입력에 따라 역추적으로 검사 시간이 크게 늘어날 수 있습니다.
+	 */
+	REGEX,
+
+	/**
+	 * {@link LinearPattern}으로 검사합니다.
+	 * 입력 길이에 비례하는 시간 안에 검사를 마치며, 지원하지 않는 문법의 패턴만 {@link #REGEX}로 검사합니다.
+	 */
+	LINEAR
+}
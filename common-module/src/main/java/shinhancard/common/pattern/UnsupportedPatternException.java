@@ -0,0 +1,16 @@
+package shinhancard.common.pattern;
+
+/**
+ * {@link LinearPattern}이 지원하지 않는 정규식 문법을 만났을 때 발생하는 예외입니다.
+ */
+public class UnsupportedPatternException extends IllegalArgumentException {
+
+	/**
+	 * {@link UnsupportedPatternException}의 생성자입니다.
+	 *
+	 * @param message 지원하지 않는 이유
+	 */
+	public UnsupportedPatternException(String message) {
+		super(message);
+	}
+}
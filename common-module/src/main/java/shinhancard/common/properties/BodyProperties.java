@@ -0,0 +1,51 @@
+package shinhancard.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청 본문 캐싱 설정을 담고 있는 객체입니다.
+ * <p>
+ * 설정은 application.yml 파일의 {@code filter.common.body} 프로파일에 매핑됩니다.
+ * 임계값 이하의 본문은 힙에 보관하고, 임계값을 넘는 본문은 임시 파일에 기록한 뒤 메모리 매핑하여 읽습니다.
+ * </p>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "filter.common.body")
+@Getter
+@Setter
+public class BodyProperties {
+
+	/**
+	 * 힙에 보관할 요청 본문의 최대 크기 (바이트 단위).
+	 * <p>
+	 * 이 크기를 넘는 본문은 임시 파일로 기록됩니다. 기본값은 262144 (256KB)입니다.
+	 * </p>
+	 */
+	private int memoryThreshold = 256 * 1024;
+
+	/**
+	 * 임계값을 넘는 본문을 기록할 임시 디렉터리 경로.
+	 * <p>
+	 * 설정하지 않으면 시스템 임시 디렉터리({@code java.io.tmpdir})를 사용합니다.
+	 * </p>
+	 */
+	private String tempDirectory;
+
+	/**
+	 * 설정된 값들을 검증합니다.
+	 * <p>
+	 * 힙 보관 임계값이 0보다 작은 경우 예외를 발생시킵니다.
+	 * </p>
+	 */
+	@PostConstruct
+	private void validateProperties() {
+		if (memoryThreshold < 0) {
+			throw new IllegalArgumentException("요청 본문의 힙 보관 임계값은 0 이상이어야 합니다.");
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package shinhancard.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 필터가 요청을 거부할 때의 응답 방식을 담고 있는 설정 객체입니다.
+ * <p>
+ * 설정은 application.yml 파일의 {@code filter.common.rejection} 프로파일에 매핑됩니다.
+ * </p>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "filter.common.rejection")
+@Getter
+@Setter
+public class RejectionProperties {
+
+	/**
+	 * 거부 응답을 {@link jakarta.servlet.http.HttpServletResponse#sendError(int, String)}로 전송할지 여부.
+	 * <p>
+	 * {@code true}이면 기존과 같이 서블릿 컨테이너의 에러 처리(ERROR 디스패치)를 거쳐 응답합니다.
+	 * 기본값은 {@code false}이며, 이 경우 에러 응답 본문을 직접 기록하고 응답을 커밋합니다.
+	 * </p>
+	 */
+	private boolean useSendError = false;
+}
@@ -0,0 +1,51 @@
+package shinhancard.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * traceId 생성 및 전파 설정을 담고 있는 객체입니다.
+ * <p>
+ * 설정은 application.yml 파일의 {@code filter.common.trace} 프로파일에 매핑됩니다.
+ * </p>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "filter.common.trace")
+@Getter
+@Setter
+public class TraceProperties {
+
+	/**
+	 * 요청 헤더로 전달된 traceId를 재사용할지 여부.
+	 * <p>
+	 * {@code true}이면 {@code traceparent} 헤더의 trace-id 또는 {@link #header}에 지정된 헤더의 값을 그대로 사용하고,
+	 * 헤더가 없거나 형식이 올바르지 않은 경우에만 새로 생성합니다. 기본값은 {@code true}입니다.
+	 * </p>
+	 */
+	private boolean propagate = true;
+
+	/**
+	 * traceId를 전달받을 요청 헤더 이름.
+	 * <p>
+	 * {@code traceparent} 헤더가 없을 때 사용합니다. 기본값은 {@code X-Trace-Id}입니다.
+	 * </p>
+	 */
+	private String header = "X-Trace-Id";
+
+	/**
+	 * 설정된 값들을 검증합니다.
+	 * <p>
+	 * 헤더 이름이 비어 있는 경우 예외를 발생시킵니다.
+	 * </p>
+	 */
+	@PostConstruct
+	private void validateProperties() {
+		if (header == null || header.isBlank()) {
+			throw new IllegalArgumentException("traceId 헤더 이름은 비어 있을 수 없습니다.");
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package shinhancard.common.trace;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+
+/**
+ * 요청 하나를 처리하는 동안 각 필터가 사용한 시간을 기록하는 클래스입니다.
+ * <p>
+ * 로그 필터가 {@link #start(ServletRequest)}로 요청 속성에 등록하면, 이후의 필터들은
+ * {@link #timed(ServletRequest, String, long, FilterChain)}와 {@link #recordIfAbsent(ServletRequest, String, long)}로
+ * 자신의 검사 시간을 기록합니다. 필터의 시간은 필터에 진입한 시점부터 다음 필터를 호출하기 직전(또는 요청을 거부한 시점)까지이며,
+ * 뒤따르는 필터와 애플리케이션의 처리 시간은 포함하지 않습니다.
+ * 요청 속성에 등록되어 있지 않으면 기록하지 않으므로 로그 필터가 꺼져 있을 때 추가 비용이 없습니다.
+ * </p>
+ */
+public final class FilterTimings {
+
+	/**
+	 * {@link FilterTimings}를 저장하는 요청 속성 이름.
+	 */
+	public static final String ATTRIBUTE = FilterTimings.class.getName();
+
+	private final Map<String, Long> elapsedNanos = new LinkedHashMap<>(8);
+
+	private FilterTimings() {
+	}
+
+	/**
+	 * 요청에 {@link FilterTimings}를 등록합니다. 이미 등록되어 있으면 기존 객체를 반환합니다.
+	 *
+	 * @param request 요청 객체
+	 * @return 요청에 등록된 {@link FilterTimings}
+	 */
+	public static FilterTimings start(ServletRequest request) {
+		if (request.getAttribute(ATTRIBUTE) instanceof FilterTimings timings) {
+			return timings;
+		}
+		FilterTimings timings = new FilterTimings();
+		request.setAttribute(ATTRIBUTE, timings);
+		return timings;
+	}
+
+	/**
+	 * 요청에 등록된 {@link FilterTimings}를 반환합니다.
+	 *
+	 * @param request 요청 객체
+	 * @return 등록된 {@link FilterTimings}, 없으면 빈 {@link Optional}
+	 */
+	public static Optional<FilterTimings> get(ServletRequest request) {
+		return request.getAttribute(ATTRIBUTE) instanceof FilterTimings timings ? Optional.of(timings) : Optional.empty();
+	}
+
+	/**
+	 * 다음 필터를 호출하기 직전에 필터의 사용 시간을 기록하는 {@link FilterChain}을 반환합니다.
+	 * <p>
+	 * 요청에 {@link FilterTimings}가 등록되어 있지 않으면 주어진 필터 체인을 그대로 반환합니다.
+	 * </p>
+	 *
+	 * @param request 요청 객체
+	 * @param filterName 필터 이름
+	 * @param startNanos 필터에 진입한 시각 ({@link System#nanoTime()})
+	 * @param filterChain 원래의 필터 체인
+	 * @return 사용 시간을 기록하는 필터 체인
+	 */
+	public static FilterChain timed(ServletRequest request, String filterName, long startNanos,
+		FilterChain filterChain) {
+		if (!(request.getAttribute(ATTRIBUTE) instanceof FilterTimings timings)) {
+			return filterChain;
+		}
+		return (nextRequest, nextResponse) -> {
+			timings.putIfAbsent(filterName, System.nanoTime() - startNanos);
+			filterChain.doFilter(nextRequest, nextResponse);
+		};
+	}
+
+	/**
+	 * 필터의 사용 시간이 아직 기록되지 않았으면 지금까지의 시간을 기록합니다.
+	 * <p>
+	 * 요청을 거부하여 다음 필터를 호출하지 않는 경우 거부 응답을 기록한 직후에 호출합니다.
+	 * </p>
+	 *
+	 * @param request 요청 객체
+	 * @param filterName 필터 이름
+	 * @param startNanos 필터에 진입한 시각 ({@link System#nanoTime()})
+	 */
+	public static void recordIfAbsent(ServletRequest request, String filterName, long startNanos) {
+		if (request.getAttribute(ATTRIBUTE) instanceof FilterTimings timings) {
+			timings.putIfAbsent(filterName, System.nanoTime() - startNanos);
+		}
+	}
+
+	/**
+	 * 필터의 사용 시간을 기록합니다. 같은 이름으로 이미 기록되어 있으면 더합니다.
+	 *
+	 * @param filterName 필터 이름
+	 * @param nanos 사용 시간 (나노초 단위)
+	 */
+	public synchronized void record(String filterName, long nanos) {
+		elapsedNanos.merge(filterName, nanos, Long::sum);
+	}
+
+	/**
+	 * 필터별 사용 시간을 기록된 순서대로 반환합니다.
+	 *
+	 * @return 필터 이름과 사용 시간(나노초 단위)의 읽기 전용 맵
+	 */
+	public synchronized Map<String, Long> getElapsedNanos() {
+		return Collections.unmodifiableMap(new LinkedHashMap<>(elapsedNanos));
+	}
+
+	private synchronized void putIfAbsent(String filterName, long nanos) {
+		elapsedNanos.putIfAbsent(filterName, nanos);
+	}
+}
@@ -0,0 +1,45 @@
+package shinhancard.common.trace;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스레드별 난수 생성기로 128비트 traceId를 생성하는 기본 {@link TraceIdGenerator} 구현체입니다.
+ * <p>
+ * {@link java.util.UUID#randomUUID()}는 공유 {@link java.security.SecureRandom}을 사용하므로
+ * 코어 수가 많은 환경에서 경합이 발생합니다. 이 구현체는 {@link ThreadLocalRandom}을 사용하여 락 없이 생성하며,
+ * 결과는 W3C Trace Context의 trace-id 형식과 같은 소문자 16진수 32자리 문자열입니다.
+ * traceId는 추적용 식별자일 뿐 보안 토큰이 아니므로 암호학적 난수가 필요하지 않습니다.
+ * </p>
+ */
+public final class RandomTraceIdGenerator implements TraceIdGenerator {
+
+	private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * 새로운 traceId를 생성합니다.
+	 *
+	 * @return 소문자 16진수 32자리 traceId
+	 */
+	@Override
+	public String generate() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long high = random.nextLong();
+		long low = random.nextLong();
+		if ((high | low) == 0) {
+			low = 1; // W3C Trace Context에서 모두 0인 trace-id는 유효하지 않습니다.
+		}
+
+		byte[] traceId = new byte[32];
+		writeHex(high, traceId, 0);
+		writeHex(low, traceId, 16);
+		return new String(traceId, StandardCharsets.ISO_8859_1);
+	}
+
+	private static void writeHex(long value, byte[] target, int offset) {
+		for (int i = 15; i >= 0; i--) {
+			target[offset + i] = HEX_DIGITS[(int)(value & 0xF)];
+			value >>>= 4;
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package shinhancard.common.trace;
+
+/**
+ * 요청을 추적하기 위한 traceId를 생성하는 인터페이스입니다.
+ * <p>
+ * 모든 요청마다 호출되므로 구현체는 스레드 안전해야 하며, 락이나 공유 상태 없이 동작하는 것이 좋습니다.
+ * 다른 생성 방식을 사용하려면 이 인터페이스를 구현한 빈을 등록합니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface TraceIdGenerator {
+
+	/**
+	 * 새로운 traceId를 생성합니다.
+	 *
+	 * @return 생성된 traceId
+	 */
+	String generate();
+}
@@ -0,0 +1,147 @@
+package shinhancard.common.trace;
+
+import java.util.Optional;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import shinhancard.common.properties.TraceProperties;
+
+/**
+ * 요청의 traceId를 결정하고, 같은 요청을 처리하는 모든 필터가 같은 traceId를 사용하도록 공유하는 클래스입니다.
+ * <p>
+ * 요청 속성에 traceId가 이미 있으면 그대로 반환합니다. 없으면 W3C {@code traceparent} 헤더의 trace-id,
+ * 설정된 traceId 헤더({@code X-Trace-Id}) 순서로 재사용하고, 둘 다 없으면 {@link TraceIdGenerator}로 생성합니다.
+ * 결정된 traceId는 요청 속성에 저장되므로 로그와 에러 응답 본문이 같은 값을 사용합니다.
+ * </p>
+ */
+public class TraceIdResolver {
+
+	/**
+	 * 결정된 traceId를 저장하는 요청 속성 이름.
+	 */
+	public static final String TRACE_ID_ATTRIBUTE = TraceIdResolver.class.getName() + ".TRACE_ID";
+
+	/**
+	 * W3C Trace Context 헤더 이름.
+	 */
+	public static final String TRACEPARENT_HEADER = "traceparent";
+
+	private static final int MAX_TRACE_ID_LENGTH = 64;
+
+	private final TraceIdGenerator traceIdGenerator;
+	private final TraceProperties traceProperties;
+
+	/**
+	 * {@link TraceIdResolver}의 생성자입니다.
+	 *
+	 * @param traceIdGenerator traceId를 생성하는 {@link TraceIdGenerator} 객체
+	 * @param traceProperties traceId 전파 설정
+	 */
+	public TraceIdResolver(TraceIdGenerator traceIdGenerator, TraceProperties traceProperties) {
+		this.traceIdGenerator = traceIdGenerator;
+		this.traceProperties = traceProperties;
+	}
+
+	/**
+	 * 요청의 traceId를 반환합니다. 아직 결정되지 않았으면 결정하여 요청 속성에 저장합니다.
+	 *
+	 * @param request HTTP 요청 객체
+	 * @return 요청의 traceId
+	 */
+	public String resolve(HttpServletRequest request) {
+		if (request.getAttribute(TRACE_ID_ATTRIBUTE) instanceof String traceId) {
+			return traceId;
+		}
+
+		String traceId = null;
+		if (traceProperties.isPropagate()) {
+			traceId = fromTraceparent(request.getHeader(TRACEPARENT_HEADER));
+			if (traceId == null) {
+				traceId = fromHeader(request.getHeader(traceProperties.getHeader()));
+			}
+		}
+		if (traceId == null) {
+			traceId = traceIdGenerator.generate();
+		}
+
+		request.setAttribute(TRACE_ID_ATTRIBUTE, traceId);
+		return traceId;
+	}
+
+	/**
+	 * 요청에 이미 결정된 traceId를 반환합니다.
+	 *
+	 * @param request 요청 객체
+	 * @return 결정된 traceId, 아직 결정되지 않았으면 빈 {@link Optional}
+	 */
+	public static Optional<String> getTraceId(ServletRequest request) {
+		return request.getAttribute(TRACE_ID_ATTRIBUTE) instanceof String traceId ?
+			Optional.of(traceId) : Optional.empty();
+	}
+
+	/**
+	 * {@code traceparent} 헤더({@code version-traceid-parentid-flags})에서 trace-id를 추출합니다.
+	 *
+	 * @param traceparent 헤더 값
+	 * @return 유효한 trace-id, 형식이 올바르지 않으면 {@code null}
+	 */
+	private static String fromTraceparent(String traceparent) {
+		if (traceparent == null || traceparent.length() < 55) {
+			return null;
+		}
+		if (traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-'
+			|| !isLowerHex(traceparent, 0, 2) || traceparent.startsWith("ff")
+			|| !isLowerHex(traceparent, 36, 52) || !isLowerHex(traceparent, 53, 55)) {
+			return null;
+		}
+		if (traceparent.length() > 55 && (traceparent.startsWith("00") || traceparent.charAt(55) != '-')) {
+			return null; // 버전 00은 정확히 55자이며, 이후 버전은 '-'로 필드를 추가합니다.
+		}
+
+		String traceId = traceparent.substring(3, 35);
+		if (!isLowerHex(traceId, 0, 32) || isAllZero(traceId)) {
+			return null;
+		}
+		return traceId;
+	}
+
+	/**
+	 * traceId 헤더 값이 로그와 응답 본문에 그대로 사용해도 안전한 형식인지 확인합니다.
+	 *
+	 * @param value 헤더 값
+	 * @return 안전한 traceId, 형식이 올바르지 않으면 {@code null}
+	 */
+	private static String fromHeader(String value) {
+		if (value == null || value.isEmpty() || value.length() > MAX_TRACE_ID_LENGTH) {
+			return null;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			boolean allowed = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+				|| c == '-' || c == '_' || c == '.';
+			if (!allowed) {
+				return null;
+			}
+		}
+		return value;
+	}
+
+	private static boolean isLowerHex(String value, int from, int to) {
+		for (int i = from; i < to; i++) {
+			char c = value.charAt(i);
+			if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isAllZero(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (value.charAt(i) != '0') {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,244 @@
+package shinhancard.common.wrapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import lombok.extern.slf4j.Slf4j;
+import shinhancard.common.buffer.Utf8CharSequence;
+
+/**
+ * 캐시된 요청 본문을 보관하는 클래스입니다.
+ * <p>
+ * 임계값 이하의 본문은 힙의 바이트 배열에 보관하고, 임계값을 넘는 본문은 임시 파일에 기록한 뒤
+ * {@link MappedByteBuffer}로 매핑하여 힙을 거치지 않고 읽을 수 있도록 합니다.
+ * 임시 파일은 {@link #close()} 호출 시 삭제됩니다.
+ * </p>
+ * <p>
+ * Java 21에는 매핑을 즉시 해제하는 공개 API가 없으므로, 파일을 삭제해도 매핑은 {@link MappedByteBuffer}가
+ * 가비지 컬렉션될 때까지 남아 있습니다. Linux와 macOS에서는 디렉터리 항목만 바로 삭제되고 디스크 공간은 매핑이 해제될 때
+ * 반환되며, Windows에서는 매핑된 파일을 삭제할 수 없어 JVM 종료 시 삭제하도록 예약합니다.
+ * </p>
+ */
+@Slf4j
+public final class CachedBody implements AutoCloseable {
+
+	private static final String TEMP_FILE_PREFIX = "filter-body-";
+	private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+	private final byte[] heapBody; // 힙에 보관된 본문 (파일로 기록된 경우 null)
+	private final ByteBuffer mappedBody; // 메모리 매핑된 본문 (힙에 보관된 경우 null)
+	private final Path file; // 본문이 기록된 임시 파일 (힙에 보관된 경우 null)
+
+	private CachedBody(byte[] heapBody, ByteBuffer mappedBody, Path file) {
+		this.heapBody = heapBody;
+		this.mappedBody = mappedBody;
+		this.file = file;
+	}
+
+	/**
+	 * 바이트 배열을 그대로 보관하는 {@link CachedBody}를 생성합니다.
+	 *
+	 * @param body 본문 바이트 배열
+	 * @return 힙에 보관된 {@link CachedBody}
+	 */
+	public static CachedBody of(byte[] body) {
+		return new CachedBody(body, null, null);
+	}
+
+	/**
+	 * 입력 스트림에서 본문을 읽어 {@link CachedBody}를 생성합니다.
+	 * <p>
+	 * 본문 크기가 {@code memoryThreshold} 이하이면 힙에 보관하고, 초과하면 임시 파일로 기록합니다.
+	 * {@code contentLength}가 임계값을 넘는 것으로 알려진 경우 힙을 거치지 않고 바로 파일로 기록합니다.
+	 * </p>
+	 *
+	 * @param inputStream 본문을 읽을 입력 스트림
+	 * @param contentLength 요청의 Content-Length (알 수 없는 경우 음수)
+	 * @param memoryThreshold 힙에 보관할 본문의 최대 크기 (바이트 단위)
+	 * @param tempDirectory 임시 파일을 생성할 디렉터리 (null이면 시스템 임시 디렉터리)
+	 * @return 캐시된 본문
+	 * @throws IOException 본문을 읽거나 임시 파일에 기록하는 동안 I/O 오류가 발생한 경우
+	 */
+	public static CachedBody read(InputStream inputStream, long contentLength, int memoryThreshold,
+		Path tempDirectory) throws IOException {
+		if (contentLength > memoryThreshold) {
+			return spill(inputStream, new byte[0], -1, tempDirectory);
+		}
+
+		byte[] head = inputStream.readNBytes(memoryThreshold);
+		if (head.length < memoryThreshold) {
+			return of(head);
+		}
+
+		int next = inputStream.read();
+		if (next == -1) {
+			return of(head);
+		}
+		return spill(inputStream, head, next, tempDirectory);
+	}
+
+	/**
+	 * 이미 읽은 앞부분과 나머지 스트림을 임시 파일에 기록하고 메모리 매핑합니다.
+	 *
+	 * @param inputStream 나머지 본문을 읽을 입력 스트림
+	 * @param head 이미 읽은 본문 앞부분
+	 * @param next 앞부분 다음에 읽은 한 바이트 (없으면 -1)
+	 * @param tempDirectory 임시 파일을 생성할 디렉터리 (null이면 시스템 임시 디렉터리)
+	 * @return 임시 파일에 기록된 {@link CachedBody}
+	 * @throws IOException 임시 파일에 기록하는 동안 I/O 오류가 발생한 경우
+	 */
+	private static CachedBody spill(InputStream inputStream, byte[] head, int next, Path tempDirectory) throws
+		IOException {
+		Path file = tempDirectory != null ?
+			Files.createTempFile(tempDirectory, TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX) :
+			Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			writeFully(channel, ByteBuffer.wrap(head));
+			if (next != -1) {
+				writeFully(channel, ByteBuffer.wrap(new byte[] {(byte)next}));
+			}
+			inputStream.transferTo(Channels.newOutputStream(channel));
+
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException("메모리 매핑할 수 있는 요청 본문 크기를 초과했습니다: " + size);
+			}
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			return new CachedBody(null, mapped, file);
+		} catch (IOException | RuntimeException e) {
+			deleteQuietly(file);
+			throw e;
+		}
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private static void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.warn("요청 본문 임시 파일 삭제 실패: {}", file, e);
+			file.toFile().deleteOnExit();
+		}
+	}
+
+	/**
+	 * 본문의 크기를 반환합니다.
+	 *
+	 * @return 본문 크기 (바이트 단위)
+	 */
+	public int length() {
+		return heapBody != null ? heapBody.length : mappedBody.capacity();
+	}
+
+	/**
+	 * 본문이 임시 파일에 기록되었는지 확인합니다.
+	 *
+	 * @return 임시 파일에 기록된 경우 {@code true}, 힙에 보관된 경우 {@code false}
+	 */
+	public boolean isSpilled() {
+		return file != null;
+	}
+
+	/**
+	 * 본문을 처음부터 읽을 수 있는 읽기 전용 {@link ByteBuffer}를 반환합니다.
+	 * <p>
+	 * 반환되는 버퍼는 호출마다 독립적인 위치를 가지며, 본문을 복사하지 않습니다.
+	 * </p>
+	 *
+	 * @return 본문을 읽기 위한 읽기 전용 {@link ByteBuffer}
+	 */
+	public ByteBuffer asByteBuffer() {
+		return heapBody != null ? ByteBuffer.wrap(heapBody).asReadOnlyBuffer() : mappedBody.duplicate();
+	}
+
+	/**
+	 * {@link CachedServletInputStream}이 읽을 {@link ByteBuffer}를 반환합니다.
+	 * <p>
+	 * 힙에 보관된 본문은 배열 기반 버퍼로 감싸 {@link CachedServletInputStream#transferTo(java.io.OutputStream)}가
+	 * 배열을 복사하지 않고 그대로 기록할 수 있도록 합니다. 스트림은 버퍼에 쓰지 않으므로 읽기 전용으로 감싸지 않습니다.
+	 * </p>
+	 *
+	 * @return 본문을 읽기 위한 {@link ByteBuffer}
+	 */
+	ByteBuffer asStreamBuffer() {
+		return heapBody != null ? ByteBuffer.wrap(heapBody) : mappedBody.duplicate();
+	}
+
+	/**
+	 * 본문을 주어진 문자 집합으로 디코딩하여 문자열로 반환합니다.
+	 *
+	 * @param charset 디코딩에 사용할 문자 집합
+	 * @return 본문 문자열
+	 */
+	public String asString(Charset charset) {
+		return heapBody != null ? new String(heapBody, charset) : charset.decode(mappedBody.duplicate()).toString();
+	}
+
+	/**
+	 * 본문의 앞부분을 최대 {@code maxBytes} 바이트까지만 UTF-8 문자열로 디코딩하여 반환합니다.
+	 * <p>
+	 * 나머지 바이트는 읽지 않으며, 여러 바이트로 인코딩된 문자가 경계에 걸치면 그 문자 앞에서 자릅니다.
+	 * </p>
+	 *
+	 * @param maxBytes 디코딩할 최대 바이트 수
+	 * @return 본문 앞부분의 문자열
+	 */
+	public String asUtf8String(int maxBytes) {
+		int end = length();
+		if (maxBytes < end) {
+			end = Math.max(maxBytes, 0);
+			int limit = Math.max(end - 3, 0); // UTF-8 문자는 최대 4바이트
+			while (end > limit && (byteAt(end) & 0xC0) == 0x80) {
+				end--;
+			}
+		}
+		return heapBody != null ? new String(heapBody, 0, end, StandardCharsets.UTF_8) :
+			StandardCharsets.UTF_8.decode(mappedBody.duplicate().limit(end)).toString();
+	}
+
+	/**
+	 * 본문을 UTF-8 문자열로 디코딩하지 않고 읽는 {@link Utf8CharSequence}를 반환합니다.
+	 * <p>
+	 * 본문을 복사하지 않으며, 반환된 뷰는 스레드 안전하지 않으므로 호출한 스레드에서만 사용해야 합니다.
+	 * </p>
+	 *
+	 * @return 본문을 읽기 위한 {@link Utf8CharSequence}
+	 */
+	public Utf8CharSequence asUtf8CharSequence() {
+		return heapBody != null ? new Utf8CharSequence(heapBody, 0, heapBody.length) :
+			new Utf8CharSequence(mappedBody.duplicate());
+	}
+
+	private byte byteAt(int index) {
+		return heapBody != null ? heapBody[index] : mappedBody.get(index);
+	}
+
+	/**
+	 * 본문이 기록된 임시 파일을 삭제합니다.
+	 * <p>
+	 * 힙에 보관된 본문의 경우 아무 작업도 하지 않습니다.
+	 * 매핑은 해제하지 않으므로 디스크 공간은 매핑이 가비지 컬렉션될 때 반환되며, 호출한 뒤에는 본문을 읽지 않아야 합니다.
+	 * </p>
+	 */
+	@Override
+	public void close() {
+		if (file != null) {
+			deleteQuietly(file);
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package shinhancard.common.wrapper;
+
+import jakarta.servlet.ServletRequestEvent;
+import jakarta.servlet.ServletRequestListener;
+
+/**
+ * 요청 처리가 끝날 때 캐시된 요청 본문을 해제하는 리스너입니다.
+ * <p>
+ * 비동기 요청을 포함하여 요청이 완전히 종료된 시점에 {@link RequestBodyCapture#release}를 호출하므로,
+ * 임시 파일에 기록된 본문이 요청 수명보다 오래 남지 않습니다.
+ * </p>
+ */
+public class CachedBodyCleanupListener implements ServletRequestListener {
+
+	/**
+	 * 요청이 종료될 때 캐시된 요청 본문을 해제합니다.
+	 *
+	 * @param event 요청 종료 이벤트
+	 */
+	@Override
+	public void requestDestroyed(ServletRequestEvent event) {
+		RequestBodyCapture.release(event.getServletRequest());
+	}
+}
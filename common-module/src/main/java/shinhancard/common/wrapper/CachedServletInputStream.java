@@ -1,6 +1,9 @@
 package shinhancard.common.wrapper;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
@@ -8,22 +11,42 @@ import jakarta.servlet.ServletInputStream;
 /**
  * 요청 본문을 캐싱하여 여러 번 읽을 수 있도록 하는 {@link ServletInputStream} 구현체입니다.
  * <p>
- * 이 클래스는 요청 본문을 바이트 배열로 저장하고, 이를 {@link ByteArrayInputStream}을 통해 읽을 수 있도록 합니다.
+ * 이 클래스는 힙 또는 메모리 매핑된 {@link ByteBuffer}에 저장된 요청 본문을 읽을 수 있도록 합니다.
+ * 바이트 단위 읽기뿐 아니라 배열 단위 읽기, 건너뛰기, 다른 스트림으로의 전송을 버퍼에서 직접 처리하며,
+ * 비동기 서블릿을 위해 {@link ReadListener} 콜백을 호출합니다.
  * </p>
  */
 public class CachedServletInputStream extends ServletInputStream {
-	private final ByteArrayInputStream inputStream;
+
+	private static final int TRANSFER_BUFFER_SIZE = 8 * 1024;
+
+	private final ByteBuffer buffer;
+	private ReadListener readListener; // 비동기 읽기 리스너
+	private boolean inListenerCallback; // onDataAvailable 콜백 실행 중 여부
+	private boolean allDataReadNotified; // onAllDataRead 호출 여부
 
 	/**
 	 * {@link CachedServletInputStream}의 생성자입니다.
 	 * <p>
-	 * 주어진 바이트 배열을 사용하여 {@link ByteArrayInputStream}을 초기화합니다.
+	 * 주어진 바이트 배열을 감싸는 {@link ByteBuffer}를 사용하여 초기화합니다.
 	 * </p>
 	 *
 	 * @param data 요청 본문을 담고 있는 바이트 배열
 	 */
 	public CachedServletInputStream(byte[] data) {
-		this.inputStream = new ByteArrayInputStream(data);
+		this(ByteBuffer.wrap(data));
+	}
+
+	/**
+	 * {@link CachedServletInputStream}의 생성자입니다.
+	 * <p>
+	 * 주어진 {@link ByteBuffer}의 현재 위치부터 끝까지를 요청 본문으로 읽습니다.
+	 * </p>
+	 *
+	 * @param buffer 요청 본문을 담고 있는 {@link ByteBuffer}
+	 */
+	public CachedServletInputStream(ByteBuffer buffer) {
+		this.buffer = buffer;
 	}
 
 	/**
@@ -33,11 +56,14 @@ public class CachedServletInputStream extends ServletInputStream {
 	 */
 	@Override
 	public boolean isFinished() {
-		return inputStream.available() == 0;
+		return !buffer.hasRemaining();
 	}
 
 	/**
 	 * 스트림이 읽기 가능한지 확인합니다.
+	 * <p>
+	 * 본문 전체가 이미 캐싱되어 있으므로 항상 블로킹 없이 읽을 수 있습니다.
+	 * </p>
 	 *
 	 * @return 항상 {@code true}를 반환합니다.
 	 */
@@ -47,25 +73,234 @@ public class CachedServletInputStream extends ServletInputStream {
 	}
 
 	/**
-	 * 읽기 리스너를 설정합니다.
+	 * 읽기 리스너를 설정하고 즉시 데이터 수신 콜백을 호출합니다.
 	 * <p>
-	 * 이 메서드는 현재 구현되지 않았습니다. 필요에 따라 구현할 수 있습니다.
+	 * 본문 전체가 이미 캐싱되어 있으므로, 남은 데이터가 있으면 {@link ReadListener#onDataAvailable()}을 호출하고
+	 * 모든 데이터를 읽었으면 {@link ReadListener#onAllDataRead()}를 한 번 호출합니다.
+	 * 콜백에서 발생한 예외는 {@link ReadListener#onError(Throwable)}로 전달됩니다.
 	 * </p>
 	 *
 	 * @param readListener 읽기 리스너
+	 * @throws NullPointerException 리스너가 null인 경우
+	 * @throws IllegalStateException 리스너가 이미 설정된 경우
 	 */
 	@Override
 	public void setReadListener(ReadListener readListener) {
-		// 필요 시 구현 가능
+		Objects.requireNonNull(readListener, "ReadListener는 null일 수 없습니다.");
+		if (this.readListener != null) {
+			throw new IllegalStateException("ReadListener가 이미 설정되었습니다.");
+		}
+		this.readListener = readListener;
+
+		try {
+			if (buffer.hasRemaining()) {
+				inListenerCallback = true;
+				try {
+					readListener.onDataAvailable();
+				} finally {
+					inListenerCallback = false;
+				}
+			}
+			notifyAllDataReadIfFinished();
+		} catch (Throwable t) {
+			readListener.onError(t);
+		}
 	}
 
 	/**
 	 * 스트림에서 한 바이트를 읽습니다.
 	 *
 	 * @return 읽은 바이트, 더 이상 읽을 바이트가 없으면 {@code -1}
+	 * @throws IOException 읽기 리스너의 완료 콜백에서 I/O 오류가 발생한 경우
+	 */
+	@Override
+	public int read() throws IOException {
+		if (!buffer.hasRemaining()) {
+			afterRead();
+			return -1;
+		}
+		int b = buffer.get() & 0xFF;
+		afterRead();
+		return b;
+	}
+
+	/**
+	 * 스트림에서 최대 {@code len} 바이트를 읽어 배열에 저장합니다.
+	 *
+	 * @param b 읽은 데이터를 저장할 배열
+	 * @param off 배열에서 저장을 시작할 오프셋
+	 * @param len 읽을 최대 바이트 수
+	 * @return 읽은 바이트 수, 더 이상 읽을 바이트가 없으면 {@code -1}
+	 * @throws IOException 읽기 리스너의 완료 콜백에서 I/O 오류가 발생한 경우
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		if (len == 0) {
+			return 0;
+		}
+		if (!buffer.hasRemaining()) {
+			afterRead();
+			return -1;
+		}
+		int count = Math.min(len, buffer.remaining());
+		buffer.get(b, off, count);
+		afterRead();
+		return count;
+	}
+
+	/**
+	 * 남은 본문 전체를 읽어 반환합니다.
+	 *
+	 * @return 남은 본문 바이트 배열
+	 * @throws IOException 읽기 리스너의 완료 콜백에서 I/O 오류가 발생한 경우
+	 */
+	@Override
+	public byte[] readAllBytes() throws IOException {
+		return readNBytes(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 최대 {@code len} 바이트를 읽어 반환합니다.
+	 *
+	 * @param len 읽을 최대 바이트 수
+	 * @return 읽은 바이트 배열
+	 * @throws IOException 읽기 리스너의 완료 콜백에서 I/O 오류가 발생한 경우
+	 */
+	@Override
+	public byte[] readNBytes(int len) throws IOException {
+		if (len < 0) {
+			throw new IllegalArgumentException("len < 0");
+		}
+		byte[] content = new byte[Math.min(len, buffer.remaining())];
+		buffer.get(content);
+		afterRead();
+		return content;
+	}
+
+	/**
+	 * 최대 {@code len} 바이트를 읽어 배열에 저장합니다.
+	 *
+	 * @param b 읽은 데이터를 저장할 배열
+	 * @param off 배열에서 저장을 시작할 오프셋
+	 * @param len 읽을 최대 바이트 수
+	 * @return 읽은 바이트 수 (스트림의 끝이면 {@code 0})
+	 * @throws IOException 읽기 리스너의 완료 콜백에서 I/O 오류가 발생한 경우
 	 */
 	@Override
-	public int read() {
-		return inputStream.read();
+	public int readNBytes(byte[] b, int off, int len) throws IOException {
+		int count = read(b, off, len);
+		return Math.max(count, 0);
+	}
+
+	/**
+	 * 한 줄을 읽어 배열에 저장합니다. 줄바꿈 문자({@code \n})까지 포함하여 읽습니다.
+	 *
+	 * @param b 읽은 데이터를 저장할 배열
+	 * @param off 배열에서 저장을 시작할 오프셋
+	 * @param len 읽을 최대 바이트 수
+	 * @return 읽은 바이트 수, 더 이상 읽을 바이트가 없으면 {@code -1}
+	 * @throws IOException 읽기 리스너의 완료 콜백에서 I/O 오류가 발생한 경우
+	 */
+	@Override
+	public int readLine(byte[] b, int off, int len) throws IOException {
+		if (len <= 0) {
+			return 0;
+		}
+		if (!buffer.hasRemaining()) {
+			afterRead();
+			return -1;
+		}
+
+		int count = 0;
+		while (count < len && buffer.hasRemaining()) {
+			byte value = buffer.get();
+			b[off + count++] = value;
+			if (value == '\n') {
+				break;
+			}
+		}
+		afterRead();
+		return count;
+	}
+
+	/**
+	 * 최대 {@code n} 바이트를 건너뜁니다.
+	 *
+	 * @param n 건너뛸 바이트 수
+	 * @return 실제로 건너뛴 바이트 수
+	 * @throws IOException 읽기 리스너의 완료 콜백에서 I/O 오류가 발생한 경우
+	 */
+	@Override
+	public long skip(long n) throws IOException {
+		if (n <= 0) {
+			return 0;
+		}
+		int count = (int)Math.min(n, buffer.remaining());
+		buffer.position(buffer.position() + count);
+		afterRead();
+		return count;
+	}
+
+	/**
+	 * 블로킹 없이 읽을 수 있는 남은 바이트 수를 반환합니다.
+	 *
+	 * @return 남은 바이트 수
+	 */
+	@Override
+	public int available() {
+		return buffer.remaining();
+	}
+
+	/**
+	 * 남은 본문 전체를 출력 스트림으로 전송합니다.
+	 * <p>
+	 * 힙에 보관된 본문처럼 버퍼가 배열 기반이면 배열을 그대로 기록하고,
+	 * 메모리 매핑된 본문이나 읽기 전용 버퍼는 고정 크기 임시 배열을 통해 나누어 기록합니다.
+	 * </p>
+	 *
+	 * @param out 본문을 기록할 출력 스트림
+	 * @return 전송한 바이트 수
+	 * @throws IOException 출력 스트림에 기록하는 동안 I/O 오류가 발생한 경우
+	 */
+	@Override
+	public long transferTo(OutputStream out) throws IOException {
+		Objects.requireNonNull(out, "out");
+		int total = buffer.remaining();
+
+		if (buffer.hasArray()) {
+			out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), total);
+			buffer.position(buffer.limit());
+		} else {
+			byte[] transferBuffer = new byte[Math.min(TRANSFER_BUFFER_SIZE, total)];
+			while (buffer.hasRemaining()) {
+				int count = Math.min(transferBuffer.length, buffer.remaining());
+				buffer.get(transferBuffer, 0, count);
+				out.write(transferBuffer, 0, count);
+			}
+		}
+		afterRead();
+		return total;
+	}
+
+	/**
+	 * 읽기 후 본문 끝에 도달했으면 읽기 리스너에 완료를 알립니다.
+	 * <p>
+	 * {@link ReadListener#onDataAvailable()} 실행 중에는 콜백이 끝난 뒤에 알립니다.
+	 * </p>
+	 *
+	 * @throws IOException 완료 콜백에서 I/O 오류가 발생한 경우
+	 */
+	private void afterRead() throws IOException {
+		if (readListener != null && !inListenerCallback) {
+			notifyAllDataReadIfFinished();
+		}
+	}
+
+	private void notifyAllDataReadIfFinished() throws IOException {
+		if (!buffer.hasRemaining() && !allDataReadNotified) {
+			allDataReadNotified = true;
+			readListener.onAllDataRead();
+		}
 	}
 }
@@ -1,7 +1,7 @@
 package shinhancard.common.wrapper;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.WriteListener;
@@ -9,22 +9,22 @@ import jakarta.servlet.WriteListener;
 /**
  * 응답 본문을 캐싱하여 여러 번 읽을 수 있도록 하는 {@link ServletOutputStream} 구현체입니다.
  * <p>
- * 이 클래스는 {@link ByteArrayOutputStream}을 사용하여 응답 본문을 내부 버퍼에 저장합니다.
+ * 이 클래스는 주어진 {@link OutputStream} 버퍼(예: {@link shinhancard.common.buffer.ChunkedByteBuffer})에 응답 본문을 저장합니다.
  * </p>
  */
 public class CachedServletOutputStream extends ServletOutputStream {
 
-	private final ByteArrayOutputStream buffer; // 응답 본문을 저장할 버퍼
+	private final OutputStream buffer; // 응답 본문을 저장할 버퍼
 
 	/**
 	 * {@link CachedServletOutputStream}의 생성자입니다.
 	 * <p>
-	 * 주어진 {@link ByteArrayOutputStream} 버퍼를 사용하여 {@code CachedServletOutputStream}을 초기화합니다.
+	 * 주어진 {@link OutputStream} 버퍼를 사용하여 {@code CachedServletOutputStream}을 초기화합니다.
 	 * </p>
 	 *
-	 * @param buffer 응답 본문을 저장할 {@link ByteArrayOutputStream} 버퍼
+	 * @param buffer 응답 본문을 저장할 {@link OutputStream} 버퍼
 	 */
-	public CachedServletOutputStream(ByteArrayOutputStream buffer) {
+	public CachedServletOutputStream(OutputStream buffer) {
 		this.buffer = buffer; // 버퍼를 이용해 CachedServletOutputStream 생성
 	}
 
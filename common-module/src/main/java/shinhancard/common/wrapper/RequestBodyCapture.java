@@ -0,0 +1,91 @@
+package shinhancard.common.wrapper;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import shinhancard.common.properties.BodyProperties;
+
+/**
+ * 요청 본문을 요청당 한 번만 읽어 필터 체인 전체가 공유하도록 하는 클래스입니다.
+ * <p>
+ * 처음 호출한 필터가 {@link WrappedHttpServletRequest}를 생성하고 요청 속성에 등록하며,
+ * 이후 필터는 본문을 다시 읽지 않고 같은 캐시를 재사용합니다.
+ * 등록된 캐시는 요청이 끝날 때 {@link #release(ServletRequest)}로 해제됩니다.
+ * </p>
+ */
+public class RequestBodyCapture {
+
+	/**
+	 * 캐시된 요청 래퍼를 저장하는 요청 속성 이름입니다.
+	 */
+	public static final String CACHED_REQUEST_ATTRIBUTE = RequestBodyCapture.class.getName() + ".CACHED_REQUEST";
+
+	private final BodyProperties bodyProperties;
+
+	/**
+	 * {@link RequestBodyCapture}의 생성자입니다.
+	 *
+	 * @param bodyProperties 요청 본문 캐싱 설정
+	 */
+	public RequestBodyCapture(BodyProperties bodyProperties) {
+		this.bodyProperties = bodyProperties;
+	}
+
+	/**
+	 * 요청 본문이 캐시된 {@link WrappedHttpServletRequest}를 반환합니다.
+	 * <p>
+	 * 요청이 이미 래퍼이거나 앞선 필터가 캐시를 등록한 경우 본문을 다시 읽지 않습니다.
+	 * 앞선 필터 이후 다른 래퍼가 끼어든 경우에는 해당 래퍼를 감싸되 캐시된 본문을 공유합니다.
+	 * </p>
+	 *
+	 * @param request 원본 또는 이미 래핑된 {@link HttpServletRequest}
+	 * @return 요청 본문이 캐시된 {@link WrappedHttpServletRequest}
+	 * @throws IOException 요청 본문을 읽는 동안 I/O 오류가 발생한 경우
+	 */
+	public WrappedHttpServletRequest capture(HttpServletRequest request) throws IOException {
+		if (request instanceof WrappedHttpServletRequest wrappedRequest) {
+			return wrappedRequest;
+		}
+
+		if (request.getAttribute(CACHED_REQUEST_ATTRIBUTE) instanceof WrappedHttpServletRequest cachedRequest) {
+			// 캐시를 만든 요청이 그대로 전달된 경우 기존 래퍼를, 다른 래퍼가 끼어든 경우 본문만 공유합니다.
+			return cachedRequest.getRequest() == request ? cachedRequest :
+				new WrappedHttpServletRequest(request, cachedRequest);
+		}
+
+		WrappedHttpServletRequest wrappedRequest = new WrappedHttpServletRequest(request, bodyProperties);
+		request.setAttribute(CACHED_REQUEST_ATTRIBUTE, wrappedRequest);
+		return wrappedRequest;
+	}
+
+	/**
+	 * 앞선 필터가 이미 캐시한 요청 래퍼를 반환합니다. 본문을 새로 읽지 않습니다.
+	 *
+	 * @param request 요청 객체
+	 * @return 캐시된 {@link WrappedHttpServletRequest}, 아직 캐시되지 않았으면 빈 {@link Optional}
+	 */
+	public static Optional<WrappedHttpServletRequest> getCaptured(ServletRequest request) {
+		if (request instanceof WrappedHttpServletRequest wrappedRequest) {
+			return Optional.of(wrappedRequest);
+		}
+		return request.getAttribute(CACHED_REQUEST_ATTRIBUTE) instanceof WrappedHttpServletRequest cachedRequest ?
+			Optional.of(cachedRequest) : Optional.empty();
+	}
+
+	/**
+	 * 요청에 등록된 본문 캐시를 해제합니다.
+	 * <p>
+	 * 본문이 임시 파일에 기록된 경우 파일을 삭제하고, 요청 속성에서 캐시를 제거합니다.
+	 * </p>
+	 *
+	 * @param request 요청 객체
+	 */
+	public static void release(ServletRequest request) {
+		if (request.getAttribute(CACHED_REQUEST_ATTRIBUTE) instanceof WrappedHttpServletRequest cachedRequest) {
+			request.removeAttribute(CACHED_REQUEST_ATTRIBUTE);
+			cachedRequest.release();
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package shinhancard.common.wrapper;
+
+import java.io.IOException;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import shinhancard.common.buffer.ChunkedByteBuffer;
+
+/**
+ * 기록된 내용을 원본 {@link ServletOutputStream}으로 즉시 전달하면서, 앞부분 일부만 캐싱하는 출력 스트림입니다.
+ * <p>
+ * 응답 전체를 버퍼에 보관하지 않으므로 클라이언트는 첫 바이트를 바로 받을 수 있고,
+ * 큰 응답도 {@code captureLimit} 바이트만큼의 메모리만 사용합니다.
+ * </p>
+ */
+public class TeeServletOutputStream extends ServletOutputStream {
+
+	private final ServletOutputStream target; // 원본 응답 출력 스트림
+	private final ChunkedByteBuffer capture; // 앞부분을 캐싱할 버퍼
+	private final int captureLimit; // 캐싱할 최대 바이트 수
+	private long contentSize; // 원본 스트림으로 전달한 전체 바이트 수
+	private long firstWriteNanos = -1; // 처음 기록한 시각 (System.nanoTime, 기록 전에는 -1)
+
+	/**
+	 * {@link TeeServletOutputStream}의 생성자입니다.
+	 *
+	 * @param target 내용을 전달할 원본 {@link ServletOutputStream}
+	 * @param capture 앞부분을 캐싱할 {@link ChunkedByteBuffer}
+	 * @param captureLimit 캐싱할 최대 바이트 수
+	 */
+	public TeeServletOutputStream(ServletOutputStream target, ChunkedByteBuffer capture, int captureLimit) {
+		this.target = target;
+		this.capture = capture;
+		this.captureLimit = captureLimit;
+	}
+
+	/**
+	 * 원본 스트림이 쓰기 가능한지 확인합니다.
+	 *
+	 * @return 원본 스트림의 준비 상태
+	 */
+	@Override
+	public boolean isReady() {
+		return target.isReady();
+	}
+
+	/**
+	 * 쓰기 리스너를 원본 스트림에 설정합니다.
+	 *
+	 * @param listener 쓰기 리스너
+	 */
+	@Override
+	public void setWriteListener(WriteListener listener) {
+		target.setWriteListener(listener);
+	}
+
+	/**
+	 * 한 바이트를 원본 스트림에 기록하고, 캐싱 한도 이내이면 버퍼에도 기록합니다.
+	 *
+	 * @param b 기록할 바이트
+	 * @throws IOException I/O 오류가 발생한 경우
+	 */
+	@Override
+	public void write(int b) throws IOException {
+		markFirstWrite();
+		target.write(b);
+		if (capture.size() < captureLimit) {
+			capture.write(b);
+		}
+		contentSize++;
+	}
+
+	/**
+	 * 바이트 배열의 일부를 원본 스트림에 기록하고, 캐싱 한도 이내의 앞부분을 버퍼에도 기록합니다.
+	 *
+	 * @param b 기록할 바이트 배열
+	 * @param off 바이트 배열에서 기록을 시작할 오프셋
+	 * @param len 기록할 바이트 수
+	 * @throws IOException I/O 오류가 발생한 경우
+	 */
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len > 0) {
+			markFirstWrite();
+		}
+		target.write(b, off, len);
+		int remaining = captureLimit - capture.size();
+		if (remaining > 0) {
+			capture.write(b, off, Math.min(len, remaining));
+		}
+		contentSize += len;
+	}
+
+	/**
+	 * 원본 스트림을 플러시합니다.
+	 *
+	 * @throws IOException I/O 오류가 발생한 경우
+	 */
+	@Override
+	public void flush() throws IOException {
+		target.flush();
+	}
+
+	/**
+	 * 원본 스트림을 닫습니다.
+	 *
+	 * @throws IOException I/O 오류가 발생한 경우
+	 */
+	@Override
+	public void close() throws IOException {
+		target.close();
+	}
+
+	/**
+	 * 원본 스트림으로 전달한 전체 바이트 수를 반환합니다.
+	 *
+	 * @return 전달한 바이트 수
+	 */
+	public long getContentSize() {
+		return contentSize;
+	}
+
+	/**
+	 * 원본 스트림에 처음 기록한 시각을 반환합니다.
+	 *
+	 * @return 처음 기록한 시각 ({@link System#nanoTime()}), 기록한 적이 없으면 {@code -1}
+	 */
+	public long getFirstWriteNanos() {
+		return firstWriteNanos;
+	}
+
+	private void markFirstWrite() {
+		if (firstWriteNanos < 0) {
+			firstWriteNanos = System.nanoTime();
+		}
+	}
+
+	/**
+	 * 전달한 바이트 수를 초기화합니다.
+	 * <p>
+	 * 응답 버퍼가 리셋될 때 호출됩니다.
+	 * </p>
+	 */
+	void resetContentSize() {
+		contentSize = 0;
+	}
+}
@@ -2,26 +2,32 @@ package shinhancard.common.wrapper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
+import shinhancard.common.buffer.Utf8CharSequence;
+import shinhancard.common.properties.BodyProperties;
 
 /**
  * 요청 본문을 캐싱하여 여러 번 읽을 수 있도록 {@link HttpServletRequest}를 래핑하는 클래스입니다.
  * <p>
- * 이 클래스는 요청 본문을 바이트 배열로 저장하고, 이를 {@link CachedServletInputStream}을 통해 다시 읽을 수 있도록 합니다.
- * 또한, 요청 본문을 문자열로 변환하는 메서드를 제공합니다.
+ * 이 클래스는 요청 본문을 {@link CachedBody}에 저장하고, 이를 {@link CachedServletInputStream}을 통해 다시 읽을 수 있도록 합니다.
+ * 설정된 임계값을 넘는 본문은 힙 대신 임시 파일에 기록되며, {@link #release()} 호출 시 삭제됩니다.
+ * 또한, 요청 본문을 문자열로 변환하거나 변환하지 않고 {@link CharSequence}로 읽는 메서드를 제공합니다.
  * </p>
  */
 public class WrappedHttpServletRequest extends HttpServletRequestWrapper {
 
-	private final byte[] body; // 요청 본문을 저장하는 바이트 배열
+	private final CachedBody body; // 요청 본문을 저장하는 캐시
 
 	/**
 	 * {@link WrappedHttpServletRequest}의 생성자입니다.
 	 * <p>
-	 * 주어진 {@link HttpServletRequest}로부터 요청 본문을 읽어 바이트 배열로 저장합니다.
+	 * 주어진 {@link HttpServletRequest}로부터 요청 본문을 모두 읽어 힙에 저장합니다.
+	 * 본문 크기와 관계없이 임시 파일에 기록하지 않으므로 해제할 자원이 남지 않습니다.
+	 * 큰 본문을 임시 파일에 기록하려면 {@link RequestBodyCapture}를 사용합니다.
 	 * </p>
 	 *
 	 * @param request 원본 {@link HttpServletRequest}
@@ -29,7 +35,44 @@ public class WrappedHttpServletRequest extends HttpServletRequestWrapper {
 	 */
 	public WrappedHttpServletRequest(HttpServletRequest request) throws IOException {
 		super(request);
-		this.body = request.getInputStream().readAllBytes();
+		this.body = CachedBody.of(request.getInputStream().readAllBytes());
+	}
+
+	/**
+	 * {@link WrappedHttpServletRequest}의 생성자입니다.
+	 * <p>
+	 * 주어진 {@link HttpServletRequest}로부터 요청 본문을 읽어, 임계값 이하이면 힙에, 초과하면 임시 파일에 저장합니다.
+	 * 임시 파일은 {@link #release()}를 호출해야 삭제되므로, 요청이 끝난 뒤 직접 해제하거나
+	 * {@link CachedBodyCleanupListener}가 해제하는 {@link RequestBodyCapture}로 생성합니다.
+	 * </p>
+	 *
+	 * @param request 원본 {@link HttpServletRequest}
+	 * @param bodyProperties 요청 본문 캐싱 설정
+	 * @throws IOException 요청 본문을 읽는 동안 I/O 오류가 발생한 경우
+	 */
+	public WrappedHttpServletRequest(HttpServletRequest request, BodyProperties bodyProperties) throws IOException {
+		super(request);
+		String tempDirectory = bodyProperties.getTempDirectory();
+		this.body = CachedBody.read(
+			request.getInputStream(),
+			request.getContentLengthLong(),
+			bodyProperties.getMemoryThreshold(),
+			tempDirectory != null ? Path.of(tempDirectory) : null
+		);
+	}
+
+	/**
+	 * 이미 캐시된 요청 본문을 공유하는 {@link WrappedHttpServletRequest}를 생성합니다.
+	 * <p>
+	 * 본문을 다시 읽거나 복사하지 않고 {@code source}의 캐시를 그대로 참조합니다.
+	 * </p>
+	 *
+	 * @param request 래핑할 {@link HttpServletRequest}
+	 * @param source 본문을 공유할 {@link WrappedHttpServletRequest}
+	 */
+	WrappedHttpServletRequest(HttpServletRequest request, WrappedHttpServletRequest source) {
+		super(request);
+		this.body = source.body;
 	}
 
 	/**
@@ -39,7 +82,7 @@ public class WrappedHttpServletRequest extends HttpServletRequestWrapper {
 	 */
 	@Override
 	public ServletInputStream getInputStream() {
-		return new CachedServletInputStream(this.body);
+		return new CachedServletInputStream(this.body.asStreamBuffer());
 	}
 
 	/**
@@ -51,6 +94,53 @@ public class WrappedHttpServletRequest extends HttpServletRequestWrapper {
 	 * @return 요청 본문을 문자열로 변환한 결과
 	 */
 	public String getBody() {
-		return new String(this.body, StandardCharsets.UTF_8);
+		return this.body.asString(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 요청 본문의 앞부분을 최대 {@code maxBytes} 바이트까지만 UTF-8 문자열로 변환하여 반환합니다.
+	 * <p>
+	 * 로그처럼 본문의 앞부분만 필요할 때 {@link #getBody()} 대신 사용하며, 나머지 본문은 디코딩하지 않습니다.
+	 * 여러 바이트로 인코딩된 문자가 경계에 걸치면 그 문자 앞에서 자릅니다.
+	 * </p>
+	 *
+	 * @param maxBytes 변환할 최대 바이트 수
+	 * @return 요청 본문 앞부분의 문자열
+	 */
+	public String getBody(int maxBytes) {
+		return this.body.asUtf8String(maxBytes);
+	}
+
+	/**
+	 * 캐시된 요청 본문의 크기를 반환합니다.
+	 *
+	 * @return 요청 본문 크기 (바이트 단위)
+	 */
+	public int getBodyLength() {
+		return this.body.length();
+	}
+
+	/**
+	 * 요청 본문을 문자열로 변환하지 않고 읽는 {@link CharSequence}를 반환합니다.
+	 * <p>
+	 * 캐시된 UTF-8 바이트를 복사하지 않고 필요한 위치만 디코딩하므로, 본문을 검사만 할 때는 {@link #getBody()} 대신 사용합니다.
+	 * {@link #getBody()}와 같은 문자를 같은 위치에서 돌려주며, 문자열이 필요한 부분만 {@link CharSequence#subSequence(int, int)}로
+	 * 만들 수 있습니다. 반환된 뷰는 스레드 안전하지 않으므로 호출할 때마다 새로 만듭니다.
+	 * </p>
+	 *
+	 * @return 요청 본문을 읽기 위한 {@link Utf8CharSequence}
+	 */
+	public Utf8CharSequence getBodyAsCharSequence() {
+		return this.body.asUtf8CharSequence();
+	}
+
+	/**
+	 * 캐시된 요청 본문이 사용하던 자원을 해제합니다.
+	 * <p>
+	 * 본문이 임시 파일에 기록된 경우 파일을 삭제합니다. 요청 처리가 끝난 뒤에 호출해야 합니다.
+	 * </p>
+	 */
+	public void release() {
+		this.body.close();
 	}
 }
@@ -1,64 +1,147 @@
 package shinhancard.common.wrapper;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.OptionalLong;
 
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletResponseWrapper;
+import shinhancard.common.buffer.ChunkPool;
+import shinhancard.common.buffer.ChunkedByteBuffer;
 
 /**
  * 응답 본문을 캐싱하여 여러 번 읽을 수 있도록 {@link HttpServletResponse}를 래핑하는 클래스입니다.
  * <p>
- * 이 클래스는 응답 본문을 {@link ByteArrayOutputStream}에 저장하고, 이를 {@link CachedServletOutputStream}을 통해 처리합니다.
+ * 이 클래스는 응답 본문을 {@link ChunkPool}에서 가져온 청크로 구성된 {@link ChunkedByteBuffer}에 저장하고,
+ * 이를 {@link CachedServletOutputStream}을 통해 처리합니다.
  * 또한, 응답 본문을 문자열로 변환하거나 버퍼를 리셋하는 기능을 제공합니다.
+ * 요청 처리가 끝나면 {@link #release()}로 청크를 풀에 반환해야 합니다.
+ * </p>
+ * <p>
+ * {@link #tee(HttpServletResponse, int)}로 생성한 경우에는 응답 전체를 보관하지 않고,
+ * 기록된 내용을 원본 응답으로 즉시 전달하면서 앞부분 일부만 {@link TeeServletOutputStream}으로 캐싱합니다.
  * </p>
  */
 public class WrappedHttpServletResponse extends HttpServletResponseWrapper {
 
-	private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(); // 응답 본문을 저장할 버퍼
-	private final CachedServletOutputStream outputStream = new CachedServletOutputStream(buffer); // 캐시된 응답 출력 스트림
+	private final ChunkedByteBuffer buffer; // 응답 본문을 저장할 버퍼
+	private final int teeCaptureLimit; // 전달 모드에서 캐싱할 최대 바이트 수 (전체 버퍼링 모드는 -1)
+	private ServletOutputStream outputStream; // 캐시된 응답 출력 스트림 (전달 모드는 처음 요청될 때 생성)
+	private int flushedSize; // 원본 응답으로 이미 전송한 바이트 수
+	private long firstFlushNanos = -1; // 처음 flushBuffer로 응답을 전송한 시각 (System.nanoTime, 전송 전에는 -1)
 
 	/**
 	 * {@link WrappedHttpServletResponse}의 생성자입니다.
 	 * <p>
-	 * 주어진 {@link HttpServletResponse}를 래핑하여 응답 본문을 캐싱할 수 있도록 초기화합니다.
+	 * 주어진 {@link HttpServletResponse}를 래핑하여 기본 {@link ChunkPool}을 사용해 응답 본문을 캐싱할 수 있도록 초기화합니다.
 	 * </p>
 	 *
 	 * @param response 원본 {@link HttpServletResponse}
 	 */
 	public WrappedHttpServletResponse(HttpServletResponse response) {
+		this(response, ChunkPool.getDefault());
+	}
+
+	/**
+	 * {@link WrappedHttpServletResponse}의 생성자입니다.
+	 * <p>
+	 * 주어진 {@link HttpServletResponse}를 래핑하여 주어진 {@link ChunkPool}을 사용해 응답 본문을 캐싱할 수 있도록 초기화합니다.
+	 * </p>
+	 *
+	 * @param response 원본 {@link HttpServletResponse}
+	 * @param chunkPool 응답 본문 버퍼에 사용할 {@link ChunkPool}
+	 */
+	public WrappedHttpServletResponse(HttpServletResponse response, ChunkPool chunkPool) {
+		this(response, chunkPool, -1);
+	}
+
+	private WrappedHttpServletResponse(HttpServletResponse response, ChunkPool chunkPool, int teeCaptureLimit) {
 		super(response);
+		this.buffer = new ChunkedByteBuffer(chunkPool);
+		this.teeCaptureLimit = teeCaptureLimit;
+		this.outputStream = isTee() ? null : new CachedServletOutputStream(buffer);
+	}
+
+	/**
+	 * 응답을 원본으로 즉시 전달하면서 앞부분만 캐싱하는 {@link WrappedHttpServletResponse}를 생성합니다.
+	 * <p>
+	 * 클라이언트는 응답을 기다리지 않고 바로 받으며, 로그 등에 필요한 앞부분 {@code captureLimit} 바이트만 버퍼에 보관합니다.
+	 * </p>
+	 *
+	 * @param response 원본 {@link HttpServletResponse}
+	 * @param captureLimit 캐싱할 최대 바이트 수
+	 * @return 전달 모드의 {@link WrappedHttpServletResponse}
+	 */
+	public static WrappedHttpServletResponse tee(HttpServletResponse response, int captureLimit) {
+		return new WrappedHttpServletResponse(response, ChunkPool.getDefault(), Math.max(0, captureLimit));
 	}
 
 	/**
 	 * 캐시된 응답 본문을 사용하여 {@link ServletOutputStream}을 반환합니다.
+	 * <p>
+	 * 전달 모드에서는 원본 응답의 출력 스트림을 감싼 {@link TeeServletOutputStream}을 반환합니다.
+	 * </p>
 	 *
 	 * @return 응답 본문을 기록하기 위한 {@link ServletOutputStream}
+	 * @throws IOException 원본 응답의 출력 스트림을 가져오는 동안 I/O 오류가 발생한 경우
 	 */
 	@Override
-	public ServletOutputStream getOutputStream() {
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (this.outputStream == null) {
+			this.outputStream = new TeeServletOutputStream(getResponse().getOutputStream(), buffer, teeCaptureLimit);
+		}
 		return this.outputStream;
 	}
 
 	/**
 	 * 버퍼의 내용을 클라이언트로 전송합니다.
 	 * <p>
-	 * 버퍼에 저장된 모든 데이터를 원본 응답의 출력 스트림을 통해 클라이언트로 전송하고,
-	 * 출력 스트림을 플러시하여 전송을 완료합니다.
+	 * 아직 전송하지 않은 버퍼의 내용을 청크 단위로 원본 응답의 출력 스트림에 바로 기록하고,
+	 * 출력 스트림을 플러시하여 전송을 완료합니다. 여러 번 호출해도 같은 내용이 중복 전송되지 않습니다.
+	 * 전달 모드에서는 내용이 이미 전달되었으므로 원본 응답의 버퍼만 플러시합니다.
 	 * </p>
 	 *
 	 * @throws IOException 버퍼의 내용을 전송하는 동안 I/O 오류가 발생한 경우
 	 */
 	@Override
 	public void flushBuffer() throws IOException {
-		// 버퍼의 내용을 클라이언트로 전송
-		byte[] content = buffer.toByteArray();
-		HttpServletResponse originalResponse = (HttpServletResponse)getResponse();
+		markFirstFlush();
+		if (isTee()) {
+			super.flushBuffer();
+			return;
+		}
+
+		// 아직 전송하지 않은 버퍼의 내용을 클라이언트로 전송
+		ServletOutputStream originalOutputStream = getResponse().getOutputStream();
 
-		originalResponse.getOutputStream().write(content);
-		originalResponse.getOutputStream().flush();
+		buffer.writeTo(originalOutputStream, flushedSize);
+		flushedSize = buffer.size();
+		originalOutputStream.flush();
+	}
+
+	private void markFirstFlush() {
+		if (firstFlushNanos < 0) {
+			firstFlushNanos = System.nanoTime();
+		}
+	}
+
+	/**
+	 * 응답의 첫 바이트를 클라이언트로 전송하기 시작한 시각을 반환합니다.
+	 * <p>
+	 * 전달 모드에서는 응답 본문을 처음 기록한 시각이고, 전체 버퍼링 모드에서는 {@link #flushBuffer()}를 처음 호출한 시각입니다.
+	 * 본문 없이 {@link #flushBuffer()}로 헤더만 전송한 경우에도 그 시각을 반환합니다.
+	 * </p>
+	 *
+	 * @return 첫 바이트를 전송한 시각 ({@link System#nanoTime()}), 아직 전송하지 않았으면 빈 {@link OptionalLong}
+	 */
+	public OptionalLong getFirstByteNanos() {
+		if (outputStream instanceof TeeServletOutputStream teeOutputStream
+			&& teeOutputStream.getFirstWriteNanos() >= 0
+			&& (firstFlushNanos < 0 || teeOutputStream.getFirstWriteNanos() < firstFlushNanos)) {
+			return OptionalLong.of(teeOutputStream.getFirstWriteNanos());
+		}
+		return firstFlushNanos < 0 ? OptionalLong.empty() : OptionalLong.of(firstFlushNanos);
 	}
 
 	/**
@@ -70,7 +153,7 @@ public class WrappedHttpServletResponse extends HttpServletResponseWrapper {
 	@Override
 	public void reset() {
 		super.reset();
-		buffer.reset();
+		clearBuffer();
 	}
 
 	/**
@@ -82,13 +165,22 @@ public class WrappedHttpServletResponse extends HttpServletResponseWrapper {
 	@Override
 	public void resetBuffer() {
 		super.resetBuffer();
+		clearBuffer();
+	}
+
+	private void clearBuffer() {
 		buffer.reset();
+		flushedSize = 0;
+		if (outputStream instanceof TeeServletOutputStream teeOutputStream) {
+			teeOutputStream.resetContentSize();
+		}
 	}
 
 	/**
 	 * 캐시된 응답 본문을 문자열로 변환하여 반환합니다.
 	 * <p>
 	 * 응답 본문은 UTF-8 문자 집합을 사용하여 문자열로 변환됩니다.
+	 * 전달 모드에서는 캐싱된 앞부분만 반환합니다.
 	 * </p>
 	 *
 	 * @return 응답 본문을 문자열로 변환한 결과
@@ -96,4 +188,55 @@ public class WrappedHttpServletResponse extends HttpServletResponseWrapper {
 	public String getBody() {
 		return buffer.toString(StandardCharsets.UTF_8);
 	}
+
+	/**
+	 * 캐시된 응답 본문의 앞부분을 최대 {@code maxBytes} 바이트까지만 UTF-8 문자열로 변환하여 반환합니다.
+	 * <p>
+	 * 로그처럼 본문의 앞부분만 필요할 때 {@link #getBody()} 대신 사용하며, 나머지 본문은 복사하거나 디코딩하지 않습니다.
+	 * 여러 바이트로 인코딩된 문자가 경계에 걸치면 그 문자 앞에서 자릅니다.
+	 * </p>
+	 *
+	 * @param maxBytes 변환할 최대 바이트 수
+	 * @return 응답 본문 앞부분의 문자열
+	 */
+	public String getBody(int maxBytes) {
+		return buffer.toString(StandardCharsets.UTF_8, maxBytes);
+	}
+
+	/**
+	 * 응답 본문의 전체 크기를 반환합니다.
+	 * <p>
+	 * 전달 모드에서는 캐싱 여부와 관계없이 원본 응답으로 전달한 전체 바이트 수를 반환합니다.
+	 * </p>
+	 *
+	 * @return 응답 본문의 크기 (바이트 단위)
+	 */
+	public long getContentSize() {
+		return outputStream instanceof TeeServletOutputStream teeOutputStream ?
+			teeOutputStream.getContentSize() : buffer.size();
+	}
+
+	/**
+	 * 캐시된 응답 본문이 전체 응답 중 일부만 담고 있는지 확인합니다.
+	 *
+	 * @return 앞부분만 캐싱된 경우 {@code true}, 그렇지 않으면 {@code false}
+	 */
+	public boolean isTruncated() {
+		return getContentSize() > buffer.size();
+	}
+
+	/**
+	 * 응답 본문 버퍼가 사용하던 청크를 풀에 반환합니다.
+	 * <p>
+	 * 응답 전송과 로그 기록이 모두 끝난 뒤에 호출해야 하며, 이후 {@link #getBody()}는 빈 문자열을 반환합니다.
+	 * </p>
+	 */
+	public void release() {
+		buffer.release();
+		flushedSize = 0;
+	}
+
+	private boolean isTee() {
+		return teeCaptureLimit >= 0;
+	}
 }
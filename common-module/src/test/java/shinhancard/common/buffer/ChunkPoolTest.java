@@ -0,0 +1,70 @@
+package shinhancard.common.buffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChunkPoolTest {
+
+	@Test
+	@DisplayName("반환한 청크는 다음에 가져올 때 재사용한다")
+	void reusesReleasedChunk() {
+		ChunkPool pool = new ChunkPool(16, 4);
+
+		byte[] chunk = pool.acquire();
+		assertEquals(16, chunk.length);
+		pool.release(chunk);
+
+		assertSame(chunk, pool.acquire());
+		assertNotSame(chunk, pool.acquire());
+	}
+
+	@Test
+	@DisplayName("최대 청크 수를 넘겨 반환한 청크는 보관하지 않는다")
+	void capsPooledChunks() {
+		ChunkPool pool = new ChunkPool(16, 1);
+		byte[] first = pool.acquire();
+		byte[] second = pool.acquire();
+
+		pool.release(first);
+		pool.release(second);
+
+		assertSame(first, pool.acquire());
+		byte[] next = pool.acquire();
+		assertNotSame(first, next);
+		assertNotSame(second, next);
+	}
+
+	@Test
+	@DisplayName("최대 청크 수가 0이면 청크를 보관하지 않는다")
+	void disablesPoolingWithZeroCapacity() {
+		ChunkPool pool = new ChunkPool(16, 0);
+		byte[] chunk = pool.acquire();
+
+		pool.release(chunk);
+
+		assertNotSame(chunk, pool.acquire());
+	}
+
+	@Test
+	@DisplayName("크기가 맞지 않는 배열은 풀에 보관하지 않는다")
+	void ignoresChunkOfOtherSize() {
+		ChunkPool pool = new ChunkPool(16, 4);
+		byte[] other = new byte[8];
+
+		pool.release(other);
+		pool.release(null);
+
+		byte[] chunk = pool.acquire();
+		assertNotSame(other, chunk);
+		assertEquals(16, chunk.length);
+	}
+
+	@Test
+	@DisplayName("청크 크기가 0 이하이거나 최대 청크 수가 음수이면 생성하지 않는다")
+	void rejectsInvalidSizes() {
+		assertThrows(IllegalArgumentException.class, () -> new ChunkPool(0, 4));
+		assertThrows(IllegalArgumentException.class, () -> new ChunkPool(16, -1));
+	}
+}
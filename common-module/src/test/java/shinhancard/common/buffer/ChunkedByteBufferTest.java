@@ -0,0 +1,111 @@
+package shinhancard.common.buffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChunkedByteBufferTest {
+
+	private static final int CHUNK_SIZE = 4;
+
+	private final ChunkPool pool = new ChunkPool(CHUNK_SIZE, 1024);
+
+	@Test
+	@DisplayName("바이트와 배열을 섞어 기록해도 청크 경계를 넘어 순서대로 보관한다")
+	void growsAcrossChunkBoundaries() throws IOException {
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(pool);
+		byte[] expected = bytes(23);
+
+		buffer.write(expected[0]);
+		buffer.write(expected, 1, 6); // 첫 청크를 채우고 두 번째 청크에 걸침
+		buffer.write(expected, 7, 1);
+		buffer.write(expected, 8, 15); // 여러 청크에 걸침
+
+		assertEquals(expected.length, buffer.size());
+		assertArrayEquals(expected, contents(buffer, 0));
+	}
+
+	@Test
+	@DisplayName("writeTo는 주어진 위치부터 청크 경계를 넘어 끝까지 기록한다")
+	void writesFromPositionAcrossChunks() throws IOException {
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(pool);
+		byte[] expected = bytes(10);
+		buffer.write(expected);
+
+		for (int from = 0; from <= expected.length; from++) {
+			assertArrayEquals(Arrays.copyOfRange(expected, from, expected.length), contents(buffer, from),
+				"from=" + from);
+		}
+	}
+
+	@Test
+	@DisplayName("청크 경계에 걸친 멀티바이트 문자도 문자열로 그대로 디코딩한다")
+	void decodesAcrossChunks() throws IOException {
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(pool);
+		String text = "a가나다😀b";
+		buffer.write(text.getBytes(StandardCharsets.UTF_8));
+
+		assertEquals(text, buffer.toString(StandardCharsets.UTF_8));
+		assertEquals("a가", buffer.toString(StandardCharsets.UTF_8, 4)); // 청크 하나 안에서 디코딩
+	}
+
+	@Test
+	@DisplayName("UTF-8 앞부분만 디코딩할 때 경계에 걸친 문자는 그 문자 앞에서 자른다")
+	void backsOffToUtf8Boundary() throws IOException {
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(pool);
+		buffer.write("a가😀b".getBytes(StandardCharsets.UTF_8)); // 1 + 3 + 4 + 1 바이트
+
+		assertEquals("a", buffer.toString(StandardCharsets.UTF_8, 3));
+		assertEquals("a가", buffer.toString(StandardCharsets.UTF_8, 5));
+		assertEquals("a가", buffer.toString(StandardCharsets.UTF_8, 7));
+		assertEquals("a가😀", buffer.toString(StandardCharsets.UTF_8, 8));
+		assertEquals("a가😀b", buffer.toString(StandardCharsets.UTF_8, 100));
+		assertEquals("", buffer.toString(StandardCharsets.UTF_8, 0));
+	}
+
+	@Test
+	@DisplayName("비우면 첫 청크만 남기고 나머지는 풀에 반환하며, 해제하면 모든 청크를 반환한다")
+	void returnsChunksToPool() {
+		byte[] first = pool.acquire();
+		byte[] second = pool.acquire();
+		byte[] third = pool.acquire();
+		pool.release(first);
+		pool.release(second);
+		pool.release(third);
+
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(pool);
+		buffer.write(bytes(10), 0, 10); // 풀의 청크 3개를 순서대로 사용
+		buffer.reset();
+
+		assertEquals(0, buffer.size());
+		assertSame(third, pool.acquire()); // 뒤쪽 청크부터 반환
+		assertSame(second, pool.acquire());
+
+		buffer.write(bytes(3), 0, 3);
+		assertEquals("abc", buffer.toString(StandardCharsets.UTF_8));
+		buffer.release();
+
+		assertEquals(0, buffer.size());
+		assertSame(first, pool.acquire());
+	}
+
+	private static byte[] contents(ChunkedByteBuffer buffer, int from) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		buffer.writeTo(out, from);
+		return out.toByteArray();
+	}
+
+	private static byte[] bytes(int length) {
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte)('a' + i % 26);
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,173 @@
+package shinhancard.common.buffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class Utf8CharSequenceTest {
+
+	private static final String[] TOKENS = {
+		"a", "b", "{\"name\":", "1234", " ", "\n", "é", "ß", "가", "나다", "€", "😀", "𝄞", "�", "ࠀ", "￿"
+	};
+	private static final List<byte[]> MALFORMED = List.of(
+		bytes(0xFF), bytes(0x80), bytes(0xBF, 0x80), bytes(0xC0, 0xAF), bytes(0xC1, 0xBF), bytes(0xE0, 0x80, 0xAF),
+		bytes(0xED, 0xA0, 0x80), bytes(0xF0, 0x80, 0x80, 0xAF), bytes(0xF4, 0x90, 0x80, 0x80), bytes(0xF5, 0x80),
+		bytes(0xC3), bytes(0xEA, 0xB0), bytes(0xF0, 0x9F, 0x98), bytes(0xE0, 0xA0), bytes(0xF0, 0x90)
+	);
+
+	@Test
+	@DisplayName("여러 바이트 문자와 보조 문자를 디코딩한 문자열과 같은 위치에서 같은 문자로 읽는다")
+	void readsLikeDecodedString() {
+		for (String text : List.of("", "ascii only", "a가😀b", "é€𝄞", "😀😀😀", "가".repeat(200) + "end")) {
+			assertSameAsDecoded(text.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	@DisplayName("잘리거나 올바르지 않은 UTF-8 바이트는 디코딩한 문자열과 같이 U+FFFD로 읽는다")
+	void readsMalformedLikeDecodedString() {
+		for (byte[] malformed : MALFORMED) {
+			assertSameAsDecoded(malformed);
+			assertSameAsDecoded(concat("a가".getBytes(StandardCharsets.UTF_8), malformed));
+			assertSameAsDecoded(concat(malformed, "b😀c".getBytes(StandardCharsets.UTF_8)));
+			assertSameAsDecoded(concat("x".repeat(63).getBytes(StandardCharsets.UTF_8), malformed,
+				"가나다".repeat(30).getBytes(StandardCharsets.UTF_8)));
+		}
+	}
+
+	@Test
+	@DisplayName("64문자 기록 위치에 걸친 보조 문자와 ASCII 구간을 앞뒤 어느 순서로 읽어도 같은 문자를 반환한다")
+	void readsAcrossCheckpoints() {
+		String text = "x".repeat(63) + "😀" + "가".repeat(63) + "😀" + "y".repeat(130) + "나" + "z".repeat(64);
+		assertSameAsDecoded(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("무작위 문자열과 무작위 바이트를 앞에서, 뒤에서, 무작위 순서로 읽어도 디코딩한 문자열과 같다")
+	void readsRandomInputs() {
+		Random random = new Random(20240501L);
+		for (int i = 0; i < 300; i++) {
+			StringBuilder text = new StringBuilder();
+			int tokens = random.nextInt(120);
+			for (int j = 0; j < tokens; j++) {
+				text.append(TOKENS[random.nextInt(TOKENS.length)]);
+			}
+			assertSameAsDecoded(text.toString().getBytes(StandardCharsets.UTF_8));
+
+			byte[] bytes = new byte[random.nextInt(300)];
+			for (int j = 0; j < bytes.length; j++) {
+				bytes[j] = (byte)(random.nextInt(4) == 0 ? random.nextInt(0x80) : 0x80 + random.nextInt(0x80));
+			}
+			assertSameAsDecoded(bytes);
+		}
+	}
+
+	@Test
+	@DisplayName("배열의 일부와 버퍼의 현재 위치부터 한계까지만 읽고, 버퍼의 위치는 바꾸지 않는다")
+	void readsRangeOfArrayAndBuffer() {
+		byte[] bytes = "<<가😀b>>".getBytes(StandardCharsets.UTF_8);
+		int length = bytes.length - 4;
+
+		Utf8CharSequence fromArray = new Utf8CharSequence(bytes, 2, length);
+		assertEquals("가😀b", fromArray.toString());
+		assertEquals(length, fromArray.byteLength());
+		assertEquals((byte)'b', fromArray.byteAt(length - 1));
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).position(2).limit(2 + length);
+		Utf8CharSequence fromBuffer = new Utf8CharSequence(buffer);
+		assertEquals("가😀b", fromBuffer.toString());
+		assertEquals("😀", fromBuffer.subSequence(1, 3));
+		assertEquals(2, buffer.position());
+		assertEquals(2 + length, buffer.limit());
+	}
+
+	@Test
+	@DisplayName("ASCII 바이트로 구분되는 바이트 범위를 덧붙이면 전체를 디코딩한 문자열의 해당 부분과 같다")
+	void appendsByteRange() {
+		byte[] bytes = "{\"name\":\"홍길동😀\",\"age\":\"42\"}".getBytes(StandardCharsets.UTF_8);
+		Utf8CharSequence sequence = new Utf8CharSequence(bytes, 0, bytes.length);
+		int start = indexOf(bytes, (byte)':') + 2;
+		int end = indexOf(bytes, (byte)',') - 1;
+
+		StringBuilder target = new StringBuilder("name=");
+		sequence.appendTo(target, start, end);
+		assertEquals("name=홍길동😀", target.toString());
+	}
+
+	@Test
+	@DisplayName("범위를 벗어난 위치와 범위는 IndexOutOfBoundsException을 던진다")
+	void rejectsOutOfRange() {
+		byte[] bytes = "가a".getBytes(StandardCharsets.UTF_8);
+		Utf8CharSequence sequence = new Utf8CharSequence(bytes, 0, bytes.length);
+
+		assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(-1));
+		assertThrows(IndexOutOfBoundsException.class, () -> sequence.subSequence(1, 3));
+		assertThrows(IndexOutOfBoundsException.class, () -> sequence.byteAt(4));
+		assertThrows(IndexOutOfBoundsException.class, () -> sequence.appendTo(new StringBuilder(), 2, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> new Utf8CharSequence(bytes, 1, 4));
+	}
+
+	/**
+	 * 힙 배열과 다이렉트 버퍼 뷰를 앞에서, 뒤에서, 무작위 순서로 읽은 문자가 디코딩한 문자열과 같은지 검사합니다.
+	 * 읽는 순서마다 새 뷰를 만들어 마지막으로 읽은 위치가 다른 순서의 결과에 영향을 주지 않게 합니다.
+	 */
+	private static void assertSameAsDecoded(byte[] bytes) {
+		String expected = new String(bytes, StandardCharsets.UTF_8);
+		String hex = HexFormat.of().formatHex(bytes);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+		for (Utf8CharSequence sequence : List.of(new Utf8CharSequence(bytes, 0, bytes.length),
+			new Utf8CharSequence(buffer))) {
+			assertEquals(expected.length(), sequence.length(), hex);
+			assertEquals(expected, sequence.toString(), hex);
+		}
+
+		Utf8CharSequence backward = new Utf8CharSequence(bytes, 0, bytes.length);
+		for (int i = expected.length() - 1; i >= 0; i--) {
+			assertEquals(expected.charAt(i), backward.charAt(i), hex + " @" + i);
+		}
+
+		Random random = new Random(bytes.length);
+		Utf8CharSequence randomOrder = new Utf8CharSequence(buffer);
+		for (int i = 0; i < expected.length() * 2; i++) {
+			int index = random.nextInt(expected.length());
+			assertEquals(expected.charAt(index), randomOrder.charAt(index), hex + " @" + index);
+			int end = index + random.nextInt(expected.length() - index + 1);
+			assertEquals(expected.substring(index, end), randomOrder.subSequence(index, end), hex);
+		}
+	}
+
+	private static byte[] bytes(int... values) {
+		byte[] bytes = new byte[values.length];
+		for (int i = 0; i < values.length; i++) {
+			bytes[i] = (byte)values[i];
+		}
+		return bytes;
+	}
+
+	private static byte[] concat(byte[]... parts) {
+		ByteBuffer buffer = ByteBuffer.allocate(Arrays.stream(parts).mapToInt(part -> part.length).sum());
+		for (byte[] part : parts) {
+			buffer.put(part);
+		}
+		return buffer.array();
+	}
+
+	private static int indexOf(byte[] bytes, byte value) {
+		for (int i = 0; i < bytes.length; i++) {
+			if (bytes[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,41 @@
+package shinhancard.common.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ErrorResponseTemplatesTest {
+
+	@Test
+	@DisplayName("모든 응답 코드에서 ResponseVo를 직렬화한 결과와 같은 본문을 만든다")
+	void matchesResponseVoSerialization() throws IOException {
+		Optional<String> traceId = Optional.of("4bf92f3577b34da6a3ce929d0e0e4736");
+		for (ResponseCode responseCode : ResponseCode.values()) {
+			String expected = ResponseVo.error(responseCode, traceId).toString();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			int written = ErrorResponseTemplates.writeTo(out, responseCode, traceId);
+
+			assertEquals(expected, ErrorResponseTemplates.toJson(responseCode, traceId), responseCode.name());
+			assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8),
+				ErrorResponseTemplates.toBytes(responseCode, traceId), responseCode.name());
+			assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), out.toByteArray(), responseCode.name());
+			assertEquals(out.size(), written);
+		}
+	}
+
+	@Test
+	@DisplayName("JSON 문자열에 그대로 넣을 수 없는 traceId는 Jackson과 같이 이스케이프한다")
+	void escapesTraceIdLikeJackson() {
+		Optional<String> traceId = Optional.of("id\"with\\quote\n추적");
+
+		assertEquals(ResponseVo.error(ResponseCode.SQL_INJECTION_BODY_DETECTED, traceId).toString(),
+			ErrorResponseTemplates.toJson(ResponseCode.SQL_INJECTION_BODY_DETECTED, traceId));
+	}
+}
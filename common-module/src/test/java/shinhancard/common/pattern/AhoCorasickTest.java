@@ -0,0 +1,87 @@
+package shinhancard.common.pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import shinhancard.common.buffer.Utf8CharSequence;
+
+class AhoCorasickTest {
+
+	private static final List<String> LITERALS = List.of("he", "she", "his", "hers", "<script", "eval(");
+
+	private final AhoCorasick automaton = new AhoCorasick(LITERALS);
+
+	@Test
+	@DisplayName("실패 링크를 따라가야 찾을 수 있는 문자열도 찾는다")
+	void followsFailureLinks() {
+		assertTrue(contains("ushers"));
+		assertTrue(contains("ahishe"));
+		assertTrue(contains("<<script")); // '<' 다음 '<'에서 처음부터 다시 시작
+		assertTrue(new AhoCorasick(List.of("abcd", "bc")).containsAny("abce")); // 긴 문자열 안의 짧은 문자열
+		assertFalse(contains("hi s"));
+		assertFalse(contains("eval"));
+		assertFalse(contains(""));
+	}
+
+	@Test
+	@DisplayName("ASCII 영문자는 대소문자를 구분하지 않고, ASCII가 아닌 문자는 일치를 끊는다")
+	void ignoresAsciiCaseOnly() {
+		assertTrue(contains("<SCRIPT>"));
+		assertTrue(contains("EvAl(1)"));
+		assertFalse(contains("<ſcript>")); // 'ſ'는 Unicode 대소문자 변환으로만 's'와 같음
+		assertFalse(contains("<scr가ipt>"));
+		assertFalse(contains("e😀val("));
+	}
+
+	@Test
+	@DisplayName("문자열과 UTF-8 바이트 입력 모두 포함 여부를 직접 확인한 결과와 같다")
+	void matchesNaiveSearch() {
+		String[] tokens = {"h", "e", "s", "i", "r", "H", "E", "S", "<", "script", "SCRIPT", "eval", "(", " ", "가",
+			"😀", "ſ"};
+		Random random = new Random(7L);
+		for (int i = 0; i < 5000; i++) {
+			StringBuilder builder = new StringBuilder();
+			for (int j = random.nextInt(12); j >= 0; j--) {
+				builder.append(tokens[random.nextInt(tokens.length)]);
+			}
+			String input = builder.toString();
+			String lowerInput = asciiLowerCase(input);
+			boolean expected = LITERALS.stream().anyMatch(lowerInput::contains);
+
+			assertEquals(expected, contains(input), input);
+		}
+	}
+
+	@Test
+	@DisplayName("비어 있거나 ASCII가 아닌 문자열로는 만들 수 없다")
+	void rejectsInvalidLiterals() {
+		assertThrows(IllegalArgumentException.class, () -> new AhoCorasick(List.of("script", "")));
+		assertThrows(IllegalArgumentException.class, () -> new AhoCorasick(List.of("스크립트")));
+	}
+
+	private boolean contains(String input) {
+		boolean found = automaton.containsAny(input);
+		assertEquals(found, containsUtf8(input), input);
+		return found;
+	}
+
+	private boolean containsUtf8(String input) {
+		byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+		return automaton.containsAny(new Utf8CharSequence(bytes, 0, bytes.length));
+	}
+
+	private static String asciiLowerCase(String input) {
+		StringBuilder lower = new StringBuilder(input.length());
+		for (int i = 0; i < input.length(); i++) {
+			char c = input.charAt(i);
+			lower.append(c >= 'A' && c <= 'Z' ? (char)(c + ('a' - 'A')) : c);
+		}
+		return lower.toString();
+	}
+}
@@ -0,0 +1,100 @@
+package shinhancard.common.pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompiledPatternSetTest {
+
+	@Test
+	@DisplayName("비어 있는 패턴은 제외하고 중복된 패턴은 한 번만 결합한다")
+	void dropsBlankAndDuplicatePatterns() {
+		CompiledPatternSet patternSet = CompiledPatternSet.compile(
+			Arrays.asList("<script", "", " ", null, "<script", "eval\\("), Pattern.CASE_INSENSITIVE);
+
+		assertEquals(List.of("<script", "eval\\("), patternSet.getPatterns());
+		assertEquals("<script|eval\\(", patternSet.getPattern().pattern());
+		assertTrue(patternSet.find("x <SCRIPT>"));
+		assertFalse(patternSet.find("evaluate"));
+	}
+
+	@Test
+	@DisplayName("남은 패턴이 없으면 어떤 입력과도 일치하지 않는 빈 패턴 집합을 반환한다")
+	void returnsEmptySetWithoutPatterns() {
+		assertSame(CompiledPatternSet.EMPTY, CompiledPatternSet.compile(null, 0));
+		assertSame(CompiledPatternSet.EMPTY, CompiledPatternSet.compile(List.of("", " "), 0));
+
+		assertFalse(CompiledPatternSet.EMPTY.find(""));
+		assertFalse(CompiledPatternSet.EMPTY.find("<script>"));
+		assertEquals(-1, CompiledPatternSet.EMPTY.findEnd("<script>"));
+	}
+
+	@Test
+	@DisplayName("선형 시간 엔진이 지원하지 않는 패턴만 java.util.regex로 검사한다")
+	void fallsBackToRegexForUnsupportedPatterns() {
+		CompiledPatternSet patternSet = CompiledPatternSet.compile(List.of("<script", "(a)\\1"), 0,
+			PatternEngine.LINEAR);
+
+		assertEquals(List.of("(a)\\1"), List.copyOf(patternSet.getUnsupportedPatterns().keySet()));
+		assertTrue(patternSet.find("<script>"));
+		assertTrue(patternSet.find("xaa"));
+		assertFalse(patternSet.find("xa"));
+		assertTrue(CompiledPatternSet.compile(List.of("(a)\\1"), 0).getUnsupportedPatterns().isEmpty());
+	}
+
+	@Test
+	@DisplayName("문법이 올바르지 않은 패턴은 컴파일할 때 예외를 던진다")
+	void rejectsInvalidPattern() {
+		assertThrows(PatternSyntaxException.class, () -> CompiledPatternSet.compile(List.of("/*|*/"), 0));
+		assertThrows(PatternSyntaxException.class,
+			() -> CompiledPatternSet.compile(List.of("<script", "(unclosed"), 0, PatternEngine.LINEAR));
+	}
+
+	@Test
+	@DisplayName("findEnd는 일치한 부분의 끝 위치를 반환한다")
+	void returnsMatchEnd() {
+		for (PatternEngine engine : PatternEngine.values()) {
+			CompiledPatternSet patternSet = CompiledPatternSet.compile(List.of("eval\\("), 0, engine);
+
+			assertEquals(10, patternSet.findEnd("abcd eval(1)"), engine.name());
+			assertEquals(-1, patternSet.findEnd("abcd"), engine.name());
+		}
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 같은 스냅샷으로 동시에 검사해도 결과가 같다")
+	void findsConcurrently() throws Exception {
+		CompiledPatternSet patternSet = CompiledPatternSet.compile(List.of("(a)\\1", "<script"), 0,
+			PatternEngine.LINEAR);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int thread = 0; thread < 4; thread++) {
+				results.add(executor.submit(() -> {
+					int matches = 0;
+					for (int i = 0; i < 10_000; i++) {
+						if (patternSet.find(i % 2 == 0 ? "x aa" : "x a")) {
+							matches++;
+						}
+					}
+					return matches;
+				}));
+			}
+			for (Future<Integer> result : results) {
+				assertEquals(5_000, result.get().intValue());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
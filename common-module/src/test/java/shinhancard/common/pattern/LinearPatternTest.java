@@ -0,0 +1,135 @@
+package shinhancard.common.pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import shinhancard.common.buffer.Utf8CharSequence;
+
+class LinearPatternTest {
+
+	private static final List<String> PATTERNS = List.of(
+		"abc", "a.c", "^ab", "ab$", "^$", "a\\d+b", "\\w+@\\w+\\.com", "\\bon\\w*=", "o\\Bn", "[^a-c]+z",
+		"[a-cx-z]{2}", "(ab|cd){2,3}e", "a{0,2}b?c*d", "colou?r", "\\s*=\\s*['\"]", "(?:ab)+c", "\\.\\*", "x|y|",
+		"a.*?b", "<.*?on\\w+\\s*=.*?>", "[\\d\\s]+-", "\\W\\S\\D", "a{3}", "(a|ab)(c|bcd)(d*)", "k[^k]{1,3}k",
+		"^\\s*$", "[_.-]on", "(load|x)\\b", "\\Qa.b\\E", "\\x41\\u0062\\t"
+	);
+	private static final String[] TOKENS = {
+		"a", "b", "c", "d", "e", "k", "x", "y", "z", "on", "load", "ab", "cd", "<", ">", "=", "'", "\"", "@", ".com",
+		".", "*", " ", "\t", "\n", "\r\n", "\u0085", "-", "_", "1", "42", "colour", "color", "A", "B", "K", "ON",
+		"LOAD", "ſ", "\u212A", "é", "가", "😀"
+	};
+	private static final int[] FLAGS = {0, Pattern.CASE_INSENSITIVE};
+
+	@Test
+	@DisplayName("패턴마다 java.util.regex와 같은 입력에서 일치한다")
+	void matchesLikeRegex() {
+		List<String> inputs = randomInputs(3000, new Random(20240501L));
+		for (int flags : FLAGS) {
+			for (String source : PATTERNS) {
+				LinearPattern linearPattern = LinearPattern.compile(source, flags);
+				Pattern pattern = Pattern.compile(source, flags);
+				for (String input : inputs) {
+					assertEquals(pattern.matcher(input).find(), linearPattern.find(input),
+						() -> describe(source, flags, input));
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("여러 패턴을 결합한 프로그램은 패턴을 |로 결합한 정규식과 같은 입력에서 일치한다")
+	void combinedMatchesLikeRegex() {
+		List<String> inputs = randomInputs(3000, new Random(7L));
+		for (int flags : FLAGS) {
+			LinearPattern linearPattern = LinearPattern.compile(PATTERNS.subList(0, 12), flags);
+			Pattern pattern = Pattern.compile(String.join("|", PATTERNS.subList(0, 12)), flags);
+			for (String input : inputs) {
+				assertEquals(pattern.matcher(input).find(), linearPattern.find(input),
+					() -> describe("*", flags, input));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("일치하는 입력은 반드시 포함하는 문자열 후보 중 하나를 포함한다")
+	void requiredLiteralsAreSound() {
+		List<String> inputs = randomInputs(5000, new Random(42L));
+		int checked = 0;
+		for (int flags : FLAGS) {
+			for (String source : PATTERNS) {
+				Set<String> literals = LinearPattern.requiredLiterals(source, flags);
+				if (literals == null) {
+					continue;
+				}
+				Pattern pattern = Pattern.compile(source, flags);
+				for (String input : inputs) {
+					if (pattern.matcher(input).find()) {
+						String lowerInput = asciiLowerCase(input);
+						assertTrue(literals.stream().anyMatch(lowerInput::contains),
+							() -> describe(source, flags, input) + " literals=" + literals);
+						checked++;
+					}
+				}
+			}
+		}
+		assertTrue(checked > 1000, "일치한 입력이 너무 적어 검증이 의미 없습니다: " + checked);
+	}
+
+	@Test
+	@DisplayName("사전 검사를 사용하는 패턴 집합은 문자열과 UTF-8 바이트 입력 모두에서 정규식과 같은 결과를 낸다")
+	void prefilteredSetMatchesLikeRegex() {
+		List<String> sources = PATTERNS.stream()
+			.filter(source -> LinearPattern.requiredLiterals(source, Pattern.CASE_INSENSITIVE) != null)
+			.toList();
+		CompiledPatternSet linear = CompiledPatternSet.compile(sources, Pattern.CASE_INSENSITIVE, PatternEngine.LINEAR);
+		CompiledPatternSet regex = CompiledPatternSet.compile(sources, Pattern.CASE_INSENSITIVE, PatternEngine.REGEX);
+		assertFalse(linear.getPrefilterLiterals().isEmpty());
+
+		for (String input : randomInputs(5000, new Random(99L))) {
+			boolean expected = linear.getPattern().matcher(input).find();
+			byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+			assertEquals(expected, linear.find(input), () -> describe("LINEAR", 0, input));
+			assertEquals(expected, linear.find(new Utf8CharSequence(bytes, 0, bytes.length)),
+				() -> describe("LINEAR utf-8", 0, input));
+			assertEquals(expected, regex.find(input), () -> describe("REGEX", 0, input));
+		}
+	}
+
+	private static List<String> randomInputs(int count, Random random) {
+		List<String> inputs = new ArrayList<>(count + 1);
+		inputs.add("");
+		for (int i = 0; i < count; i++) {
+			StringBuilder input = new StringBuilder();
+			int tokens = 1 + random.nextInt(10);
+			for (int j = 0; j < tokens; j++) {
+				input.append(TOKENS[random.nextInt(TOKENS.length)]);
+			}
+			inputs.add(input.toString());
+		}
+		return inputs;
+	}
+
+	private static String asciiLowerCase(String input) {
+		StringBuilder lower = new StringBuilder(input.length());
+		for (int i = 0; i < input.length(); i++) {
+			char c = input.charAt(i);
+			lower.append(c >= 'A' && c <= 'Z' ? (char)(c + ('a' - 'A')) : c);
+		}
+		return lower.toString();
+	}
+
+	private static String describe(String source, int flags, String input) {
+		return String.format(Locale.ROOT, "pattern=%s flags=%d input=%s", source, flags,
+			input.replace("\n", "\\n").replace("\r", "\\r"));
+	}
+}
@@ -0,0 +1,92 @@
+package shinhancard.common.trace;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import shinhancard.common.properties.TraceProperties;
+
+class TraceIdResolverTest {
+
+	private static final String GENERATED = "generated";
+	private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+	private static final String TRACEPARENT = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+
+	private final TraceProperties traceProperties = new TraceProperties();
+	private final TraceIdResolver resolver = new TraceIdResolver(() -> GENERATED, traceProperties);
+
+	@Test
+	@DisplayName("버전 00 traceparent 헤더의 trace-id를 사용한다")
+	void usesTraceparentTraceId() {
+		assertEquals(TRACE_ID, resolve(TRACEPARENT, null));
+	}
+
+	@Test
+	@DisplayName("trace-id가 모두 0이거나 버전이 ff이거나 대문자 16진수이면 traceparent를 사용하지 않는다")
+	void rejectsInvalidTraceparent() {
+		assertEquals(GENERATED, resolve("00-" + "0".repeat(32) + "-00f067aa0ba902b7-01", null));
+		assertEquals(GENERATED, resolve("ff-" + TRACE_ID + "-00f067aa0ba902b7-01", null));
+		assertEquals(GENERATED, resolve("00-" + TRACE_ID.toUpperCase() + "-00f067aa0ba902b7-01", null));
+		assertEquals(GENERATED, resolve("00-" + TRACE_ID + "-00F067AA0BA902B7-01", null));
+	}
+
+	@Test
+	@DisplayName("버전 00은 뒤에 데이터가 더 있으면 거부하고, 이후 버전은 '-'로 추가된 필드를 허용한다")
+	void checksTrailingDataByVersion() {
+		assertEquals(GENERATED, resolve(TRACEPARENT + "-extra", null));
+		assertEquals(TRACE_ID, resolve("01-" + TRACE_ID + "-00f067aa0ba902b7-01-extra", null));
+		assertEquals(GENERATED, resolve("01-" + TRACE_ID + "-00f067aa0ba902b7-01extra", null));
+	}
+
+	@Test
+	@DisplayName("traceparent 형식이 올바르지 않으면 X-Trace-Id 헤더를 사용한다")
+	void fallsBackToTraceIdHeader() {
+		assertEquals("order-123", resolve("00-" + TRACE_ID, "order-123"));
+		assertEquals("order-123", resolve(null, "order-123"));
+	}
+
+	@Test
+	@DisplayName("X-Trace-Id 헤더에 허용하지 않는 문자가 있거나 너무 길면 새로 생성한다")
+	void generatesForUnsafeHeader() {
+		assertEquals(GENERATED, resolve(null, "order 123"));
+		assertEquals(GENERATED, resolve(null, "order\r\n123"));
+		assertEquals(GENERATED, resolve(null, "<script>"));
+		assertEquals(GENERATED, resolve(null, "a".repeat(65)));
+		assertEquals(GENERATED, resolve(null, ""));
+	}
+
+	@Test
+	@DisplayName("propagate가 false이면 헤더를 무시하고 새로 생성한다")
+	void ignoresHeadersWithoutPropagation() {
+		traceProperties.setPropagate(false);
+
+		assertEquals(GENERATED, resolve(TRACEPARENT, "order-123"));
+	}
+
+	@Test
+	@DisplayName("한 번 결정된 traceId는 요청 속성에 저장되어 다른 필터에서 재사용된다")
+	void reusesRequestAttribute() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		assertTrue(TraceIdResolver.getTraceId(request).isEmpty());
+
+		assertEquals(GENERATED, resolver.resolve(request));
+
+		request.addHeader(TraceIdResolver.TRACEPARENT_HEADER, TRACEPARENT);
+		TraceIdResolver other = new TraceIdResolver(() -> "other", traceProperties);
+		assertEquals(GENERATED, other.resolve(request));
+		assertEquals(GENERATED, TraceIdResolver.getTraceId(request).orElseThrow());
+	}
+
+	private String resolve(String traceparent, String traceIdHeader) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		if (traceparent != null) {
+			request.addHeader(TraceIdResolver.TRACEPARENT_HEADER, traceparent);
+		}
+		if (traceIdHeader != null) {
+			request.addHeader(traceProperties.getHeader(), traceIdHeader);
+		}
+		return resolver.resolve(request);
+	}
+}
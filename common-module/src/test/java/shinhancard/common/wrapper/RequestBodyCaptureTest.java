@@ -0,0 +1,136 @@
+package shinhancard.common.wrapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import shinhancard.common.properties.BodyProperties;
+
+class RequestBodyCaptureTest {
+
+	private static final byte[] BODY = "{\"name\":\"홍길동\",\"amount\":1000}".getBytes(StandardCharsets.UTF_8);
+
+	private final RequestBodyCapture capture = new RequestBodyCapture(new BodyProperties());
+
+	@Test
+	@DisplayName("로그, XSS, SQL 인젝션 필터가 차례로 캡처해도 본문은 원본 스트림에서 한 번만 읽는다")
+	void readsBodyOncePerRequest() throws IOException {
+		CountingRequest request = new CountingRequest(BODY);
+
+		WrappedHttpServletRequest logRequest = capture.capture(request); // LogFilter
+		WrappedHttpServletRequest xssRequest = capture.capture(logRequest); // XSSFilter (래퍼가 전달된 경우)
+		WrappedHttpServletRequest sqlRequest = capture.capture(request); // SQLInjectionFilter (원본이 전달된 경우)
+
+		assertSame(logRequest, xssRequest);
+		assertSame(logRequest, sqlRequest);
+		assertEquals(1, request.inputStreamCount);
+		assertEquals(BODY.length, request.bytesRead);
+		assertSame(logRequest, request.getAttribute(RequestBodyCapture.CACHED_REQUEST_ATTRIBUTE));
+	}
+
+	@Test
+	@DisplayName("다른 래퍼가 끼어들어도 본문을 다시 읽지 않고 캐시를 공유한다")
+	void sharesCachedBodyAcrossInterposedWrapper() throws IOException {
+		CountingRequest request = new CountingRequest(BODY);
+		WrappedHttpServletRequest first = capture.capture(request);
+
+		HttpServletRequestWrapper interposed = new HttpServletRequestWrapper(first);
+		WrappedHttpServletRequest second = capture.capture(interposed);
+
+		assertNotSame(first, second);
+		assertSame(interposed, second.getRequest());
+		assertArrayEquals(BODY, second.getInputStream().readAllBytes());
+		assertEquals(1, request.inputStreamCount);
+		assertEquals(BODY.length, request.bytesRead);
+	}
+
+	@Test
+	@DisplayName("캐시된 본문은 스트림을 열 때마다 처음부터 다시 읽을 수 있다")
+	void rereadsCachedBody() throws IOException {
+		CountingRequest request = new CountingRequest(BODY);
+		WrappedHttpServletRequest wrappedRequest = capture.capture(request);
+
+		assertArrayEquals(BODY, wrappedRequest.getInputStream().readAllBytes());
+		assertArrayEquals(BODY, wrappedRequest.getInputStream().readAllBytes());
+		assertEquals(new String(BODY, StandardCharsets.UTF_8), wrappedRequest.getBody());
+		assertEquals(1, request.inputStreamCount);
+	}
+
+	@Test
+	@DisplayName("이미 캐시한 요청 래퍼는 본문을 읽지 않고 조회하며, 해제하면 요청 속성에서 제거한다")
+	void getsAndReleasesCapturedRequest() throws IOException {
+		CountingRequest request = new CountingRequest(BODY);
+		assertTrue(RequestBodyCapture.getCaptured(request).isEmpty());
+
+		WrappedHttpServletRequest wrappedRequest = capture.capture(request);
+		assertSame(wrappedRequest, RequestBodyCapture.getCaptured(request).orElseThrow());
+
+		RequestBodyCapture.release(request);
+		assertNull(request.getAttribute(RequestBodyCapture.CACHED_REQUEST_ATTRIBUTE));
+		assertEquals(1, request.inputStreamCount);
+	}
+
+	/**
+	 * 원본 입력 스트림을 연 횟수와 읽은 바이트 수를 세는 요청입니다.
+	 */
+	private static final class CountingRequest extends MockHttpServletRequest {
+
+		private int inputStreamCount;
+		private long bytesRead;
+
+		CountingRequest(byte[] body) {
+			super("POST", "/api/users");
+			setContentType("application/json");
+			setContent(body);
+		}
+
+		@Override
+		public ServletInputStream getInputStream() {
+			inputStreamCount++;
+			ServletInputStream delegate = super.getInputStream();
+			return new ServletInputStream() {
+
+				@Override
+				public boolean isFinished() {
+					return delegate.isFinished();
+				}
+
+				@Override
+				public boolean isReady() {
+					return delegate.isReady();
+				}
+
+				@Override
+				public void setReadListener(ReadListener readListener) {
+					delegate.setReadListener(readListener);
+				}
+
+				@Override
+				public int read() throws IOException {
+					int b = delegate.read();
+					if (b != -1) {
+						bytesRead++;
+					}
+					return b;
+				}
+
+				@Override
+				public int read(byte[] b, int off, int len) throws IOException {
+					int count = delegate.read(b, off, len);
+					if (count > 0) {
+						bytesRead += count;
+					}
+					return count;
+				}
+			};
+		}
+	}
+}
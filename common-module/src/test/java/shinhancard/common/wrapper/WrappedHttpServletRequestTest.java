@@ -0,0 +1,115 @@
+package shinhancard.common.wrapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import shinhancard.common.properties.BodyProperties;
+
+class WrappedHttpServletRequestTest {
+
+	@TempDir
+	Path tempDirectory;
+
+	@Test
+	@DisplayName("설정 없이 생성하면 기본 임계값을 넘는 본문도 임시 파일에 기록하지 않는다")
+	void legacyConstructorKeepsBodyOnHeap() throws IOException {
+		byte[] body = body(new BodyProperties().getMemoryThreshold() * 2);
+		Path systemTempDirectory = Path.of(System.getProperty("java.io.tmpdir"));
+		long before = countBodyFiles(systemTempDirectory);
+
+		WrappedHttpServletRequest wrappedRequest = new WrappedHttpServletRequest(request(body));
+
+		assertEquals(before, countBodyFiles(systemTempDirectory));
+		assertArrayEquals(body, wrappedRequest.getInputStream().readAllBytes());
+	}
+
+	@Test
+	@DisplayName("설정의 임계값을 넘는 본문은 임시 파일에 기록하고, 해제하면 파일을 삭제한다")
+	void spillsBodyAboveThresholdUntilReleased() throws IOException {
+		BodyProperties bodyProperties = new BodyProperties();
+		bodyProperties.setMemoryThreshold(1024);
+		bodyProperties.setTempDirectory(tempDirectory.toString());
+		byte[] body = body(4096);
+
+		WrappedHttpServletRequest wrappedRequest = new WrappedHttpServletRequest(request(body), bodyProperties);
+
+		assertEquals(1, countBodyFiles(tempDirectory));
+		assertArrayEquals(body, wrappedRequest.getInputStream().readAllBytes());
+
+		wrappedRequest.release();
+		assertEquals(0, countBodyFiles(tempDirectory));
+	}
+
+	@Test
+	@DisplayName("힙에 보관된 본문은 임시 배열을 거치지 않고 한 번에 출력 스트림으로 전송한다")
+	void transfersHeapBodyWithoutCopying() throws IOException {
+		byte[] body = body(20 * 1024);
+		WrappedHttpServletRequest wrappedRequest = new WrappedHttpServletRequest(request(body));
+		List<byte[]> writes = new ArrayList<>();
+		ByteArrayOutputStream out = new ByteArrayOutputStream() {
+			@Override
+			public void write(byte[] b, int off, int len) {
+				writes.add(b);
+				super.write(b, off, len);
+			}
+		};
+
+		assertEquals(body.length, wrappedRequest.getInputStream().transferTo(out));
+
+		assertEquals(1, writes.size());
+		assertEquals(body.length, writes.get(0).length);
+		assertArrayEquals(body, out.toByteArray());
+	}
+
+	@Test
+	@DisplayName("본문 앞부분만 변환할 때는 최대 바이트 수 안에서 문자 경계에 맞춰 자른다")
+	void readsBodyPrefixOnCharacterBoundary() throws IOException {
+		byte[] body = "가나다".getBytes(StandardCharsets.UTF_8);
+		BodyProperties bodyProperties = new BodyProperties();
+		bodyProperties.setMemoryThreshold(4);
+		bodyProperties.setTempDirectory(tempDirectory.toString());
+
+		for (WrappedHttpServletRequest wrappedRequest : List.of(new WrappedHttpServletRequest(request(body)),
+			new WrappedHttpServletRequest(request(body), bodyProperties))) {
+			assertEquals(9, wrappedRequest.getBodyLength());
+			assertEquals("", wrappedRequest.getBody(2));
+			assertEquals("가", wrappedRequest.getBody(5));
+			assertEquals("가나", wrappedRequest.getBody(6));
+			assertEquals("가나다", wrappedRequest.getBody(9));
+			assertEquals("가나다", wrappedRequest.getBody(100));
+			wrappedRequest.release();
+		}
+	}
+
+	private static MockHttpServletRequest request(byte[] body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/upload");
+		request.setContent(body);
+		return request;
+	}
+
+	private static byte[] body(int length) {
+		byte[] body = new byte[length];
+		Arrays.fill(body, (byte)'a');
+		return body;
+	}
+
+	private static long countBodyFiles(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> file.getFileName().toString().startsWith("filter-body-")).count();
+		}
+	}
+}
@@ -10,6 +10,8 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import shinhancard.common.config.CommonAutoConfiguration;
+import shinhancard.common.io.RejectionWriter;
 import shinhancard.cors.filter.CorsFilter;
 import shinhancard.cors.properties.CorsProperties;
 
@@ -19,7 +21,7 @@ import shinhancard.cors.properties.CorsProperties;
  * 이 클래스는 CORS 설정을 자동으로 등록하여 CORS 요청을 처리할 수 있도록 구성합니다.
  * </p>
  */
-@AutoConfiguration
+@AutoConfiguration(after = CommonAutoConfiguration.class)
 @EnableConfigurationProperties({CorsProperties.class})
 @ConditionalOnProperty(name = "filter.cors.enabled", havingValue = "true", matchIfMissing = true)
 public class CorsAutoConfiguration {
@@ -76,12 +78,14 @@ public class CorsAutoConfiguration {
 	 * </p>
 	 *
 	 * @param corsConfigurationSource CORS 설정을 제공하는 {@link CorsConfigurationSource} 객체
+	 * @param rejectionWriter 거부 응답을 전송하는 {@link RejectionWriter} 객체
 	 * @return CORS 필터를 등록하는 {@link FilterRegistrationBean} 객체
 	 */
 	@Bean
-	public FilterRegistrationBean<CorsFilter> corsFilterRegistration(CorsConfigurationSource corsConfigurationSource) {
+	public FilterRegistrationBean<CorsFilter> corsFilterRegistration(CorsConfigurationSource corsConfigurationSource,
+		RejectionWriter rejectionWriter) {
 		FilterRegistrationBean<CorsFilter> registrationBean = new FilterRegistrationBean<>();
-		registrationBean.setFilter(new CorsFilter(corsConfigurationSource));
+		registrationBean.setFilter(new CorsFilter(corsConfigurationSource, rejectionWriter));
 		registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1); // 가장 먼저 실행되도록 설정
 		return registrationBean;
 	}
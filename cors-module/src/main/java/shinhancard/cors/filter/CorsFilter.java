@@ -6,7 +6,6 @@ import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,8 +22,9 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import shinhancard.common.io.RejectionWriter;
 import shinhancard.common.io.ResponseCode;
-import shinhancard.common.io.ResponseVo;
+import shinhancard.common.trace.FilterTimings;
 
 /**
  * Custom CORS (Cross-Origin Resource Sharing) 필터 클래스입니다.
@@ -36,16 +36,21 @@ import shinhancard.common.io.ResponseVo;
 @Slf4j
 public class CorsFilter extends OncePerRequestFilter {
 
+	private static final String TIMING_NAME = "cors"; // 필터별 처리 시간 기록 이름
+
 	private final CorsConfigurationSource corsConfigurationSource;
+	private final RejectionWriter rejectionWriter;
 
 	/**
-	 * 생성자 주입을 통해 {@link CorsConfigurationSource}를 설정합니다.
+	 * 생성자 주입을 통해 {@link CorsConfigurationSource}와 {@link RejectionWriter}를 설정합니다.
 	 *
 	 * @param corsConfigurationSource CORS 설정 소스
+	 * @param rejectionWriter 거부 응답을 전송하는 {@link RejectionWriter} 객체
 	 */
 	@Autowired
-	public CorsFilter(CorsConfigurationSource corsConfigurationSource) {
+	public CorsFilter(CorsConfigurationSource corsConfigurationSource, RejectionWriter rejectionWriter) {
 		this.corsConfigurationSource = corsConfigurationSource;
+		this.rejectionWriter = rejectionWriter;
 	}
 
 	/**
@@ -60,6 +65,8 @@ public class CorsFilter extends OncePerRequestFilter {
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 		throws ServletException, IOException {
+		long startNanos = System.nanoTime();
+		FilterChain timedChain = FilterTimings.timed(request, TIMING_NAME, startNanos, filterChain);
 
 		// 요청의 CORS 헤더를 로깅
 		log.debug("처리 중인 요청의 CORS 관련 헤더: Origin={}, Method={}, Headers={}",
@@ -77,40 +84,43 @@ public class CorsFilter extends OncePerRequestFilter {
 			if (corsConfig == null) {
 				log.debug("CORS 설정이 없습니다. 필터 체인 계속 진행.");
 				// CORS 설정이 없는 경우, 필터 체인 진행
-				filterChain.doFilter(request, response);
+				timedChain.doFilter(request, response);
 				return;
 			}
 
 			// 모든 출처, 메서드, 헤더를 허용하는 CORS 설정인지 확인
 			if (isAllowAllCorsConfig(corsConfig)) {
 				log.debug("모든 출처, 메서드, 헤더를 허용하는 CORS 설정입니다. 필터 체인 계속 진행.");
-				filterChain.doFilter(request, response);
+				timedChain.doFilter(request, response);
 				return;
 			}
 
 			// 출처, 메서드, 헤더 검증
 			if (!isOriginAllowed(request.getHeader(HttpHeaders.ORIGIN), corsConfig.getAllowedOrigins())) {
 				log.error("CORS 출처 정책 위반: 허용되지 않은 출처입니다. 요청 출처: {}", request.getHeader(HttpHeaders.ORIGIN));
-				handleCorsViolation(response, ResponseCode.CORS_ORIGIN_POLICY_VIOLATION);
+				handleCorsViolation(request, response, ResponseCode.CORS_ORIGIN_POLICY_VIOLATION);
+				FilterTimings.recordIfAbsent(request, TIMING_NAME, startNanos); // 요청을 거부한 시점까지 기록
 				return;
 			}
 
 			if (!isMethodAllowed(request.getMethod(), corsConfig.getAllowedMethods())) {
 				log.error("CORS 메서드 정책 위반: 허용되지 않은 메서드입니다. 요청 메서드: {}", request.getMethod());
-				handleCorsViolation(response, ResponseCode.CORS_METHOD_POLICY_VIOLATION);
+				handleCorsViolation(request, response, ResponseCode.CORS_METHOD_POLICY_VIOLATION);
+				FilterTimings.recordIfAbsent(request, TIMING_NAME, startNanos); // 요청을 거부한 시점까지 기록
 				return;
 			}
 
 			if (!areHeadersAllowed(request, corsConfig.getAllowedHeaders())) {
 				log.error("CORS 헤더 정책 위반: 허용되지 않은 헤더입니다. 요청 헤더: {}", Collections.list(request.getHeaderNames()));
-				handleCorsViolation(response, ResponseCode.CORS_HEADERS_POLICY_VIOLATION);
+				handleCorsViolation(request, response, ResponseCode.CORS_HEADERS_POLICY_VIOLATION);
+				FilterTimings.recordIfAbsent(request, TIMING_NAME, startNanos); // 요청을 거부한 시점까지 기록
 				return;
 			}
 		}
 
 		// CORS 검증이 완료된 후, 필터 체인 계속 진행
 		log.debug("CORS 검증 완료. 필터 체인을 계속 진행합니다.");
-		filterChain.doFilter(request, response);
+		timedChain.doFilter(request, response);
 	}
 
 	/**
@@ -204,16 +214,15 @@ public class CorsFilter extends OncePerRequestFilter {
 	/**
 	 * CORS 정책 위반 시 에러 응답을 생성합니다.
 	 *
+	 * @param request    {@link HttpServletRequest} 객체
 	 * @param response   {@link HttpServletResponse} 객체
 	 * @param responseCode 에러 코드
 	 * @throws IOException 입출력 처리 중 발생할 수 있는 예외
 	 */
-	private void handleCorsViolation(HttpServletResponse response, ResponseCode responseCode) throws IOException {
+	private void handleCorsViolation(HttpServletRequest request, HttpServletResponse response,
+		ResponseCode responseCode) throws IOException {
 
-		response.sendError(
-			responseCode.getHttpStatus().value(),
-			ResponseVo.error(responseCode, Optional.empty()).toString()
-		);
+		rejectionWriter.reject(request, response, responseCode);
 
 		log.debug("CORS 정책 위반: {} 응답을 전송했습니다.", responseCode);
 	}
@@ -10,6 +10,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import shinhancard.common.trace.FilterTimings;
 import shinhancard.csrf.properties.CsrfProperties;
 
 /**
@@ -21,6 +22,8 @@ import shinhancard.csrf.properties.CsrfProperties;
 @Slf4j
 public class CsrfFilter extends OncePerRequestFilter {
 
+	private static final String TIMING_NAME = "csrf"; // 필터별 처리 시간 기록 이름
+
 	private final CsrfProperties csrfProperties;
 
 	/**
@@ -48,13 +51,15 @@ public class CsrfFilter extends OncePerRequestFilter {
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 		throws ServletException, IOException {
+		long startNanos = System.nanoTime();
+		FilterChain timedChain = FilterTimings.timed(request, TIMING_NAME, startNanos, filterChain);
 
 		addHeaderIfNotEmpty(response, "X-Frame-Options", csrfProperties.getXFrameOptions());
 		addHeaderIfNotEmpty(response, "X-XSS-Protection", csrfProperties.getXXssProtection());
 		addHeaderIfNotEmpty(response, "X-Content-Type-Options", csrfProperties.getXContentTypeOptions());
 
 		// 다음 필터로 이동
-		filterChain.doFilter(request, response);
+		timedChain.doFilter(request, response);
 	}
 
 	/**
@@ -2,6 +2,7 @@ package shinhancard.filter.starter;
 
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 
+import shinhancard.common.config.CommonAutoConfiguration;
 import shinhancard.cors.config.CorsAutoConfiguration;
 import shinhancard.csrf.config.CsrfAutoConfiguration;
 import shinhancard.logging.config.LogAutoConfiguration;
@@ -16,6 +17,7 @@ import shinhancard.xss.config.XSSAutoConfiguration;
  * </p>
  */
 @AutoConfigureAfter({
+	CommonAutoConfiguration.class,
 	CorsAutoConfiguration.class,
 	LogAutoConfiguration.class,
 	CsrfAutoConfiguration.class,
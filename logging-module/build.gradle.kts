@@ -5,6 +5,7 @@ plugins {
 
 dependencies {
     implementation("org.springframework.kafka:spring-kafka") // Kafka starter
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile") // Kafka 로그 Smile 인코딩
     implementation("org.springframework.boot:spring-boot-starter-webflux") // WebFlux starter
     implementation("org.springframework.boot:spring-boot-starter-validation") // Validation을 위한 의존성
 
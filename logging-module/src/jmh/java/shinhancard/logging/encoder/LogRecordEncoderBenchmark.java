@@ -0,0 +1,113 @@
+package shinhancard.logging.encoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import shinhancard.common.wrapper.WrappedHttpServletRequest;
+import shinhancard.logging.mask.SensitiveDataMasker;
+
+/**
+ * 요청 로그 한 건을 만드는 비용을 {@link LogRecordEncoder}와 이전 {@code HashMap} + {@link ObjectMapper} 방식으로 비교합니다.
+ * <p>
+ * 이전 방식은 본문 전체를 문자열로 디코딩하여 문자 수로 자르고, 필드마다 정규식으로 마스킹한 뒤
+ * 로그 데이터를 맵으로 모아 JSON 문자열로 직렬화하고, 로그 전송 서비스가 다시 UTF-8 바이트로 인코딩했습니다.
+ * {@code -prof gc}로 실행하면 로그 한 건당 할당량을 비교할 수 있습니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LogRecordEncoderBenchmark {
+
+	private static final int MAX_BODY_SIZE = 1024;
+	private static final List<String> SENSITIVE_FIELDS = List.of("password", "cardNumber");
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	@Param({"512", "16384"})
+	private int bodySize;
+
+	private WrappedHttpServletRequest request;
+	private LogRecordEncoder encoder;
+
+	@Setup
+	public void setUp() throws IOException {
+		StringBuilder body = new StringBuilder("{\"name\":\"홍길동\",\"password\":\"secret\",\"items\":[");
+		while (body.length() < bodySize) {
+			body.append("{\"cardNumber\":\"1234-5678-9012-3456\",\"memo\":\"결제 메모\"},");
+		}
+		body.setLength(body.length() - 1);
+		body.append("]}");
+
+		MockHttpServletRequest mockRequest = new MockHttpServletRequest("POST", "/api/payments");
+		mockRequest.setQueryString("page=1&size=20");
+		mockRequest.setRemoteAddr("10.0.0.1");
+		mockRequest.addHeader("Content-Type", "application/json");
+		mockRequest.addHeader("Authorization", "Bearer token");
+		mockRequest.addHeader("User-Agent", "Mozilla/5.0");
+		mockRequest.addHeader("X-Trace-Id", "4bf92f3577b34da6a3ce929d0e0e4736");
+		mockRequest.setContent(body.toString().getBytes(StandardCharsets.UTF_8));
+		request = new WrappedHttpServletRequest(mockRequest);
+		encoder = new LogRecordEncoder(new SensitiveDataMasker(SENSITIVE_FIELDS, List.of("authorization")),
+			MAX_BODY_SIZE);
+	}
+
+	@Benchmark
+	public byte[] hashMapObjectMapper() throws IOException {
+		Map<String, Object> logData = new HashMap<>();
+		logData.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+		logData.put("method", request.getMethod());
+		logData.put("uri", request.getRequestURI());
+		logData.put("query", request.getQueryString());
+		logData.put("remoteAddress", request.getRemoteAddr());
+		logData.put("headers", Collections.list(request.getHeaderNames()).stream()
+			.collect(Collectors.toMap(headerName -> headerName, request::getHeader,
+				(existing, replacement) -> existing + ", " + replacement)));
+		logData.put("body", truncateAndMaskBody(request.getBody()));
+		return OBJECT_MAPPER.writeValueAsString(logData).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public byte[] logRecordEncoder() throws IOException {
+		return encoder.encodeRequest(request, "4bf92f3577b34da6a3ce929d0e0e4736", request.getBody(MAX_BODY_SIZE),
+			request.getBodyLength() > MAX_BODY_SIZE);
+	}
+
+	/**
+	 * 이전 {@code LogFilter}의 본문 자르기와 정규식 마스킹입니다.
+	 */
+	private static String truncateAndMaskBody(String body) {
+		String truncatedBody = body;
+		if (body.length() > MAX_BODY_SIZE) {
+			truncatedBody = body.substring(0, MAX_BODY_SIZE) + "... [TRUNCATED]";
+		}
+		for (String field : SENSITIVE_FIELDS) {
+			truncatedBody = truncatedBody.replaceAll(String.format("\"%s\":\"[^\"]*\"", field),
+				String.format("\"%s\":\"[PROTECTED]\"", field));
+		}
+		return truncatedBody;
+	}
+}
@@ -0,0 +1,103 @@
+package shinhancard.logging.encoder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import shinhancard.logging.mask.SensitiveDataMasker;
+
+/**
+ * Kafka로 보내는 요청-응답 로그 한 건의 크기와 인코딩 시간을 JSON과 Smile로 비교합니다.
+ * <p>
+ * {@code json}은 {@link LogRecordEncoder}로 JSON을 만드는 시간이고, {@code smile}은 여기에 {@link SmileTranscoder}의 변환을
+ * 더한 시간으로 {@code kafka.encoding=SMILE}일 때 로그 한 건에 드는 비용입니다. {@code transcode}는 변환만의 시간입니다.
+ * 로그 한 건의 크기(바이트)는 {@code @Setup}에서 표준 출력으로 기록합니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SmileEncodingBenchmark {
+
+	private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+	private static final ExchangeTimings TIMINGS = new ExchangeTimings(12_418_000, 11_902_000,
+		Map.of("log", 51_000L, "cors", 12_000L, "sql", 187_000L, "xss", 94_000L, "csrf", 3_000L));
+
+	@Param({"0", "2048"})
+	private int bodySize;
+
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+	private LogRecordEncoder.Body requestBody;
+	private LogRecordEncoder.Body responseBody;
+	private LogRecordEncoder encoder;
+	private SmileTranscoder transcoder;
+	private byte[] jsonRecord;
+
+	@Setup
+	public void setUp() throws IOException {
+		request = new MockHttpServletRequest("POST", "/api/v1/payments");
+		request.setQueryString("source=mobile&page=1");
+		request.setRemoteAddr("192.168.1.100");
+		request.addHeader("Content-Type", "application/json");
+		request.addHeader("Accept", "application/json");
+		request.addHeader("Authorization", "Bearer token");
+		request.addHeader("User-Agent", "Mozilla/5.0 (iPhone; CPU iPhone OS 17_0 like Mac OS X)");
+		request.addHeader("X-Trace-Id", TRACE_ID);
+		response = new MockHttpServletResponse();
+		response.setStatus(200);
+		response.addHeader("Content-Type", "application/json");
+		response.addHeader("Cache-Control", "no-cache");
+
+		if (bodySize > 0) {
+			StringBuilder body = new StringBuilder("{\"items\":[");
+			while (body.length() < bodySize) {
+				body.append("{\"status\":\"APPROVED\",\"currency\":\"KRW\",\"amount\":15000,\"memo\":\"결제 메모\"},");
+			}
+			body.setLength(body.length() - 1);
+			body.append("]}");
+			requestBody = new LogRecordEncoder.Body(body.toString(), false);
+			responseBody = new LogRecordEncoder.Body(body.toString(), false);
+		}
+
+		encoder = new LogRecordEncoder(new SensitiveDataMasker(List.of("password"), List.of("authorization")),
+			bodySize + 1024);
+		transcoder = new SmileTranscoder();
+		jsonRecord = json();
+		System.out.printf("bodySize=%d: JSON %d bytes, Smile %d bytes%n", bodySize, jsonRecord.length,
+			transcoder.transcode(jsonRecord).length);
+	}
+
+	@Benchmark
+	public byte[] json() throws IOException {
+		return encoder.encodeExchange(request, response, TRACE_ID, requestBody, responseBody, TIMINGS);
+	}
+
+	@Benchmark
+	public byte[] smile() throws IOException {
+		return transcoder.transcode(json());
+	}
+
+	@Benchmark
+	public byte[] transcode() throws IOException {
+		return transcoder.transcode(jsonRecord);
+	}
+}
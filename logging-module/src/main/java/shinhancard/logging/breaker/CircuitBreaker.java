@@ -0,0 +1,264 @@
+package shinhancard.logging.breaker;
+
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+import shinhancard.logging.properties.LogProperties;
+
+/**
+ * 로그 전송 대상의 실패율과 지연 시간을 기준으로 호출을 차단하는 회로 차단기입니다.
+ * <p>
+ * 최근 {@code slidingWindowSize}건의 호출 결과를 보관하며, {@code minimumCalls}건 이상 호출된 상태에서
+ * 실패율이나 느린 호출 비율이 임계값을 넘으면 열림({@link State#OPEN}) 상태가 되어 호출을 허용하지 않습니다.
+ * {@code openDurationMs}가 지나면 반열림({@link State#HALF_OPEN}) 상태에서 {@code halfOpenTrialCalls}건의 시험 호출을 허용하고,
+ * 모두 성공하면 닫힘({@link State#CLOSED}) 상태로 돌아가며 하나라도 실패하거나 느리면 다시 열림 상태가 됩니다.
+ * </p>
+ * <p>
+ * 모든 메서드는 스레드 안전합니다.
+ * </p>
+ */
+@Slf4j
+public class CircuitBreaker {
+
+	/**
+	 * 회로 차단기의 상태입니다.
+	 */
+	public enum State {
+		/**
+		 * 모든 호출을 허용하고 결과를 집계합니다.
+		 */
+		CLOSED,
+
+		/**
+		 * 호출을 허용하지 않습니다.
+		 */
+		OPEN,
+
+		/**
+		 * 제한된 수의 시험 호출만 허용합니다.
+		 */
+		HALF_OPEN
+	}
+
+	private static final byte FAILED = 1;
+	private static final byte SLOW = 2;
+
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final double slowCallRateThreshold;
+	private final long slowCallThresholdNanos;
+	private final long openDurationNanos;
+	private final int halfOpenTrialCalls;
+
+	// 아래 필드는 this로 동기화합니다.
+	private final byte[] outcomes;
+	private int outcomeIndex;
+	private int callCount;
+	private int failureCount;
+	private int slowCount;
+	private State state = State.CLOSED;
+	private long openedAtNanos;
+	private int trialPermits;
+	private int trialSuccesses;
+	private long openedCount;
+	private long halfOpenedCount;
+	private long closedCount;
+	private long notPermittedCount;
+
+	/**
+	 * {@link CircuitBreaker}의 생성자입니다.
+	 *
+	 * @param circuitBreakerProperties 회로 차단기 설정
+	 * @throws IllegalArgumentException 설정 값이 올바르지 않은 경우
+	 */
+	public CircuitBreaker(LogProperties.CircuitBreaker circuitBreakerProperties) {
+		if (circuitBreakerProperties.getSlidingWindowSize() <= 0 || circuitBreakerProperties.getMinimumCalls() <= 0
+			|| circuitBreakerProperties.getHalfOpenTrialCalls() <= 0) {
+			throw new IllegalArgumentException("회로 차단기의 호출 건수 설정은 0보다 커야 합니다.");
+		}
+
+		this.outcomes = new byte[circuitBreakerProperties.getSlidingWindowSize()];
+		this.minimumCalls = Math.min(circuitBreakerProperties.getMinimumCalls(), outcomes.length);
+		this.failureRateThreshold = circuitBreakerProperties.getFailureRateThreshold();
+		this.slowCallRateThreshold = circuitBreakerProperties.getSlowCallRateThreshold();
+		this.slowCallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(circuitBreakerProperties.getSlowCallThresholdMs());
+		this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(circuitBreakerProperties.getOpenDurationMs());
+		this.halfOpenTrialCalls = circuitBreakerProperties.getHalfOpenTrialCalls();
+	}
+
+	/**
+	 * 호출을 허용할지 결정합니다.
+	 * <p>
+	 * 열림 상태에서 {@code openDurationMs}가 지났으면 반열림 상태로 바꾸고 시험 호출을 허용합니다.
+	 * 허용된 호출은 반드시 {@link #onSuccess(long)} 또는 {@link #onError(long)}로 결과를 알려야 합니다.
+	 * </p>
+	 *
+	 * @return 호출을 허용하면 {@code true}
+	 */
+	public synchronized boolean tryAcquire() {
+		if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+			transitionTo(State.HALF_OPEN);
+		}
+		if (state == State.CLOSED) {
+			return true;
+		}
+		if (state == State.HALF_OPEN && trialPermits > 0) {
+			trialPermits--;
+			return true;
+		}
+		notPermittedCount++;
+		return false;
+	}
+
+	/**
+	 * 허용된 호출이 성공했음을 기록합니다.
+	 *
+	 * @param durationNanos 호출에 걸린 시간 (나노초 단위)
+	 */
+	public synchronized void onSuccess(long durationNanos) {
+		boolean slow = durationNanos >= slowCallThresholdNanos;
+		if (state == State.HALF_OPEN) {
+			if (slow) {
+				transitionTo(State.OPEN);
+			} else if (++trialSuccesses >= halfOpenTrialCalls) {
+				transitionTo(State.CLOSED);
+			}
+		} else if (state == State.CLOSED) {
+			record(slow ? SLOW : 0);
+		}
+	}
+
+	/**
+	 * 허용된 호출이 실패했음을 기록합니다.
+	 *
+	 * @param durationNanos 호출에 걸린 시간 (나노초 단위)
+	 */
+	public synchronized void onError(long durationNanos) {
+		if (state == State.HALF_OPEN) {
+			transitionTo(State.OPEN);
+		} else if (state == State.CLOSED) {
+			record((byte)(FAILED | (durationNanos >= slowCallThresholdNanos ? SLOW : 0)));
+		}
+	}
+
+	/**
+	 * 호출이 반환된 뒤 전송 대상이 비동기로 알려온 실패를 기록합니다.
+	 * <p>
+	 * Kafka 프로듀서 콜백이나 Loki 배치 전송처럼 결과를 비동기로 알리는 전송 대상의 실패를 반영하기 위해 사용하며,
+	 * 이런 전송 대상은 호출이 반환된 시점에 성공으로 집계하지 않아야 합니다.
+	 * </p>
+	 */
+	public void onAsyncFailure() {
+		onError(0);
+	}
+
+	private void record(byte outcome) {
+		if (callCount == outcomes.length) {
+			byte evicted = outcomes[outcomeIndex];
+			failureCount -= evicted & FAILED;
+			slowCount -= (evicted & SLOW) >> 1;
+		} else {
+			callCount++;
+		}
+		outcomes[outcomeIndex] = outcome;
+		outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+		failureCount += outcome & FAILED;
+		slowCount += (outcome & SLOW) >> 1;
+
+		if (callCount >= minimumCalls
+			&& (failureCount >= failureRateThreshold * callCount || slowCount >= slowCallRateThreshold * callCount)) {
+			transitionTo(State.OPEN);
+		}
+	}
+
+	private void transitionTo(State newState) {
+		State oldState = state;
+		state = newState;
+		switch (newState) {
+			case OPEN -> {
+				openedAtNanos = System.nanoTime();
+				openedCount++;
+			}
+			case HALF_OPEN -> {
+				trialPermits = halfOpenTrialCalls;
+				trialSuccesses = 0;
+				halfOpenedCount++;
+			}
+			case CLOSED -> {
+				callCount = 0;
+				failureCount = 0;
+				slowCount = 0;
+				outcomeIndex = 0;
+				closedCount++;
+			}
+		}
+		if (newState == State.HALF_OPEN) {
+			log.info("로그 전송 회로 차단기 상태 변경: {} -> {}", oldState, newState);
+		} else {
+			log.warn("로그 전송 회로 차단기 상태 변경: {} -> {}", oldState, newState);
+		}
+	}
+
+	/**
+	 * 현재 상태를 반환합니다.
+	 *
+	 * @return 회로 차단기 상태
+	 */
+	public synchronized State getState() {
+		return state;
+	}
+
+	/**
+	 * 닫힘 상태에서 집계 중인 호출의 실패율을 반환합니다.
+	 *
+	 * @return 실패율 (0.0 ~ 1.0), 집계된 호출이 없으면 0
+	 */
+	public synchronized double getFailureRate() {
+		return callCount == 0 ? 0 : failureCount / (double)callCount;
+	}
+
+	/**
+	 * 닫힘 상태에서 집계 중인 호출의 느린 호출 비율을 반환합니다.
+	 *
+	 * @return 느린 호출 비율 (0.0 ~ 1.0), 집계된 호출이 없으면 0
+	 */
+	public synchronized double getSlowCallRate() {
+		return callCount == 0 ? 0 : slowCount / (double)callCount;
+	}
+
+	/**
+	 * 열림 상태로 바뀐 누적 횟수를 반환합니다.
+	 *
+	 * @return 열림 상태 전환 횟수
+	 */
+	public synchronized long getOpenedCount() {
+		return openedCount;
+	}
+
+	/**
+	 * 반열림 상태로 바뀐 누적 횟수를 반환합니다.
+	 *
+	 * @return 반열림 상태 전환 횟수
+	 */
+	public synchronized long getHalfOpenedCount() {
+		return halfOpenedCount;
+	}
+
+	/**
+	 * 반열림 상태에서 닫힘 상태로 돌아온 누적 횟수를 반환합니다.
+	 *
+	 * @return 닫힘 상태 전환 횟수
+	 */
+	public synchronized long getClosedCount() {
+		return closedCount;
+	}
+
+	/**
+	 * 열림 또는 반열림 상태여서 허용하지 않은 호출의 누적 건수를 반환합니다.
+	 *
+	 * @return 허용하지 않은 호출 건수
+	 */
+	public synchronized long getNotPermittedCount() {
+		return notPermittedCount;
+	}
+}
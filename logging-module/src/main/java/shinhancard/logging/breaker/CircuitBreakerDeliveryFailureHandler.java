@@ -0,0 +1,60 @@
+package shinhancard.logging.breaker;
+
+import shinhancard.logging.service.DeliveryFailureHandler;
+
+/**
+ * 전송 대상이 비동기로 알려온 전송 결과를 {@link CircuitBreaker}에 기록하는 {@link DeliveryFailureHandler} 구현체입니다.
+ * <p>
+ * 결과를 기록한 뒤 실패한 로그는 감싼 핸들러로 넘깁니다. 다시 전송해도 실패할 로그
+ * ({@link DeliveryFailureHandler#isRetryable(Throwable)})는 전송 대상이 정상적으로 응답한 것이므로 성공으로 기록합니다.
+ * {@link CircuitBreakerLogService}를 {@code asyncOutcome}으로 생성한 경우에 함께 사용합니다.
+ * </p>
+ */
+public class CircuitBreakerDeliveryFailureHandler implements DeliveryFailureHandler {
+
+	private final CircuitBreaker circuitBreaker;
+	private final DeliveryFailureHandler delegate;
+
+	/**
+	 * {@link CircuitBreakerDeliveryFailureHandler}의 생성자입니다.
+	 *
+	 * @param circuitBreaker 전송 결과를 기록할 {@link CircuitBreaker}
+	 * @param delegate 전송에 실패한 로그를 처리할 {@link DeliveryFailureHandler}
+	 */
+	public CircuitBreakerDeliveryFailureHandler(CircuitBreaker circuitBreaker, DeliveryFailureHandler delegate) {
+		this.circuitBreaker = circuitBreaker;
+		this.delegate = delegate;
+	}
+
+	/**
+	 * 실패를 회로 차단기에 기록하고 로그를 감싼 핸들러로 넘깁니다.
+	 *
+	 * @param destination 전송 대상 (예: Kafka 토픽 이름)
+	 * @param logRecord 전송에 실패한 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 * @param exception 실패 원인
+	 */
+	@Override
+	public void onDeliveryFailure(String destination, byte[] logRecord, Exception exception) {
+		if (DeliveryFailureHandler.isRetryable(exception)) {
+			circuitBreaker.onAsyncFailure();
+		} else {
+			circuitBreaker.onSuccess(0); // 로그 자체가 원인인 실패는 전송 대상의 장애가 아님
+		}
+		delegate.onDeliveryFailure(destination, logRecord, exception);
+	}
+
+	/**
+	 * 전송에 성공한 로그마다 성공을 회로 차단기에 기록합니다.
+	 *
+	 * @param destination 전송 대상 (예: Kafka 토픽 이름)
+	 * @param count 전송에 성공한 로그 건수
+	 * @param latencyNanos 전송을 시작한 뒤 성공을 확인하기까지 걸린 시간 (나노초 단위)
+	 */
+	@Override
+	public void onDeliverySuccess(String destination, int count, long latencyNanos) {
+		for (int i = 0; i < count; i++) {
+			circuitBreaker.onSuccess(latencyNanos);
+		}
+		delegate.onDeliverySuccess(destination, count, latencyNanos);
+	}
+}
@@ -0,0 +1,178 @@
+package shinhancard.logging.breaker;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+import shinhancard.logging.service.LogService;
+
+/**
+ * {@link CircuitBreaker}로 다른 {@link LogService}를 감싸는 로그 전송 서비스입니다.
+ * <p>
+ * 전송 대상이 응답하지 않거나 계속 실패하면 회로 차단기가 열려, 전송 대상의 시간 초과를 기다리지 않고 곧바로
+ * 대체 {@link LogService}로 로그를 넘깁니다. 대체 서비스가 없으면 {@link CircuitBreakerOpenException}을 던지므로,
+ * {@link shinhancard.logging.dispatch.LogDispatcher}는 로그를 스풀에 보관합니다.
+ * </p>
+ * <p>
+ * Kafka나 Loki처럼 호출이 반환된 뒤 결과를 비동기로 알리는 전송 대상은 반환 시점에 성공으로 집계하지 않고,
+ * {@link CircuitBreakerDeliveryFailureHandler}가 전달받은 결과로만 집계하여 같은 호출을 두 번 집계하지 않습니다.
+ * </p>
+ */
+@Slf4j
+public class CircuitBreakerLogService implements LogService, AutoCloseable {
+
+	private final LogService delegate;
+	private final CircuitBreaker circuitBreaker;
+	private final LogService fallback;
+	private final boolean asyncOutcome;
+
+	private final LongAdder fallbackCount = new LongAdder();
+
+	/**
+	 * {@link CircuitBreakerLogService}의 생성자입니다.
+	 *
+	 * @param delegate 로그를 실제로 전송할 {@link LogService}
+	 * @param circuitBreaker 전송 대상의 상태를 판단할 {@link CircuitBreaker}
+	 * @param fallback 회로 차단기가 열려 있는 동안 로그를 넘길 {@link LogService}, 없으면 {@code null}
+	 */
+	public CircuitBreakerLogService(LogService delegate, CircuitBreaker circuitBreaker, LogService fallback) {
+		this(delegate, circuitBreaker, fallback, false);
+	}
+
+	/**
+	 * 전송 결과를 비동기로 알리는 전송 대상을 감싸는 {@link CircuitBreakerLogService}를 생성합니다.
+	 * <p>
+	 * {@code asyncOutcome}이 {@code true}이면 전송 대상이 예외 없이 반환해도 성공으로 집계하지 않으므로,
+	 * 전송 대상에 {@link CircuitBreakerDeliveryFailureHandler}를 연결하여 결과를 회로 차단기에 전달해야 합니다.
+	 * </p>
+	 *
+	 * @param delegate 로그를 실제로 전송할 {@link LogService}
+	 * @param circuitBreaker 전송 대상의 상태를 판단할 {@link CircuitBreaker}
+	 * @param fallback 회로 차단기가 열려 있는 동안 로그를 넘길 {@link LogService}, 없으면 {@code null}
+	 * @param asyncOutcome 전송 대상이 결과를 비동기로 알리는지 여부
+	 */
+	public CircuitBreakerLogService(LogService delegate, CircuitBreaker circuitBreaker, LogService fallback,
+		boolean asyncOutcome) {
+		this.delegate = delegate;
+		this.circuitBreaker = circuitBreaker;
+		this.fallback = fallback;
+		this.asyncOutcome = asyncOutcome;
+	}
+
+	/**
+	 * 회로 차단기가 허용하면 전송 대상으로 로그를 전송하고, 그렇지 않으면 대체 서비스로 넘깁니다.
+	 * <p>
+	 * 전송 대상이 던진 예외는 실패로 집계한 뒤 그대로 다시 던집니다.
+	 * 결과를 비동기로 알리는 전송 대상이면 예외 없이 반환해도 성공으로 집계하지 않습니다.
+	 * </p>
+	 *
+	 * @param logRecord 전송할 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 * @throws IOException 전송 대상이 실패했거나, 회로 차단기가 열려 있고 대체 서비스가 없는 경우
+	 */
+	@Override
+	public void sendLog(byte[] logRecord) throws IOException {
+		if (!circuitBreaker.tryAcquire()) {
+			fallbackCount.increment();
+			if (fallback == null) {
+				throw new CircuitBreakerOpenException();
+			}
+			fallback.sendLog(logRecord);
+			return;
+		}
+
+		long startNanos = System.nanoTime();
+		try {
+			delegate.sendLog(logRecord);
+		} catch (IOException | RuntimeException e) {
+			circuitBreaker.onError(System.nanoTime() - startNanos);
+			throw e;
+		}
+		if (!asyncOutcome) {
+			circuitBreaker.onSuccess(System.nanoTime() - startNanos);
+		}
+	}
+
+	/**
+	 * 회로 차단기가 허용하면 여러 로그를 한 번의 호출로 전송 대상에 전송하고, 그렇지 않으면 대체 서비스로 넘깁니다.
+	 * <p>
+	 * 배치 전체에 대해 한 번만 호출을 허용받으므로, 배치 중간에 회로 차단기가 열려 일부만 전송되는 일은 없습니다.
+	 * 결과를 비동기로 알리는 전송 대상이면 결과는 로그마다 집계됩니다.
+	 * </p>
+	 *
+	 * @param logRecords 전송할 로그 메시지 목록 (UTF-8로 인코딩된 JSON)
+	 * @throws IOException 전송 대상이 실패했거나, 회로 차단기가 열려 있고 대체 서비스가 없는 경우
+	 */
+	@Override
+	public void sendLogs(List<byte[]> logRecords) throws IOException {
+		if (!circuitBreaker.tryAcquire()) {
+			fallbackCount.add(logRecords.size());
+			if (fallback == null) {
+				throw new CircuitBreakerOpenException();
+			}
+			fallback.sendLogs(logRecords);
+			return;
+		}
+
+		long startNanos = System.nanoTime();
+		try {
+			delegate.sendLogs(logRecords);
+		} catch (IOException | RuntimeException e) {
+			circuitBreaker.onError(System.nanoTime() - startNanos);
+			throw e;
+		}
+		if (!asyncOutcome) {
+			circuitBreaker.onSuccess(System.nanoTime() - startNanos);
+		}
+	}
+
+	/**
+	 * 회로 차단기를 반환합니다. 상태와 전환 횟수를 조회할 때 사용합니다.
+	 *
+	 * @return {@link CircuitBreaker}
+	 */
+	public CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 회로 차단기가 열려 있어 전송 대상 대신 대체 서비스로 넘긴 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 대체 처리한 건수
+	 */
+	public long getFallbackCount() {
+		return fallbackCount.sum();
+	}
+
+	/**
+	 * 전송 대상과 대체 서비스를 닫습니다.
+	 */
+	@Override
+	public void close() {
+		closeQuietly(delegate);
+		closeQuietly(fallback);
+	}
+
+	private static void closeQuietly(LogService logService) {
+		if (logService instanceof AutoCloseable closeable) {
+			try {
+				closeable.close();
+			} catch (Exception e) {
+				log.error("로그 전송 서비스 종료 실패: {}", e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 회로 차단기가 열려 있어 로그를 전송하지 않았음을 나타내는 예외입니다.
+	 */
+	public static class CircuitBreakerOpenException extends IOException {
+
+		/**
+		 * {@link CircuitBreakerOpenException}의 생성자입니다.
+		 */
+		public CircuitBreakerOpenException() {
+			super("로그 전송 회로 차단기가 열려 있습니다.");
+		}
+	}
+}
@@ -1,19 +1,41 @@
 package shinhancard.logging.config;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.Ordered;
 
+import shinhancard.common.config.CommonAutoConfiguration;
+import shinhancard.common.trace.TraceIdResolver;
+import shinhancard.common.wrapper.RequestBodyCapture;
+import shinhancard.logging.breaker.CircuitBreaker;
+import shinhancard.logging.breaker.CircuitBreakerDeliveryFailureHandler;
+import shinhancard.logging.breaker.CircuitBreakerLogService;
+import shinhancard.logging.dispatch.CompositeLogService;
+import shinhancard.logging.dispatch.LogDispatcher;
 import shinhancard.logging.filter.LogFilter;
+import shinhancard.logging.properties.FileProperties;
 import shinhancard.logging.properties.KafkaProperties;
 import shinhancard.logging.properties.LogProperties;
 import shinhancard.logging.properties.LokiProperties;
+import shinhancard.logging.sampling.LogSampler;
+import shinhancard.logging.service.DeliveryFailureHandler;
 import shinhancard.logging.service.LogService;
+import shinhancard.logging.service.impl.FileLogService;
 import shinhancard.logging.service.impl.KafkaService;
+import shinhancard.logging.service.impl.LoggingDeliveryFailureHandler;
 import shinhancard.logging.service.impl.LokiService;
+import shinhancard.logging.spool.LogSpool;
+import shinhancard.logging.spool.SpoolingDeliveryFailureHandler;
 
 /**
  * 로그 관련 자동 구성을 제공하는 클래스입니다.
@@ -21,53 +43,195 @@ import shinhancard.logging.service.impl.LokiService;
  * 이 클래스는 로그 필터를 자동으로 등록하며, 로그 전송 서비스를 설정합니다.
  * </p>
  */
-@AutoConfiguration
-@EnableConfigurationProperties({LogProperties.class, KafkaProperties.class, LokiProperties.class})
+@AutoConfiguration(after = CommonAutoConfiguration.class)
+@EnableConfigurationProperties({LogProperties.class, KafkaProperties.class, LokiProperties.class,
+	FileProperties.class})
 @ConditionalOnProperty(name = "filter.log.enabled", havingValue = "true", matchIfMissing = true)
 public class LogAutoConfiguration {
 
 	private final LogProperties logProperties;
 	private final KafkaProperties kafkaProperties;
 	private final LokiProperties lokiProperties;
+	private final FileProperties fileProperties;
 
 	/**
 	 * LogAutoConfiguration의 생성자입니다.
 	 * <p>
-	 * LogProperties, KafkaProperties, LokiProperties를 주입받아 로그 필터와 로그 전송 서비스를 설정합니다.
+	 * LogProperties, KafkaProperties, LokiProperties, FileProperties를 주입받아 로그 필터와 로그 전송 서비스를 설정합니다.
 	 * </p>
 	 *
 	 * @param logProperties 로그 설정
 	 * @param kafkaProperties Kafka 설정
 	 * @param lokiProperties Loki 설정
+	 * @param fileProperties 파일 로그 설정
 	 */
 	public LogAutoConfiguration(LogProperties logProperties, KafkaProperties kafkaProperties,
-		LokiProperties lokiProperties) {
+		LokiProperties lokiProperties, FileProperties fileProperties) {
 		this.logProperties = logProperties;
 		this.kafkaProperties = kafkaProperties;
 		this.lokiProperties = lokiProperties;
+		this.fileProperties = fileProperties;
+	}
+
+	/**
+	 * 전송에 실패한 로그를 처리하는 빈을 생성합니다.
+	 * <p>
+	 * 기본 구현체는 실패한 로그를 버리고 경고 로그를 남깁니다.
+	 * 재전송이나 파일 보관이 필요하면 {@link DeliveryFailureHandler} 빈을 직접 등록합니다.
+	 * </p>
+	 *
+	 * @return {@link LoggingDeliveryFailureHandler} 객체
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public DeliveryFailureHandler deliveryFailureHandler() {
+		return new LoggingDeliveryFailureHandler();
 	}
 
 	/**
 	 * 로그 전송 서비스 빈을 생성합니다.
 	 * <p>
-	 * LogProperties의 설정에 따라 적절한 LogService 구현체를 반환합니다.
+	 * LogProperties의 설정에 따라 적절한 LogService 구현체를 만들고, 이를 {@link LogDispatcher}로 감싸
+	 * 요청 스레드가 전송을 기다리지 않도록 합니다. 애플리케이션 종료 시 디스패처의 {@code close()}가 호출됩니다.
+	 * </p>
+	 * <p>
+	 * {@code log.destinations}를 설정하면 전송 대상마다 디스패처를 따로 만들고 {@link CompositeLogService}로 묶어,
+	 * 한 번 인코딩한 로그를 모든 대상에 전송합니다. 설정하지 않으면 {@code log.logDestination} 하나에만 전송합니다.
+	 * </p>
+	 * <p>
+	 * {@code log.spool.enabled}가 true이면 전송에 실패한 로그와 디스패처 큐가 가득 차 버려질 로그를 {@link LogSpool}에 보관하고,
+	 * 스풀에 보관하지 못한 로그만 {@link DeliveryFailureHandler} 빈으로 넘깁니다.
+	 * {@code log.circuitBreaker.enabled}가 true이면 전송 대상을 {@link CircuitBreakerLogService}로 감싸,
+	 * 회로 차단기가 열려 있는 동안 로그를 스풀에 보관하거나 스풀이 없으면 버립니다.
+	 * 전송 대상이 여럿이면 스풀과 회로 차단기도 대상마다 따로 만들며, 스풀은 {@code log.spool.directory} 아래
+	 * 대상 이름의 디렉터리를 사용합니다.
 	 * </p>
 	 *
-	 * @return LogService 구현체
+	 * @param deliveryFailureHandler 전송에 실패한 로그를 처리하는 기능
+	 * @return 로그 전송 대상을 감싼 {@link LogDispatcher} 또는 {@link CompositeLogService}
+	 * @throws IllegalStateException 스풀 디렉터리나 로그 파일을 사용할 수 없는 경우
+	 * @throws IllegalArgumentException 전송 대상 설정이 올바르지 않은 경우
 	 */
 	@Bean
-	public LogService logService() {
-		String logDestination = logProperties.getLogDestination();
+	public LogService logService(DeliveryFailureHandler deliveryFailureHandler) {
+		List<LogProperties.Destination> destinations = logProperties.getDestinations();
+		if (destinations.isEmpty()) {
+			Path spoolDirectory = Path.of(logProperties.getSpool().getDirectory());
+			return createDispatcher(logProperties.getLogDestination(), logProperties.getDispatcher(), spoolDirectory,
+				deliveryFailureHandler);
+		}
 
+		Map<String, LogDispatcher> dispatchers = new LinkedHashMap<>();
+		try {
+			boolean fileDestination = false;
+			for (LogProperties.Destination destination : destinations) {
+				String name = destination.getName();
+				if (dispatchers.containsKey(name)) {
+					throw new IllegalArgumentException("로그 전송 대상의 이름이 중복되었습니다: " + name);
+				}
+				if ("file".equalsIgnoreCase(destination.getType())) {
+					if (fileDestination) {
+						throw new IllegalArgumentException("파일 로그 전송 대상은 하나만 설정할 수 있습니다.");
+					}
+					fileDestination = true;
+				}
+				Path spoolDirectory = Path.of(logProperties.getSpool().getDirectory(), name);
+				dispatchers.put(name, createDispatcher(destination.getType(), destination.getDispatcher(),
+					spoolDirectory, deliveryFailureHandler));
+			}
+		} catch (RuntimeException e) {
+			dispatchers.values().forEach(LogDispatcher::close);
+			throw e;
+		}
+		return new CompositeLogService(dispatchers);
+	}
+
+	/**
+	 * 전송 대상 하나에 대한 {@link LogDispatcher}를 생성합니다.
+	 * <p>
+	 * 설정에 따라 전송 대상을 {@link CircuitBreakerLogService}로 감싸고 {@link LogSpool}을 연결합니다.
+	 * </p>
+	 *
+	 * @param type 로그 전송 방식
+	 * @param dispatcherProperties 디스패처 설정
+	 * @param spoolDirectory 스풀 디렉터리
+	 * @param deliveryFailureHandler 전송에 실패한 로그를 처리하는 기능
+	 * @return 전송 대상을 감싼 {@link LogDispatcher}
+	 */
+	private LogDispatcher createDispatcher(String type, LogProperties.Dispatcher dispatcherProperties,
+		Path spoolDirectory, DeliveryFailureHandler deliveryFailureHandler) {
+		LogSpool spool = logProperties.getSpool().isEnabled() ? openSpool(spoolDirectory) : null;
+		DeliveryFailureHandler failureHandler = spool != null ?
+			new SpoolingDeliveryFailureHandler(spool, deliveryFailureHandler) : deliveryFailureHandler;
+
+		try {
+			if (!logProperties.getCircuitBreaker().isEnabled()) {
+				return new LogDispatcher(createLogSink(type, failureHandler), dispatcherProperties, spool);
+			}
+
+			CircuitBreaker circuitBreaker = new CircuitBreaker(logProperties.getCircuitBreaker());
+			LogService fallback = spool != null ? null : logRecord -> {
+				// 스풀이 없으면 버리며, 건수는 CircuitBreakerLogService.getFallbackCount()로 조회
+			};
+			boolean asyncOutcome = !"file".equalsIgnoreCase(type); // Kafka와 Loki는 결과를 핸들러로 알림
+			LogService logSink = new CircuitBreakerLogService(
+				createLogSink(type, new CircuitBreakerDeliveryFailureHandler(circuitBreaker, failureHandler)),
+				circuitBreaker, fallback, asyncOutcome);
+			return new LogDispatcher(logSink, dispatcherProperties, spool);
+		} catch (RuntimeException e) {
+			if (spool != null) {
+				spool.close();
+			}
+			throw e;
+		}
+	}
+
+	private LogSpool openSpool(Path directory) {
+		try {
+			return new LogSpool(logProperties.getSpool(), directory);
+		} catch (IOException e) {
+			throw new IllegalStateException("로그 스풀을 열 수 없습니다: " + directory, e);
+		}
+	}
+
+	/**
+	 * 로그 전송 방식에 맞는 LogService 구현체를 생성합니다.
+	 *
+	 * @param logDestination 로그 전송 방식 (kafka, loki 또는 file)
+	 * @param deliveryFailureHandler 전송에 실패한 로그를 처리하는 기능
+	 * @return LogService 구현체
+	 * @throws IllegalStateException 로그 파일을 열 수 없는 경우
+	 */
+	private LogService createLogSink(String logDestination, DeliveryFailureHandler deliveryFailureHandler) {
 		if ("kafka".equalsIgnoreCase(logDestination)) {
-			return new KafkaService(kafkaProperties);
+			return new KafkaService(kafkaProperties, deliveryFailureHandler);
 		} else if ("loki".equalsIgnoreCase(logDestination)) {
-			return new LokiService(lokiProperties);
+			return new LokiService(lokiProperties, deliveryFailureHandler);
+		} else if ("file".equalsIgnoreCase(logDestination)) {
+			try {
+				return new FileLogService(fileProperties);
+			} catch (IOException e) {
+				throw new IllegalStateException("로그 파일을 열 수 없습니다: " + fileProperties.getDirectory(), e);
+			}
 		} else {
 			throw new IllegalArgumentException("지원되지 않는 로그 전송 방식: " + logDestination);
 		}
 	}
 
+	/**
+	 * 요청의 로그 기록 여부를 결정하는 빈을 생성합니다.
+	 * <p>
+	 * 샘플링 통계를 조회하거나 다른 정책을 적용하려면 {@link LogSampler} 빈을 직접 등록합니다.
+	 * </p>
+	 *
+	 * @return {@link LogSampler} 객체
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public LogSampler logSampler() {
+		return new LogSampler(logProperties.getSampling());
+	}
+
 	/**
 	 * LogFilter를 Spring 컨텍스트에 등록합니다.
 	 * <p>
@@ -75,12 +239,17 @@ public class LogAutoConfiguration {
 	 * </p>
 	 *
 	 * @param logService 로그 전송 서비스
+	 * @param requestBodyCapture 요청 본문 캐싱 기능
+	 * @param traceIdResolver 요청의 traceId 결정 기능
+	 * @param logSampler 로그 기록 여부 결정 기능
 	 * @return FilterRegistrationBean 객체
 	 */
 	@Bean
-	public FilterRegistrationBean<LogFilter> logFilterRegistration(LogService logService) {
+	public FilterRegistrationBean<LogFilter> logFilterRegistration(LogService logService,
+		RequestBodyCapture requestBodyCapture, TraceIdResolver traceIdResolver, LogSampler logSampler) {
 		FilterRegistrationBean<LogFilter> registrationBean = new FilterRegistrationBean<>();
-		registrationBean.setFilter(new LogFilter(logProperties, logService));
+		registrationBean.setFilter(
+			new LogFilter(logProperties, logService, requestBodyCapture, traceIdResolver, logSampler));
 		registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE); // 필터의 순서를 설정 (최우선순위)
 		return registrationBean;
 	}
@@ -0,0 +1,90 @@
+package shinhancard.logging.dispatch;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+import shinhancard.logging.service.LogService;
+
+/**
+ * 하나의 로그를 여러 전송 대상으로 함께 보내는 로그 전송 서비스입니다.
+ * <p>
+ * 로그는 한 번만 인코딩되며, 같은 바이트 배열을 복사하지 않고 모든 전송 대상에 넘깁니다.
+ * 따라서 전송 대상은 받은 배열을 수정해서는 안 됩니다.
+ * 전송 대상마다 {@link LogDispatcher}로 감싸 두면 각자의 큐와 소비자 스레드를 가지므로,
+ * 한 대상이 느려지거나 장애 상태여도 다른 대상의 전송은 지연되지 않습니다.
+ * </p>
+ */
+@Slf4j
+public class CompositeLogService implements LogService, AutoCloseable {
+
+	private final Map<String, LogService> destinations;
+
+	/**
+	 * {@link CompositeLogService}의 생성자입니다.
+	 *
+	 * @param destinations 이름별 전송 대상, 등록 순서대로 전송합니다.
+	 * @throws IllegalArgumentException 전송 대상이 없는 경우
+	 */
+	public CompositeLogService(Map<String, ? extends LogService> destinations) {
+		if (destinations.isEmpty()) {
+			throw new IllegalArgumentException("로그 전송 대상이 하나 이상 필요합니다.");
+		}
+		this.destinations = Collections.unmodifiableMap(new LinkedHashMap<>(destinations));
+	}
+
+	/**
+	 * 모든 전송 대상에 같은 로그를 전송합니다.
+	 * <p>
+	 * 한 대상이 실패해도 나머지 대상에는 전송하며, 실패한 대상이 있으면 모두 전송한 뒤 첫 번째 예외를 던집니다.
+	 * </p>
+	 *
+	 * @param logRecord 전송할 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 * @throws IOException 전송에 실패한 대상이 있는 경우
+	 */
+	@Override
+	public void sendLog(byte[] logRecord) throws IOException {
+		IOException failure = null;
+		for (Map.Entry<String, LogService> destination : destinations.entrySet()) {
+			try {
+				destination.getValue().sendLog(logRecord);
+			} catch (IOException e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * 이름별 전송 대상을 반환합니다. 전송 대상별 디스패처의 통계를 조회할 때 사용합니다.
+	 *
+	 * @return 수정할 수 없는 이름별 전송 대상
+	 */
+	public Map<String, LogService> getDestinations() {
+		return destinations;
+	}
+
+	/**
+	 * 모든 전송 대상을 닫습니다.
+	 */
+	@Override
+	public void close() {
+		for (Map.Entry<String, LogService> destination : destinations.entrySet()) {
+			if (destination.getValue() instanceof AutoCloseable closeable) {
+				try {
+					closeable.close();
+				} catch (Exception e) {
+					log.error("로그 전송 대상 종료 실패 ({}): {}", destination.getKey(), e.getMessage());
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,439 @@
+package shinhancard.logging.dispatch;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+import shinhancard.logging.properties.LogProperties;
+import shinhancard.logging.service.DeliveryFailureHandler;
+import shinhancard.logging.service.LogService;
+import shinhancard.logging.spool.LogSpool;
+
+/**
+ * 로그를 크기가 제한된 큐에 넣고, 전용 소비자 스레드가 실제 {@link LogService}로 전송하는 디스패처입니다.
+ * <p>
+ * 요청 스레드는 로그를 큐에 넣기만 하므로 Kafka나 Loki가 느려져도 요청 처리가 지연되지 않고,
+ * JVM 공용 {@link java.util.concurrent.ForkJoinPool}과 스레드를 다투지도 않습니다.
+ * 큐가 가득 차면 {@link LogProperties.OverflowPolicy}에 따라 로그를 버리거나 잠시 기다리므로
+ * 전송 대상이 장애 상태여도 메모리 사용량은 {@code queueCapacity}를 넘지 않습니다.
+ * </p>
+ * <p>
+ * {@link LogSpool}을 함께 사용하면 버려질 로그와 전송에 실패한 로그를 디스크에 보관하고, 별도의 재전송 스레드가
+ * 전송 대상이 복구된 뒤 보관한 순서대로 다시 전송합니다. 스풀에 로그가 남아 있는 동안에는 순서를 지키기 위해
+ * 새 로그도 스풀 뒤에 이어서 보관합니다.
+ * </p>
+ * <p>
+ * 큐에 넣은 건수, 버린 건수, 처리 중인 건수, 전송 성공 및 실패 건수, 스풀에 보관한 건수와 다시 전송한 건수를 조회할 수 있습니다.
+ * </p>
+ */
+@Slf4j
+public class LogDispatcher implements LogService, AutoCloseable {
+
+	private static final long POLL_TIMEOUT_MS = 100;
+
+	private final LogService delegate;
+	private final ArrayBlockingQueue<byte[]> queue;
+	private final LogProperties.OverflowPolicy overflowPolicy;
+	private final long blockTimeoutMs;
+	private final double sampleRate;
+	private final int sampleThreshold;
+	private final long shutdownTimeoutMs;
+	private final int batchSize;
+	private final List<Thread> consumers;
+	private final LogSpool spool;
+	private final Thread replayer;
+
+	private final LongAdder enqueuedCount = new LongAdder();
+	private final LongAdder droppedCount = new LongAdder();
+	private final LongAdder sentCount = new LongAdder();
+	private final LongAdder failedCount = new LongAdder();
+	private final LongAdder spooledCount = new LongAdder();
+	private final LongAdder replayedCount = new LongAdder();
+	private final AtomicInteger sendingCount = new AtomicInteger();
+
+	private volatile boolean closed;
+
+	/**
+	 * {@link LogDispatcher}의 생성자입니다.
+	 * <p>
+	 * 설정된 수만큼 소비자 스레드를 생성하여 바로 시작합니다.
+	 * </p>
+	 *
+	 * @param delegate 로그를 실제로 전송할 {@link LogService}
+	 * @param dispatcherProperties 디스패처 설정
+	 * @throws IllegalArgumentException 설정 값이 올바르지 않은 경우
+	 */
+	public LogDispatcher(LogService delegate, LogProperties.Dispatcher dispatcherProperties) {
+		this(delegate, dispatcherProperties, null);
+	}
+
+	/**
+	 * 버려질 로그와 전송에 실패한 로그를 스풀에 보관하는 {@link LogDispatcher}를 생성합니다.
+	 * <p>
+	 * 설정된 수만큼 소비자 스레드와, 스풀의 로그를 다시 전송할 재전송 스레드를 생성하여 바로 시작합니다.
+	 * 디스패처를 닫으면 스풀도 닫힙니다.
+	 * </p>
+	 *
+	 * @param delegate 로그를 실제로 전송할 {@link LogService}
+	 * @param dispatcherProperties 디스패처 설정
+	 * @param spool 로그를 보관할 {@link LogSpool}, 사용하지 않으면 {@code null}
+	 * @throws IllegalArgumentException 설정 값이 올바르지 않은 경우
+	 */
+	public LogDispatcher(LogService delegate, LogProperties.Dispatcher dispatcherProperties, LogSpool spool) {
+		validate(dispatcherProperties);
+
+		this.delegate = delegate;
+		this.spool = spool;
+		this.queue = new ArrayBlockingQueue<>(dispatcherProperties.getQueueCapacity());
+		this.overflowPolicy = dispatcherProperties.getOverflowPolicy();
+		this.blockTimeoutMs = dispatcherProperties.getBlockTimeoutMs();
+		this.sampleRate = dispatcherProperties.getSampleRate();
+		this.sampleThreshold = (int)(dispatcherProperties.getQueueCapacity() * dispatcherProperties.getSampleThreshold());
+		this.shutdownTimeoutMs = dispatcherProperties.getShutdownTimeoutMs();
+		this.batchSize = dispatcherProperties.getBatchSize();
+
+		ThreadFactory threadFactory = dispatcherProperties.isVirtualThreads() ?
+			Thread.ofVirtual().name("log-dispatcher-", 0).factory() :
+			Thread.ofPlatform().name("log-dispatcher-", 0).daemon(true).factory();
+
+		this.consumers = new ArrayList<>(dispatcherProperties.getConsumerThreads());
+		for (int i = 0; i < dispatcherProperties.getConsumerThreads(); i++) {
+			Thread consumer = threadFactory.newThread(this::consume);
+			consumers.add(consumer);
+			consumer.start();
+		}
+
+		this.replayer = spool != null ?
+			Thread.ofPlatform().name("log-spool-replay").daemon(true).start(this::replay) : null;
+	}
+
+	/**
+	 * 로그를 큐에 넣습니다.
+	 * <p>
+	 * 큐가 가득 찬 경우 설정된 {@link LogProperties.OverflowPolicy}에 따라 처리하며, 전송 결과를 기다리지 않습니다.
+	 * 스풀을 사용하면 버려질 로그를 스풀에 보관합니다.
+	 * </p>
+	 *
+	 * @param logRecord 전송할 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 */
+	@Override
+	public void sendLog(byte[] logRecord) {
+		if (closed) {
+			spoolOrDrop(logRecord);
+			return;
+		}
+
+		boolean enqueued = switch (overflowPolicy) {
+			case DROP_NEWEST -> queue.offer(logRecord);
+			case DROP_OLDEST -> offerDroppingOldest(logRecord);
+			case SAMPLE -> offerSampled(logRecord);
+			case BLOCK -> offerBlocking(logRecord);
+		};
+
+		if (enqueued) {
+			enqueuedCount.increment();
+		} else {
+			spoolOrDrop(logRecord);
+		}
+	}
+
+	/**
+	 * 스풀을 사용하면 로그를 스풀에 보관하고, 그렇지 않거나 스풀이 가득 찼으면 버립니다.
+	 */
+	private void spoolOrDrop(byte[] logRecord) {
+		if (spool != null && spool.append(logRecord)) {
+			spooledCount.increment();
+		} else {
+			droppedCount.increment();
+		}
+	}
+
+	/**
+	 * 큐가 가득 차 있으면 가장 오래된 로그를 버리고 새 로그를 넣습니다.
+	 */
+	private boolean offerDroppingOldest(byte[] logRecord) {
+		while (!queue.offer(logRecord)) {
+			byte[] oldest = queue.poll();
+			if (oldest != null) {
+				spoolOrDrop(oldest);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 큐 사용량이 임계값을 넘으면 설정된 비율만큼만 로그를 넣습니다.
+	 */
+	private boolean offerSampled(byte[] logRecord) {
+		if (queue.size() >= sampleThreshold && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+			return false;
+		}
+		return queue.offer(logRecord);
+	}
+
+	/**
+	 * 큐에 자리가 날 때까지 최대 {@code blockTimeoutMs}만큼 기다립니다.
+	 */
+	private boolean offerBlocking(byte[] logRecord) {
+		try {
+			return queue.offer(logRecord, blockTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * 소비자 스레드의 실행 루프입니다.
+	 * <p>
+	 * 큐에서 최대 {@code batchSize}건을 한 번에 꺼내 {@link LogService#sendLogs(List)}로 전송하며,
+	 * 디스패처가 닫힌 뒤에도 큐에 남은 로그를 모두 전송한 다음 종료합니다.
+	 * 스풀에 로그가 남아 있으면 순서를 지키기 위해 전송하지 않고 스풀 뒤에 보관하며, 전송에 실패한 배치도 스풀에 보관합니다.
+	 * 다시 전송해도 실패할 실패({@link DeliveryFailureHandler#isRetryable(Throwable)})이면 배치를 보관하지 않습니다.
+	 * 배치 전송이 중간에 실패하면 이미 전송된 로그가 다시 전송될 수 있습니다.
+	 * </p>
+	 */
+	private void consume() {
+		List<byte[]> batch = new ArrayList<>(batchSize);
+		while (!closed || !queue.isEmpty()) {
+			byte[] first;
+			try {
+				first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			if (first == null) {
+				continue;
+			}
+			batch.add(first);
+			queue.drainTo(batch, batchSize - 1);
+
+			if (spool != null && !spool.isEmpty()) {
+				batch.removeIf(logRecord -> {
+					if (spool.append(logRecord)) {
+						spooledCount.increment();
+						return true;
+					}
+					return false;
+				});
+				if (batch.isEmpty()) {
+					continue;
+				}
+			}
+
+			int size = batch.size();
+			sendingCount.addAndGet(size);
+			try {
+				delegate.sendLogs(batch);
+				sentCount.add(size);
+			} catch (Exception e) {
+				failedCount.add(size);
+				log.warn("로그 전송 실패 ({}건): {}", size, e.getMessage());
+				if (spool != null && DeliveryFailureHandler.isRetryable(e)) {
+					for (byte[] logRecord : batch) {
+						if (spool.appendFailed(logRecord)) {
+							spooledCount.increment();
+						}
+					}
+				}
+			} finally {
+				sendingCount.addAndGet(-size);
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * 재전송 스레드의 실행 루프입니다.
+	 * <p>
+	 * 스풀에 보관한 로그를 가장 오래된 것부터 하나씩 전송하며, 전송에 성공한 로그만 스풀에서 제거합니다.
+	 * 전송에 실패하면 스풀의 {@code retryIntervalMs}만큼 기다린 뒤 같은 로그부터 다시 시도하고,
+	 * 다시 전송해도 실패할 실패이면 그 로그를 스풀에서 제거합니다.
+	 * 전송 대상이 비동기로 실패를 알리면 {@link shinhancard.logging.spool.SpoolingDeliveryFailureHandler}가 로그를 스풀에 다시
+	 * 보관하며, 로그마다 재전송 횟수가 {@code maxReplayAttempts}에 도달하면 더 보관하지 않습니다.
+	 * </p>
+	 */
+	private void replay() {
+		while (!closed) {
+			try {
+				if (!spool.isReplayDue()) {
+					Thread.sleep(POLL_TIMEOUT_MS);
+					continue;
+				}
+				byte[] logRecord = spool.peek();
+				if (logRecord == null) {
+					continue;
+				}
+				delegate.sendLog(logRecord);
+				spool.remove();
+				replayedCount.increment();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				if (!DeliveryFailureHandler.isRetryable(e)) {
+					spool.remove(); // 다시 전송해도 실패할 로그가 스풀 맨 앞을 막지 않도록 제거
+					failedCount.increment();
+					log.warn("스풀 로그 재전송 실패, 다시 전송할 수 없어 버립니다: {}", e.getMessage());
+					continue;
+				}
+				spool.markFailure();
+				log.warn("스풀 로그 재전송 실패: {}", e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 큐에 넣은 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 큐에 넣은 건수
+	 */
+	public long getEnqueuedCount() {
+		return enqueuedCount.sum();
+	}
+
+	/**
+	 * 큐가 가득 차거나 디스패처가 닫혀 버린 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 버린 건수
+	 */
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	/**
+	 * 큐에서 대기 중이거나 전송 중인 로그의 건수를 반환합니다.
+	 *
+	 * @return 처리 중인 건수
+	 */
+	public long getInFlightCount() {
+		return queue.size() + sendingCount.get();
+	}
+
+	/**
+	 * 전송에 성공한 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 전송 성공 건수
+	 */
+	public long getSentCount() {
+		return sentCount.sum();
+	}
+
+	/**
+	 * 전송에 실패한 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 전송 실패 건수
+	 */
+	public long getFailedCount() {
+		return failedCount.sum();
+	}
+
+	/**
+	 * 스풀에 보관한 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 스풀에 보관한 건수
+	 */
+	public long getSpooledCount() {
+		return spooledCount.sum();
+	}
+
+	/**
+	 * 스풀에서 꺼내 다시 전송한 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 다시 전송한 건수
+	 */
+	public long getReplayedCount() {
+		return replayedCount.sum();
+	}
+
+	/**
+	 * 새 로그를 받지 않고, 큐에 남은 로그를 최대 {@code shutdownTimeoutMs} 동안 전송한 뒤 디스패처를 종료합니다.
+	 * <p>
+	 * 시간 안에 전송하지 못한 로그는 스풀을 사용하면 스풀에 보관하고, 그렇지 않으면 버린 건수에 포함합니다.
+	 * 마지막으로 전송 대상 {@link LogService}와 스풀을 닫습니다.
+	 * </p>
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMs);
+		for (Thread consumer : consumers) {
+			try {
+				long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if (remaining > 0) {
+					consumer.join(remaining);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		consumers.forEach(Thread::interrupt);
+		if (replayer != null) {
+			replayer.interrupt();
+			try {
+				replayer.join(POLL_TIMEOUT_MS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		long droppedBefore = droppedCount.sum();
+		int remaining = 0;
+		for (byte[] logRecord = queue.poll(); logRecord != null; logRecord = queue.poll()) {
+			spoolOrDrop(logRecord);
+			remaining++;
+		}
+		long dropped = droppedCount.sum() - droppedBefore;
+		if (dropped > 0) {
+			log.warn("로그 디스패처 종료 시 전송하지 못한 로그 {}건을 버렸습니다.", dropped);
+		} else if (remaining > 0) {
+			log.info("로그 디스패처 종료 시 전송하지 못한 로그 {}건을 스풀에 보관했습니다.", remaining);
+		}
+
+		if (delegate instanceof AutoCloseable closeable) {
+			try {
+				closeable.close();
+			} catch (Exception e) {
+				log.error("로그 전송 서비스 종료 실패: {}", e.getMessage());
+			}
+		}
+		if (spool != null) {
+			spool.close(); // 전송 대상을 닫는 중에 실패한 로그까지 보관한 뒤 닫음
+		}
+	}
+
+	private static void validate(LogProperties.Dispatcher dispatcherProperties) {
+		if (dispatcherProperties.getQueueCapacity() <= 0) {
+			throw new IllegalArgumentException("로그 디스패처의 큐 크기는 0보다 커야 합니다.");
+		}
+		if (dispatcherProperties.getConsumerThreads() <= 0) {
+			throw new IllegalArgumentException("로그 디스패처의 소비자 스레드 수는 0보다 커야 합니다.");
+		}
+		if (dispatcherProperties.getBatchSize() <= 0) {
+			throw new IllegalArgumentException("로그 디스패처의 배치 크기는 0보다 커야 합니다.");
+		}
+		if (dispatcherProperties.getOverflowPolicy() == null) {
+			throw new IllegalArgumentException("로그 디스패처의 초과 처리 정책은 null일 수 없습니다.");
+		}
+		if (dispatcherProperties.getSampleRate() < 0 || dispatcherProperties.getSampleRate() > 1
+			|| dispatcherProperties.getSampleThreshold() < 0 || dispatcherProperties.getSampleThreshold() > 1) {
+			throw new IllegalArgumentException("로그 디스패처의 샘플링 비율과 임계값은 0과 1 사이여야 합니다.");
+		}
+		if (dispatcherProperties.getBlockTimeoutMs() < 0 || dispatcherProperties.getShutdownTimeoutMs() < 0) {
+			throw new IllegalArgumentException("로그 디스패처의 대기 시간은 0 이상이어야 합니다.");
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package shinhancard.logging.encoder;
+
+import java.util.Map;
+
+/**
+ * 요청 하나를 처리하는 데 걸린 시간 정보입니다.
+ *
+ * @param durationNanos 로그 필터에 진입한 시점부터 응답을 마칠 때까지의 시간 (나노초 단위)
+ * @param firstByteNanos 로그 필터에 진입한 시점부터 응답의 첫 바이트를 전송할 때까지의 시간 (나노초 단위), 알 수 없으면 {@code -1}
+ * @param filterNanos 필터별 처리 시간 (나노초 단위)
+ */
+public record ExchangeTimings(long durationNanos, long firstByteNanos, Map<String, Long> filterNanos) {
+}
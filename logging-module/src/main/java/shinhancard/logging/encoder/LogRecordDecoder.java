@@ -0,0 +1,68 @@
+package shinhancard.logging.encoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Kafka 등에서 받은 로그를 JSON으로 되돌리는 유틸리티 클래스입니다.
+ * <p>
+ * {@link SmileTranscoder}로 변환한 Smile 로그와 JSON 로그를 모두 받을 수 있으며,
+ * Smile 헤더({@code :)\n})로 형식을 구분합니다. 로그 수집기나 장애 분석 도구에서 사용합니다.
+ * </p>
+ */
+public final class LogRecordDecoder {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final SmileFactory SMILE_FACTORY = new SmileFactory();
+
+	private LogRecordDecoder() {
+	}
+
+	/**
+	 * 로그가 Smile 형식인지 확인합니다.
+	 *
+	 * @param logRecord 확인할 로그
+	 * @return Smile 헤더로 시작하면 {@code true}
+	 */
+	public static boolean isSmile(byte[] logRecord) {
+		return logRecord.length >= 3 && logRecord[0] == ':' && logRecord[1] == ')' && logRecord[2] == '\n';
+	}
+
+	/**
+	 * 로그를 UTF-8 JSON 바이트 배열로 변환합니다. JSON 로그는 그대로 반환합니다.
+	 *
+	 * @param logRecord Smile 또는 JSON 로그
+	 * @return UTF-8로 인코딩된 JSON 로그
+	 * @throws IOException Smile 로그를 해석하지 못한 경우
+	 */
+	public static byte[] toJson(byte[] logRecord) throws IOException {
+		if (!isSmile(logRecord)) {
+			return logRecord;
+		}
+		ByteArrayBuilder output = new ByteArrayBuilder(logRecord.length * 2);
+		try (JsonParser parser = SMILE_FACTORY.createParser(logRecord);
+			 JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+			while (parser.nextToken() != null) {
+				generator.copyCurrentEvent(parser);
+			}
+		}
+		return output.toByteArray();
+	}
+
+	/**
+	 * 로그를 JSON 문자열로 변환합니다.
+	 *
+	 * @param logRecord Smile 또는 JSON 로그
+	 * @return JSON 문자열
+	 * @throws IOException Smile 로그를 해석하지 못한 경우
+	 */
+	public static String toJsonString(byte[] logRecord) throws IOException {
+		return new String(toJson(logRecord), StandardCharsets.UTF_8);
+	}
+}
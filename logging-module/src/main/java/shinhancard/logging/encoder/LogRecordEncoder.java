@@ -0,0 +1,357 @@
+package shinhancard.logging.encoder;
+
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import shinhancard.logging.mask.SensitiveDataMasker;
+
+/**
+ * 요청 및 응답 로그를 JSON 바이트 배열로 인코딩하는 클래스입니다.
+ * <p>
+ * 로그 데이터를 {@link java.util.Map}으로 모은 뒤 직렬화하지 않고, {@link JsonGenerator}로 필드를 바로 기록합니다.
+ * 쿼리 문자열, 헤더, 본문의 민감 정보는 {@link SensitiveDataMasker}로 마스킹하면서 기록하며,
+ * 본문은 UTF-8로 인코딩한 크기가 로그 최대 크기를 넘지 않도록 문자 경계에서 잘라냅니다.
+ * 출력 버퍼와 본문 마스킹 버퍼는 스레드별로 재사용하므로 요청마다 할당되는 메모리는 최종 바이트 배열 하나뿐입니다.
+ * </p>
+ */
+public class LogRecordEncoder {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final int INITIAL_BUFFER_SIZE = 2 * 1024;
+	private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+	private static final String NO_CONTENT = "[No Content]";
+	private static final String TRUNCATED_SUFFIX = "... [TRUNCATED]";
+
+	private final SensitiveDataMasker masker;
+	private final int maxBodySize;
+	private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+	/**
+	 * {@link LogRecordEncoder}의 생성자입니다.
+	 *
+	 * @param masker 민감 정보를 마스킹할 {@link SensitiveDataMasker}
+	 * @param maxBodySize 로그에 남길 본문의 최대 크기 (UTF-8 바이트 단위)
+	 */
+	public LogRecordEncoder(SensitiveDataMasker masker, int maxBodySize) {
+		this.masker = masker;
+		this.maxBodySize = maxBodySize;
+	}
+
+	/**
+	 * 본문 없이 요청 로그를 인코딩합니다.
+	 *
+	 * @param request 요청 객체
+	 * @param traceId 요청을 추적하기 위한 고유한 트레이스 ID
+	 * @return UTF-8로 인코딩된 JSON 로그
+	 * @throws IOException 인코딩 중 오류가 발생한 경우
+	 */
+	public byte[] encodeRequest(HttpServletRequest request, String traceId) throws IOException {
+		return encodeRequest(request, traceId, false, null, false);
+	}
+
+	/**
+	 * 본문을 포함하여 요청 로그를 인코딩합니다.
+	 *
+	 * @param request 요청 객체
+	 * @param traceId 요청을 추적하기 위한 고유한 트레이스 ID
+	 * @param body 요청 본문 (null이면 {@value #NO_CONTENT}로 기록)
+	 * @param captured 본문이 이미 앞부분만 캡처된 경우 true
+	 * @return UTF-8로 인코딩된 JSON 로그
+	 * @throws IOException 인코딩 중 오류가 발생한 경우
+	 */
+	public byte[] encodeRequest(HttpServletRequest request, String traceId, String body, boolean captured) throws
+		IOException {
+		return encodeRequest(request, traceId, true, body, captured);
+	}
+
+	/**
+	 * 본문 없이 응답 로그를 인코딩합니다.
+	 *
+	 * @param response 응답 객체
+	 * @param traceId 요청을 추적하기 위한 고유한 트레이스 ID
+	 * @return UTF-8로 인코딩된 JSON 로그
+	 * @throws IOException 인코딩 중 오류가 발생한 경우
+	 */
+	public byte[] encodeResponse(HttpServletResponse response, String traceId) throws IOException {
+		return encodeResponse(response, traceId, false, null, false);
+	}
+
+	/**
+	 * 본문을 포함하여 응답 로그를 인코딩합니다.
+	 *
+	 * @param response 응답 객체
+	 * @param traceId 요청을 추적하기 위한 고유한 트레이스 ID
+	 * @param body 응답 본문 (null이면 {@value #NO_CONTENT}로 기록)
+	 * @param captured 본문이 이미 앞부분만 캡처된 경우 true
+	 * @return UTF-8로 인코딩된 JSON 로그
+	 * @throws IOException 인코딩 중 오류가 발생한 경우
+	 */
+	public byte[] encodeResponse(HttpServletResponse response, String traceId, String body, boolean captured) throws
+		IOException {
+		return encodeResponse(response, traceId, true, body, captured);
+	}
+
+	/**
+	 * 요청과 응답을 하나의 로그로 인코딩합니다.
+	 * <p>
+	 * 요청 정보, 응답 상태와 헤더, 본문, 전체 처리 시간, 첫 바이트까지의 시간, 필터별 처리 시간을 기록합니다.
+	 * 시간은 밀리초 단위이며 마이크로초까지 표현합니다.
+	 * </p>
+	 *
+	 * @param request 요청 객체
+	 * @param response 응답 객체
+	 * @param traceId 요청을 추적하기 위한 고유한 트레이스 ID
+	 * @param requestBody 요청 본문. {@code null}이면 기록하지 않습니다.
+	 * @param responseBody 응답 본문. {@code null}이면 기록하지 않습니다.
+	 * @param timings 처리 시간 정보
+	 * @return UTF-8로 인코딩된 JSON 로그
+	 * @throws IOException 인코딩 중 오류가 발생한 경우
+	 */
+	public byte[] encodeExchange(HttpServletRequest request, HttpServletResponse response, String traceId,
+		Body requestBody, Body responseBody, ExchangeTimings timings) throws IOException {
+		return encodeExchange(request, response, traceId, requestBody, responseBody, timings, null);
+	}
+
+	/**
+	 * 예외로 끝난 요청과 응답을 하나의 로그로 인코딩합니다.
+	 * <p>
+	 * 응답 상태는 {@code 500}으로 기록하고, 예외 클래스 이름을 {@code exception} 필드에 기록합니다.
+	 * {@code exception}이 {@code null}이면 {@link #encodeExchange(HttpServletRequest, HttpServletResponse, String,
+	 * Body, Body, ExchangeTimings)}와 같습니다.
+	 * </p>
+	 *
+	 * @param request 요청 객체
+	 * @param response 응답 객체
+	 * @param traceId 요청을 추적하기 위한 고유한 트레이스 ID
+	 * @param requestBody 요청 본문. {@code null}이면 기록하지 않습니다.
+	 * @param responseBody 응답 본문. {@code null}이면 기록하지 않습니다.
+	 * @param timings 처리 시간 정보
+	 * @param exception 요청 처리를 끝낸 예외
+	 * @return UTF-8로 인코딩된 JSON 로그
+	 * @throws IOException 인코딩 중 오류가 발생한 경우
+	 */
+	public byte[] encodeExchange(HttpServletRequest request, HttpServletResponse response, String traceId,
+		Body requestBody, Body responseBody, ExchangeTimings timings, Throwable exception) throws IOException {
+		Buffers buffers = acquireBuffers();
+		try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffers.output)) {
+			generator.writeStartObject();
+			generator.writeStringField("traceId", traceId);
+			generator.writeStringField("method", request.getMethod());
+			generator.writeStringField("uri", request.getRequestURI());
+			generator.writeStringField("query", masker.maskQueryString(request.getQueryString()));
+			generator.writeStringField("remoteAddress", request.getRemoteAddr());
+			generator.writeNumberField("status",
+				exception != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus());
+			if (exception != null) {
+				generator.writeStringField("exception", exception.getClass().getName());
+			}
+			generator.writeNumberField("durationMs", toMillis(timings.durationNanos()));
+			if (timings.firstByteNanos() >= 0) {
+				generator.writeNumberField("ttfbMs", toMillis(timings.firstByteNanos()));
+			}
+
+			generator.writeObjectFieldStart("request");
+			writeRequestHeaders(generator, request);
+			if (requestBody != null) {
+				writeBody(generator, buffers, requestBody.content(), requestBody.captured());
+			}
+			generator.writeEndObject();
+
+			generator.writeObjectFieldStart("response");
+			writeResponseHeaders(generator, response);
+			if (responseBody != null) {
+				writeBody(generator, buffers, responseBody.content(), responseBody.captured());
+			}
+			generator.writeEndObject();
+
+			generator.writeObjectFieldStart("filters");
+			for (Map.Entry<String, Long> filter : timings.filterNanos().entrySet()) {
+				generator.writeNumberField(filter.getKey(), toMillis(filter.getValue()));
+			}
+			generator.writeEndObject();
+
+			generator.writeEndObject();
+		}
+		return toByteArray(buffers);
+	}
+
+	private static double toMillis(long nanos) {
+		return (nanos / 1_000L) / 1_000.0; // 마이크로초 단위까지만 표현
+	}
+
+	private byte[] encodeRequest(HttpServletRequest request, String traceId, boolean includeBody, String body,
+		boolean captured) throws IOException {
+		Buffers buffers = acquireBuffers();
+		try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffers.output)) {
+			generator.writeStartObject();
+			generator.writeStringField("traceId", traceId);
+			generator.writeStringField("method", request.getMethod());
+			generator.writeStringField("uri", request.getRequestURI());
+			generator.writeStringField("query", masker.maskQueryString(request.getQueryString()));
+			generator.writeStringField("remoteAddress", request.getRemoteAddr());
+			writeRequestHeaders(generator, request);
+			if (includeBody) {
+				writeBody(generator, buffers, body, captured);
+			}
+			generator.writeEndObject();
+		}
+		return toByteArray(buffers);
+	}
+
+	private byte[] encodeResponse(HttpServletResponse response, String traceId, boolean includeBody, String body,
+		boolean captured) throws IOException {
+		Buffers buffers = acquireBuffers();
+		try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffers.output)) {
+			generator.writeStartObject();
+			generator.writeStringField("traceId", traceId);
+			generator.writeNumberField("status", response.getStatus());
+			writeResponseHeaders(generator, response);
+			if (includeBody) {
+				writeBody(generator, buffers, body, captured);
+			}
+			generator.writeEndObject();
+		}
+		return toByteArray(buffers);
+	}
+
+	private void writeRequestHeaders(JsonGenerator generator, HttpServletRequest request) throws IOException {
+		generator.writeObjectFieldStart("headers");
+		Enumeration<String> headerNames = request.getHeaderNames();
+		if (headerNames != null) {
+			while (headerNames.hasMoreElements()) {
+				String headerName = headerNames.nextElement();
+				writeHeader(generator, headerName, request.getHeader(headerName));
+			}
+		}
+		generator.writeEndObject();
+	}
+
+	private void writeResponseHeaders(JsonGenerator generator, HttpServletResponse response) throws IOException {
+		generator.writeObjectFieldStart("headers");
+		Set<String> headerNames = new LinkedHashSet<>(response.getHeaderNames()); // 중복된 헤더 이름은 한 번만 기록
+		for (String headerName : headerNames) {
+			writeHeader(generator, headerName, response.getHeader(headerName));
+		}
+		generator.writeEndObject();
+	}
+
+	private void writeHeader(JsonGenerator generator, String headerName, String value) throws IOException {
+		generator.writeStringField(headerName,
+			value != null && masker.isSensitiveHeader(headerName) ? SensitiveDataMasker.MASKED_VALUE : value);
+	}
+
+	/**
+	 * 본문을 최대 크기에서 잘라내고 민감 정보를 마스킹하여 기록합니다.
+	 * <p>
+	 * 마스킹은 잘라낸 본문에 대해 수행하므로 잘린 표시({@value #TRUNCATED_SUFFIX})는 마스킹 대상이 아닙니다.
+	 * </p>
+	 */
+	private void writeBody(JsonGenerator generator, Buffers buffers, String body, boolean captured) throws
+		IOException {
+		generator.writeFieldName("body");
+		if (body == null) {
+			generator.writeString(NO_CONTENT);
+			return;
+		}
+
+		int truncateIndex = truncateIndex(body);
+		boolean truncated = truncateIndex >= 0;
+		StringBuilder masked = buffers.text;
+		masked.setLength(0);
+		masker.maskBody(truncated ? body.substring(0, truncateIndex) : body, masked);
+		if (truncated || captured) {
+			masked.append(TRUNCATED_SUFFIX);
+		}
+
+		char[] chars = buffers.chars(masked.length());
+		masked.getChars(0, masked.length(), chars, 0);
+		generator.writeString(chars, 0, masked.length());
+	}
+
+	/**
+	 * UTF-8로 인코딩한 크기가 {@code maxBodySize}를 넘지 않는 가장 긴 앞부분의 길이를 구합니다.
+	 * 인코딩하지 않고 문자마다 UTF-8 바이트 수를 더하며, 최대 크기까지만 훑습니다.
+	 *
+	 * @return 잘라낼 문자 위치, 본문 전체가 최대 크기 이하이면 {@code -1}
+	 */
+	private int truncateIndex(String body) {
+		int length = body.length();
+		if (length <= maxBodySize / 3) { // 문자 하나는 최대 3바이트 (서로게이트 쌍은 두 문자에 4바이트)
+			return -1;
+		}
+		long bytes = 0;
+		for (int i = 0; i < length; i++) {
+			char c = body.charAt(i);
+			int size;
+			if (c < 0x80) {
+				size = 1;
+			} else if (c < 0x800) {
+				size = 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(body.charAt(i + 1))) {
+				size = 4;
+			} else {
+				size = 3;
+			}
+			if (bytes + size > maxBodySize) {
+				return i;
+			}
+			bytes += size;
+			if (size == 4) {
+				i++;
+			}
+		}
+		return -1;
+	}
+
+	private Buffers acquireBuffers() {
+		Buffers buffers = this.buffers.get();
+		buffers.output.reset();
+		return buffers;
+	}
+
+	/**
+	 * 기록된 내용을 바이트 배열로 복사하고, 버퍼가 지나치게 커졌으면 스레드에서 해제합니다.
+	 */
+	private byte[] toByteArray(Buffers buffers) {
+		byte[] logRecord = buffers.output.toByteArray();
+		if (logRecord.length > MAX_RETAINED_BUFFER_SIZE || buffers.text.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+			this.buffers.remove();
+		}
+		return logRecord;
+	}
+
+	/**
+	 * 로그에 기록할 본문입니다.
+	 *
+	 * @param content 본문 (null이면 "[No Content]"로 기록)
+	 * @param captured 본문이 이미 앞부분만 캡처된 경우 true
+	 */
+	public record Body(String content, boolean captured) {
+	}
+
+	/**
+	 * 스레드별로 재사용하는 출력 버퍼와 본문 마스킹 버퍼입니다.
+	 */
+	private static final class Buffers {
+
+		private final ByteArrayBuilder output = new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+		private final StringBuilder text = new StringBuilder(INITIAL_BUFFER_SIZE);
+		private char[] chars = new char[INITIAL_BUFFER_SIZE];
+
+		char[] chars(int length) {
+			if (chars.length < length) {
+				chars = new char[Math.max(length, chars.length * 2)];
+			}
+			return chars;
+		}
+	}
+}
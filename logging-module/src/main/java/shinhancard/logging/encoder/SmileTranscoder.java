@@ -0,0 +1,58 @@
+package shinhancard.logging.encoder;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * {@link LogRecordEncoder}가 만든 JSON 로그를 Jackson Smile 바이너리 형식으로 변환하는 클래스입니다.
+ * <p>
+ * 로그는 모든 전송 대상이 함께 쓰도록 JSON으로 한 번만 인코딩하고, Smile이 필요한 전송 대상만 이 클래스로 변환합니다.
+ * 파서의 토큰을 생성기로 그대로 옮기므로 중간 객체를 만들지 않습니다.
+ * </p>
+ * <p>
+ * Smile은 한 로그 안에서 이미 기록한 필드 이름을 사전 번호로 다시 참조하므로 {@code headers}, {@code body} 같은 반복되는
+ * 필드 이름과 헤더 이름을 한 번만 기록합니다. 64바이트 이하의 문자열 값도 같은 방식으로 공유하여
+ * 반복되는 헤더 값을 줄입니다.
+ * </p>
+ * <p>
+ * 이 클래스는 스레드 안전합니다.
+ * </p>
+ */
+public class SmileTranscoder {
+
+	/**
+	 * Smile 형식의 로그를 나타내는 MIME 타입입니다.
+	 */
+	public static final String CONTENT_TYPE = "application/x-jackson-smile";
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private final SmileFactory smileFactory = SmileFactory.builder()
+		.enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+		.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+		.build();
+
+	/**
+	 * JSON 로그를 Smile 형식으로 변환합니다.
+	 *
+	 * @param jsonRecord UTF-8로 인코딩된 JSON 로그
+	 * @return Smile 헤더로 시작하는 바이너리 로그
+	 * @throws IOException JSON을 해석하지 못한 경우
+	 */
+	public byte[] transcode(byte[] jsonRecord) throws IOException {
+		ByteArrayBuilder output = new ByteArrayBuilder(jsonRecord.length / 2 + 16);
+		try (JsonParser parser = JSON_FACTORY.createParser(jsonRecord);
+			 JsonGenerator generator = smileFactory.createGenerator(output)) {
+			while (parser.nextToken() != null) {
+				generator.copyCurrentEvent(parser);
+			}
+		}
+		return output.toByteArray();
+	}
+}
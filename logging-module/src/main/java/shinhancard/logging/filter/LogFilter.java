@@ -1,26 +1,27 @@
 package shinhancard.logging.filter;
 
 import java.io.IOException;
-import java.util.Collections;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.OptionalLong;
 
 import org.slf4j.MDC;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import shinhancard.common.wrapper.WrappedHttpServletRequest;
+import shinhancard.common.trace.FilterTimings;
+import shinhancard.common.trace.TraceIdResolver;
+import shinhancard.common.wrapper.RequestBodyCapture;
 import shinhancard.common.wrapper.WrappedHttpServletResponse;
+import shinhancard.logging.encoder.ExchangeTimings;
+import shinhancard.logging.encoder.LogRecordEncoder;
+import shinhancard.logging.mask.SensitiveDataMasker;
 import shinhancard.logging.properties.LogProperties;
+import shinhancard.logging.sampling.LogSampler;
 import shinhancard.logging.service.LogService;
 
 /**
@@ -28,6 +29,10 @@ import shinhancard.logging.service.LogService;
  * <p>
  * 이 필터는 HTTP 요청과 응답을 감싸서 로그를 기록하고, 로그 서비스를 통해 전송합니다.
  * 요청 및 응답 본문은 설정에 따라 잘라낼 수 있습니다.
+ * 기본 {@link LogProperties.RecordMode#EXCHANGE} 방식에서는 응답이 끝난 뒤 요청 하나당 로그 하나를 처리 시간과 함께 기록하고,
+ * {@link LogProperties.RecordMode#SPLIT} 방식에서는 요청 로그와 응답 로그를 따로 기록합니다.
+ * 기록 여부는 {@link LogSampler}가 본문을 캡처하기 전에 결정하며, 제외된 요청도 에러나 느린 응답이면 응답 후에 기록합니다.
+ * 요청 처리가 예외로 끝난 경우에도 상태 500으로 같은 기준을 적용하여 기록한 뒤 예외를 다시 던집니다.
  * </p>
  */
 @Slf4j
@@ -35,20 +40,35 @@ public class LogFilter extends OncePerRequestFilter {
 
 	private static final String CONTEXT_HTTP_REQUEST = "REQUEST";
 	private static final String CONTEXT_HTTP_RESPONSE = "RESPONSE";
+	private static final String CONTEXT_HTTP_EXCHANGE = "EXCHANGE";
+	private static final String TIMING_NAME = "log"; // 필터별 처리 시간 기록 이름
 	private static final String TRACE_ID_KEY = "traceId"; // 상수로 정의
-	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper(); // JSON 변환기, 싱글턴으로 재사용
 	private final LogProperties logProperties;
 	private final LogService logService;
+	private final RequestBodyCapture requestBodyCapture;
+	private final TraceIdResolver traceIdResolver;
+	private final LogRecordEncoder logRecordEncoder;
+	private final LogSampler logSampler;
 
 	/**
 	 * LogFilter의 생성자입니다.
 	 *
 	 * @param logProperties 로그 설정을 담고 있는 {@link LogProperties} 객체
 	 * @param logService 로그를 전송하는 {@link LogService} 객체
+	 * @param requestBodyCapture 요청 본문을 캐싱하는 {@link RequestBodyCapture} 객체
+	 * @param traceIdResolver 요청의 traceId를 결정하는 {@link TraceIdResolver} 객체
+	 * @param logSampler 로그 기록 여부를 결정하는 {@link LogSampler} 객체
 	 */
-	public LogFilter(LogProperties logProperties, LogService logService) {
+	public LogFilter(LogProperties logProperties, LogService logService, RequestBodyCapture requestBodyCapture,
+		TraceIdResolver traceIdResolver, LogSampler logSampler) {
 		this.logProperties = logProperties;
 		this.logService = logService;
+		this.requestBodyCapture = requestBodyCapture;
+		this.traceIdResolver = traceIdResolver;
+		this.logRecordEncoder = new LogRecordEncoder(
+			new SensitiveDataMasker(logProperties.getSensitiveFields(), logProperties.getSensitiveHeaders()),
+			logProperties.getBody().getMaxSize());
+		this.logSampler = logSampler;
 	}
 
 	@Override
@@ -62,25 +82,90 @@ public class LogFilter extends OncePerRequestFilter {
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 		throws ServletException, IOException {
-
-		WrappedHttpServletRequest wrappedRequest = new WrappedHttpServletRequest(request);
-		WrappedHttpServletResponse wrappedResponse = new WrappedHttpServletResponse(response);
-		String traceId = UUID.randomUUID().toString(); // 고유한 트레이스 ID 생성
+		long startNanos = System.nanoTime();
+		String traceId = traceIdResolver.resolve(request); // 요청 헤더의 트레이스 ID를 재사용하거나 새로 생성
 		MDC.put(TRACE_ID_KEY, traceId);
 
+		// 본문을 캡처하기 전에 샘플링 여부를 결정하여, 기록하지 않을 요청은 캡처와 인코딩을 하지 않음
+		boolean sampled = logSampler.sampleHead(request, traceId);
+		if (!sampled && !logSampler.isTailEnabled()) {
+			try {
+				filterChain.doFilter(request, response);
+			} finally {
+				MDC.clear();
+			}
+			return;
+		}
+
+		boolean splitRecord = logProperties.getRecordMode() == LogProperties.RecordMode.SPLIT;
+		if (!splitRecord) {
+			FilterTimings.start(request); // 이후 필터들이 처리 시간을 기록
+		}
+
+		HttpServletRequest loggedRequest = sampled ? requestBodyCapture.capture(request) : request;
+		WrappedHttpServletResponse wrappedResponse = wrapResponse(response, sampled);
+
 		try {
-			logRequest(wrappedRequest, traceId);
-			filterChain.doFilter(wrappedRequest, wrappedResponse);
+			if (splitRecord && sampled) {
+				logRequest(loggedRequest, traceId);
+			}
+			FilterChain timedChain = FilterTimings.timed(request, TIMING_NAME, startNanos, filterChain);
+			timedChain.doFilter(loggedRequest, wrappedResponse);
 			wrappedResponse.flushBuffer();
-			logResponse(wrappedResponse, traceId);
+
+			long durationNanos = System.nanoTime() - startNanos;
+			if (!sampled && !logSampler.keepTail(request, wrappedResponse.getStatus(), durationNanos)) {
+				return;
+			}
+			if (splitRecord) {
+				if (!sampled) {
+					logRequest(loggedRequest, traceId);
+				}
+				logResponse(wrappedResponse, traceId, sampled);
+			} else {
+				logExchange(loggedRequest, wrappedResponse, traceId, sampled, startNanos, durationNanos, null);
+			}
 		} catch (Exception e) {
 			log.error("요청 처리 중 오류 발생", e);
+			// 예외로 끝난 요청도 상태 500으로 테일 샘플링을 거쳐 기록한 뒤 다시 던짐
+			long durationNanos = System.nanoTime() - startNanos;
+			if (sampled || logSampler.keepTail(request, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, durationNanos)) {
+				if (!splitRecord) {
+					logExchange(loggedRequest, wrappedResponse, traceId, sampled, startNanos, durationNanos, e);
+				} else if (!sampled) {
+					logRequest(loggedRequest, traceId);
+				}
+			}
 			throw e;
 		} finally {
+			wrappedResponse.release(); // 응답 버퍼 청크를 풀에 반환
 			MDC.clear();
 		}
 	}
 
+	/**
+	 * 설정된 캡처 방식에 따라 응답을 래핑합니다.
+	 * <p>
+	 * 기본 전달 모드에서는 응답을 클라이언트로 즉시 전달하고, 응답 본문을 로그에 남기는 경우에만 앞부분을 보관합니다.
+	 * 헤드 샘플링에서 제외된 요청은 캡처 방식과 관계없이 본문을 보관하지 않고 전달합니다.
+	 * </p>
+	 *
+	 * @param response 원본 응답 객체
+	 * @param sampled 헤드 샘플링으로 기록하기로 한 요청인지 여부
+	 * @return 래핑된 {@link WrappedHttpServletResponse} 객체
+	 */
+	private WrappedHttpServletResponse wrapResponse(HttpServletResponse response, boolean sampled) {
+		LogProperties.ResponseBody responseBody = logProperties.getResponseBody();
+		if (!sampled) {
+			return WrappedHttpServletResponse.tee(response, 0);
+		}
+		if (responseBody.getCaptureMode() == LogProperties.CaptureMode.BUFFER) {
+			return new WrappedHttpServletResponse(response);
+		}
+		int captureLimit = responseBody.isTruncate() ? logProperties.getBody().getMaxSize() : 0;
+		return WrappedHttpServletResponse.tee(response, captureLimit);
+	}
+
 	/**
 	 * 요청 정보를 로그로 기록합니다.
 	 * <p>
@@ -88,14 +173,17 @@ public class LogFilter extends OncePerRequestFilter {
 	 * 요청 본문은 설정에 따라 잘라내고 민감한 데이터는 마스킹 처리합니다.
 	 * </p>
 	 *
-	 * @param request 요청을 감싼 {@link WrappedHttpServletRequest} 객체
+	 * @param request 요청 객체
 	 * @param traceId 요청을 추적하기 위한 고유한 트레이스 ID
 	 */
-	private void logRequest(WrappedHttpServletRequest request, String traceId) {
+	private void logRequest(HttpServletRequest request, String traceId) {
 		try {
 			MDC.put("context", CONTEXT_HTTP_REQUEST);
-			Map<String, Object> logData = buildRequestLogData(request, traceId);
-			sendLogAsync(logData); // 비동기로 로그 전송
+			LogRecordEncoder.Body body = requestBody(request);
+			byte[] logRecord = body != null ?
+				logRecordEncoder.encodeRequest(request, traceId, body.content(), body.captured()) :
+				logRecordEncoder.encodeRequest(request, traceId);
+			sendLogAsync(logRecord); // 비동기로 로그 전송
 		} catch (Exception e) {
 			log.error("요청 데이터 로그 기록 실패", e);
 		}
@@ -110,131 +198,110 @@ public class LogFilter extends OncePerRequestFilter {
 	 *
 	 * @param response 응답을 감싼 {@link WrappedHttpServletResponse} 객체
 	 * @param traceId 요청을 추적하기 위한 고유한 트레이스 ID
+	 * @param sampled 헤드 샘플링으로 기록하기로 한 요청인지 여부
 	 */
-	private void logResponse(WrappedHttpServletResponse response, String traceId) {
+	private void logResponse(WrappedHttpServletResponse response, String traceId, boolean sampled) {
 		try {
 			MDC.put("context", CONTEXT_HTTP_RESPONSE);
-			Map<String, Object> logData = buildResponseLogData(response, traceId);
-			sendLogAsync(logData); // 비동기로 로그 전송
+			LogRecordEncoder.Body body = responseBody(response, sampled);
+			byte[] logRecord = body != null ?
+				logRecordEncoder.encodeResponse(response, traceId, body.content(), body.captured()) :
+				logRecordEncoder.encodeResponse(response, traceId);
+			sendLogAsync(logRecord); // 비동기로 로그 전송
 		} catch (Exception e) {
 			log.error("응답 데이터 로그 기록 실패", e);
 		}
 	}
 
 	/**
-	 * 요청 로그 데이터를 생성합니다.
-	 *
-	 * @param request 요청을 감싼 {@link WrappedHttpServletRequest} 객체
-	 * @param traceId 요청을 추적하기 위한 고유한 트레이스 ID
-	 * @return 요청 로그 데이터 맵
-	 */
-	private Map<String, Object> buildRequestLogData(WrappedHttpServletRequest request, String traceId) {
-		Map<String, Object> logData = new HashMap<>();
-		logData.put(TRACE_ID_KEY, traceId);
-		logData.put("method", request.getMethod());
-		logData.put("uri", request.getRequestURI());
-		logData.put("query", request.getQueryString());
-		logData.put("remoteAddress", request.getRemoteAddr());
-		logData.put("headers", getHeadersMap(request));
-
-		if (logProperties.getRequestBody().isTruncate()) {
-			logData.put("body", truncateAndMaskBody(request.getBody()));
-		}
-
-		return logData;
-	}
-
-	/**
-	 * 응답 로그 데이터를 생성합니다.
+	 * 요청과 응답을 하나의 로그로 기록합니다.
+	 * <p>
+	 * 요청 및 응답 정보와 함께 전체 처리 시간, 첫 바이트까지의 시간, 필터별 처리 시간을 기록합니다.
+	 * 시간은 모두 이 필터에 진입한 시점을 기준으로 합니다.
+	 * 요청 처리가 예외로 끝난 경우에는 상태 500과 예외 클래스를 기록합니다.
+	 * </p>
 	 *
+	 * @param request 요청 객체
 	 * @param response 응답을 감싼 {@link WrappedHttpServletResponse} 객체
 	 * @param traceId 요청을 추적하기 위한 고유한 트레이스 ID
-	 * @return 응답 로그 데이터 맵
+	 * @param sampled 헤드 샘플링으로 기록하기로 한 요청인지 여부
+	 * @param startNanos 이 필터에 진입한 시각 ({@link System#nanoTime()})
+	 * @param durationNanos 요청 처리 시간 (나노초 단위)
+	 * @param exception 요청 처리를 끝낸 예외, 정상적으로 끝났으면 {@code null}
 	 */
-	private Map<String, Object> buildResponseLogData(WrappedHttpServletResponse response, String traceId) {
-		Map<String, Object> logData = new HashMap<>();
-		logData.put(TRACE_ID_KEY, traceId);
-		logData.put("status", response.getStatus());
-		logData.put("headers", getHeadersMap(response));
-
-		if (logProperties.getResponseBody().isTruncate()) {
-			logData.put("body", truncateAndMaskBody(response.getBody()));
+	private void logExchange(HttpServletRequest request, WrappedHttpServletResponse response, String traceId,
+		boolean sampled, long startNanos, long durationNanos, Exception exception) {
+		try {
+			MDC.put("context", CONTEXT_HTTP_EXCHANGE);
+			OptionalLong firstByteNanos = response.getFirstByteNanos();
+			ExchangeTimings timings = new ExchangeTimings(
+				durationNanos,
+				firstByteNanos.isPresent() ? firstByteNanos.getAsLong() - startNanos : -1,
+				FilterTimings.get(request).map(FilterTimings::getElapsedNanos).orElse(Map.of())
+			);
+			sendLogAsync(logRecordEncoder.encodeExchange(request, response, traceId, requestBody(request),
+				responseBody(response, sampled), timings, exception)); // 비동기로 로그 전송
+		} catch (Exception e) {
+			log.error("요청 및 응답 데이터 로그 기록 실패", e);
 		}
-
-		return logData;
 	}
 
 	/**
-	 * 로그 데이터를 비동기로 전송합니다.
-	 *
-	 * @param logData 전송할 로그 데이터 맵
-	 */
-	private void sendLogAsync(Map<String, Object> logData) {
-		CompletableFuture.runAsync(() -> {
-			try {
-				String logJson = OBJECT_MAPPER.writeValueAsString(logData);
-				logService.sendLog(logJson);
-				log.debug(logJson);
-			} catch (Exception e) {
-				log.warn("비동기 로그 전송 실패: {}", e.getMessage());
-			}
-		});
-	}
-
-	/**
-	 * 요청 또는 응답의 헤더를 맵으로 변환합니다.
+	 * 로그에 남길 요청 본문을 반환합니다.
+	 * <p>
+	 * 헤드 샘플링에서 제외된 요청은 본문을 직접 캡처하지 않으며, 다른 필터가 이미 캡처한 경우에만 그 본문을 사용합니다.
+	 * 본문 전체를 디코딩하지 않고 로그 최대 크기만큼의 앞부분만 문자열로 변환합니다.
+	 * </p>
 	 *
-	 * @param requestOrResponse 요청 또는 응답 객체
-	 * @return 헤더 이름과 값이 담긴 맵
+	 * @param request 요청 객체
+	 * @return 요청 본문, 기록하지 않으면 {@code null}
 	 */
-	private Map<String, String> getHeadersMap(Object requestOrResponse) {
-		if (requestOrResponse instanceof WrappedHttpServletRequest wrappedRequest) {
-			return Collections.list(wrappedRequest.getHeaderNames()).stream()
-				.collect(Collectors.toMap(
-					headerName -> headerName,
-					wrappedRequest::getHeader,
-					(existing, replacement) -> existing + ", " + replacement
-				));
-		} else if (requestOrResponse instanceof WrappedHttpServletResponse wrappedResponse) {
-			return wrappedResponse.getHeaderNames().stream()
-				.collect(Collectors.toMap(
-					headerName -> headerName,
-					wrappedResponse::getHeader,
-					(existing, replacement) -> existing + ", " + replacement
-				));
+	private LogRecordEncoder.Body requestBody(HttpServletRequest request) {
+		if (!logProperties.getRequestBody().isTruncate()) {
+			return null;
 		}
-		return new HashMap<>();
+		int maxSize = logProperties.getBody().getMaxSize();
+		return RequestBodyCapture.getCaptured(request)
+			.map(capturedRequest -> new LogRecordEncoder.Body(capturedRequest.getBody(maxSize),
+				capturedRequest.getBodyLength() > maxSize))
+			.orElse(null);
 	}
 
 	/**
-	 * 요청 또는 응답 본문을 잘라내고 민감한 데이터를 마스킹합니다.
+	 * 로그에 남길 응답 본문을 반환합니다.
+	 * <p>
+	 * 버퍼 모드에서도 응답 전체를 디코딩하지 않고 {@code maxSize} 바이트까지만 디코딩합니다.
+	 * </p>
 	 *
-	 * @param body 요청 또는 응답 본문
-	 * @return 잘라내고 마스킹 처리된 본문
+	 * @param response 응답을 감싼 {@link WrappedHttpServletResponse} 객체
+	 * @param sampled 헤드 샘플링으로 기록하기로 한 요청인지 여부 (제외된 요청은 응답 본문을 캡처하지 않음)
+	 * @return 응답 본문, 기록하지 않으면 {@code null}
 	 */
-	private String truncateAndMaskBody(String body) {
-		if (body == null) {
-			return "[No Content]";
+	private LogRecordEncoder.Body responseBody(WrappedHttpServletResponse response, boolean sampled) {
+		if (!sampled || !logProperties.getResponseBody().isTruncate()) {
+			return null;
 		}
-		String truncatedBody = body;
 		int maxSize = logProperties.getBody().getMaxSize();
-		if (body.length() > maxSize) {
-			truncatedBody = body.substring(0, maxSize) + "... [TRUNCATED]";
-		}
-		return maskSensitiveData(truncatedBody);
+		return new LogRecordEncoder.Body(response.getBody(maxSize), response.getContentSize() > maxSize);
 	}
 
 	/**
-	 * 요청 또는 응답 본문에서 민감한 데이터를 마스킹합니다.
+	 * 인코딩된 로그를 로그 전송 서비스에 넘깁니다.
+	 * <p>
+	 * 로그 전송 서비스는 {@link shinhancard.logging.dispatch.LogDispatcher}로 감싸져 있어
+	 * 로그를 큐에 넣기만 하고 전송 결과를 기다리지 않습니다.
+	 * </p>
 	 *
-	 * @param body 요청 또는 응답 본문
-	 * @return 민감한 데이터가 마스킹된 본문
+	 * @param logRecord 전송할 로그 (UTF-8로 인코딩된 JSON)
 	 */
-	private String maskSensitiveData(String body) {
-		for (String field : logProperties.getSensitiveFields()) {
-			body = body.replaceAll(String.format("\"%s\":\"[^\"]*\"", field),
-				String.format("\"%s\":\"[PROTECTED]\"", field));
+	private void sendLogAsync(byte[] logRecord) {
+		try {
+			logService.sendLog(logRecord);
+			if (log.isDebugEnabled()) {
+				log.debug(new String(logRecord, StandardCharsets.UTF_8));
+			}
+		} catch (Exception e) {
+			log.warn("비동기 로그 전송 실패: {}", e.getMessage());
 		}
-		return body;
 	}
 }
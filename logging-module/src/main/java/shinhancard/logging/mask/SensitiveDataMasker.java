@@ -0,0 +1,323 @@
+package shinhancard.logging.mask;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * 로그에 남길 본문, 쿼리 문자열, 헤더에서 민감 정보를 마스킹하는 클래스입니다.
+ * <p>
+ * JSON 본문은 {@link JsonParser}로 한 번만 훑으면서 {@link SensitiveFieldMatcher}로 필드 경로를 대조하고,
+ * 일치한 필드의 값만 {@value #MASKED_VALUE}로 바꿉니다. 값이 문자열이 아닌 숫자, 배열, 객체여도 값 전체를 바꾸며,
+ * 나머지 부분은 공백을 포함해 원문 그대로 복사합니다.
+ * </p>
+ * <p>
+ * 본문이 로그 최대 크기에서 잘려 JSON이 완결되지 않은 경우에도 잘린 위치까지는 마스킹하며,
+ * 민감 정보 필드의 값이 잘린 경우에는 남은 부분을 모두 마스킹 값으로 바꿉니다.
+ * 그 밖의 이유로 JSON을 더 읽을 수 없으면 남은 부분은 필드 경로 대신 이름만으로 민감 정보 필드를 찾아 마스킹합니다.
+ * JSON이 아닌 본문은 {@code application/x-www-form-urlencoded} 형식으로 보고 쿼리 문자열과 같이 처리합니다.
+ * </p>
+ */
+public class SensitiveDataMasker {
+
+	public static final String MASKED_VALUE = "[PROTECTED]";
+
+	private static final String MASKED_JSON_VALUE = "\"" + MASKED_VALUE + "\"";
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private final SensitiveFieldMatcher fieldMatcher;
+	private final Set<String> sensitiveHeaders;
+
+	/**
+	 * {@link SensitiveDataMasker}의 생성자입니다.
+	 *
+	 * @param sensitiveFields 마스킹할 필드 패턴 목록 (형식은 {@link SensitiveFieldMatcher} 참고)
+	 * @param sensitiveHeaders 필드 패턴과 별도로 값을 마스킹할 헤더 이름 목록
+	 * @throws IllegalArgumentException 필드 패턴이 올바르지 않은 경우
+	 */
+	public SensitiveDataMasker(List<String> sensitiveFields, List<String> sensitiveHeaders) {
+		this.fieldMatcher = new SensitiveFieldMatcher(sensitiveFields);
+		this.sensitiveHeaders = sensitiveHeaders.stream()
+			.map(header -> header.toLowerCase(Locale.ROOT))
+			.collect(Collectors.toUnmodifiableSet());
+	}
+
+	/**
+	 * 본문 형식에 따라 민감 정보를 마스킹하여 {@code out}에 기록합니다.
+	 * <p>
+	 * 첫 번째 공백이 아닌 문자가 {@code {} 또는 {@code [}이면 JSON으로, 그 외에는 폼 데이터로 처리합니다.
+	 * </p>
+	 *
+	 * @param body 요청 또는 응답 본문
+	 * @param out 마스킹된 본문을 기록할 버퍼
+	 */
+	public void maskBody(String body, StringBuilder out) {
+		for (int i = 0; i < body.length(); i++) {
+			char c = body.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				if (c == '{' || c == '[') {
+					maskJson(body, out);
+				} else {
+					maskQueryString(body, out);
+				}
+				return;
+			}
+		}
+		out.append(body);
+	}
+
+	/**
+	 * JSON 본문에서 민감 정보 필드의 값을 마스킹하여 {@code out}에 기록합니다.
+	 *
+	 * @param json JSON 본문 (잘린 JSON일 수 있습니다)
+	 * @param out 마스킹된 본문을 기록할 버퍼
+	 */
+	public void maskJson(String json, StringBuilder out) {
+		int copied = 0; // out에 복사한 원문의 끝 위치
+		int maskedFieldStart = -1; // 값을 마스킹하는 중인 필드 이름의 시작 위치
+		String maskedFieldName = null;
+		Deque<long[]> states = new ArrayDeque<>(); // 객체/배열 깊이별 자식 필드에 적용할 상태
+		long[] fieldStates = fieldMatcher.initialStates(); // 마지막으로 읽은 필드의 상태
+		int tokenStart = 0; // 마지막으로 읽은 토큰의 시작 위치
+
+		try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+			JsonToken token;
+			while ((token = parser.nextToken()) != null) {
+				tokenStart = (int)parser.currentTokenLocation().getCharOffset();
+				switch (token) {
+					case FIELD_NAME -> {
+						String fieldName = parser.currentName();
+						fieldStates = fieldMatcher.advance(states.peek(), fieldName);
+						if (!fieldMatcher.isAccepting(fieldStates)) {
+							break;
+						}
+
+						maskedFieldStart = (int)parser.currentTokenLocation().getCharOffset();
+						maskedFieldName = fieldName;
+						JsonToken value = parser.nextToken();
+						int valueStart = (int)parser.currentTokenLocation().getCharOffset();
+						if (value.isStructStart()) {
+							parser.skipChildren();
+						} else {
+							parser.finishToken();
+						}
+						out.append(json, copied, valueStart).append(MASKED_JSON_VALUE);
+						copied = (int)parser.currentLocation().getCharOffset();
+						maskedFieldStart = -1;
+					}
+					case START_OBJECT, START_ARRAY -> {
+						JsonStreamContext parent = parser.getParsingContext().getParent();
+						if (parent.inRoot()) {
+							states.push(fieldMatcher.initialStates());
+						} else if (parent.inArray()) {
+							states.push(states.peek()); // 배열은 경로에 포함하지 않음
+						} else {
+							states.push(fieldStates);
+						}
+					}
+					case END_OBJECT, END_ARRAY -> states.pop();
+					default -> {
+						// 값은 원문 그대로 복사
+					}
+				}
+			}
+			out.append(json, copied, json.length());
+		} catch (IOException e) {
+			if (maskedFieldStart >= 0) {
+				// 민감 정보 필드의 값이 잘린 경우 남은 부분을 모두 마스킹
+				out.append(json, copied, maskedFieldStart)
+					.append('"').append(JsonStringEncoder.getInstance().quoteAsString(maskedFieldName))
+					.append("\":").append(MASKED_JSON_VALUE);
+			} else {
+				// 잘리거나 올바르지 않은 JSON은 경로를 알 수 없으므로 마지막 토큰부터 이름으로 찾아 마스킹
+				int fallbackStart = Math.max(copied, tokenStart);
+				out.append(json, copied, fallbackStart);
+				maskJsonByFieldName(json, fallbackStart, out);
+			}
+		}
+	}
+
+	/**
+	 * 올바른 JSON이 아닌 본문에서 이름이 민감 정보 필드 패턴과 일치하는 필드의 값을 마스킹하여 {@code out}에 기록합니다.
+	 * <p>
+	 * 문자열 다음에 {@code :}이 오면 필드 이름으로 보고 {@link SensitiveFieldMatcher#matchesName(String)}으로 대조합니다.
+	 * 일치한 필드의 값은 문자열, 객체, 배열이면 닫는 문자까지, 그 밖에는 다음 {@code ,}, {@code }}, {@code ]}까지 바꾸며,
+	 * 닫히지 않은 값은 끝까지 바꿉니다.
+	 * </p>
+	 *
+	 * @param json JSON 본문
+	 * @param start 마스킹을 시작할 위치
+	 * @param out 마스킹된 본문을 기록할 버퍼
+	 */
+	private void maskJsonByFieldName(String json, int start, StringBuilder out) {
+		int length = json.length();
+		int copied = start;
+		int position = start;
+		while (position < length) {
+			if (json.charAt(position) != '"') {
+				position++;
+				continue;
+			}
+			int nameEnd = stringEnd(json, position + 1);
+			int colon = skipWhitespace(json, nameEnd + 1);
+			if (colon >= length || json.charAt(colon) != ':'
+				|| !fieldMatcher.matchesName(unescapeName(json, position, nameEnd))) {
+				position = nameEnd + 1;
+				continue;
+			}
+			int valueStart = skipWhitespace(json, colon + 1);
+			out.append(json, copied, valueStart).append(MASKED_JSON_VALUE);
+			copied = valueEnd(json, valueStart);
+			position = copied;
+		}
+		if (copied < length) {
+			out.append(json, copied, length);
+		}
+	}
+
+	/**
+	 * 여는 따옴표 다음 위치부터 닫는 따옴표의 위치를 찾습니다. 닫히지 않았으면 본문 길이를 반환합니다.
+	 */
+	private static int stringEnd(String json, int start) {
+		int position = start;
+		while (position < json.length() && json.charAt(position) != '"') {
+			position += json.charAt(position) == '\\' ? 2 : 1;
+		}
+		return Math.min(position, json.length());
+	}
+
+	/**
+	 * 값의 끝 위치(제외)를 찾습니다. 닫히지 않은 값은 본문 길이를 반환합니다.
+	 */
+	private static int valueEnd(String json, int start) {
+		int length = json.length();
+		if (start >= length) {
+			return length;
+		}
+		char first = json.charAt(start);
+		if (first == '"') {
+			return Math.min(stringEnd(json, start + 1) + 1, length);
+		}
+		int depth = 0;
+		int position = start;
+		while (position < length) {
+			char c = json.charAt(position);
+			if (c == '"') {
+				position = stringEnd(json, position + 1);
+			} else if (c == '{' || c == '[') {
+				depth++;
+			} else if (c == '}' || c == ']' || c == ',') {
+				if (depth == 0) {
+					return position;
+				}
+				if (c != ',' && --depth == 0) {
+					return position + 1;
+				}
+			}
+			position++;
+		}
+		return length;
+	}
+
+	private static int skipWhitespace(String json, int start) {
+		int position = start;
+		while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+			position++;
+		}
+		return position;
+	}
+
+	/**
+	 * 따옴표로 감싼 필드 이름의 이스케이프를 풀어 반환합니다. 풀 수 없으면 따옴표 안의 원문을 반환합니다.
+	 */
+	private static String unescapeName(String json, int quote, int nameEnd) {
+		int backslash = json.indexOf('\\', quote + 1);
+		if (backslash < 0 || backslash >= nameEnd) {
+			return json.substring(quote + 1, nameEnd);
+		}
+		try (JsonParser parser = JSON_FACTORY.createParser(json.substring(quote, nameEnd + 1))) {
+			parser.nextToken();
+			return parser.getText();
+		} catch (IOException e) {
+			return json.substring(quote + 1, nameEnd);
+		}
+	}
+
+	/**
+	 * 쿼리 문자열에서 민감 정보 파라미터의 값을 마스킹합니다.
+	 *
+	 * @param query 쿼리 문자열 (null일 수 있습니다)
+	 * @return 마스킹된 쿼리 문자열, 입력이 null이면 null
+	 */
+	public String maskQueryString(String query) {
+		if (query == null || query.isEmpty()) {
+			return query;
+		}
+		StringBuilder out = new StringBuilder(query.length());
+		maskQueryString(query, out);
+		return out.toString();
+	}
+
+	/**
+	 * 쿼리 문자열 또는 폼 데이터에서 민감 정보 파라미터의 값을 마스킹하여 {@code out}에 기록합니다.
+	 *
+	 * @param query 쿼리 문자열 또는 폼 데이터
+	 * @param out 마스킹된 결과를 기록할 버퍼
+	 */
+	public void maskQueryString(String query, StringBuilder out) {
+		int start = 0;
+		int length = query.length();
+		while (start <= length) {
+			int end = query.indexOf('&', start);
+			if (end < 0) {
+				end = length;
+			}
+			int equals = query.indexOf('=', start);
+			if (equals >= 0 && equals < end && isSensitiveParameter(query.substring(start, equals))) {
+				out.append(query, start, equals + 1).append(MASKED_VALUE);
+			} else {
+				out.append(query, start, end);
+			}
+			if (end < length) {
+				out.append('&');
+			}
+			start = end + 1;
+		}
+	}
+
+	/**
+	 * 헤더 값을 마스킹해야 하는지 확인합니다.
+	 * <p>
+	 * {@code sensitiveHeaders}에 포함되거나 민감 정보 필드 패턴과 일치하는 헤더는 마스킹합니다.
+	 * </p>
+	 *
+	 * @param headerName 헤더 이름
+	 * @return 마스킹해야 하면 {@code true}
+	 */
+	public boolean isSensitiveHeader(String headerName) {
+		return sensitiveHeaders.contains(headerName.toLowerCase(Locale.ROOT)) || fieldMatcher.matches(headerName);
+	}
+
+	private boolean isSensitiveParameter(String name) {
+		if (name.indexOf('%') >= 0 || name.indexOf('+') >= 0) {
+			try {
+				name = URLDecoder.decode(name, StandardCharsets.UTF_8);
+			} catch (IllegalArgumentException e) {
+				// 잘못된 인코딩이면 원래 이름으로 검사
+			}
+		}
+		return fieldMatcher.matches(name);
+	}
+}
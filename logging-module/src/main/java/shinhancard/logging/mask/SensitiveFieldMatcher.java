@@ -0,0 +1,260 @@
+package shinhancard.logging.mask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 민감 정보 필드 패턴을 하나의 오토마톤으로 컴파일하여 JSON 필드 경로와 대조하는 클래스입니다.
+ * <p>
+ * 패턴은 점({@code .})으로 구분한 필드 경로이며, 다음 규칙을 따릅니다.
+ * </p>
+ * <ul>
+ *     <li>{@code password} - 점이 없는 이름은 깊이와 관계없이 같은 이름의 필드와 일치합니다. ({@code **.password}와 같음)</li>
+ *     <li>{@code user.password} - 최상위 {@code user} 객체 바로 아래의 {@code password} 필드와 일치합니다.</li>
+ *     <li>{@code *} - 임의의 필드 이름 하나와 일치합니다. (예: {@code *.cardNumber})</li>
+ *     <li>{@code **} - 0개 이상의 필드 이름과 일치합니다. (예: {@code payment.**.cvc})</li>
+ * </ul>
+ * <p>
+ * 필드 이름은 대소문자를 구분하지 않으며, 배열은 경로에 포함되지 않으므로 {@code items.cardNumber}는
+ * {@code {"items":[{"cardNumber":...}]}}의 각 원소와도 일치합니다.
+ * </p>
+ * <p>
+ * 모든 패턴에 등장하는 이름은 하나의 문자 트라이로 합쳐 두므로, 필드 이름 하나는 패턴 수와 관계없이 한 번만 읽습니다.
+ * 경로 매칭 상태는 패턴별 위치를 비트 집합으로 나타내며, 객체 깊이마다 이 집합을 한 단계씩 전이시킵니다.
+ * </p>
+ */
+public class SensitiveFieldMatcher {
+
+	private static final int SINGLE_WILDCARD = -1; // *
+	private static final int MULTI_WILDCARD = -2; // **
+	private static final int ACCEPT = -3; // 패턴 끝
+
+	private final TrieNode trie = new TrieNode();
+	private final int[] segments; // 상태별 다음에 일치해야 할 세그먼트 (리터럴 ID 또는 와일드카드)
+	private final long[] initialStates;
+	private final Set<String> lastNames = new HashSet<>(); // 패턴별 마지막 이름 (소문자)
+	private final boolean matchesAnyName; // 와일드카드만으로 된 패턴이 있는지 여부
+
+	/**
+	 * 주어진 패턴 목록으로 매처를 생성합니다.
+	 *
+	 * @param patterns 민감 정보 필드 패턴 목록
+	 * @throws IllegalArgumentException 패턴이 비어 있거나 빈 세그먼트를 포함하는 경우
+	 */
+	public SensitiveFieldMatcher(List<String> patterns) {
+		boolean wildcardOnly = false;
+		int literalCount = 0;
+		List<Integer> states = new ArrayList<>();
+		List<Integer> startStates = new ArrayList<>();
+
+		for (String pattern : patterns) {
+			if (pattern == null || pattern.isBlank()) {
+				throw new IllegalArgumentException("민감 정보 필드 패턴은 비어 있을 수 없습니다.");
+			}
+			String[] parts = pattern.trim().split("\\.", -1);
+			if (parts.length == 1 && !parts[0].equals("*") && !parts[0].equals("**")) {
+				parts = new String[] {"**", parts[0]};
+			}
+
+			String lastName = null;
+			startStates.add(states.size());
+			for (String part : parts) {
+				if (part.isEmpty()) {
+					throw new IllegalArgumentException("민감 정보 필드 패턴에 빈 경로가 포함되어 있습니다: " + pattern);
+				}
+				states.add(switch (part) {
+					case "*" -> SINGLE_WILDCARD;
+					case "**" -> MULTI_WILDCARD;
+					default -> trie.insert(part, literalCount++);
+				});
+				if (!part.equals("*") && !part.equals("**")) {
+					lastName = part.toLowerCase(Locale.ROOT);
+				}
+			}
+			states.add(ACCEPT);
+			if (lastName != null) {
+				lastNames.add(lastName);
+			} else {
+				wildcardOnly = true;
+			}
+		}
+		this.matchesAnyName = wildcardOnly;
+
+		this.segments = states.stream().mapToInt(Integer::intValue).toArray();
+		long[] initial = new long[(segments.length + 63) >>> 6];
+		for (int state : startStates) {
+			set(initial, state);
+		}
+		this.initialStates = closure(initial);
+	}
+
+	/**
+	 * 최상위 객체의 필드에 적용할 시작 상태를 반환합니다.
+	 *
+	 * @return 시작 상태 (변경하지 않아야 합니다)
+	 */
+	public long[] initialStates() {
+		return initialStates;
+	}
+
+	/**
+	 * 현재 상태에서 필드 이름 하나를 읽은 다음 상태를 반환합니다.
+	 *
+	 * @param states 부모 객체의 상태
+	 * @param fieldName 필드 이름
+	 * @return 해당 필드의 상태. 자식 필드를 매칭할 때 부모 상태로 사용합니다.
+	 */
+	public long[] advance(long[] states, String fieldName) {
+		if (isEmpty(states)) {
+			return states;
+		}
+
+		int literalId = trie.find(fieldName);
+		long[] next = new long[states.length];
+		for (int state = nextSetBit(states, 0); state >= 0; state = nextSetBit(states, state + 1)) {
+			int segment = segments[state];
+			if (segment == MULTI_WILDCARD) {
+				set(next, state);
+			} else if (segment == SINGLE_WILDCARD || (segment >= 0 && segment == literalId)) {
+				set(next, state + 1);
+			}
+		}
+		return closure(next);
+	}
+
+	/**
+	 * 상태가 패턴 하나 이상과 완전히 일치했는지 확인합니다.
+	 *
+	 * @param states 확인할 상태
+	 * @return 일치하면 {@code true}
+	 */
+	public boolean isAccepting(long[] states) {
+		for (int state = nextSetBit(states, 0); state >= 0; state = nextSetBit(states, state + 1)) {
+			if (segments[state] == ACCEPT) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 최상위 필드 이름 하나가 패턴과 일치하는지 확인합니다.
+	 * <p>
+	 * 쿼리 문자열 파라미터나 헤더처럼 경로가 없는 이름을 검사할 때 사용합니다.
+	 * </p>
+	 *
+	 * @param name 필드 이름
+	 * @return 일치하면 {@code true}
+	 */
+	public boolean matches(String name) {
+		return isAccepting(advance(initialStates, name));
+	}
+
+	/**
+	 * 필드 경로와 관계없이 이름만으로 패턴의 마지막 이름과 일치하는지 확인합니다.
+	 * <p>
+	 * 본문이 올바른 JSON이 아니어서 필드 경로를 알 수 없을 때 사용합니다. {@code user.*}처럼 와일드카드로 끝나는 패턴은
+	 * 와일드카드 앞의 이름({@code user})과 대조하여 그 값 전체를 마스킹하도록 하며,
+	 * {@code *}처럼 와일드카드만으로 된 패턴이 있으면 모든 이름과 일치합니다.
+	 * </p>
+	 *
+	 * @param name 필드 이름
+	 * @return 일치하면 {@code true}
+	 */
+	public boolean matchesName(String name) {
+		return matchesAnyName || lastNames.contains(name.toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * {@code **} 세그먼트는 아무 이름도 소비하지 않을 수 있으므로, 그 다음 위치도 함께 활성화합니다.
+	 */
+	private long[] closure(long[] states) {
+		for (int state = nextSetBit(states, 0); state >= 0; state = nextSetBit(states, state + 1)) {
+			if (segments[state] == MULTI_WILDCARD) {
+				set(states, state + 1);
+			}
+		}
+		return states;
+	}
+
+	private static void set(long[] bits, int index) {
+		bits[index >>> 6] |= 1L << index;
+	}
+
+	private static boolean isEmpty(long[] bits) {
+		for (long word : bits) {
+			if (word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int nextSetBit(long[] bits, int from) {
+		int wordIndex = from >>> 6;
+		if (wordIndex >= bits.length) {
+			return -1;
+		}
+		long word = bits[wordIndex] & (-1L << from);
+		while (true) {
+			if (word != 0) {
+				return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+			}
+			if (++wordIndex == bits.length) {
+				return -1;
+			}
+			word = bits[wordIndex];
+		}
+	}
+
+	/**
+	 * 패턴에 등장하는 필드 이름을 대소문자 구분 없이 저장하는 문자 트라이입니다.
+	 */
+	private static final class TrieNode {
+
+		private char[] keys = new char[0];
+		private TrieNode[] children = new TrieNode[0];
+		private int literalId = -1;
+
+		int insert(String name, int id) {
+			TrieNode node = this;
+			for (int i = 0; i < name.length(); i++) {
+				char c = Character.toLowerCase(name.charAt(i));
+				TrieNode child = node.child(c);
+				if (child == null) {
+					child = new TrieNode();
+					node.keys = Arrays.copyOf(node.keys, node.keys.length + 1);
+					node.children = Arrays.copyOf(node.children, node.children.length + 1);
+					node.keys[node.keys.length - 1] = c;
+					node.children[node.children.length - 1] = child;
+				}
+				node = child;
+			}
+			if (node.literalId < 0) {
+				node.literalId = id;
+			}
+			return node.literalId;
+		}
+
+		int find(String name) {
+			TrieNode node = this;
+			for (int i = 0; i < name.length() && node != null; i++) {
+				node = node.child(Character.toLowerCase(name.charAt(i)));
+			}
+			return node == null ? -1 : node.literalId;
+		}
+
+		private TrieNode child(char c) {
+			for (int i = 0; i < keys.length; i++) {
+				if (keys[i] == c) {
+					return children[i];
+				}
+			}
+			return null;
+		}
+	}
+}
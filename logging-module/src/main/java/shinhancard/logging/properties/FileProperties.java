@@ -0,0 +1,88 @@
+package shinhancard.logging.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 파일 로그 전송 설정을 담고 있는 객체입니다.
+ * <p>
+ * 이 클래스는 로그 파일의 위치, 버퍼와 디스크 반영 주기, 파일 교체(rolling)와 압축을 위한 설정을 정의합니다.
+ * 외부 구성 파일에서 설정 값을 읽어옵니다.
+ * </p>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file")
+@Validated
+@Getter
+@Setter
+public class FileProperties {
+
+	/**
+	 * 로그 파일을 저장할 디렉터리.
+	 * 기본값은 logs입니다.
+	 */
+	@NotBlank(message = "로그 파일 디렉터리는 비어 있을 수 없습니다.")
+	private String directory = "logs";
+
+	/**
+	 * 현재 기록 중인 로그 파일의 이름. 교체된 파일은 이 이름 뒤에 시각과 순번을 붙입니다.
+	 * 기본값은 filter.log입니다.
+	 */
+	@NotBlank(message = "로그 파일 이름은 비어 있을 수 없습니다.")
+	private String fileName = "filter.log";
+
+	/**
+	 * 로그를 모아 두었다가 한 번에 파일에 기록할 다이렉트 버퍼의 크기 (바이트 단위).
+	 * 기본값은 1048576 (1MB)입니다.
+	 */
+	@Min(value = 4096, message = "로그 파일 버퍼 크기는 4096 이상이어야 합니다.")
+	private int bufferSize = 1024 * 1024;
+
+	/**
+	 * 버퍼가 가득 차지 않아도 파일에 기록하는 주기 (밀리초 단위).
+	 * 기본값은 200입니다.
+	 */
+	@Min(value = 1, message = "로그 파일 기록 주기는 0보다 커야 합니다.")
+	private long flushIntervalMs = 200;
+
+	/**
+	 * 기록한 내용을 디스크에 반영(fsync)하는 주기 (밀리초 단위).
+	 * 기본값은 1000이며, 0이면 파일을 교체하거나 닫을 때만 반영합니다.
+	 */
+	@Min(value = 0, message = "로그 파일 디스크 반영 주기는 0 이상이어야 합니다.")
+	private long fsyncIntervalMs = 1000;
+
+	/**
+	 * 파일을 교체할 크기 (바이트 단위).
+	 * 기본값은 104857600 (100MB)이며, 0이면 크기로 교체하지 않습니다.
+	 */
+	@Min(value = 0, message = "로그 파일 최대 크기는 0 이상이어야 합니다.")
+	private long maxFileSize = 100L * 1024 * 1024;
+
+	/**
+	 * 파일을 교체할 주기 (밀리초 단위).
+	 * 기본값은 3600000 (1시간)이며, 0이면 시간으로 교체하지 않습니다.
+	 */
+	@Min(value = 0, message = "로그 파일 교체 주기는 0 이상이어야 합니다.")
+	private long rollIntervalMs = 60L * 60 * 1000;
+
+	/**
+	 * 교체된 파일을 gzip으로 압축할지 여부.
+	 * 기본값은 false입니다.
+	 */
+	private boolean gzip = false;
+
+	/**
+	 * 보관할 교체된 파일의 최대 개수. 넘으면 오래된 파일부터 삭제합니다.
+	 * 기본값은 0이며, 0이면 삭제하지 않습니다.
+	 */
+	@Min(value = 0, message = "로그 파일 보관 개수는 0 이상이어야 합니다.")
+	private int maxHistory = 0;
+
+}
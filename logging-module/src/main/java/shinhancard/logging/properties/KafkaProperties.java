@@ -4,6 +4,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
@@ -35,6 +36,7 @@ public class KafkaProperties {
 	 * "all" - 모든 복제본에서 성공 응답을 기다립니다.
 	 * "1" - 리더에서만 성공 응답을 기다립니다.
 	 * "0" - 성공 응답을 기다리지 않습니다.
+	 * 어떤 값이든 전송 호출은 응답을 기다리지 않으며, 응답은 콜백으로 처리됩니다.
 	 */
 	private String acks = "1";
 
@@ -55,6 +57,13 @@ public class KafkaProperties {
 	 */
 	private Integer lingerMs = 0;
 
+	/**
+	 * 프로듀서 버퍼가 가득 차거나 메타데이터를 가져오는 동안 전송 호출이 대기하는 최대 시간 (기본값: 1000)
+	 * 밀리초 단위입니다. 로그 전송이 요청 처리나 디스패처를 오래 붙잡지 않도록 Kafka 기본값(60000)보다 짧게 설정합니다.
+	 */
+	@Min(value = 0, message = "Kafka max block ms는 0 이상이어야 합니다.")
+	private Long maxBlockMs = 1000L;
+
 	/**
 	 * 메시지 압축 타입 (기본값: none)
 	 * "none" - 압축 없음
@@ -65,8 +74,40 @@ public class KafkaProperties {
 	private String compressionType = "none";
 
 	/**
-	 * 메시지 키와 값을 직렬화하기 위한 설정
+	 * 메시지 값의 인코딩 방식 (기본값: JSON)
+	 * "JSON" - UTF-8 JSON
+	 * "SMILE" - Jackson Smile 바이너리. 반복되는 필드 이름과 헤더 이름을 한 번만 기록하며,
+	 * 메시지 헤더 {@code content-type}에 {@code application/x-jackson-smile}을 기록합니다.
+	 */
+	@NotNull(message = "Kafka encoding은 null일 수 없습니다.")
+	private Encoding encoding = Encoding.JSON;
+
+	/**
+	 * 메시지 키를 직렬화하기 위한 설정
 	 */
 	private String keySerializer = "org.apache.kafka.common.serialization.StringSerializer";
+
+	/**
+	 * 메시지 값을 직렬화하기 위한 설정
+	 *
+	 * @deprecated 로그는 UTF-8 JSON 바이트 배열로 인코딩되어 전달되므로, 값 직렬화는 항상
+	 * {@code ByteArraySerializer}를 사용합니다. 이 설정은 무시됩니다.
+	 */
+	@Deprecated
 	private String valueSerializer = "org.apache.kafka.common.serialization.StringSerializer";
+
+	/**
+	 * Kafka 메시지 값의 인코딩 방식입니다.
+	 */
+	public enum Encoding {
+		/**
+		 * UTF-8 JSON으로 전송합니다.
+		 */
+		JSON,
+
+		/**
+		 * Jackson Smile 바이너리 형식으로 변환하여 전송합니다.
+		 */
+		SMILE
+	}
 }
@@ -1,12 +1,18 @@
 package shinhancard.logging.properties;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
@@ -33,6 +39,13 @@ public class LogProperties {
 	 */
 	private boolean enabled = true; // 기본값 설정 (예: true)
 
+	/**
+	 * 로그 기록 방식입니다.
+	 * 기본값은 EXCHANGE로, 요청 하나당 로그 하나를 기록합니다.
+	 */
+	@NotNull(message = "로그 기록 방식은 null일 수 없습니다.")
+	private RecordMode recordMode = RecordMode.EXCHANGE;
+
 	/**
 	 * 요청 본문에 대한 설정입니다.
 	 */
@@ -50,18 +63,67 @@ public class LogProperties {
 	private Body body = new Body();
 
 	/**
-	 * 로그 전송 방식 (kafka 또는 loki).
+	 * 로그 전송 방식 (kafka, loki 또는 file).
 	 * 기본값은 "kafka"입니다.
 	 */
 	@NotNull(message = "로그 전송 방식은 null일 수 없습니다.")
 	private String logDestination = "kafka"; // 기본값 설정 (예: kafka)
 
+	/**
+	 * 로그를 함께 전송할 대상 목록입니다.
+	 * <p>
+	 * 비어 있으면 {@link #logDestination}과 {@link #dispatcher} 설정으로 하나의 대상에만 전송합니다.
+	 * 설정하면 각 대상이 자신의 디스패처 큐와 소비자 스레드를 가지므로, 한 대상이 느려져도 다른 대상의 전송은 지연되지 않습니다.
+	 * </p>
+	 */
+	@Valid
+	@NotNull(message = "로그 전송 대상 목록은 null일 수 없습니다.")
+	private List<Destination> destinations = new ArrayList<>();
+
+	/**
+	 * 로그 전송 디스패처에 대한 설정입니다.
+	 */
+	@Valid
+	@NotNull(message = "디스패처 설정은 null일 수 없습니다.")
+	private Dispatcher dispatcher = new Dispatcher();
+
+	/**
+	 * 전송하지 못한 로그를 보관하는 로컬 스풀에 대한 설정입니다.
+	 */
+	@Valid
+	@NotNull(message = "스풀 설정은 null일 수 없습니다.")
+	private Spool spool = new Spool();
+
+	/**
+	 * 로그 전송 대상을 감싸는 회로 차단기에 대한 설정입니다.
+	 */
+	@Valid
+	@NotNull(message = "회로 차단기 설정은 null일 수 없습니다.")
+	private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+	/**
+	 * 로그 샘플링에 대한 설정입니다.
+	 */
+	@Valid
+	@NotNull(message = "샘플링 설정은 null일 수 없습니다.")
+	private Sampling sampling = new Sampling();
+
 	/**
 	 * 마스킹할 민감 정보 필드 목록입니다.
 	 * 기본값으로 "password"와 "cardNumber"가 설정되어 있습니다.
+	 * 점으로 구분한 경로(예: "user.password")와 와일드카드("*", "**")를 사용할 수 있으며,
+	 * JSON 본문의 필드, 쿼리 문자열과 폼 데이터의 파라미터, 헤더에 적용됩니다.
 	 */
+	@NotNull(message = "민감 정보 필드 목록은 null일 수 없습니다.")
 	private List<String> sensitiveFields = List.of("password", "cardNumber"); // 기본값 설정
 
+	/**
+	 * 값을 마스킹할 헤더 이름 목록입니다. 대소문자를 구분하지 않습니다.
+	 * 기본값으로 인증 정보와 쿠키를 담는 헤더가 설정되어 있습니다.
+	 */
+	@NotNull(message = "민감 정보 헤더 목록은 null일 수 없습니다.")
+	private List<String> sensitiveHeaders = List.of("Authorization", "Proxy-Authorization", "Cookie", "Set-Cookie");
+
 	/**
 	 * 설정된 값들을 검증하여 유효성을 확인합니다.
 	 * <p>
@@ -100,6 +162,45 @@ public class LogProperties {
 		 * 기본값은 false입니다.
 		 */
 		private boolean truncate = false; // 기본값 설정
+
+		/**
+		 * 응답 본문 캡처 방식을 설정합니다.
+		 * <p>
+		 * 기본값은 {@link CaptureMode#TEE}로, 응답을 클라이언트로 즉시 전달하면서 앞부분 {@code body.max-size} 바이트만 보관합니다.
+		 * {@link CaptureMode#BUFFER}로 설정하면 응답 전체를 보관한 뒤 필터가 끝날 때 전송합니다.
+		 * </p>
+		 */
+		private CaptureMode captureMode = CaptureMode.TEE;
+	}
+
+	/**
+	 * 로그 기록 방식을 정의하는 열거형입니다.
+	 */
+	public enum RecordMode {
+		/**
+		 * 응답이 끝난 뒤 요청 정보, 응답 정보, 처리 시간, 첫 바이트까지의 시간, 필터별 처리 시간을 로그 하나로 기록합니다.
+		 */
+		EXCHANGE,
+
+		/**
+		 * 요청 로그와 응답 로그를 따로 기록합니다. (이전 동작)
+		 */
+		SPLIT
+	}
+
+	/**
+	 * 응답 본문 캡처 방식을 정의하는 열거형입니다.
+	 */
+	public enum CaptureMode {
+		/**
+		 * 응답을 클라이언트로 즉시 전달하면서 로그에 필요한 앞부분만 보관합니다.
+		 */
+		TEE,
+
+		/**
+		 * 응답 전체를 버퍼에 보관한 뒤 필터가 끝날 때 클라이언트로 전송합니다.
+		 */
+		BUFFER
 	}
 
 	/**
@@ -115,4 +216,324 @@ public class LogProperties {
 		@Min(value = 1, message = "로그 본문의 최대 크기는 0보다 커야 합니다.")
 		private int maxSize = 1024; // 기본값 설정 (예: 1024 바이트)
 	}
+
+	/**
+	 * 로그 전송 디스패처에 대한 설정을 담고 있는 내부 클래스입니다.
+	 * <p>
+	 * 로그는 크기가 제한된 큐에 쌓이고, 전용 소비자 스레드가 전송 대상으로 전송합니다.
+	 * </p>
+	 */
+	@Getter
+	@Setter
+	public static class Dispatcher {
+		/**
+		 * 전송을 기다리는 로그를 보관할 큐의 최대 크기 (건 단위).
+		 * 기본값은 8192입니다.
+		 */
+		@Min(value = 1, message = "디스패처 큐 크기는 0보다 커야 합니다.")
+		private int queueCapacity = 8192;
+
+		/**
+		 * 큐에서 로그를 꺼내 전송할 소비자 스레드 수.
+		 * 기본값은 1입니다.
+		 */
+		@Min(value = 1, message = "디스패처 소비자 스레드 수는 0보다 커야 합니다.")
+		private int consumerThreads = 1;
+
+		/**
+		 * 소비자 스레드가 큐에서 한 번에 꺼내 전송할 최대 로그 건수.
+		 * 기본값은 100입니다.
+		 */
+		@Min(value = 1, message = "디스패처 배치 크기는 0보다 커야 합니다.")
+		private int batchSize = 100;
+
+		/**
+		 * 소비자 스레드로 가상 스레드를 사용할지 여부.
+		 * 기본값은 false입니다.
+		 */
+		private boolean virtualThreads = false;
+
+		/**
+		 * 큐가 가득 찼을 때의 처리 정책.
+		 * 기본값은 {@link OverflowPolicy#DROP_NEWEST}입니다.
+		 */
+		@NotNull(message = "디스패처 초과 처리 정책은 null일 수 없습니다.")
+		private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+
+		/**
+		 * {@link OverflowPolicy#BLOCK} 정책에서 큐에 자리가 날 때까지 기다리는 최대 시간 (밀리초 단위).
+		 * 기본값은 100입니다.
+		 */
+		@Min(value = 0, message = "디스패처 대기 시간은 0 이상이어야 합니다.")
+		private long blockTimeoutMs = 100;
+
+		/**
+		 * {@link OverflowPolicy#SAMPLE} 정책에서 샘플링을 시작할 큐 사용률 (0.0 ~ 1.0).
+		 * 기본값은 0.8입니다.
+		 */
+		@DecimalMin(value = "0.0", message = "디스패처 샘플링 임계값은 0 이상이어야 합니다.")
+		@DecimalMax(value = "1.0", message = "디스패처 샘플링 임계값은 1 이하여야 합니다.")
+		private double sampleThreshold = 0.8;
+
+		/**
+		 * {@link OverflowPolicy#SAMPLE} 정책에서 임계값을 넘은 뒤 큐에 넣을 로그의 비율 (0.0 ~ 1.0).
+		 * 기본값은 0.1입니다.
+		 */
+		@DecimalMin(value = "0.0", message = "디스패처 샘플링 비율은 0 이상이어야 합니다.")
+		@DecimalMax(value = "1.0", message = "디스패처 샘플링 비율은 1 이하여야 합니다.")
+		private double sampleRate = 0.1;
+
+		/**
+		 * 애플리케이션 종료 시 큐에 남은 로그를 전송하며 기다리는 최대 시간 (밀리초 단위).
+		 * 기본값은 5000입니다.
+		 */
+		@Min(value = 0, message = "디스패처 종료 대기 시간은 0 이상이어야 합니다.")
+		private long shutdownTimeoutMs = 5000;
+	}
+
+	/**
+	 * 로그 전송 대상 하나에 대한 설정을 담고 있는 내부 클래스입니다.
+	 */
+	@Getter
+	@Setter
+	public static class Destination {
+		/**
+		 * 로그 전송 방식 (kafka, loki 또는 file).
+		 */
+		@NotBlank(message = "로그 전송 방식은 비어 있을 수 없습니다.")
+		private String type;
+
+		/**
+		 * 대상의 이름. 스풀 디렉터리 이름으로 사용하며, 대상마다 달라야 합니다.
+		 * 기본값은 전송 방식과 같습니다.
+		 */
+		private String name;
+
+		/**
+		 * 이 대상의 디스패처 설정입니다.
+		 */
+		@Valid
+		@NotNull(message = "디스패처 설정은 null일 수 없습니다.")
+		private Dispatcher dispatcher = new Dispatcher();
+
+		/**
+		 * 대상의 이름을 반환합니다. 설정하지 않았으면 전송 방식을 반환합니다.
+		 *
+		 * @return 대상의 이름
+		 */
+		public String getName() {
+			return name == null || name.isBlank() ? type : name;
+		}
+	}
+
+	/**
+	 * 로컬 스풀에 대한 설정을 담고 있는 내부 클래스입니다.
+	 * <p>
+	 * 스풀을 사용하면 전송 대상이 장애 상태이거나 디스패처 큐가 가득 차 버려질 로그를 디스크의 세그먼트 파일에 보관하고,
+	 * 전송 대상이 복구되면 보관한 순서대로 다시 전송합니다.
+	 * </p>
+	 */
+	@Getter
+	@Setter
+	public static class Spool {
+		/**
+		 * 스풀 사용 여부.
+		 * 기본값은 false입니다.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * 세그먼트 파일을 저장할 디렉터리.
+		 * 기본값은 시스템 임시 디렉터리 아래의 log-spool입니다.
+		 */
+		@NotBlank(message = "스풀 디렉터리는 비어 있을 수 없습니다.")
+		private String directory = Path.of(System.getProperty("java.io.tmpdir"), "log-spool").toString();
+
+		/**
+		 * 세그먼트 파일 하나의 크기 (바이트 단위). 이보다 큰 로그는 보관하지 않습니다.
+		 * 기본값은 16MiB입니다.
+		 */
+		@Min(value = 4096, message = "스풀 세그먼트 크기는 4096 이상이어야 합니다.")
+		private int segmentSize = 16 * 1024 * 1024;
+
+		/**
+		 * 스풀이 사용할 최대 디스크 크기 (바이트 단위). 가득 차면 새 로그를 버립니다.
+		 * 기본값은 1GiB입니다.
+		 */
+		@Min(value = 4096, message = "스풀 최대 크기는 4096 이상이어야 합니다.")
+		private long maxTotalSize = 1024L * 1024 * 1024;
+
+		/**
+		 * 전송에 실패한 뒤 보관한 로그를 다시 전송하기까지 기다리는 시간 (밀리초 단위).
+		 * 기본값은 5000입니다.
+		 */
+		@Min(value = 0, message = "스풀 재전송 대기 시간은 0 이상이어야 합니다.")
+		private long retryIntervalMs = 5000;
+
+		/**
+		 * 로그 하나를 스풀에서 다시 전송하는 최대 횟수. 모두 실패한 로그는 더 보관하지 않고 전송 실패 처리 기능으로 넘깁니다.
+		 * 기본값은 5이며, 0이면 제한하지 않습니다.
+		 */
+		@Min(value = 0, message = "스풀 재전송 횟수는 0 이상이어야 합니다.")
+		private int maxReplayAttempts = 5;
+	}
+
+	/**
+	 * 회로 차단기에 대한 설정을 담고 있는 내부 클래스입니다.
+	 * <p>
+	 * 최근 호출의 실패율이나 느린 호출 비율이 임계값을 넘으면 일정 시간 동안 전송 대상을 호출하지 않고,
+	 * 스풀을 사용하면 스풀에 보관하며 그렇지 않으면 버립니다.
+	 * </p>
+	 */
+	@Getter
+	@Setter
+	public static class CircuitBreaker {
+		/**
+		 * 회로 차단기 사용 여부.
+		 * 기본값은 false입니다.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * 실패율을 계산할 최근 호출 건수.
+		 * 기본값은 100입니다.
+		 */
+		@Min(value = 1, message = "회로 차단기 집계 건수는 0보다 커야 합니다.")
+		private int slidingWindowSize = 100;
+
+		/**
+		 * 실패율을 판단하기 위한 최소 호출 건수.
+		 * 기본값은 20입니다.
+		 */
+		@Min(value = 1, message = "회로 차단기 최소 호출 건수는 0보다 커야 합니다.")
+		private int minimumCalls = 20;
+
+		/**
+		 * 회로 차단기를 여는 실패율 (0.0 초과 ~ 1.0).
+		 * 기본값은 0.5입니다.
+		 */
+		@DecimalMin(value = "0.0", inclusive = false, message = "회로 차단기 실패율 임계값은 0보다 커야 합니다.")
+		@DecimalMax(value = "1.0", message = "회로 차단기 실패율 임계값은 1 이하여야 합니다.")
+		private double failureRateThreshold = 0.5;
+
+		/**
+		 * 느린 호출로 판단하는 전송 시간 (밀리초 단위).
+		 * 기본값은 2000입니다.
+		 */
+		@Min(value = 1, message = "회로 차단기 느린 호출 기준은 0보다 커야 합니다.")
+		private long slowCallThresholdMs = 2000;
+
+		/**
+		 * 회로 차단기를 여는 느린 호출 비율 (0.0 초과 ~ 1.0).
+		 * 기본값은 0.5입니다.
+		 */
+		@DecimalMin(value = "0.0", inclusive = false, message = "회로 차단기 느린 호출 비율 임계값은 0보다 커야 합니다.")
+		@DecimalMax(value = "1.0", message = "회로 차단기 느린 호출 비율 임계값은 1 이하여야 합니다.")
+		private double slowCallRateThreshold = 0.5;
+
+		/**
+		 * 회로 차단기가 열린 뒤 시험 호출을 허용하기까지 기다리는 시간 (밀리초 단위).
+		 * 기본값은 30000입니다.
+		 */
+		@Min(value = 0, message = "회로 차단기 열림 유지 시간은 0 이상이어야 합니다.")
+		private long openDurationMs = 30000;
+
+		/**
+		 * 반열림 상태에서 허용할 시험 호출 건수. 모두 성공하면 회로 차단기를 닫습니다.
+		 * 기본값은 5입니다.
+		 */
+		@Min(value = 1, message = "회로 차단기 시험 호출 건수는 0보다 커야 합니다.")
+		private int halfOpenTrialCalls = 5;
+	}
+
+	/**
+	 * 로그 샘플링에 대한 설정을 담고 있는 내부 클래스입니다.
+	 * <p>
+	 * 헤드 샘플링은 요청을 처리하기 전에 traceId로 기록 여부를 결정하므로 같은 traceId를 사용하는 서비스들은 같은 결정을 내립니다.
+	 * 헤드 샘플링에서 제외된 요청도 테일 샘플링 조건(에러 상태 코드, 거부된 요청, 느린 요청)에 해당하면 응답 후에 기록합니다.
+	 * </p>
+	 */
+	@Getter
+	@Setter
+	public static class Sampling {
+		/**
+		 * 헤드 샘플링으로 기록할 요청의 비율 (0.0 ~ 1.0).
+		 * 기본값은 1.0으로, 모든 요청을 기록합니다.
+		 */
+		@DecimalMin(value = "0.0", message = "샘플링 비율은 0 이상이어야 합니다.")
+		@DecimalMax(value = "1.0", message = "샘플링 비율은 1 이하여야 합니다.")
+		private double rate = 1.0;
+
+		/**
+		 * 경로별 헤드 샘플링 비율 목록. 먼저 일치한 항목의 비율을 사용합니다.
+		 */
+		@Valid
+		@NotNull(message = "경로별 샘플링 설정은 null일 수 없습니다.")
+		private List<Route> routes = new ArrayList<>();
+
+		/**
+		 * 이 값 이상의 상태 코드로 응답한 요청은 항상 기록합니다.
+		 * 기본값은 400이며, 0이면 상태 코드로 판단하지 않습니다.
+		 */
+		@Min(value = 0, message = "테일 샘플링 상태 코드는 0 이상이어야 합니다.")
+		private int keepStatusAtLeast = 400;
+
+		/**
+		 * 보안 필터가 거부한 요청을 항상 기록할지 여부.
+		 * 기본값은 true입니다.
+		 */
+		private boolean keepRejected = true;
+
+		/**
+		 * 처리 시간이 이 값 이상인 요청은 항상 기록합니다 (밀리초 단위).
+		 * 기본값은 1000이며, 0이면 처리 시간으로 판단하지 않습니다.
+		 */
+		@Min(value = 0, message = "테일 샘플링 지연 시간은 0 이상이어야 합니다.")
+		private long slowThresholdMs = 1000;
+	}
+
+	/**
+	 * 경로별 샘플링 비율 설정입니다.
+	 */
+	@Getter
+	@Setter
+	public static class Route {
+		/**
+		 * 요청 URI와 비교할 Ant 스타일 경로 패턴 (예: "/api/health/**").
+		 */
+		@NotBlank(message = "샘플링 경로 패턴은 비어 있을 수 없습니다.")
+		private String pattern;
+
+		/**
+		 * 경로와 일치하는 요청을 헤드 샘플링으로 기록할 비율 (0.0 ~ 1.0).
+		 */
+		@DecimalMin(value = "0.0", message = "경로별 샘플링 비율은 0 이상이어야 합니다.")
+		@DecimalMax(value = "1.0", message = "경로별 샘플링 비율은 1 이하여야 합니다.")
+		private double rate = 1.0;
+	}
+
+	/**
+	 * 디스패처 큐가 가득 찼을 때의 처리 정책을 정의하는 열거형입니다.
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * 새로 들어온 로그를 버립니다.
+		 */
+		DROP_NEWEST,
+
+		/**
+		 * 가장 오래된 로그를 버리고 새 로그를 넣습니다.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * 큐 사용률이 {@code sampleThreshold}를 넘으면 {@code sampleRate} 비율의 로그만 넣고, 가득 차면 새 로그를 버립니다.
+		 */
+		SAMPLE,
+
+		/**
+		 * 큐에 자리가 날 때까지 최대 {@code blockTimeoutMs} 동안 기다리고, 그래도 자리가 없으면 새 로그를 버립니다.
+		 */
+		BLOCK
+	}
 }
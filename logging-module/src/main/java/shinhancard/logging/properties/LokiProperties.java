@@ -1,9 +1,15 @@
 package shinhancard.logging.properties;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,7 +17,7 @@ import lombok.Setter;
 /**
  * Loki 설정을 담고 있는 객체입니다.
  * <p>
- * 이 클래스는 Loki 서버와의 연결을 위한 설정을 정의합니다.
+ * 이 클래스는 Loki 서버와의 연결, 스트림 레이블, 배치 전송을 위한 설정을 정의합니다.
  * 외부 구성 파일에서 설정 값을 읽어옵니다.
  * </p>
  */
@@ -31,7 +37,86 @@ public class LokiProperties {
 	@NotNull(message = "Loki URL은 null일 수 없습니다.")
 	private String url;
 
-	// 기타 Loki 관련 설정이 필요한 경우, 여기에서 추가합니다.
-	// 예: 인증 정보, 기본 레벨 등
+	/**
+	 * Loki push API 경로.
+	 * <p>
+	 * {@link #url}이 이 경로로 끝나지 않으면 뒤에 붙여서 요청합니다. 기본값은 {@code /loki/api/v1/push}입니다.
+	 * </p>
+	 */
+	@NotNull(message = "Loki push 경로는 null일 수 없습니다.")
+	private String pushPath = "/loki/api/v1/push";
+
+	/**
+	 * 모든 로그 스트림에 붙일 고정 레이블.
+	 * <p>
+	 * 기본값은 {@code job=filter-starter}입니다.
+	 * </p>
+	 */
+	private Map<String, String> labels = new LinkedHashMap<>(Map.of("job", "filter-starter"));
+
+	/**
+	 * 로그 JSON의 최상위 필드 중 레이블로 사용할 필드 이름 목록.
+	 * <p>
+	 * 예를 들어 {@code context}를 지정하면 요청 로그와 응답 로그가 서로 다른 스트림으로 전송됩니다.
+	 * 레이블 값의 종류가 많은 필드(traceId 등)를 지정하면 Loki의 스트림 수가 급격히 늘어나므로 주의해야 합니다.
+	 * 기본값은 빈 목록입니다.
+	 * </p>
+	 */
+	private List<String> labelFields = new ArrayList<>();
+
+	/**
+	 * 한 번의 push 요청에 담을 최대 로그 건수.
+	 * 기본값은 1000입니다.
+	 */
+	@Min(value = 1, message = "Loki 배치 크기는 0보다 커야 합니다.")
+	private int batchSize = 1000;
+
+	/**
+	 * 한 번의 push 요청에 담을 로그 본문의 최대 크기 (압축 전, 바이트 단위).
+	 * 기본값은 1048576 (1MB)입니다.
+	 */
+	@Min(value = 1, message = "Loki 배치 최대 크기는 0보다 커야 합니다.")
+	private int batchMaxBytes = 1024 * 1024;
+
+	/**
+	 * 배치가 가득 차지 않아도 전송하기까지 기다리는 최대 시간 (밀리초 단위).
+	 * 기본값은 1000입니다.
+	 */
+	@Min(value = 1, message = "Loki 전송 지연 시간은 0보다 커야 합니다.")
+	private long lingerMs = 1000;
+
+	/**
+	 * push 요청 본문을 gzip으로 압축할지 여부.
+	 * 기본값은 true입니다.
+	 */
+	private boolean gzip = true;
+
+	/**
+	 * push 요청 실패 시 최대 재시도 횟수.
+	 * 기본값은 3입니다.
+	 */
+	@Min(value = 0, message = "Loki 재시도 횟수는 0 이상이어야 합니다.")
+	private int maxRetries = 3;
+
+	/**
+	 * 첫 번째 재시도 전 대기 시간 (밀리초 단위). 재시도할 때마다 지수적으로 늘어납니다.
+	 * 기본값은 200입니다.
+	 */
+	@Min(value = 1, message = "Loki 재시도 대기 시간은 0보다 커야 합니다.")
+	private long retryBackoffMs = 200;
+
+	/**
+	 * 재시도 전 대기 시간의 상한 (밀리초 단위).
+	 * 기본값은 5000입니다.
+	 */
+	@Min(value = 1, message = "Loki 최대 재시도 대기 시간은 0보다 커야 합니다.")
+	private long maxRetryBackoffMs = 5000;
+
+	/**
+	 * push 요청 한 번의 응답을 기다리는 최대 시간 (밀리초 단위).
+	 * 기본값은 10000입니다.
+	 */
+	@Min(value = 1, message = "Loki 요청 시간 제한은 0보다 커야 합니다.")
+	private long requestTimeoutMs = 10000;
 
 }
@@ -0,0 +1,191 @@
+package shinhancard.logging.sampling;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.AntPathMatcher;
+
+import jakarta.servlet.http.HttpServletRequest;
+import shinhancard.common.io.RejectionWriter;
+import shinhancard.logging.properties.LogProperties;
+
+/**
+ * 요청 로그를 기록할지 결정하는 샘플러입니다.
+ * <p>
+ * 헤드 샘플링({@link #sampleHead(HttpServletRequest, String)})은 요청을 처리하기 전에 traceId만으로 결정하므로,
+ * 제외된 요청은 본문 캡처와 JSON 인코딩을 하지 않습니다. traceId가 16진수 32자리이면 OpenTelemetry의
+ * {@code TraceIdRatioBased} 샘플러와 같이 뒤쪽 64비트를 비율과 비교하므로, 같은 traceId를 전달받은 다른 서비스와
+ * 같은 결정을 내립니다. 요청 URI가 경로별 설정과 일치하면 해당 비율을 사용합니다.
+ * </p>
+ * <p>
+ * 테일 샘플링({@link #keepTail(HttpServletRequest, int, long)})은 응답이 끝난 뒤 헤드 샘플링에서 제외된 요청에 대해
+ * 에러 상태 코드, 보안 필터의 거부 여부, 처리 시간을 확인하여 기록할지 다시 결정합니다.
+ * </p>
+ */
+public class LogSampler {
+
+	private static final int TRACE_ID_HEX_LENGTH = 32;
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+	private final long defaultUpperBound;
+	private final List<RouteRate> routes;
+	private final int keepStatusAtLeast;
+	private final boolean keepRejected;
+	private final long slowThresholdNanos;
+
+	private final LongAdder headSampledCount = new LongAdder();
+	private final LongAdder tailKeptCount = new LongAdder();
+	private final LongAdder droppedCount = new LongAdder();
+
+	/**
+	 * {@link LogSampler}의 생성자입니다.
+	 *
+	 * @param sampling 샘플링 설정
+	 */
+	public LogSampler(LogProperties.Sampling sampling) {
+		this.defaultUpperBound = upperBound(sampling.getRate());
+		this.routes = sampling.getRoutes().stream()
+			.map(route -> new RouteRate(route.getPattern(), upperBound(route.getRate())))
+			.toList();
+		this.keepStatusAtLeast = sampling.getKeepStatusAtLeast();
+		this.keepRejected = sampling.isKeepRejected();
+		this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(sampling.getSlowThresholdMs());
+	}
+
+	/**
+	 * 요청을 처리하기 전에 traceId로 로그를 기록할지 결정합니다.
+	 *
+	 * @param request 요청 객체
+	 * @param traceId 요청의 traceId
+	 * @return 기록하면 {@code true}
+	 */
+	public boolean sampleHead(HttpServletRequest request, String traceId) {
+		long upperBound = upperBoundFor(request.getRequestURI());
+		boolean sampled = upperBound == Long.MAX_VALUE
+			|| (upperBound > 0 && Math.abs(randomPart(traceId)) < upperBound);
+		if (sampled) {
+			headSampledCount.increment();
+		}
+		return sampled;
+	}
+
+	/**
+	 * 테일 샘플링 조건이 하나라도 설정되어 있는지 확인합니다.
+	 * <p>
+	 * 설정되어 있지 않으면 헤드 샘플링에서 제외된 요청은 응답 상태와 처리 시간도 확인할 필요가 없습니다.
+	 * </p>
+	 *
+	 * @return 테일 샘플링을 사용하면 {@code true}
+	 */
+	public boolean isTailEnabled() {
+		return keepStatusAtLeast > 0 || keepRejected || slowThresholdNanos > 0;
+	}
+
+	/**
+	 * 헤드 샘플링에서 제외된 요청을 응답 후에 기록할지 결정합니다.
+	 *
+	 * @param request 요청 객체
+	 * @param status 응답 상태 코드
+	 * @param durationNanos 요청 처리 시간 (나노초 단위)
+	 * @return 기록하면 {@code true}
+	 */
+	public boolean keepTail(HttpServletRequest request, int status, long durationNanos) {
+		boolean keep = (keepStatusAtLeast > 0 && status >= keepStatusAtLeast)
+			|| (slowThresholdNanos > 0 && durationNanos >= slowThresholdNanos)
+			|| (keepRejected && RejectionWriter.getRejection(request).isPresent());
+		if (keep) {
+			tailKeptCount.increment();
+		} else {
+			droppedCount.increment();
+		}
+		return keep;
+	}
+
+	/**
+	 * 헤드 샘플링으로 기록한 요청의 누적 건수를 반환합니다.
+	 *
+	 * @return 헤드 샘플링으로 기록한 건수
+	 */
+	public long getHeadSampledCount() {
+		return headSampledCount.sum();
+	}
+
+	/**
+	 * 헤드 샘플링에서 제외되었지만 테일 샘플링으로 기록한 요청의 누적 건수를 반환합니다.
+	 *
+	 * @return 테일 샘플링으로 기록한 건수
+	 */
+	public long getTailKeptCount() {
+		return tailKeptCount.sum();
+	}
+
+	/**
+	 * 테일 샘플링 조건을 확인한 뒤 기록하지 않은 요청의 누적 건수를 반환합니다.
+	 *
+	 * @return 기록하지 않은 건수
+	 */
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	private long upperBoundFor(String requestUri) {
+		for (RouteRate route : routes) {
+			if (pathMatcher.match(route.pattern(), requestUri)) {
+				return route.upperBound();
+			}
+		}
+		return defaultUpperBound;
+	}
+
+	/**
+	 * 샘플링 비율을 traceId의 무작위 값과 비교할 상한으로 변환합니다.
+	 */
+	private static long upperBound(double rate) {
+		if (rate >= 1.0) {
+			return Long.MAX_VALUE;
+		}
+		if (rate <= 0.0) {
+			return 0;
+		}
+		return (long)(rate * Long.MAX_VALUE);
+	}
+
+	/**
+	 * traceId에서 샘플링에 사용할 64비트 값을 구합니다.
+	 * <p>
+	 * 16진수 32자리 traceId는 뒤쪽 16자리를 그대로 사용하고, 그 외의 traceId는 FNV-1a 해시를 사용합니다.
+	 * </p>
+	 */
+	static long randomPart(String traceId) {
+		if (traceId.length() == TRACE_ID_HEX_LENGTH) {
+			long value = 0;
+			for (int i = TRACE_ID_HEX_LENGTH / 2; i < TRACE_ID_HEX_LENGTH; i++) {
+				int digit = Character.digit(traceId.charAt(i), 16);
+				if (digit < 0) {
+					return hash(traceId);
+				}
+				value = (value << 4) | digit;
+			}
+			return value;
+		}
+		return hash(traceId);
+	}
+
+	private static long hash(String traceId) {
+		long hash = FNV_OFFSET_BASIS;
+		for (int i = 0; i < traceId.length(); i++) {
+			hash ^= traceId.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+
+	/**
+	 * 경로 패턴과 해당 경로의 샘플링 상한입니다.
+	 */
+	private record RouteRate(String pattern, long upperBound) {
+	}
+}
@@ -0,0 +1,64 @@
+package shinhancard.logging.service;
+
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * 로그 전송 대상이 전송에 실패한 로그를 처리하는 인터페이스입니다.
+ * <p>
+ * 전송 결과는 전송 대상의 I/O 스레드에서 비동기로 전달되므로, 구현체는 빠르게 반환해야 하며
+ * 다시 전송하거나 파일에 보관하는 등 오래 걸리는 작업은 별도의 스레드로 넘겨야 합니다.
+ * 다른 처리 방식을 사용하려면 이 인터페이스를 구현한 빈을 등록합니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface DeliveryFailureHandler {
+
+	/**
+	 * 전송에 실패한 로그를 처리합니다.
+	 *
+	 * @param destination 전송 대상 (예: Kafka 토픽 이름)
+	 * @param logRecord 전송에 실패한 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 * @param exception 실패 원인
+	 */
+	void onDeliveryFailure(String destination, byte[] logRecord, Exception exception);
+
+	/**
+	 * 전송 대상이 로그 전송에 성공했음을 알립니다.
+	 * <p>
+	 * 실패와 마찬가지로 전송 대상의 I/O 스레드에서 비동기로 호출됩니다. 기본 구현은 아무것도 하지 않으며,
+	 * 회로 차단기처럼 비동기 전송 결과를 집계해야 하는 경우에 구현합니다.
+	 * </p>
+	 *
+	 * @param destination 전송 대상 (예: Kafka 토픽 이름)
+	 * @param count 전송에 성공한 로그 건수
+	 * @param latencyNanos 전송을 시작한 뒤 성공을 확인하기까지 걸린 시간 (나노초 단위)
+	 */
+	default void onDeliverySuccess(String destination, int count, long latencyNanos) {
+	}
+
+	/**
+	 * 다시 전송하면 성공할 수 있는 실패인지 확인합니다.
+	 * <p>
+	 * Loki가 429가 아닌 4xx 상태로 응답한 경우나 Kafka가 로그를 직렬화하지 못했거나 로그가 너무 큰 경우처럼
+	 * 로그 자체가 원인인 실패는 다시 전송해도 같은 결과가 되므로 {@code false}를 반환합니다.
+	 * 감싸진 원인 예외도 차례로 확인하며, 알 수 없는 실패는 다시 전송할 수 있는 것으로 봅니다.
+	 * </p>
+	 *
+	 * @param exception 실패 원인
+	 * @return 다시 전송할 수 있으면 {@code true}
+	 */
+	static boolean isRetryable(Throwable exception) {
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof WebClientResponseException responseException) {
+				return responseException.getStatusCode().is5xxServerError()
+					|| responseException.getStatusCode().value() == 429;
+			}
+			if (cause instanceof RecordTooLargeException || cause instanceof SerializationException) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
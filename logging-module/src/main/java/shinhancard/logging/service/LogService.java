@@ -1,12 +1,16 @@
 package shinhancard.logging.service;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  * 로그 메시지를 전송하는 서비스 인터페이스입니다.
  * <p>
  * 이 인터페이스는 로그 메시지를 특정 로그 전송 시스템으로 전송하는 메서드를 정의합니다.
- * 구현 클래스는 이 메서드를 통해 로그 메시지를 전송하는 구체적인 방식을 정의해야 합니다.
+ * 로그 메시지는 UTF-8로 인코딩된 JSON 바이트 배열로 전달되며, 구현 클래스는 이를 문자열로 다시 변환하지 않고
+ * 그대로 전송하는 것이 좋습니다.
  * </p>
  */
 public interface LogService {
@@ -15,11 +19,49 @@ public interface LogService {
 	 * 로그 메시지를 전송합니다.
 	 * <p>
 	 * 이 메서드는 로그 메시지를 지정된 로그 전송 시스템으로 전송합니다.
-	 * 로그 메시지는 JSON 형식으로 제공되며, 메서드는 전송 중 발생할 수 있는 I/O 오류를 처리합니다.
+	 * 호출한 뒤에는 배열의 내용을 변경하지 않아야 하며, 구현 클래스는 배열을 그대로 보관할 수 있습니다.
 	 * </p>
 	 *
+	 * @param logRecord 전송할 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 * @throws IOException 전송 중 I/O 오류가 발생한 경우
+	 */
+	void sendLog(byte[] logRecord) throws IOException;
+
+	/**
+	 * 여러 로그 메시지를 순서대로 전송합니다.
+	 * <p>
+	 * 기본 구현은 {@link #sendLog(byte[])}를 차례로 호출하며, 한 번에 처리하는 것이 효율적인 구현 클래스는 이 메서드를 재정의합니다.
+	 * 예외가 발생하면 앞선 로그 중 일부는 이미 전송되었을 수 있습니다. 구현 클래스는 목록 자체를 보관하지 않아야 합니다.
+	 * </p>
+	 *
+	 * @param logRecords 전송할 로그 메시지 목록 (UTF-8로 인코딩된 JSON)
+	 * @throws IOException 전송 중 I/O 오류가 발생한 경우
+	 */
+	default void sendLogs(List<byte[]> logRecords) throws IOException {
+		for (byte[] logRecord : logRecords) {
+			sendLog(logRecord);
+		}
+	}
+
+	/**
+	 * 버퍼의 현재 위치부터 끝까지를 로그 메시지로 전송합니다.
+	 *
+	 * @param logRecord 전송할 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 * @throws IOException 전송 중 I/O 오류가 발생한 경우
+	 */
+	default void sendLog(ByteBuffer logRecord) throws IOException {
+		byte[] bytes = new byte[logRecord.remaining()];
+		logRecord.get(bytes);
+		sendLog(bytes);
+	}
+
+	/**
+	 * 문자열 로그 메시지를 UTF-8로 인코딩하여 전송합니다.
+	 *
 	 * @param logJson 전송할 로그 메시지 (JSON 형식)
 	 * @throws IOException 전송 중 I/O 오류가 발생한 경우
 	 */
-	void sendLog(String logJson) throws IOException;
+	default void sendLog(String logJson) throws IOException {
+		sendLog(logJson.getBytes(StandardCharsets.UTF_8));
+	}
 }
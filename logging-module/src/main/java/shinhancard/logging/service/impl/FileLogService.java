@@ -0,0 +1,369 @@
+package shinhancard.logging.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import lombok.extern.slf4j.Slf4j;
+import shinhancard.logging.properties.FileProperties;
+import shinhancard.logging.service.LogService;
+
+/**
+ * 로그를 줄 단위 JSON(NDJSON) 파일로 기록하는 서비스입니다.
+ * <p>
+ * 로그는 다이렉트 버퍼에 모았다가 버퍼가 가득 차거나 {@code flushIntervalMs}가 지나면 {@link FileChannel}로 한 번에 기록하고,
+ * 디스크 반영(fsync)은 로그마다 하지 않고 {@code fsyncIntervalMs}마다 모아서 합니다.
+ * 파일이 {@code maxFileSize}를 넘거나 {@code rollIntervalMs}가 지나면 시각과 순번을 붙인 이름으로 교체하며,
+ * 교체된 파일의 gzip 압축과 오래된 파일 삭제는 별도의 스레드에서 처리합니다.
+ * </p>
+ * <p>
+ * 사이드카가 파일을 수집하는 환경이나, Kafka와 Loki 없이 부하 테스트를 하는 환경에서 사용합니다.
+ * </p>
+ */
+@Slf4j
+public class FileLogService implements LogService, AutoCloseable {
+
+	private static final byte NEWLINE = '\n';
+	private static final String GZIP_SUFFIX = ".gz";
+	private static final DateTimeFormatter ROLLED_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+	private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+	private final FileProperties fileProperties;
+	private final Path directory;
+	private final Path activeFile;
+	private final long rollIntervalNanos;
+	private final ByteBuffer buffer;
+	private final ScheduledExecutorService flushScheduler;
+	private final ExecutorService rollExecutor;
+
+	// 아래 필드는 this로 동기화합니다.
+	private FileChannel channel;
+	private long fileSize;
+	private long openedAtNanos;
+	private long rollSequence;
+	private boolean dirty; // 마지막 디스크 반영 이후 기록한 내용이 있는지 여부
+	private boolean closed;
+	private long writtenCount;
+	private long rolledCount;
+
+	/**
+	 * FileLogService의 생성자입니다.
+	 * <p>
+	 * 디렉터리가 없으면 생성하고, 기록 중이던 파일이 있으면 이어서 기록합니다.
+	 * </p>
+	 *
+	 * @param fileProperties 파일 로그 설정
+	 * @throws IOException 디렉터리나 파일을 열지 못한 경우
+	 */
+	public FileLogService(FileProperties fileProperties) throws IOException {
+		this.fileProperties = fileProperties;
+		this.directory = Path.of(fileProperties.getDirectory());
+		this.activeFile = directory.resolve(fileProperties.getFileName());
+		this.rollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fileProperties.getRollIntervalMs());
+		this.buffer = ByteBuffer.allocateDirect(fileProperties.getBufferSize());
+
+		Files.createDirectories(directory);
+		openActiveFile();
+
+		this.rollExecutor = Executors.newSingleThreadExecutor(
+			Thread.ofPlatform().name("log-file-roll").daemon(true).factory());
+		this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+			Thread.ofPlatform().name("log-file-flush").daemon(true).factory());
+		this.flushScheduler.scheduleWithFixedDelay(this::flushQuietly, fileProperties.getFlushIntervalMs(),
+			fileProperties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+		if (fileProperties.getFsyncIntervalMs() > 0) {
+			this.flushScheduler.scheduleWithFixedDelay(this::sync, fileProperties.getFsyncIntervalMs(),
+				fileProperties.getFsyncIntervalMs(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * 로그 뒤에 줄바꿈을 붙여 버퍼에 추가합니다.
+	 * <p>
+	 * 버퍼가 가득 차면 호출한 스레드에서 파일에 기록하며, 버퍼보다 큰 로그는 버퍼를 거치지 않고 바로 기록합니다.
+	 * </p>
+	 *
+	 * @param logRecord 전송할 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 * @throws IOException 파일에 기록하지 못했거나 서비스가 닫힌 경우
+	 */
+	@Override
+	public synchronized void sendLog(byte[] logRecord) throws IOException {
+		if (closed) {
+			throw new IOException("로그 파일이 닫혀 있습니다: " + activeFile);
+		}
+
+		int recordSize = logRecord.length + 1;
+		if (shouldRoll(recordSize)) {
+			roll();
+		}
+		if (buffer.remaining() < recordSize) {
+			flushBuffer();
+		}
+		if (buffer.remaining() < recordSize) {
+			writeFully(ByteBuffer.wrap(logRecord));
+			writeFully(ByteBuffer.wrap(new byte[] {NEWLINE}));
+			dirty = true;
+		} else {
+			buffer.put(logRecord).put(NEWLINE);
+		}
+		fileSize += recordSize;
+		writtenCount++;
+	}
+
+	/**
+	 * 여러 로그를 잠금을 한 번만 얻어 차례로 버퍼에 추가합니다.
+	 *
+	 * @param logRecords 전송할 로그 메시지 목록 (UTF-8로 인코딩된 JSON)
+	 * @throws IOException 파일에 기록하지 못했거나 서비스가 닫힌 경우
+	 */
+	@Override
+	public synchronized void sendLogs(List<byte[]> logRecords) throws IOException {
+		for (byte[] logRecord : logRecords) {
+			sendLog(logRecord);
+		}
+	}
+
+	/**
+	 * 버퍼에 남은 로그를 파일에 기록하고, 교체 주기가 지났으면 파일을 교체합니다.
+	 */
+	private synchronized void flushQuietly() {
+		if (closed) {
+			return;
+		}
+		try {
+			flushBuffer();
+			if (shouldRoll(0)) {
+				roll();
+			}
+		} catch (IOException e) {
+			log.warn("로그 파일 기록 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 마지막 디스크 반영 이후 기록한 내용을 디스크에 반영합니다.
+	 * <p>
+	 * 디스크 반영 중에도 다른 스레드가 버퍼에 로그를 추가할 수 있도록 잠금 밖에서 수행합니다.
+	 * </p>
+	 */
+	private void sync() {
+		FileChannel currentChannel;
+		synchronized (this) {
+			if (closed || !dirty) {
+				return;
+			}
+			currentChannel = channel;
+			dirty = false;
+		}
+		try {
+			currentChannel.force(false);
+		} catch (ClosedChannelException e) {
+			// 파일 교체 중에 닫힌 경우이며, 교체할 때 이미 디스크에 반영됨
+		} catch (IOException e) {
+			log.warn("로그 파일 디스크 반영 실패: {}", e.getMessage());
+		}
+	}
+
+	private boolean shouldRoll(int incomingSize) {
+		if (fileSize == 0) {
+			return false;
+		}
+		return (fileProperties.getMaxFileSize() > 0 && fileSize + incomingSize > fileProperties.getMaxFileSize())
+			|| (rollIntervalNanos > 0 && System.nanoTime() - openedAtNanos >= rollIntervalNanos);
+	}
+
+	/**
+	 * 버퍼의 내용을 파일에 기록합니다. 기록하지 못한 내용은 버퍼에 남아 다음에 다시 기록합니다.
+	 */
+	private void flushBuffer() throws IOException {
+		if (buffer.position() == 0) {
+			return;
+		}
+		buffer.flip();
+		try {
+			writeFully(buffer);
+		} finally {
+			buffer.compact();
+		}
+		dirty = true;
+	}
+
+	private void writeFully(ByteBuffer source) throws IOException {
+		while (source.hasRemaining()) {
+			channel.write(source);
+		}
+	}
+
+	/**
+	 * 현재 파일을 디스크에 반영하고 닫은 뒤, 시각과 순번을 붙인 이름으로 바꾸고 새 파일을 엽니다.
+	 */
+	private void roll() throws IOException {
+		flushBuffer();
+		channel.force(true);
+		channel.close();
+
+		Path rolledFile;
+		try {
+			rolledFile = nextRolledFile();
+			Files.move(activeFile, rolledFile, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.warn("로그 파일 교체 실패: {}", e.getMessage());
+			rolledFile = null;
+		}
+		openActiveFile();
+
+		if (rolledFile != null) {
+			rolledCount++;
+			Path completedFile = rolledFile;
+			rollExecutor.execute(() -> afterRoll(completedFile));
+		}
+	}
+
+	private void openActiveFile() throws IOException {
+		channel = FileChannel.open(activeFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.APPEND);
+		fileSize = channel.size();
+		openedAtNanos = System.nanoTime();
+		dirty = false;
+	}
+
+	private Path nextRolledFile() {
+		String prefix = fileProperties.getFileName() + "." + LocalDateTime.now().format(ROLLED_TIME_FORMAT) + ".";
+		Path rolledFile;
+		do {
+			rolledFile = directory.resolve(prefix + rollSequence++);
+		} while (Files.exists(rolledFile) || Files.exists(Path.of(rolledFile + GZIP_SUFFIX)));
+		return rolledFile;
+	}
+
+	/**
+	 * 교체된 파일을 설정에 따라 압축하고, 보관 개수를 넘는 오래된 파일을 삭제합니다.
+	 */
+	private void afterRoll(Path rolledFile) {
+		if (fileProperties.isGzip()) {
+			compress(rolledFile);
+		}
+		if (fileProperties.getMaxHistory() > 0) {
+			deleteOldFiles();
+		}
+	}
+
+	private void compress(Path rolledFile) {
+		Path compressedFile = rolledFile.resolveSibling(rolledFile.getFileName() + GZIP_SUFFIX);
+		try {
+			try (InputStream in = Files.newInputStream(rolledFile);
+				 OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressedFile), 64 * 1024)) {
+				in.transferTo(out);
+			}
+			Files.delete(rolledFile);
+		} catch (IOException e) {
+			log.warn("로그 파일 압축 실패: {}", e.getMessage());
+			try {
+				Files.deleteIfExists(compressedFile);
+			} catch (IOException ignored) {
+				// 압축하지 못한 원본 파일은 그대로 보관
+			}
+		}
+	}
+
+	private void deleteOldFiles() {
+		String prefix = fileProperties.getFileName() + ".";
+		List<Path> rolledFiles;
+		try (Stream<Path> files = Files.list(directory)) {
+			rolledFiles = files.filter(path -> path.getFileName().toString().startsWith(prefix))
+				.sorted(Comparator.comparing(FileLogService::lastModified).reversed())
+				.toList();
+		} catch (IOException e) {
+			log.warn("로그 파일 목록 조회 실패: {}", e.getMessage());
+			return;
+		}
+
+		for (Path rolledFile : rolledFiles.subList(Math.min(fileProperties.getMaxHistory(), rolledFiles.size()),
+			rolledFiles.size())) {
+			try {
+				Files.deleteIfExists(rolledFile);
+			} catch (IOException e) {
+				log.warn("오래된 로그 파일 삭제 실패: {}", e.getMessage());
+			}
+		}
+	}
+
+	private static long lastModified(Path path) {
+		try {
+			return Files.getLastModifiedTime(path).toMillis();
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * 파일에 기록한 로그의 누적 건수를 반환합니다. 버퍼에 있는 로그도 포함합니다.
+	 *
+	 * @return 기록한 건수
+	 */
+	public synchronized long getWrittenCount() {
+		return writtenCount;
+	}
+
+	/**
+	 * 교체한 파일의 누적 개수를 반환합니다.
+	 *
+	 * @return 교체한 파일 수
+	 */
+	public synchronized long getRolledCount() {
+		return rolledCount;
+	}
+
+	/**
+	 * 버퍼에 남은 로그를 기록하고 디스크에 반영한 뒤 파일을 닫습니다.
+	 * <p>
+	 * 진행 중인 압축은 최대 5초 동안 기다립니다.
+	 * </p>
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			try {
+				flushBuffer();
+				channel.force(true);
+			} catch (IOException e) {
+				log.warn("종료 중 로그 파일 기록 실패: {}", e.getMessage());
+			} finally {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					log.warn("로그 파일 닫기 실패: {}", e.getMessage());
+				}
+			}
+		}
+
+		flushScheduler.shutdownNow();
+		rollExecutor.shutdown();
+		try {
+			rollExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
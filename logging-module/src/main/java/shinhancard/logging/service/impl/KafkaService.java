@@ -1,72 +1,272 @@
 package shinhancard.logging.service.impl;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Properties;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import lombok.extern.slf4j.Slf4j;
+import shinhancard.logging.encoder.SmileTranscoder;
 import shinhancard.logging.properties.KafkaProperties;
+import shinhancard.logging.service.DeliveryFailureHandler;
 import shinhancard.logging.service.LogService;
 
 /**
  * KafkaProducer를 통해 로그를 Kafka에 전송하는 서비스입니다.
+ * <p>
+ * 전송 결과를 기다리지 않고 {@link Callback}으로 받으므로, 프로듀서의 {@code batch.size}와 {@code linger.ms}에 따라
+ * 여러 로그가 한 번에 전송됩니다. 전송에 실패한 로그는 {@link DeliveryFailureHandler}로 넘기며,
+ * 전송 성공 및 실패 건수와 브로커 응답까지의 지연 시간을 조회할 수 있습니다.
+ * </p>
+ * <p>
+ * {@code kafka.encoding}이 {@code SMILE}이면 JSON 로그를 {@link SmileTranscoder}로 변환하여 전송하고,
+ * 메시지 헤더 {@code content-type}에 형식을 기록합니다. 변환 전후의 크기와 변환 시간을 조회할 수 있어
+ * JSON 전송과 비교할 수 있습니다. 전송에 실패한 로그는 변환 전의 JSON으로 {@link DeliveryFailureHandler}에 넘깁니다.
+ * </p>
  */
 @Service
 @Slf4j
-public class KafkaService implements LogService {
+public class KafkaService implements LogService, AutoCloseable {
+
+	private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+	private static final Set<String> BYTE_ARRAY_COMPATIBLE_SERIALIZERS = Set.of(
+		StringSerializer.class.getName(), ByteArraySerializer.class.getName());
+	private static final List<Header> SMILE_HEADERS = List.of(
+		new RecordHeader("content-type", SmileTranscoder.CONTENT_TYPE.getBytes(StandardCharsets.US_ASCII)));
 
 	private final KafkaProperties kafkaProperties;
-	private final KafkaProducer<String, String> producer;
+	private final Producer<String, byte[]> producer;
+	private final DeliveryFailureHandler deliveryFailureHandler;
+	private final SmileTranscoder transcoder;
 
-	@Autowired
+	private final LongAdder successCount = new LongAdder();
+	private final LongAdder failureCount = new LongAdder();
+	private final LongAdder totalLatencyNanos = new LongAdder();
+	private final AtomicLong maxLatencyNanos = new AtomicLong();
+	private final LongAdder sourceBytes = new LongAdder();
+	private final LongAdder encodedBytes = new LongAdder();
+	private final LongAdder encodedCount = new LongAdder();
+	private final LongAdder encodeNanos = new LongAdder();
+
+	/**
+	 * KafkaService의 생성자입니다.
+	 * <p>
+	 * 전송 실패는 {@link LoggingDeliveryFailureHandler}로 처리합니다.
+	 * </p>
+	 *
+	 * @param kafkaProperties Kafka 설정
+	 */
 	public KafkaService(KafkaProperties kafkaProperties) {
+		this(kafkaProperties, new LoggingDeliveryFailureHandler());
+	}
+
+	/**
+	 * KafkaService의 생성자입니다.
+	 *
+	 * @param kafkaProperties Kafka 설정
+	 * @param deliveryFailureHandler 전송에 실패한 로그를 처리할 {@link DeliveryFailureHandler}
+	 */
+	@Autowired
+	public KafkaService(KafkaProperties kafkaProperties, DeliveryFailureHandler deliveryFailureHandler) {
+		this(kafkaProperties, createProducer(kafkaProperties), deliveryFailureHandler);
+	}
+
+	/**
+	 * 주어진 프로듀서를 사용하는 KafkaService를 생성합니다.
+	 * <p>
+	 * {@link org.apache.kafka.clients.producer.MockProducer} 등 다른 프로듀서 구현체를 사용할 때 호출합니다.
+	 * </p>
+	 *
+	 * @param kafkaProperties Kafka 설정
+	 * @param producer 로그를 전송할 {@link Producer}
+	 * @param deliveryFailureHandler 전송에 실패한 로그를 처리할 {@link DeliveryFailureHandler}
+	 */
+	public KafkaService(KafkaProperties kafkaProperties, Producer<String, byte[]> producer,
+		DeliveryFailureHandler deliveryFailureHandler) {
 		this.kafkaProperties = kafkaProperties;
-		this.producer = createProducer();
+		this.producer = producer;
+		this.deliveryFailureHandler = deliveryFailureHandler;
+		this.transcoder = kafkaProperties.getEncoding() == KafkaProperties.Encoding.SMILE ? new SmileTranscoder() : null;
 	}
 
-	private KafkaProducer<String, String> createProducer() {
+	/**
+	 * 로그는 이미 UTF-8 JSON 바이트 배열로 인코딩되어 있으므로, 값 직렬화는 항상 {@link ByteArraySerializer}를 사용합니다.
+	 */
+	@SuppressWarnings("deprecation")
+	private static KafkaProducer<String, byte[]> createProducer(KafkaProperties kafkaProperties) {
+		if (!BYTE_ARRAY_COMPATIBLE_SERIALIZERS.contains(kafkaProperties.getValueSerializer())) {
+			log.warn("kafka.valueSerializer 설정({})은 더 이상 사용되지 않으며 {}로 대체됩니다.",
+				kafkaProperties.getValueSerializer(), ByteArraySerializer.class.getName());
+		}
+
 		Properties props = new Properties();
 		props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
 		props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, kafkaProperties.getKeySerializer());
-		props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, kafkaProperties.getValueSerializer());
+		props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
 		props.put(ProducerConfig.ACKS_CONFIG, kafkaProperties.getAcks());
 		props.put(ProducerConfig.RETRIES_CONFIG, kafkaProperties.getRetries());
 		props.put(ProducerConfig.BATCH_SIZE_CONFIG, kafkaProperties.getBatchSize());
 		props.put(ProducerConfig.LINGER_MS_CONFIG, kafkaProperties.getLingerMs());
 		props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, kafkaProperties.getCompressionType());
+		props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, kafkaProperties.getMaxBlockMs());
 
 		return new KafkaProducer<>(props);
 	}
 
+	/**
+	 * 로그를 프로듀서에 넘기고 바로 반환합니다.
+	 * <p>
+	 * 브로커 응답은 기다리지 않으며, 결과는 콜백에서 집계합니다.
+	 * 프로듀서 버퍼가 가득 차 {@code max.block.ms} 안에 넣지 못하거나 Smile 변환에 실패하는 등 즉시 실패한 경우에도
+	 * 예외를 던지지 않고 {@link DeliveryFailureHandler}로 넘깁니다.
+	 * </p>
+	 *
+	 * @param logRecord 전송할 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 */
 	@Override
-	public void sendLog(String logJson) throws IOException {
-		ProducerRecord<String, String> kafkaRecord = new ProducerRecord<>(kafkaProperties.getTopicName(), logJson);
+	public void sendLog(byte[] logRecord) {
+		String topicName = kafkaProperties.getTopicName();
+		long startNanos = System.nanoTime();
+
 		try {
-			Future<?> sendResultFuture = producer.send(kafkaRecord);
+			ProducerRecord<String, byte[]> kafkaRecord = transcoder == null ?
+				new ProducerRecord<>(topicName, logRecord) :
+				new ProducerRecord<>(topicName, (Integer)null, (String)null, encode(logRecord), SMILE_HEADERS);
+			producer.send(kafkaRecord, (metadata, exception) -> {
+				if (exception == null) {
+					recordSuccess(topicName, System.nanoTime() - startNanos);
+				} else {
+					recordFailure(topicName, logRecord, exception);
+				}
+			});
+		} catch (Exception e) {
+			recordFailure(topicName, logRecord, e);
+		}
+	}
 
-			if ("1".equals(kafkaProperties.getAcks()) || "all".equals(kafkaProperties.getAcks())) {
-				sendResultFuture.get();
-			}
-		} catch (InterruptedException e) {
-			// Restore interrupted status and handle exception
-			Thread.currentThread().interrupt();
-			throw new IOException("Log sending interrupted", e);
-		} catch (ExecutionException e) {
-			throw new IOException("Error while sending log", e);
+	private byte[] encode(byte[] logRecord) throws IOException {
+		long startNanos = System.nanoTime();
+		byte[] encoded = transcoder.transcode(logRecord);
+		encodeNanos.add(System.nanoTime() - startNanos);
+		encodedCount.increment();
+		sourceBytes.add(logRecord.length);
+		encodedBytes.add(encoded.length);
+		return encoded;
+	}
+
+	private void recordSuccess(String topicName, long latencyNanos) {
+		successCount.increment();
+		totalLatencyNanos.add(latencyNanos);
+		maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+		try {
+			deliveryFailureHandler.onDeliverySuccess(topicName, 1, latencyNanos);
+		} catch (Exception e) {
+			log.error("전송 성공 처리 중 오류 발생: {}", e.getMessage());
 		}
 	}
 
+	private void recordFailure(String topicName, byte[] logRecord, Exception exception) {
+		failureCount.increment();
+		try {
+			deliveryFailureHandler.onDeliveryFailure(topicName, logRecord, exception);
+		} catch (Exception e) {
+			log.error("전송 실패 처리 중 오류 발생: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 브로커가 수신을 확인한 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 전송 성공 건수
+	 */
+	public long getSuccessCount() {
+		return successCount.sum();
+	}
+
+	/**
+	 * 전송에 실패한 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 전송 실패 건수
+	 */
+	public long getFailureCount() {
+		return failureCount.sum();
+	}
+
+	/**
+	 * 전송 성공한 로그의 평균 지연 시간을 반환합니다.
+	 * <p>
+	 * 지연 시간은 프로듀서에 넘긴 시점부터 브로커 응답을 받은 시점까지입니다.
+	 * </p>
+	 *
+	 * @return 평균 지연 시간 (밀리초 단위), 성공한 로그가 없으면 0
+	 */
+	public double getAverageLatencyMs() {
+		long count = successCount.sum();
+		return count == 0 ? 0 : totalLatencyNanos.sum() / (double)count / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	/**
+	 * 전송 성공한 로그의 최대 지연 시간을 반환합니다.
+	 *
+	 * @return 최대 지연 시간 (밀리초 단위)
+	 */
+	public long getMaxLatencyMs() {
+		return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+	}
+
+	/**
+	 * 변환 전 JSON 로그의 누적 크기를 반환합니다. {@code kafka.encoding}이 {@code SMILE}일 때만 집계합니다.
+	 *
+	 * @return 변환 전 크기 (바이트 단위)
+	 */
+	public long getSourceBytes() {
+		return sourceBytes.sum();
+	}
+
+	/**
+	 * 변환 후 로그의 누적 크기를 반환합니다. {@code kafka.encoding}이 {@code SMILE}일 때만 집계합니다.
+	 *
+	 * @return 변환 후 크기 (바이트 단위)
+	 */
+	public long getEncodedBytes() {
+		return encodedBytes.sum();
+	}
+
+	/**
+	 * 로그 한 건을 변환하는 데 걸린 평균 시간을 반환합니다.
+	 *
+	 * @return 평균 변환 시간 (마이크로초 단위), 변환한 로그가 없으면 0
+	 */
+	public double getAverageEncodeMicros() {
+		long count = encodedCount.sum();
+		return count == 0 ? 0 : encodeNanos.sum() / (double)count / TimeUnit.MICROSECONDS.toNanos(1);
+	}
+
+	/**
+	 * 프로듀서에 남은 로그를 최대 5초 동안 전송한 뒤 프로듀서를 닫습니다.
+	 */
+	@Override
 	public void close() {
 		try {
 			if (producer != null) {
-				producer.close();
+				producer.close(CLOSE_TIMEOUT);
 			}
 		} catch (Exception e) {
 			log.error("Failed to close Kafka producer: " + e.getMessage());
@@ -0,0 +1,44 @@
+package shinhancard.logging.service.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+import shinhancard.logging.service.DeliveryFailureHandler;
+
+/**
+ * 전송에 실패한 로그를 버리고 경고 로그를 남기는 기본 {@link DeliveryFailureHandler} 구현체입니다.
+ * <p>
+ * 전송 대상 장애 시 실패가 연속으로 발생하므로, 경고 로그는 1초에 한 번만 남기고 그 사이의 실패 건수를 함께 기록합니다.
+ * 로그 본문에는 민감 정보가 포함될 수 있으므로 기록하지 않습니다.
+ * </p>
+ */
+@Slf4j
+public class LoggingDeliveryFailureHandler implements DeliveryFailureHandler {
+
+	private static final long WARN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final AtomicLong lastWarnNanos = new AtomicLong(System.nanoTime() - WARN_INTERVAL_NANOS);
+	private final LongAdder suppressedCount = new LongAdder();
+
+	/**
+	 * 전송 실패를 경고 로그로 기록합니다.
+	 *
+	 * @param destination 전송 대상 (예: Kafka 토픽 이름)
+	 * @param logRecord 전송에 실패한 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 * @param exception 실패 원인
+	 */
+	@Override
+	public void onDeliveryFailure(String destination, byte[] logRecord, Exception exception) {
+		long now = System.nanoTime();
+		long last = lastWarnNanos.get();
+		if (now - last < WARN_INTERVAL_NANOS || !lastWarnNanos.compareAndSet(last, now)) {
+			suppressedCount.increment();
+			return;
+		}
+
+		long suppressed = suppressedCount.sumThenReset();
+		log.warn("로그 전송 실패 [{}]: {} (직전 1초 동안 추가 실패 {}건)", destination, exception.getMessage(), suppressed);
+	}
+}
@@ -1,59 +1,390 @@
 package shinhancard.logging.service.impl;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
 import shinhancard.logging.properties.LokiProperties;
+import shinhancard.logging.service.DeliveryFailureHandler;
 import shinhancard.logging.service.LogService;
 
 /**
- * Loki 서버에 로그 메시지를 전송하는 서비스입니다.
+ * Loki 서버에 로그 메시지를 배치로 모아 전송하는 서비스입니다.
  * <p>
- * 이 서비스는 {@link WebClient}를 사용하여 Loki 서버에 HTTP POST 요청을 보내 로그를 전송합니다.
+ * 로그를 한 건씩 전송하지 않고, 레이블 조합별로 묶어 Loki push API 형식({@code streams[].values[]})의 배치로 모읍니다.
+ * 배치는 건수나 크기가 설정값에 도달하거나, 첫 로그가 들어온 뒤 {@code lingerMs}가 지나면 전송됩니다.
+ * 요청 본문은 gzip으로 압축하며, 연결 하나를 keep-alive로 재사용하고, 실패 시 지수 백오프로 제한된 횟수만큼 재시도합니다.
+ * 재시도 후에도 전송하지 못한 배치의 로그는 {@link DeliveryFailureHandler}로 넘깁니다.
  * </p>
  */
 @Service
-public class LokiService implements LogService {
+@Slf4j
+public class LokiService implements LogService, AutoCloseable {
+
+	private static final Pattern LABEL_NAME_PATTERN = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
-	private final WebClient webClient;
 	private final LokiProperties lokiProperties;
+	private final DeliveryFailureHandler deliveryFailureHandler;
+	private final String pushUri;
+	private final Map<String, String> staticLabels;
+	private final Set<String> labelFields;
+	private final ConnectionProvider connectionProvider;
+	private final WebClient webClient;
+	private final ScheduledExecutorService lingerScheduler;
+	private final ReentrantLock pushLock = new ReentrantLock(); // 동시에 하나의 push 요청만 보내도록 보장
+
+	// 아래 필드는 this로 동기화합니다.
+	private Map<Map<String, String>, List<Entry>> batch = new LinkedHashMap<>();
+	private int batchCount;
+	private long batchBytes;
+	private long batchStartNanos;
 
 	/**
 	 * LokiService의 생성자입니다.
 	 * <p>
-	 * LokiProperties를 주입받아 Loki 서버의 URL을 설정하고, WebClient를 초기화합니다.
+	 * 전송 실패는 {@link LoggingDeliveryFailureHandler}로 처리합니다.
 	 * </p>
 	 *
 	 * @param lokiProperties Loki 서버의 설정 속성
+	 * @throws IllegalArgumentException 레이블 이름이 Loki 레이블 형식에 맞지 않는 경우
 	 */
 	public LokiService(LokiProperties lokiProperties) {
+		this(lokiProperties, new LoggingDeliveryFailureHandler());
+	}
+
+	/**
+	 * LokiService의 생성자입니다.
+	 * <p>
+	 * LokiProperties를 주입받아 push URL과 레이블을 설정하고, 연결 하나를 재사용하는 WebClient와
+	 * 배치 지연 전송을 위한 스케줄러를 초기화합니다.
+	 * </p>
+	 *
+	 * @param lokiProperties Loki 서버의 설정 속성
+	 * @param deliveryFailureHandler 전송에 실패한 로그를 처리할 {@link DeliveryFailureHandler}
+	 * @throws IllegalArgumentException 레이블 이름이 Loki 레이블 형식에 맞지 않는 경우
+	 */
+	@Autowired
+	public LokiService(LokiProperties lokiProperties, DeliveryFailureHandler deliveryFailureHandler) {
 		this.lokiProperties = lokiProperties;
-		this.webClient = WebClient.builder().build();
+		this.deliveryFailureHandler = deliveryFailureHandler;
+		this.pushUri = resolvePushUri(lokiProperties);
+		this.staticLabels = Collections.unmodifiableMap(new TreeMap<>(lokiProperties.getLabels()));
+		this.labelFields = Set.copyOf(lokiProperties.getLabelFields());
+		validateLabelNames();
+
+		this.connectionProvider = ConnectionProvider.builder("loki")
+			.maxConnections(1)
+			.build();
+		this.webClient = WebClient.builder()
+			.clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider).keepAlive(true)))
+			.build();
+
+		this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(
+			Thread.ofPlatform().name("loki-linger").daemon(true).factory());
+		long checkInterval = Math.max(1, lokiProperties.getLingerMs() / 4);
+		this.lingerScheduler.scheduleWithFixedDelay(this::flushIfLingerExpired, checkInterval, checkInterval,
+			TimeUnit.MILLISECONDS);
 	}
 
 	/**
-	 * 로그 메시지를 Loki 서버에 전송합니다.
+	 * 로그 메시지를 배치에 추가합니다.
 	 * <p>
-	 * 이 메서드는 Loki 서버에 HTTP POST 요청을 보내 로그 메시지를 전송합니다.
-	 * 요청의 본문으로 로그 메시지를 전송하며, 응답을 블록킹 호출로 기다립니다.
+	 * 배치가 설정된 건수나 크기에 도달하면 호출한 스레드에서 바로 전송합니다.
+	 * 전송에 실패해도 예외를 던지지 않고 배치의 로그를 {@link DeliveryFailureHandler}로 넘깁니다.
 	 * </p>
 	 *
-	 * @param logJson 전송할 로그 메시지 (JSON 형식)
-	 * @throws IOException 전송 중 I/O 오류가 발생한 경우
+	 * @param logRecord 전송할 로그 메시지 (UTF-8로 인코딩된 JSON)
 	 */
 	@Override
-	public void sendLog(String logJson) throws IOException {
+	public void sendLog(byte[] logRecord) {
+		Entry entry = new Entry(currentTimestampNanos(), logRecord);
+		Map<String, String> labels = resolveLabels(logRecord);
+
+		Map<Map<String, String>, List<Entry>> readyBatch = null;
+		synchronized (this) {
+			if (batchCount == 0) {
+				batchStartNanos = System.nanoTime();
+			}
+			batch.computeIfAbsent(labels, key -> new ArrayList<>()).add(entry);
+			batchCount++;
+			batchBytes += logRecord.length;
+
+			if (batchCount >= lokiProperties.getBatchSize() || batchBytes >= lokiProperties.getBatchMaxBytes()) {
+				readyBatch = takeBatch();
+			}
+		}
+
+		if (readyBatch != null) {
+			push(readyBatch);
+		}
+	}
+
+	/**
+	 * 첫 로그가 들어온 뒤 {@code lingerMs}가 지난 배치를 전송합니다.
+	 */
+	private void flushIfLingerExpired() {
+		Map<Map<String, String>, List<Entry>> readyBatch;
+		synchronized (this) {
+			if (batchCount == 0
+				|| System.nanoTime() - batchStartNanos < TimeUnit.MILLISECONDS.toNanos(lokiProperties.getLingerMs())) {
+				return;
+			}
+			readyBatch = takeBatch();
+		}
+
+		push(readyBatch);
+	}
+
+	/**
+	 * 현재 배치를 꺼내고 새 배치를 시작합니다. 호출하는 쪽에서 this로 동기화해야 합니다.
+	 */
+	private Map<Map<String, String>, List<Entry>> takeBatch() {
+		Map<Map<String, String>, List<Entry>> readyBatch = batch;
+		batch = new LinkedHashMap<>();
+		batchCount = 0;
+		batchBytes = 0;
+		return readyBatch;
+	}
+
+	/**
+	 * 배치를 Loki push API로 전송합니다.
+	 * <p>
+	 * 연결 오류, 시간 초과, 5xx, 429 응답은 지수 백오프로 재시도하며, 그 밖의 4xx 응답은 재시도하지 않습니다.
+	 * 재시도 후에도 실패하면 배치의 로그를 하나씩 {@link DeliveryFailureHandler}로 넘기고,
+	 * 성공하면 배치의 건수를 {@link DeliveryFailureHandler#onDeliverySuccess(String, int, long)}로 알립니다.
+	 * </p>
+	 *
+	 * @param readyBatch 전송할 배치
+	 */
+	private void push(Map<Map<String, String>, List<Entry>> readyBatch) {
+		if (readyBatch.isEmpty()) {
+			return;
+		}
+
+		long startNanos = System.nanoTime();
 		try {
-			webClient.post()
-				.uri(lokiProperties.getUrl())
-				.bodyValue(logJson)
-				.retrieve()
-				.bodyToMono(String.class)
-				.block(); // 블록킹 호출로 응답을 기다림
+			byte[] payload = encode(readyBatch);
+			pushLock.lock();
+			try {
+				webClient.post()
+					.uri(pushUri)
+					.contentType(MediaType.APPLICATION_JSON)
+					.headers(headers -> {
+						if (lokiProperties.isGzip()) {
+							headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+						}
+					})
+					.bodyValue(payload)
+					.retrieve()
+					.toBodilessEntity()
+					.timeout(Duration.ofMillis(lokiProperties.getRequestTimeoutMs()))
+					.retryWhen(Retry.backoff(lokiProperties.getMaxRetries(),
+							Duration.ofMillis(lokiProperties.getRetryBackoffMs()))
+						.maxBackoff(Duration.ofMillis(lokiProperties.getMaxRetryBackoffMs()))
+						.filter(DeliveryFailureHandler::isRetryable))
+					.block();
+			} finally {
+				pushLock.unlock();
+			}
 		} catch (Exception e) {
-			throw new IOException("로그 전송 중 오류 발생", e);
+			int count = readyBatch.values().stream().mapToInt(List::size).sum();
+			log.warn("Loki 로그 전송 실패 ({}건): {}", count, e.getMessage());
+			handleFailure(readyBatch, e);
+			return;
+		}
+		handleSuccess(readyBatch, System.nanoTime() - startNanos);
+	}
+
+	private void handleSuccess(Map<Map<String, String>, List<Entry>> readyBatch, long latencyNanos) {
+		try {
+			deliveryFailureHandler.onDeliverySuccess(pushUri,
+				readyBatch.values().stream().mapToInt(List::size).sum(), latencyNanos);
+		} catch (Exception e) {
+			log.error("전송 성공 처리 중 오류 발생: {}", e.getMessage());
+		}
+	}
+
+	private void handleFailure(Map<Map<String, String>, List<Entry>> readyBatch, Exception exception) {
+		for (List<Entry> entries : readyBatch.values()) {
+			for (Entry entry : entries) {
+				try {
+					deliveryFailureHandler.onDeliveryFailure(pushUri, entry.line(), exception);
+				} catch (Exception e) {
+					log.error("전송 실패 처리 중 오류 발생: {}", e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * 배치를 Loki push API 형식의 JSON으로 직렬화하고, 설정에 따라 gzip으로 압축합니다.
+	 *
+	 * @param readyBatch 직렬화할 배치
+	 * @return push 요청 본문
+	 * @throws IOException 직렬화 중 오류가 발생한 경우
+	 */
+	private byte[] encode(Map<Map<String, String>, List<Entry>> readyBatch) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(8 * 1024);
+		OutputStream out = lokiProperties.isGzip() ? new GZIPOutputStream(buffer, 8 * 1024) : buffer;
+
+		try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+			generator.writeStartObject();
+			generator.writeArrayFieldStart("streams");
+			for (Map.Entry<Map<String, String>, List<Entry>> stream : readyBatch.entrySet()) {
+				generator.writeStartObject();
+				generator.writeObjectFieldStart("stream");
+				for (Map.Entry<String, String> label : stream.getKey().entrySet()) {
+					generator.writeStringField(label.getKey(), label.getValue());
+				}
+				generator.writeEndObject();
+
+				generator.writeArrayFieldStart("values");
+				for (Entry entry : stream.getValue()) {
+					generator.writeStartArray();
+					generator.writeString(Long.toString(entry.timestampNanos()));
+					generator.writeUTF8String(entry.line(), 0, entry.line().length); // 문자열로 디코딩하지 않고 그대로 기록
+					generator.writeEndArray();
+				}
+				generator.writeEndArray();
+				generator.writeEndObject();
+			}
+			generator.writeEndArray();
+			generator.writeEndObject();
+		}
+		return buffer.toByteArray();
+	}
+
+	/**
+	 * 로그의 스트림 레이블을 결정합니다.
+	 * <p>
+	 * 고정 레이블에, 로그 JSON의 최상위 필드 중 {@code labelFields}에 해당하는 값을 더합니다.
+	 * 로그가 JSON이 아니면 고정 레이블만 사용합니다.
+	 * </p>
+	 *
+	 * @param logRecord 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 * @return 스트림 레이블
+	 */
+	private Map<String, String> resolveLabels(byte[] logRecord) {
+		if (labelFields.isEmpty()) {
+			return staticLabels;
+		}
+
+		Map<String, String> labels = new TreeMap<>(staticLabels);
+		try (JsonParser parser = JSON_FACTORY.createParser(logRecord)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return staticLabels;
+			}
+			int found = 0;
+			while (found < labelFields.size() && parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (value.isScalarValue() && labelFields.contains(fieldName)) {
+					labels.put(fieldName, parser.getText());
+					found++;
+				} else {
+					parser.skipChildren();
+				}
+			}
+		} catch (IOException e) {
+			return staticLabels;
+		}
+		return labels;
+	}
+
+	private static long currentTimestampNanos() {
+		Instant now = Instant.now();
+		return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+	}
+
+	private static String resolvePushUri(LokiProperties lokiProperties) {
+		String url = lokiProperties.getUrl();
+		String pushPath = lokiProperties.getPushPath();
+		if (url.endsWith(pushPath)) {
+			return url;
 		}
+		return url.endsWith("/") && pushPath.startsWith("/") ? url + pushPath.substring(1) : url + pushPath;
+	}
+
+	private void validateLabelNames() {
+		for (String labelName : staticLabels.keySet()) {
+			if (!LABEL_NAME_PATTERN.matcher(labelName).matches()) {
+				throw new IllegalArgumentException("Loki 레이블 이름이 올바르지 않습니다: " + labelName);
+			}
+		}
+		for (String labelName : labelFields) {
+			if (!LABEL_NAME_PATTERN.matcher(labelName).matches()) {
+				throw new IllegalArgumentException("Loki 레이블 필드 이름이 올바르지 않습니다: " + labelName);
+			}
+		}
+		if (staticLabels.isEmpty() && labelFields.isEmpty()) {
+			throw new IllegalArgumentException("Loki 스트림에는 하나 이상의 레이블이 필요합니다.");
+		}
+	}
+
+	/**
+	 * 남은 배치를 전송하고, 스케줄러와 연결을 정리합니다.
+	 * <p>
+	 * 지연 전송 중인 배치가 있으면 중단하지 않고 요청 시간 제한만큼 끝나기를 기다립니다.
+	 * </p>
+	 */
+	@Override
+	public void close() {
+		lingerScheduler.shutdown();
+		try {
+			lingerScheduler.awaitTermination(lokiProperties.getRequestTimeoutMs(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		Map<Map<String, String>, List<Entry>> readyBatch;
+		synchronized (this) {
+			readyBatch = takeBatch();
+		}
+		try {
+			push(readyBatch);
+		} finally {
+			connectionProvider.dispose();
+		}
+	}
+
+	/**
+	 * 배치에 담긴 로그 한 건입니다.
+	 *
+	 * @param timestampNanos 로그 시각 (Unix epoch 나노초)
+	 * @param line 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 */
+	private record Entry(long timestampNanos, byte[] line) {
 	}
 }
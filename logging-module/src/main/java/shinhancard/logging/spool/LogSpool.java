@@ -0,0 +1,551 @@
+package shinhancard.logging.spool;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import lombok.extern.slf4j.Slf4j;
+import shinhancard.logging.properties.LogProperties;
+
+/**
+ * 전송하지 못한 로그를 디스크에 보관하는 추가 전용(append-only) 스풀입니다.
+ * <p>
+ * 로그는 메모리 매핑한 고정 크기 세그먼트 파일에 순서대로 기록되며, 세그먼트가 가득 차면 새 세그먼트를 만듭니다.
+ * 모든 로그를 읽은 세그먼트는 삭제하고, 세그먼트 수가 {@code maxTotalSize / segmentSize}에 도달하면 새 로그를 받지 않으므로
+ * 디스크 사용량이 제한됩니다.
+ * </p>
+ * <p>
+ * 각 세그먼트는 헤더(매직 값, 버전, 읽은 위치)와 로그 레코드(길이, CRC32, 재전송 횟수, 본문)로 구성됩니다.
+ * 길이는 본문을 기록한 뒤 마지막에 기록하므로, 기록 중에 프로세스가 종료되어도 불완전한 레코드를 읽지 않습니다.
+ * 애플리케이션을 다시 시작하면 남아 있는 세그먼트를 읽은 위치부터 검사하여 이어서 재전송합니다.
+ * 매핑한 페이지는 세그먼트를 교체하거나 스풀을 닫을 때 디스크에 반영하므로, 프로세스가 비정상 종료되어도 로그는 유지되지만
+ * 운영체제 장애 시에는 마지막 세그먼트의 일부가 유실될 수 있습니다. 읽은 위치도 같은 방식으로 기록되므로 재시작 후 일부 로그가
+ * 중복 전송될 수 있습니다.
+ * </p>
+ * <p>
+ * 다시 전송한 로그가 비동기로 실패하여 {@link #appendFailed(byte[])}로 돌아오면 재전송 횟수를 이어서 기록하고,
+ * 횟수가 {@code maxReplayAttempts}에 도달한 로그는 더 보관하지 않습니다.
+ * 전송 대상은 {@link #peek()}가 반환한 배열을 그대로 실패 처리 기능에 넘겨야 하며, 복사한 배열로 돌아온 로그는 새 로그로 봅니다.
+ * </p>
+ * <p>
+ * 모든 메서드는 스레드 안전하지만, {@link #peek()}와 {@link #remove()}는 재전송 스레드 하나에서만 호출해야 합니다.
+ * </p>
+ */
+@Slf4j
+public class LogSpool implements AutoCloseable {
+
+	private static final String SEGMENT_SUFFIX = ".spool";
+	private static final int MAGIC = 0x4C4F4753; // "LOGS"
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 16;
+	private static final int VERSION_OFFSET = 4;
+	private static final int READ_POSITION_OFFSET = 8;
+	private static final int RECORD_HEADER_SIZE = 12; // 길이(4바이트) + CRC32(4바이트) + 재전송 횟수(4바이트)
+
+	private final Path directory;
+	private final int segmentSize;
+	private final int maxSegments;
+	private final long retryIntervalNanos;
+	private final int maxReplayAttempts;
+	private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+	private final Map<byte[], Integer> replayAttempts = new WeakHashMap<>(); // 배열의 동일성으로 비교, this로 동기화
+
+	// 아래 필드는 this로 동기화합니다.
+	private long nextSegmentId;
+	private long pendingCount;
+	private long pendingBytes;
+	private long appendedCount;
+	private long removedCount;
+	private long rejectedCount;
+	private long exhaustedCount;
+	private boolean closed;
+
+	private volatile long lastFailureNanos;
+
+	/**
+	 * {@link LogSpool}의 생성자입니다.
+	 * <p>
+	 * 디렉터리가 없으면 생성하고, 이전에 남아 있던 세그먼트를 읽어 재전송할 로그를 복구합니다.
+	 * </p>
+	 *
+	 * @param spoolProperties 스풀 설정
+	 * @throws IOException 디렉터리를 만들거나 세그먼트를 읽지 못한 경우
+	 * @throws IllegalArgumentException 설정 값이 올바르지 않은 경우
+	 */
+	public LogSpool(LogProperties.Spool spoolProperties) throws IOException {
+		this(spoolProperties, Path.of(spoolProperties.getDirectory()));
+	}
+
+	/**
+	 * 설정의 디렉터리 대신 지정한 디렉터리를 사용하는 {@link LogSpool}을 생성합니다.
+	 * <p>
+	 * 여러 전송 대상이 각자의 스풀을 가질 때 사용하며, 크기 제한은 스풀마다 따로 적용됩니다.
+	 * </p>
+	 *
+	 * @param spoolProperties 스풀 설정
+	 * @param directory 세그먼트 파일을 저장할 디렉터리
+	 * @throws IOException 디렉터리를 만들거나 세그먼트를 읽지 못한 경우
+	 * @throws IllegalArgumentException 설정 값이 올바르지 않은 경우
+	 */
+	public LogSpool(LogProperties.Spool spoolProperties, Path directory) throws IOException {
+		if (spoolProperties.getSegmentSize() < HEADER_SIZE + RECORD_HEADER_SIZE) {
+			throw new IllegalArgumentException("로그 스풀의 세그먼트 크기가 너무 작습니다.");
+		}
+		if (spoolProperties.getMaxTotalSize() < spoolProperties.getSegmentSize()) {
+			throw new IllegalArgumentException("로그 스풀의 최대 크기는 세그먼트 크기 이상이어야 합니다.");
+		}
+
+		this.directory = directory;
+		this.segmentSize = spoolProperties.getSegmentSize() & ~3; // 레코드를 4바이트 단위로 정렬
+		this.maxSegments = (int)Math.max(2, Math.min(Integer.MAX_VALUE,
+			spoolProperties.getMaxTotalSize() / spoolProperties.getSegmentSize()));
+		this.retryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(spoolProperties.getRetryIntervalMs());
+		this.maxReplayAttempts = spoolProperties.getMaxReplayAttempts();
+		this.lastFailureNanos = System.nanoTime() - retryIntervalNanos;
+
+		Files.createDirectories(directory);
+		recover();
+	}
+
+	/**
+	 * 로그를 스풀의 끝에 추가합니다.
+	 *
+	 * @param logRecord 보관할 로그 메시지
+	 * @return 보관했으면 {@code true}, 스풀이 가득 찼거나 닫혔거나 로그가 세그먼트보다 크면 {@code false}
+	 */
+	public synchronized boolean append(byte[] logRecord) {
+		return append(logRecord, 0);
+	}
+
+	private boolean append(byte[] logRecord, int attempts) {
+		int recordSize = align(RECORD_HEADER_SIZE + logRecord.length);
+		if (closed || logRecord.length == 0 || recordSize > segmentSize - HEADER_SIZE) {
+			rejectedCount++;
+			return false;
+		}
+
+		Segment tail = segments.peekLast();
+		if (tail == null || tail.sealed || tail.capacity - tail.writePosition < recordSize) {
+			if (segments.size() >= maxSegments) {
+				rejectedCount++;
+				return false;
+			}
+			try {
+				tail = roll(tail);
+			} catch (IOException e) {
+				log.warn("로그 스풀 세그먼트 생성 실패: {}", e.getMessage());
+				rejectedCount++;
+				return false;
+			}
+		}
+
+		tail.write(logRecord, attempts);
+		pendingCount++;
+		pendingBytes += logRecord.length;
+		appendedCount++;
+		return true;
+	}
+
+	/**
+	 * 전송 대상이 실패하여 로그를 스풀에 추가합니다.
+	 * <p>
+	 * 실패 시각을 기록하므로, 이후 {@code retryIntervalMs} 동안은 {@link #isReplayDue()}가 {@code false}를 반환합니다.
+	 * {@link #peek()}로 꺼내 다시 전송한 로그이면 재전송 횟수를 이어서 기록하며, 횟수를 모두 사용했으면 보관하지 않습니다.
+	 * </p>
+	 *
+	 * @param logRecord 전송에 실패한 로그 메시지
+	 * @return 보관했으면 {@code true}, 재전송 횟수를 모두 사용했거나 보관하지 못했으면 {@code false}
+	 */
+	public boolean appendFailed(byte[] logRecord) {
+		markFailure();
+		synchronized (this) {
+			Integer attempts = replayAttempts.remove(logRecord);
+			if (attempts == null) {
+				return append(logRecord, 0);
+			}
+			if (maxReplayAttempts > 0 && attempts >= maxReplayAttempts) {
+				exhaustedCount++;
+				return false;
+			}
+			return append(logRecord, attempts);
+		}
+	}
+
+	/**
+	 * 전송 대상의 실패 시각을 기록합니다.
+	 */
+	public void markFailure() {
+		lastFailureNanos = System.nanoTime();
+	}
+
+	/**
+	 * 보관한 로그를 다시 전송할 때가 되었는지 확인합니다.
+	 *
+	 * @return 보관한 로그가 있고 마지막 실패 후 {@code retryIntervalMs}가 지났으면 {@code true}
+	 */
+	public boolean isReplayDue() {
+		return !isEmpty() && System.nanoTime() - lastFailureNanos >= retryIntervalNanos;
+	}
+
+	/**
+	 * 가장 먼저 보관한 로그를 제거하지 않고 반환합니다.
+	 * <p>
+	 * 반환한 배열은 다시 전송한 것으로 보고 재전송 횟수를 기억하여, 전송에 실패해 {@link #appendFailed(byte[])}로 돌아오면 이어서 셉니다.
+	 * </p>
+	 *
+	 * @return 가장 먼저 보관한 로그, 없으면 {@code null}
+	 * @throws IOException 세그먼트를 읽지 못한 경우
+	 */
+	public synchronized byte[] peek() throws IOException {
+		while (!closed) {
+			Segment head = segments.peekFirst();
+			if (head == null) {
+				return null;
+			}
+			if (head.readPosition < head.writePosition) {
+				head.map();
+				byte[] logRecord = head.read();
+				replayAttempts.put(logRecord, head.attempts() + 1);
+				return logRecord;
+			}
+			if (!head.sealed) {
+				return null;
+			}
+			segments.pollFirst();
+			delete(head);
+		}
+		return null;
+	}
+
+	/**
+	 * {@link #peek()}로 확인한 로그를 스풀에서 제거합니다.
+	 * <p>
+	 * 세그먼트의 모든 로그를 제거하면 세그먼트 파일을 삭제합니다.
+	 * </p>
+	 */
+	public synchronized void remove() {
+		Segment head = segments.peekFirst();
+		if (closed || head == null || head.buffer == null || head.readPosition >= head.writePosition) {
+			return;
+		}
+
+		int length = head.advance();
+		pendingCount--;
+		pendingBytes -= length;
+		removedCount++;
+
+		if (head.sealed && head.readPosition >= head.writePosition) {
+			segments.pollFirst();
+			delete(head);
+		}
+	}
+
+	/**
+	 * 보관한 로그가 없는지 확인합니다.
+	 *
+	 * @return 보관한 로그가 없으면 {@code true}
+	 */
+	public synchronized boolean isEmpty() {
+		return pendingCount == 0;
+	}
+
+	/**
+	 * 다시 전송을 기다리는 로그의 건수를 반환합니다.
+	 *
+	 * @return 보관 중인 건수
+	 */
+	public synchronized long getPendingCount() {
+		return pendingCount;
+	}
+
+	/**
+	 * 다시 전송을 기다리는 로그의 크기 합계를 반환합니다.
+	 *
+	 * @return 보관 중인 로그의 크기 (바이트 단위)
+	 */
+	public synchronized long getPendingBytes() {
+		return pendingBytes;
+	}
+
+	/**
+	 * 스풀에 추가한 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 추가한 건수
+	 */
+	public synchronized long getAppendedCount() {
+		return appendedCount;
+	}
+
+	/**
+	 * 다시 전송하여 스풀에서 제거한 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 제거한 건수
+	 */
+	public synchronized long getRemovedCount() {
+		return removedCount;
+	}
+
+	/**
+	 * 스풀이 가득 찼거나 로그가 너무 커서 보관하지 못한 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 보관하지 못한 건수
+	 */
+	public synchronized long getRejectedCount() {
+		return rejectedCount;
+	}
+
+	/**
+	 * 재전송 횟수를 모두 사용하여 더 보관하지 않은 로그의 누적 건수를 반환합니다.
+	 *
+	 * @return 재전송 횟수를 모두 사용한 건수
+	 */
+	public synchronized long getExhaustedCount() {
+		return exhaustedCount;
+	}
+
+	/**
+	 * 디스크에 있는 세그먼트 파일 수를 반환합니다.
+	 *
+	 * @return 세그먼트 수
+	 */
+	public synchronized int getSegmentCount() {
+		return segments.size();
+	}
+
+	/**
+	 * 기록 중인 세그먼트를 디스크에 반영하고 스풀을 닫습니다.
+	 * <p>
+	 * 보관 중인 로그는 세그먼트 파일에 남아, 다음에 스풀을 열 때 다시 전송됩니다.
+	 * </p>
+	 */
+	@Override
+	public synchronized void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		for (Segment segment : segments) {
+			segment.unmap();
+		}
+		if (pendingCount > 0) {
+			log.info("로그 스풀에 전송하지 못한 로그 {}건을 보관했습니다: {}", pendingCount, directory);
+		}
+	}
+
+	/**
+	 * 디렉터리에 남아 있는 세그먼트를 순서대로 읽어 복구합니다.
+	 * <p>
+	 * 복구한 세그먼트에는 더 이상 기록하지 않으며, 새 로그는 새 세그먼트에 기록합니다.
+	 * </p>
+	 */
+	private void recover() throws IOException {
+		List<Path> paths;
+		try (Stream<Path> files = Files.list(directory)) {
+			paths = files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+				.sorted()
+				.toList();
+		}
+
+		for (Path path : paths) {
+			long id;
+			try {
+				String fileName = path.getFileName().toString();
+				id = Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+			} catch (NumberFormatException e) {
+				continue;
+			}
+			nextSegmentId = Math.max(nextSegmentId, id + 1);
+
+			Segment segment = new Segment(path, (int)Math.min(Files.size(path), Integer.MAX_VALUE) & ~3);
+			if (!segment.recover()) {
+				log.warn("로그 스풀 세그먼트 형식이 올바르지 않아 무시합니다: {}", path);
+				continue;
+			}
+			if (segment.readPosition >= segment.writePosition) {
+				delete(segment);
+				continue;
+			}
+			if (!segments.isEmpty()) {
+				segment.unmap(); // 가장 앞의 세그먼트만 매핑을 유지
+			}
+			segments.addLast(segment);
+			pendingCount += segment.recoveredCount;
+			pendingBytes += segment.recoveredBytes;
+		}
+
+		if (pendingCount > 0) {
+			log.info("로그 스풀에서 재전송할 로그 {}건을 복구했습니다: {}", pendingCount, directory);
+		}
+	}
+
+	/**
+	 * 기록 중인 세그먼트를 닫고 새 세그먼트를 만듭니다.
+	 */
+	private Segment roll(Segment tail) throws IOException {
+		Path path = directory.resolve(String.format("%020d%s", nextSegmentId, SEGMENT_SUFFIX));
+		Segment segment = Segment.create(path, segmentSize);
+		nextSegmentId++;
+
+		if (tail != null) {
+			tail.sealed = true;
+			if (tail != segments.peekFirst()) {
+				tail.unmap(); // 읽는 중인 세그먼트가 아니면 매핑을 해제
+			} else if (tail.buffer != null) {
+				tail.buffer.force();
+			}
+		}
+		segments.addLast(segment);
+		return segment;
+	}
+
+	private void delete(Segment segment) {
+		segment.buffer = null;
+		try {
+			Files.deleteIfExists(segment.path);
+		} catch (IOException e) {
+			log.warn("로그 스풀 세그먼트 삭제 실패: {}", e.getMessage());
+		}
+	}
+
+	private static int align(int size) {
+		return (size + 3) & ~3;
+	}
+
+	/**
+	 * 세그먼트 파일 하나와 그 안의 읽기 및 쓰기 위치입니다.
+	 * <p>
+	 * 매핑은 {@link MappedByteBuffer}가 가비지 컬렉션될 때 해제됩니다.
+	 * </p>
+	 */
+	private static final class Segment {
+
+		private final Path path;
+		private final int capacity;
+		private MappedByteBuffer buffer;
+		private int readPosition = HEADER_SIZE;
+		private int writePosition = HEADER_SIZE;
+		private boolean sealed;
+		private long recoveredCount;
+		private long recoveredBytes;
+
+		private Segment(Path path, int capacity) {
+			this.path = path;
+			this.capacity = capacity;
+		}
+
+		static Segment create(Path path, int capacity) throws IOException {
+			Segment segment = new Segment(path, capacity);
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+				segment.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+			}
+			segment.buffer.putInt(0, MAGIC);
+			segment.buffer.putInt(VERSION_OFFSET, VERSION);
+			segment.buffer.putInt(READ_POSITION_OFFSET, HEADER_SIZE);
+			return segment;
+		}
+
+		void map() throws IOException {
+			if (buffer != null) {
+				return;
+			}
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+			}
+		}
+
+		void unmap() {
+			if (buffer != null) {
+				buffer.force();
+				buffer = null;
+			}
+		}
+
+		/**
+		 * 헤더를 확인하고, 읽은 위치부터 CRC32가 일치하는 마지막 레코드까지를 재전송할 범위로 복구합니다.
+		 *
+		 * @return 세그먼트 형식이 올바르면 {@code true}
+		 */
+		boolean recover() throws IOException {
+			if (capacity < HEADER_SIZE) {
+				return false;
+			}
+			map();
+			int position = buffer.getInt(READ_POSITION_OFFSET);
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(VERSION_OFFSET) != VERSION
+				|| position < HEADER_SIZE || position > capacity) {
+				buffer = null;
+				return false;
+			}
+
+			readPosition = position;
+			CRC32 crc = new CRC32();
+			while (position + RECORD_HEADER_SIZE <= capacity) {
+				int length = buffer.getInt(position);
+				if (length <= 0 || length > capacity - position - RECORD_HEADER_SIZE) {
+					break;
+				}
+				crc.reset();
+				crc.update(buffer.slice(position + RECORD_HEADER_SIZE, length));
+				if ((int)crc.getValue() != buffer.getInt(position + 4)) {
+					log.warn("로그 스풀 세그먼트의 손상된 레코드 이후를 무시합니다: {} (위치 {})", path, position);
+					break;
+				}
+				position += align(RECORD_HEADER_SIZE + length);
+				recoveredCount++;
+				recoveredBytes += length;
+			}
+			writePosition = position;
+			sealed = true;
+			return true;
+		}
+
+		/**
+		 * 레코드를 기록합니다. 길이를 마지막에 기록하여 기록 중에 종료되어도 불완전한 레코드를 읽지 않도록 합니다.
+		 */
+		void write(byte[] logRecord, int attempts) {
+			CRC32 crc = new CRC32();
+			crc.update(logRecord);
+			buffer.putInt(writePosition + 4, (int)crc.getValue());
+			buffer.putInt(writePosition + 8, attempts);
+			buffer.put(writePosition + RECORD_HEADER_SIZE, logRecord);
+			buffer.putInt(writePosition, logRecord.length);
+			writePosition += align(RECORD_HEADER_SIZE + logRecord.length);
+		}
+
+		byte[] read() {
+			byte[] logRecord = new byte[buffer.getInt(readPosition)];
+			buffer.get(readPosition + RECORD_HEADER_SIZE, logRecord);
+			return logRecord;
+		}
+
+		/**
+		 * 읽을 레코드를 스풀에서 다시 전송한 횟수를 반환합니다.
+		 */
+		int attempts() {
+			return buffer.getInt(readPosition + 8);
+		}
+
+		/**
+		 * 읽은 위치를 다음 레코드로 옮기고 헤더에 기록합니다.
+		 *
+		 * @return 건너뛴 레코드의 본문 크기
+		 */
+		int advance() {
+			int length = buffer.getInt(readPosition);
+			readPosition += align(RECORD_HEADER_SIZE + length);
+			buffer.putInt(READ_POSITION_OFFSET, readPosition);
+			return length;
+		}
+	}
+}
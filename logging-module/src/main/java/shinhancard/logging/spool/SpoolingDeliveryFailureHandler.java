@@ -0,0 +1,45 @@
+package shinhancard.logging.spool;
+
+import shinhancard.logging.service.DeliveryFailureHandler;
+
+/**
+ * 전송에 실패한 로그를 {@link LogSpool}에 보관하는 {@link DeliveryFailureHandler} 구현체입니다.
+ * <p>
+ * 다시 전송해도 실패할 로그({@link DeliveryFailureHandler#isRetryable(Throwable)}), 스풀이 가득 찼거나 닫혀 보관하지 못한 로그,
+ * 재전송 횟수를 모두 사용한 로그는 대체 핸들러로 넘깁니다.
+ * 보관한 로그는 {@link shinhancard.logging.dispatch.LogDispatcher}가 전송 대상이 복구된 뒤 다시 전송합니다.
+ * </p>
+ */
+public class SpoolingDeliveryFailureHandler implements DeliveryFailureHandler {
+
+	private final LogSpool spool;
+	private final DeliveryFailureHandler fallback;
+
+	/**
+	 * {@link SpoolingDeliveryFailureHandler}의 생성자입니다.
+	 *
+	 * @param spool 전송에 실패한 로그를 보관할 {@link LogSpool}
+	 * @param fallback 스풀에 보관하지 못한 로그를 처리할 {@link DeliveryFailureHandler}
+	 */
+	public SpoolingDeliveryFailureHandler(LogSpool spool, DeliveryFailureHandler fallback) {
+		this.spool = spool;
+		this.fallback = fallback;
+	}
+
+	/**
+	 * 전송에 실패한 로그를 스풀에 보관합니다.
+	 * <p>
+	 * 다시 전송할 수 없는 실패는 전송 대상의 장애가 아니므로 재전송 대기 시간도 늘리지 않고 바로 대체 핸들러로 넘깁니다.
+	 * </p>
+	 *
+	 * @param destination 전송 대상 (예: Kafka 토픽 이름)
+	 * @param logRecord 전송에 실패한 로그 메시지 (UTF-8로 인코딩된 JSON)
+	 * @param exception 실패 원인
+	 */
+	@Override
+	public void onDeliveryFailure(String destination, byte[] logRecord, Exception exception) {
+		if (!DeliveryFailureHandler.isRetryable(exception) || !spool.appendFailed(logRecord)) {
+			fallback.onDeliveryFailure(destination, logRecord, exception);
+		}
+	}
+}
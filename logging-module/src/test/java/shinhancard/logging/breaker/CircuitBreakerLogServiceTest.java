@@ -0,0 +1,114 @@
+package shinhancard.logging.breaker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import shinhancard.logging.service.DeliveryFailureHandler;
+import shinhancard.logging.service.LogService;
+
+class CircuitBreakerLogServiceTest {
+
+	private static final byte[] LOG_RECORD = "{\"uri\":\"/api/users\"}".getBytes(StandardCharsets.UTF_8);
+
+	private final List<byte[]> handedOver = new ArrayList<>();
+	private final DeliveryFailureHandler failureHandler = (destination, logRecord, exception) ->
+		handedOver.add(logRecord);
+
+	@Test
+	@DisplayName("결과를 비동기로 알리는 전송 대상은 반환 시점이 아니라 전달받은 결과로만 한 번 집계한다")
+	void recordsAsyncOutcomeOnce() throws IOException {
+		CircuitBreaker circuitBreaker = new CircuitBreaker(CircuitBreakerTest.properties(0));
+		DeliveryFailureHandler handler = new CircuitBreakerDeliveryFailureHandler(circuitBreaker, failureHandler);
+		CircuitBreakerLogService logService =
+			new CircuitBreakerLogService(logRecord -> { }, circuitBreaker, null, true);
+
+		logService.sendLog(LOG_RECORD);
+		assertEquals(0.0, circuitBreaker.getFailureRate());
+
+		handler.onDeliveryFailure("logs", LOG_RECORD, new IOException("timeout"));
+		assertEquals(1.0, circuitBreaker.getFailureRate()); // 반환 시점의 성공까지 집계했다면 0.5
+
+		logService.sendLog(LOG_RECORD);
+		handler.onDeliverySuccess("logs", 1, 0);
+		assertEquals(0.5, circuitBreaker.getFailureRate());
+		assertEquals(1, handedOver.size());
+	}
+
+	@Test
+	@DisplayName("로그 자체가 원인인 비동기 실패는 성공으로 집계하고 감싼 핸들러로 넘긴다")
+	void recordsNonRetryableFailureAsSuccess() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker(CircuitBreakerTest.properties(0));
+		DeliveryFailureHandler handler = new CircuitBreakerDeliveryFailureHandler(circuitBreaker, failureHandler);
+
+		handler.onDeliveryFailure("logs", LOG_RECORD, new RecordTooLargeException("too large"));
+		handler.onDeliveryFailure("logs", LOG_RECORD, new IOException("timeout"));
+
+		assertEquals(0.5, circuitBreaker.getFailureRate());
+		assertEquals(2, handedOver.size());
+	}
+
+	@Test
+	@DisplayName("반열림 상태의 시험 전송은 비동기로 성공을 전달받아야 닫힌다")
+	void closesOnAsyncTrialSuccess() throws IOException {
+		CircuitBreaker circuitBreaker = new CircuitBreaker(CircuitBreakerTest.properties(0));
+		DeliveryFailureHandler handler = new CircuitBreakerDeliveryFailureHandler(circuitBreaker, failureHandler);
+		CircuitBreakerLogService logService =
+			new CircuitBreakerLogService(logRecord -> { }, circuitBreaker, null, true);
+		for (int i = 0; i < 4; i++) {
+			handler.onDeliveryFailure("logs", LOG_RECORD, new IOException("timeout"));
+		}
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+		logService.sendLogs(List.of(LOG_RECORD, LOG_RECORD)); // 배치 전체가 시험 전송 하나
+		assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+		handler.onDeliverySuccess("logs", 2, 0);
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+	@Test
+	@DisplayName("결과를 바로 반환하는 전송 대상은 반환과 예외로 집계한다")
+	void recordsSyncOutcome() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker(CircuitBreakerTest.properties(0));
+		CircuitBreakerLogService succeeding = new CircuitBreakerLogService(logRecord -> { }, circuitBreaker, null);
+		CircuitBreakerLogService failing = new CircuitBreakerLogService(logRecord -> {
+			throw new IOException("disk full");
+		}, circuitBreaker, null);
+
+		assertDoesNotThrow(() -> succeeding.sendLog(LOG_RECORD));
+		assertThrows(IOException.class, () -> failing.sendLog(LOG_RECORD));
+
+		assertEquals(0.5, circuitBreaker.getFailureRate());
+	}
+
+	@Test
+	@DisplayName("회로가 열려 있으면 대체 서비스로 넘기고, 대체 서비스가 없으면 예외를 던진다")
+	void fallsBackWhileOpen() throws IOException {
+		CircuitBreaker circuitBreaker = new CircuitBreaker(CircuitBreakerTest.properties(60000));
+		for (int i = 0; i < 4; i++) {
+			assertTrue(circuitBreaker.tryAcquire());
+			circuitBreaker.onError(0);
+		}
+		List<byte[]> fallbackRecords = new ArrayList<>();
+		LogService delegate = logRecord -> fail("회로가 열려 있으면 전송 대상을 호출하지 않아야 합니다.");
+
+		CircuitBreakerLogService withFallback =
+			new CircuitBreakerLogService(delegate, circuitBreaker, fallbackRecords::add);
+		withFallback.sendLogs(List.of(LOG_RECORD, LOG_RECORD));
+		assertEquals(2, fallbackRecords.size());
+		assertEquals(2, withFallback.getFallbackCount());
+
+		CircuitBreakerLogService withoutFallback = new CircuitBreakerLogService(delegate, circuitBreaker, null);
+		assertThrows(CircuitBreakerLogService.CircuitBreakerOpenException.class,
+			() -> withoutFallback.sendLog(LOG_RECORD));
+		assertEquals(1, withoutFallback.getFallbackCount());
+	}
+}
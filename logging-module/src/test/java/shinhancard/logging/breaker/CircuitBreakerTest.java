@@ -0,0 +1,146 @@
+package shinhancard.logging.breaker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import shinhancard.logging.properties.LogProperties;
+
+class CircuitBreakerTest {
+
+	@Test
+	@DisplayName("실패율이 임계값을 넘으면 열리고, 대기 시간이 지나면 반열림에서 시험 호출이 모두 성공해야 닫힌다")
+	void transitionsThroughAllStates() throws InterruptedException {
+		CircuitBreaker circuitBreaker = new CircuitBreaker(properties(100));
+
+		succeed(circuitBreaker);
+		succeed(circuitBreaker);
+		fail(circuitBreaker);
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		fail(circuitBreaker); // 4건 중 2건 실패
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+		assertFalse(circuitBreaker.tryAcquire());
+		assertEquals(1, circuitBreaker.getNotPermittedCount());
+
+		Thread.sleep(150);
+		assertTrue(circuitBreaker.tryAcquire());
+		assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		circuitBreaker.onSuccess(0);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		assertTrue(circuitBreaker.tryAcquire());
+		circuitBreaker.onSuccess(0);
+
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		assertEquals(0.0, circuitBreaker.getFailureRate());
+		assertEquals(1, circuitBreaker.getOpenedCount());
+		assertEquals(1, circuitBreaker.getHalfOpenedCount());
+		assertEquals(1, circuitBreaker.getClosedCount());
+	}
+
+	@Test
+	@DisplayName("반열림 상태에서는 halfOpenTrialCalls건까지만 시험 호출을 허용한다")
+	void limitsTrialCalls() {
+		CircuitBreaker circuitBreaker = openCircuitBreaker();
+
+		assertTrue(circuitBreaker.tryAcquire());
+		assertTrue(circuitBreaker.tryAcquire());
+		assertFalse(circuitBreaker.tryAcquire());
+		assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		assertEquals(1, circuitBreaker.getNotPermittedCount());
+	}
+
+	@Test
+	@DisplayName("반열림 상태에서 시험 호출이 하나라도 실패하거나 느리면 다시 열린다")
+	void reopensOnTrialFailure() {
+		CircuitBreaker circuitBreaker = openCircuitBreaker();
+		assertTrue(circuitBreaker.tryAcquire());
+		circuitBreaker.onSuccess(0);
+		assertTrue(circuitBreaker.tryAcquire());
+		circuitBreaker.onError(0);
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+		assertTrue(circuitBreaker.tryAcquire()); // openDurationMs가 0이므로 바로 반열림
+		circuitBreaker.onSuccess(TimeUnit.SECONDS.toNanos(1));
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertEquals(3, circuitBreaker.getOpenedCount());
+		assertEquals(0, circuitBreaker.getClosedCount());
+	}
+
+	@Test
+	@DisplayName("느린 호출 비율이 임계값을 넘어도 열린다")
+	void opensOnSlowCalls() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker(properties(100));
+		long slow = TimeUnit.MILLISECONDS.toNanos(500);
+
+		circuitBreaker.onSuccess(0);
+		circuitBreaker.onSuccess(0);
+		circuitBreaker.onSuccess(slow);
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		circuitBreaker.onSuccess(slow);
+
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+	}
+
+	@Test
+	@DisplayName("minimumCalls건 미만이면 모두 실패해도 열리지 않고, 오래된 결과는 창에서 밀려난다")
+	void waitsForMinimumCallsAndSlidesWindow() {
+		LogProperties.CircuitBreaker properties = properties(100);
+		properties.setSlidingWindowSize(2);
+		properties.setMinimumCalls(2);
+		properties.setFailureRateThreshold(1.0);
+		CircuitBreaker circuitBreaker = new CircuitBreaker(properties);
+
+		fail(circuitBreaker);
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		succeed(circuitBreaker);
+		succeed(circuitBreaker); // 첫 실패가 창에서 밀려남
+		assertEquals(0.0, circuitBreaker.getFailureRate());
+		fail(circuitBreaker);
+		assertEquals(0.5, circuitBreaker.getFailureRate());
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+	@Test
+	@DisplayName("호출 건수 설정이 0 이하이면 생성하지 않는다")
+	void rejectsInvalidProperties() {
+		LogProperties.CircuitBreaker properties = properties(100);
+		properties.setHalfOpenTrialCalls(0);
+
+		assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(properties));
+	}
+
+	private static CircuitBreaker openCircuitBreaker() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker(properties(0));
+		for (int i = 0; i < 4; i++) {
+			fail(circuitBreaker);
+		}
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		return circuitBreaker;
+	}
+
+	private static void succeed(CircuitBreaker circuitBreaker) {
+		assertTrue(circuitBreaker.tryAcquire());
+		circuitBreaker.onSuccess(0);
+	}
+
+	private static void fail(CircuitBreaker circuitBreaker) {
+		assertTrue(circuitBreaker.tryAcquire());
+		circuitBreaker.onError(0);
+	}
+
+	static LogProperties.CircuitBreaker properties(long openDurationMs) {
+		LogProperties.CircuitBreaker properties = new LogProperties.CircuitBreaker();
+		properties.setSlidingWindowSize(4);
+		properties.setMinimumCalls(4);
+		properties.setFailureRateThreshold(0.5);
+		properties.setSlowCallThresholdMs(100);
+		properties.setSlowCallRateThreshold(0.5);
+		properties.setOpenDurationMs(openDurationMs);
+		properties.setHalfOpenTrialCalls(2);
+		return properties;
+	}
+}
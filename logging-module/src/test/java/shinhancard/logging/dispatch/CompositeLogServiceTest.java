@@ -0,0 +1,107 @@
+package shinhancard.logging.dispatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import shinhancard.logging.service.LogService;
+
+class CompositeLogServiceTest {
+
+	private static final byte[] LOG_RECORD = "{\"uri\":\"/api/users\"}".getBytes(StandardCharsets.UTF_8);
+
+	private final List<String> calls = new ArrayList<>();
+
+	@Test
+	@DisplayName("같은 바이트 배열을 복사하지 않고 등록 순서대로 모든 전송 대상에 넘긴다")
+	void sendsSameArrayToAllDestinations() throws IOException {
+		List<byte[]> kafka = new ArrayList<>();
+		List<byte[]> loki = new ArrayList<>();
+		Map<String, LogService> destinations = new LinkedHashMap<>();
+		destinations.put("kafka", logRecord -> {
+			calls.add("kafka");
+			kafka.add(logRecord);
+		});
+		destinations.put("loki", logRecord -> {
+			calls.add("loki");
+			loki.add(logRecord);
+		});
+
+		new CompositeLogService(destinations).sendLog(LOG_RECORD);
+
+		assertEquals(List.of("kafka", "loki"), calls);
+		assertSame(LOG_RECORD, kafka.get(0));
+		assertSame(LOG_RECORD, loki.get(0));
+	}
+
+	@Test
+	@DisplayName("한 대상이 실패해도 나머지 대상에 전송하고, 첫 번째 예외에 나머지 예외를 덧붙여 던진다")
+	void continuesAfterFailure() {
+		IOException first = new IOException("kafka");
+		IOException second = new IOException("file");
+		Map<String, LogService> destinations = new LinkedHashMap<>();
+		destinations.put("kafka", logRecord -> {
+			throw first;
+		});
+		destinations.put("loki", logRecord -> calls.add("loki"));
+		destinations.put("file", logRecord -> {
+			throw second;
+		});
+
+		IOException thrown = assertThrows(IOException.class,
+			() -> new CompositeLogService(destinations).sendLog(LOG_RECORD));
+
+		assertSame(first, thrown);
+		assertEquals(List.of(second), List.of(thrown.getSuppressed()));
+		assertEquals(List.of("loki"), calls);
+	}
+
+	@Test
+	@DisplayName("닫을 때 한 대상의 종료가 실패해도 모든 대상을 닫는다")
+	void closesAllDestinations() {
+		Map<String, LogService> destinations = new LinkedHashMap<>();
+		destinations.put("kafka", new ClosingLogService("kafka", true));
+		destinations.put("loki", new ClosingLogService("loki", false));
+
+		new CompositeLogService(destinations).close();
+
+		assertEquals(List.of("kafka", "loki"), calls);
+	}
+
+	@Test
+	@DisplayName("전송 대상이 없으면 생성하지 않는다")
+	void rejectsEmptyDestinations() {
+		assertThrows(IllegalArgumentException.class, () -> new CompositeLogService(Map.of()));
+	}
+
+	private class ClosingLogService implements LogService, AutoCloseable {
+
+		private final String name;
+		private final boolean failOnClose;
+
+		ClosingLogService(String name, boolean failOnClose) {
+			this.name = name;
+			this.failOnClose = failOnClose;
+		}
+
+		@Override
+		public void sendLog(byte[] logRecord) {
+		}
+
+		@Override
+		public void close() throws IOException {
+			calls.add(name);
+			if (failOnClose) {
+				throw new IOException("close failed");
+			}
+		}
+	}
+}
@@ -0,0 +1,231 @@
+package shinhancard.logging.dispatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import shinhancard.logging.properties.LogProperties;
+import shinhancard.logging.service.LogService;
+import shinhancard.logging.spool.LogSpool;
+
+class LogDispatcherTest {
+
+	@TempDir
+	private Path directory;
+
+	private final BlockingLogService delegate = new BlockingLogService();
+	private LogDispatcher dispatcher;
+
+	@AfterEach
+	void tearDown() {
+		delegate.open();
+		if (dispatcher != null) {
+			dispatcher.close();
+		}
+	}
+
+	@Test
+	@DisplayName("DROP_NEWEST는 큐가 가득 차면 새 로그를 버린다")
+	void dropsNewest() throws InterruptedException {
+		dispatcher = new LogDispatcher(delegate, dispatcherProperties(LogProperties.OverflowPolicy.DROP_NEWEST));
+		fillQueue();
+
+		send(3);
+		send(4);
+
+		assertEquals(2, dispatcher.getDroppedCount());
+		assertEquals(3, dispatcher.getEnqueuedCount());
+		closeAndAssertDelivered("0", "1", "2");
+	}
+
+	@Test
+	@DisplayName("DROP_OLDEST는 큐가 가득 차면 가장 오래된 로그를 버리고 새 로그를 넣는다")
+	void dropsOldest() throws InterruptedException {
+		dispatcher = new LogDispatcher(delegate, dispatcherProperties(LogProperties.OverflowPolicy.DROP_OLDEST));
+		fillQueue();
+
+		send(3);
+		send(4);
+
+		assertEquals(2, dispatcher.getDroppedCount());
+		assertEquals(5, dispatcher.getEnqueuedCount());
+		closeAndAssertDelivered("0", "3", "4");
+	}
+
+	@Test
+	@DisplayName("BLOCK은 큐에 자리가 나기를 기다리고, blockTimeoutMs 안에 자리가 나지 않으면 버린다")
+	void blocksUntilTimeout() throws InterruptedException {
+		LogProperties.Dispatcher dispatcherProperties = dispatcherProperties(LogProperties.OverflowPolicy.BLOCK);
+		dispatcherProperties.setBlockTimeoutMs(500);
+		dispatcher = new LogDispatcher(delegate, dispatcherProperties);
+		fillQueue();
+
+		long start = System.nanoTime();
+		send(3);
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(500));
+		assertEquals(1, dispatcher.getDroppedCount());
+
+		Thread.ofVirtual().start(() -> {
+			sleep(50);
+			delegate.open();
+		});
+		send(4); // 소비자가 전송을 마치고 큐에서 로그를 꺼내면 들어감
+
+		assertEquals(1, dispatcher.getDroppedCount());
+		assertEquals(4, dispatcher.getEnqueuedCount());
+		closeAndAssertDelivered("0", "1", "2", "4");
+	}
+
+	@Test
+	@DisplayName("스풀을 사용하면 큐가 가득 찰 때 버릴 로그를 스풀에 보관하고 보관한 순서대로 다시 전송한다")
+	void spoolsOverflow() throws IOException, InterruptedException {
+		dispatcher = new LogDispatcher(delegate, dispatcherProperties(LogProperties.OverflowPolicy.DROP_NEWEST),
+			new LogSpool(spoolProperties()));
+		fillQueue();
+
+		send(3);
+		send(4);
+		awaitCount(dispatcher::getReplayedCount, 2); // 소비자가 막혀 있는 동안 재전송 스레드가 전송
+
+		assertEquals(0, dispatcher.getDroppedCount());
+		assertEquals(2, dispatcher.getSpooledCount());
+		closeAndAssertDelivered("0", "3", "4", "1", "2");
+	}
+
+	@Test
+	@DisplayName("소비자는 큐에 쌓인 로그를 batchSize건씩 묶어 한 번에 전송한다")
+	void sendsInBatches() throws InterruptedException {
+		LogProperties.Dispatcher dispatcherProperties = dispatcherProperties(LogProperties.OverflowPolicy.DROP_NEWEST);
+		dispatcherProperties.setQueueCapacity(10);
+		dispatcherProperties.setBatchSize(3);
+		dispatcher = new LogDispatcher(delegate, dispatcherProperties);
+		send(0);
+		assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+		for (int i = 1; i <= 7; i++) {
+			send(i);
+		}
+
+		closeAndAssertDelivered("0", "1", "2", "3", "4", "5", "6", "7");
+		assertEquals(List.of(1, 3, 3, 1), delegate.batchSizes());
+		assertEquals(8, dispatcher.getSentCount());
+	}
+
+	@Test
+	@DisplayName("배치 크기가 0 이하이면 생성하지 않는다")
+	void rejectsInvalidProperties() {
+		LogProperties.Dispatcher dispatcherProperties = dispatcherProperties(LogProperties.OverflowPolicy.DROP_NEWEST);
+		dispatcherProperties.setBatchSize(0);
+
+		assertThrows(IllegalArgumentException.class, () -> new LogDispatcher(delegate, dispatcherProperties));
+	}
+
+	/**
+	 * 첫 로그를 소비자가 꺼내 전송하다 막히게 한 뒤, 크기가 2인 큐를 가득 채웁니다.
+	 */
+	private void fillQueue() throws InterruptedException {
+		send(0);
+		assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+		send(1);
+		send(2);
+	}
+
+	private void send(int index) {
+		dispatcher.sendLog(String.valueOf(index).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void closeAndAssertDelivered(String... expected) {
+		delegate.open();
+		dispatcher.close();
+		assertEquals(List.of(expected), delegate.delivered());
+	}
+
+	private static void awaitCount(LongSupplier count, long expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (count.getAsLong() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(expected, count.getAsLong());
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static LogProperties.Dispatcher dispatcherProperties(LogProperties.OverflowPolicy overflowPolicy) {
+		LogProperties.Dispatcher dispatcherProperties = new LogProperties.Dispatcher();
+		dispatcherProperties.setQueueCapacity(2);
+		dispatcherProperties.setBatchSize(1);
+		dispatcherProperties.setOverflowPolicy(overflowPolicy);
+		return dispatcherProperties;
+	}
+
+	private LogProperties.Spool spoolProperties() {
+		LogProperties.Spool spoolProperties = new LogProperties.Spool();
+		spoolProperties.setDirectory(directory.toString());
+		spoolProperties.setSegmentSize(4096);
+		spoolProperties.setMaxTotalSize(16384);
+		return spoolProperties;
+	}
+
+	/**
+	 * 전송한 로그와 배치 크기를 순서대로 기록하고, 열릴 때까지 소비자 스레드의 배치 전송을 막는 {@link LogService}입니다.
+	 * 재전송 스레드가 사용하는 단건 전송은 막지 않습니다.
+	 */
+	private static class BlockingLogService implements LogService {
+
+		private final List<String> delivered = new ArrayList<>();
+		private final List<Integer> batchSizes = new ArrayList<>();
+		private final CountDownLatch entered = new CountDownLatch(1);
+		private final CountDownLatch gate = new CountDownLatch(1);
+
+		@Override
+		public synchronized void sendLog(byte[] logRecord) {
+			delivered.add(new String(logRecord, StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public void sendLogs(List<byte[]> logRecords) throws IOException {
+			synchronized (this) {
+				batchSizes.add(logRecords.size());
+			}
+			for (byte[] logRecord : logRecords) {
+				sendLog(logRecord);
+			}
+			entered.countDown();
+			try {
+				gate.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			}
+		}
+
+		void open() {
+			gate.countDown();
+		}
+
+		synchronized List<String> delivered() {
+			return new ArrayList<>(delivered);
+		}
+
+		synchronized List<Integer> batchSizes() {
+			return new ArrayList<>(batchSizes);
+		}
+	}
+}
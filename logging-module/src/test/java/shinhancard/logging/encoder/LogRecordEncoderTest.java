@@ -0,0 +1,59 @@
+package shinhancard.logging.encoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import shinhancard.logging.mask.SensitiveDataMasker;
+
+class LogRecordEncoderTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final String TRUNCATED_SUFFIX = "... [TRUNCATED]";
+
+	@Test
+	@DisplayName("본문은 문자 수가 아니라 UTF-8 바이트 수로 잘라낸다")
+	void truncatesBodyByUtf8Bytes() throws IOException {
+		assertEquals("가나다" + TRUNCATED_SUFFIX, encodedBody(10, "가나다라", false));
+		assertEquals("가나다라", encodedBody(12, "가나다라", false));
+	}
+
+	@Test
+	@DisplayName("서로게이트 쌍으로 된 문자는 나누지 않고 그 앞에서 자른다")
+	void doesNotSplitSurrogatePair() throws IOException {
+		assertEquals("a😀" + TRUNCATED_SUFFIX, encodedBody(5, "a😀b", false));
+		assertEquals("a" + TRUNCATED_SUFFIX, encodedBody(4, "a😀b", false));
+	}
+
+	@Test
+	@DisplayName("앞부분만 캡처한 본문은 최대 크기 이하여도 잘린 표시를 붙인다")
+	void marksCapturedBody() throws IOException {
+		assertEquals("{\"a\":1" + TRUNCATED_SUFFIX, encodedBody(1024, "{\"a\":1", true));
+	}
+
+	@Test
+	@DisplayName("잘라낸 본문의 민감 정보도 마스킹한다")
+	void masksTruncatedBody() throws IOException {
+		String body = "{\"name\":\"홍길동\",\"password\":\"secret-value\"}";
+		int maxSize = body.getBytes(StandardCharsets.UTF_8).length - 3;
+
+		assertEquals("{\"name\":\"홍길동\",\"password\":\"[PROTECTED]\"" + TRUNCATED_SUFFIX,
+			encodedBody(maxSize, body, false));
+	}
+
+	private static String encodedBody(int maxBodySize, String body, boolean captured) throws IOException {
+		LogRecordEncoder encoder = new LogRecordEncoder(
+			new SensitiveDataMasker(List.of("password"), List.of("authorization")), maxBodySize);
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users");
+		byte[] logRecord = encoder.encodeRequest(request, "trace-1", body, captured);
+		return OBJECT_MAPPER.readTree(logRecord).get("body").asText();
+	}
+}
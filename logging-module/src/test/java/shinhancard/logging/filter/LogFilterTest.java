@@ -0,0 +1,138 @@
+package shinhancard.logging.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import shinhancard.common.properties.BodyProperties;
+import shinhancard.common.properties.TraceProperties;
+import shinhancard.common.trace.RandomTraceIdGenerator;
+import shinhancard.common.trace.TraceIdResolver;
+import shinhancard.common.wrapper.RequestBodyCapture;
+import shinhancard.logging.properties.LogProperties;
+import shinhancard.logging.sampling.LogSampler;
+
+class LogFilterTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final List<byte[]> logRecords = new ArrayList<>();
+
+	@Test
+	@DisplayName("체인이 예외를 던지면 상태 500과 예외 클래스로 교환 로그를 남긴 뒤 예외를 다시 던진다")
+	void logsExchangeWhenChainThrows() throws IOException {
+		LogFilter logFilter = logFilter(new LogProperties());
+
+		assertThrows(IllegalStateException.class, () -> logFilter.doFilter(
+			new MockHttpServletRequest("POST", "/api/payments"), new MockHttpServletResponse(), failingChain()));
+
+		assertEquals(1, logRecords.size());
+		JsonNode logRecord = OBJECT_MAPPER.readTree(logRecords.get(0));
+		assertEquals(500, logRecord.get("status").asInt());
+		assertEquals(IllegalStateException.class.getName(), logRecord.get("exception").asText());
+		assertEquals("/api/payments", logRecord.get("uri").asText());
+	}
+
+	@Test
+	@DisplayName("헤드 샘플링에서 제외된 요청도 예외로 끝나면 테일 샘플링으로 기록한다")
+	void keepsUnsampledExchangeWhenChainThrows() throws IOException {
+		LogProperties logProperties = new LogProperties();
+		logProperties.getSampling().setRate(0.0);
+		LogFilter logFilter = logFilter(logProperties);
+
+		assertThrows(IllegalStateException.class, () -> logFilter.doFilter(
+			new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(), failingChain()));
+
+		assertEquals(1, logRecords.size());
+		JsonNode logRecord = OBJECT_MAPPER.readTree(logRecords.get(0));
+		assertEquals(500, logRecord.get("status").asInt());
+		assertEquals(IllegalStateException.class.getName(), logRecord.get("exception").asText());
+	}
+
+	@Test
+	@DisplayName("분리 기록 방식에서 제외된 요청이 예외로 끝나면 요청 로그를 기록한다")
+	void keepsUnsampledRequestWhenChainThrowsInSplitMode() throws IOException {
+		LogProperties logProperties = new LogProperties();
+		logProperties.setRecordMode(LogProperties.RecordMode.SPLIT);
+		logProperties.getSampling().setRate(0.0);
+		LogFilter logFilter = logFilter(logProperties);
+
+		assertThrows(IllegalStateException.class, () -> logFilter.doFilter(
+			new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(), failingChain()));
+
+		assertEquals(1, logRecords.size());
+		assertEquals("/api/users", OBJECT_MAPPER.readTree(logRecords.get(0)).get("uri").asText());
+	}
+
+	@Test
+	@DisplayName("테일 샘플링 기준이 에러 상태를 포함하지 않으면 제외된 요청의 예외는 기록하지 않는다")
+	void dropsUnsampledExchangeBelowTailThreshold() {
+		LogProperties logProperties = new LogProperties();
+		logProperties.getSampling().setRate(0.0);
+		logProperties.getSampling().setKeepStatusAtLeast(501);
+		LogFilter logFilter = logFilter(logProperties);
+
+		assertThrows(IllegalStateException.class, () -> logFilter.doFilter(
+			new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(), failingChain()));
+
+		assertTrue(logRecords.isEmpty());
+	}
+
+	@Test
+	@DisplayName("정상적으로 끝난 요청은 응답 상태로 기록하고 예외 필드를 남기지 않는다")
+	void logsExchangeWithoutException() throws Exception {
+		LogFilter logFilter = logFilter(new LogProperties());
+		FilterChain chain = (request, response) -> ((HttpServletResponse)response).setStatus(201);
+
+		logFilter.doFilter(new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(), chain);
+
+		assertEquals(1, logRecords.size());
+		JsonNode logRecord = OBJECT_MAPPER.readTree(logRecords.get(0));
+		assertEquals(201, logRecord.get("status").asInt());
+		assertFalse(logRecord.has("exception"));
+	}
+
+	@Test
+	@DisplayName("버퍼 모드에서 응답 본문은 최대 크기까지만 문자 경계에 맞춰 기록하고 잘린 표시를 남긴다")
+	void truncatesBufferedResponseBody() throws Exception {
+		LogProperties logProperties = new LogProperties();
+		logProperties.getResponseBody().setCaptureMode(LogProperties.CaptureMode.BUFFER);
+		logProperties.getResponseBody().setTruncate(true);
+		logProperties.getBody().setMaxSize(10);
+		LogFilter logFilter = logFilter(logProperties);
+		FilterChain chain = (request, response) ->
+			response.getOutputStream().write("가나다라마".getBytes(StandardCharsets.UTF_8)); // 15바이트
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		logFilter.doFilter(new MockHttpServletRequest("GET", "/api/users"), response, chain);
+
+		assertEquals("가나다라마", response.getContentAsString(StandardCharsets.UTF_8));
+		JsonNode logRecord = OBJECT_MAPPER.readTree(logRecords.get(0));
+		assertEquals("가나다... [TRUNCATED]", logRecord.get("response").get("body").asText());
+	}
+
+	private static FilterChain failingChain() {
+		return (request, response) -> {
+			throw new IllegalStateException("boom");
+		};
+	}
+
+	private LogFilter logFilter(LogProperties logProperties) {
+		return new LogFilter(logProperties, logRecords::add, new RequestBodyCapture(new BodyProperties()),
+			new TraceIdResolver(new RandomTraceIdGenerator(), new TraceProperties()),
+			new LogSampler(logProperties.getSampling()));
+	}
+}
@@ -0,0 +1,74 @@
+package shinhancard.logging.mask;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SensitiveDataMaskerTest {
+
+	private final SensitiveDataMasker masker = new SensitiveDataMasker(
+		List.of("password", "user.cardNumber", "payment.*"), List.of("authorization"));
+
+	@Test
+	@DisplayName("올바른 JSON은 필드 경로로 대조하여 일치한 값만 마스킹한다")
+	void masksByFieldPath() {
+		assertEquals("{\"user\":{\"cardNumber\":\"[PROTECTED]\"},\"cardNumber\":\"1234\",\"password\":\"[PROTECTED]\"}",
+			mask("{\"user\":{\"cardNumber\":\"5678\"},\"cardNumber\":\"1234\",\"password\":\"x\"}"));
+	}
+
+	@Test
+	@DisplayName("JSON 문법 오류 뒤에 있는 민감 정보 필드도 마스킹한다")
+	void masksFieldsAfterSyntaxError() {
+		assertEquals("{\"a\":1,,\"password\":\"[PROTECTED]\"}", mask("{\"a\":1,,\"password\":\"x\"}"));
+		assertEquals("{\"a\":1 \"password\" : \"[PROTECTED]\", \"b\":2}",
+			mask("{\"a\":1 \"password\" : \"secret\", \"b\":2}"));
+		assertEquals("{\"a\":tru,\"items\":[{\"password\":\"[PROTECTED]\"}]}",
+			mask("{\"a\":tru,\"items\":[{\"password\":\"x\\\"y\"}]}"));
+	}
+
+	@Test
+	@DisplayName("문법 오류 뒤에서는 경로를 알 수 없으므로 패턴의 마지막 이름과 같은 필드를 모두 마스킹한다")
+	void masksByLastNameAfterSyntaxError() {
+		assertEquals("{\"a\":1,,\"cardNumber\":\"[PROTECTED]\",\"payment\":\"[PROTECTED]\",\"b\":true}",
+			mask("{\"a\":1,,\"cardNumber\":\"1234\",\"payment\":{\"cvc\":\"123\",\"card\":[1,2]},\"b\":true}"));
+	}
+
+	@Test
+	@DisplayName("문법 오류 뒤의 숫자나 닫히지 않은 값도 마스킹한다")
+	void masksUnterminatedValuesAfterSyntaxError() {
+		assertEquals("{\"a\":1,,\"password\":\"[PROTECTED]\",\"b\":2}", mask("{\"a\":1,,\"password\":1234,\"b\":2}"));
+		assertEquals("{\"a\":1,,\"password\":\"[PROTECTED]\"", mask("{\"a\":1,,\"password\":\"secr"));
+		assertEquals("{\"a\":1,,\"password\":\"[PROTECTED]\"", mask("{\"a\":1,,\"password\":{\"x\":[1,"));
+	}
+
+	@Test
+	@DisplayName("이스케이프된 필드 이름도 풀어서 대조한다")
+	void unescapesFieldNameAfterSyntaxError() {
+		assertEquals("{\"a\":1,,\"pass\\u0077ord\":\"[PROTECTED]\"}", mask("{\"a\":1,,\"pass\\u0077ord\":\"x\"}"));
+	}
+
+	@Test
+	@DisplayName("잘린 JSON은 잘린 위치까지 경로로 마스킹하고, 잘린 민감 정보 값은 마스킹 값으로 바꾼다")
+	void masksTruncatedJson() {
+		assertEquals("{\"user\":{\"cardNumber\":\"[PROTECTED]\"},\"cardNumber\":\"12",
+			mask("{\"user\":{\"cardNumber\":\"5678\"},\"cardNumber\":\"12"));
+		assertEquals("{\"name\":\"홍길동\",\"password\":\"[PROTECTED]\"", mask("{\"name\":\"홍길동\",\"password\":\"sec"));
+		assertEquals("{\"name\":\"홍길", mask("{\"name\":\"홍길"));
+	}
+
+	@Test
+	@DisplayName("폼 데이터와 쿼리 문자열은 파라미터 이름으로 마스킹한다")
+	void masksFormBody() {
+		assertEquals("name=kim&password=[PROTECTED]", mask("name=kim&password=1234"));
+		assertEquals("pass%77ord=[PROTECTED]", masker.maskQueryString("pass%77ord=1234"));
+	}
+
+	private String mask(String body) {
+		StringBuilder out = new StringBuilder();
+		masker.maskBody(body, out);
+		return out.toString();
+	}
+}
@@ -0,0 +1,109 @@
+package shinhancard.logging.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import shinhancard.logging.properties.FileProperties;
+
+class FileLogServiceTest {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	@DisplayName("로그마다 줄바꿈을 붙여 한 줄에 하나씩 기록하고, 버퍼보다 큰 로그도 순서대로 기록한다")
+	void writesOneRecordPerLine() throws IOException {
+		String large = "{\"body\":\"" + "x".repeat(100) + "\"}"; // 버퍼(64바이트)보다 큼
+
+		try (FileLogService fileLogService = new FileLogService(fileProperties())) {
+			fileLogService.sendLog(record(0));
+			fileLogService.sendLogs(List.of(record(1), large.getBytes(StandardCharsets.UTF_8), record(2)));
+			assertEquals(4, fileLogService.getWrittenCount());
+		}
+
+		assertEquals(List.of(line(0), line(1), large, line(2)), Files.readAllLines(activeFile()));
+	}
+
+	@Test
+	@DisplayName("파일이 maxFileSize를 넘으면 교체하고, 교체된 파일은 gzip으로 압축한다")
+	void rollsAndCompressesAtMaxFileSize() throws IOException {
+		FileProperties fileProperties = fileProperties();
+		fileProperties.setMaxFileSize(20); // 8바이트 로그 2건까지
+		fileProperties.setGzip(true);
+
+		try (FileLogService fileLogService = new FileLogService(fileProperties)) {
+			for (int i = 0; i < 5; i++) {
+				fileLogService.sendLog(record(i));
+			}
+			assertEquals(2, fileLogService.getRolledCount());
+		} // 진행 중인 압축을 기다림
+
+		List<Path> rolledFiles = rolledFiles();
+		assertEquals(2, rolledFiles.size());
+		assertTrue(rolledFiles.stream().allMatch(path -> path.getFileName().toString().endsWith(".gz")));
+		assertEquals(line(0) + "\n" + line(1) + "\n", gunzip(rolledFiles.get(0)));
+		assertEquals(line(2) + "\n" + line(3) + "\n", gunzip(rolledFiles.get(1)));
+		assertEquals(List.of(line(4)), Files.readAllLines(activeFile()));
+	}
+
+	@Test
+	@DisplayName("닫은 뒤에는 기록하지 않고, 다시 열면 기존 파일 뒤에 이어서 기록한다")
+	void appendsAfterReopen() throws IOException {
+		FileLogService closedService = new FileLogService(fileProperties());
+		closedService.sendLog(record(0));
+		closedService.close();
+		assertThrows(IOException.class, () -> closedService.sendLog(record(1)));
+
+		try (FileLogService fileLogService = new FileLogService(fileProperties())) {
+			fileLogService.sendLog(record(2));
+		}
+
+		assertEquals(List.of(line(0), line(2)), Files.readAllLines(activeFile()));
+		assertTrue(rolledFiles().isEmpty());
+	}
+
+	private FileProperties fileProperties() {
+		FileProperties fileProperties = new FileProperties();
+		fileProperties.setDirectory(directory.toString());
+		fileProperties.setBufferSize(64);
+		return fileProperties;
+	}
+
+	private Path activeFile() {
+		return directory.resolve("filter.log");
+	}
+
+	private List<Path> rolledFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(path -> path.getFileName().toString().startsWith("filter.log."))
+				.sorted()
+				.toList();
+		}
+	}
+
+	private static String gunzip(Path file) throws IOException {
+		try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static byte[] record(int index) {
+		return line(index).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String line(int index) {
+		return "{\"n\":" + index + "}";
+	}
+}
@@ -0,0 +1,150 @@
+package shinhancard.logging.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import shinhancard.logging.encoder.LogRecordDecoder;
+import shinhancard.logging.encoder.SmileTranscoder;
+import shinhancard.logging.properties.KafkaProperties;
+
+class KafkaServiceTest {
+
+	private static final String TOPIC = "filter-log";
+	private static final byte[] LOG_RECORD =
+		"{\"traceId\":\"abc\",\"context\":\"request\",\"body\":\"홍길동\"}".getBytes(StandardCharsets.UTF_8);
+
+	private final MockProducer<String, byte[]> producer =
+		new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+	private final List<Failure> failures = new ArrayList<>();
+
+	@Test
+	@DisplayName("브로커가 수신을 확인하면 성공 건수만 늘리고 실패 처리기로 넘기지 않는다")
+	void countsAcknowledgedRecords() {
+		KafkaService kafkaService = kafkaService(KafkaProperties.Encoding.JSON);
+
+		kafkaService.sendLog(LOG_RECORD);
+		kafkaService.sendLog(LOG_RECORD);
+		assertEquals(0, kafkaService.getSuccessCount());
+
+		assertTrue(producer.completeNext());
+		assertTrue(producer.completeNext());
+
+		assertEquals(2, kafkaService.getSuccessCount());
+		assertEquals(0, kafkaService.getFailureCount());
+		assertTrue(failures.isEmpty());
+		assertArrayEquals(LOG_RECORD, producer.history().get(0).value());
+	}
+
+	@Test
+	@DisplayName("콜백으로 받은 전송 실패는 실패 건수를 늘리고 원본 로그를 실패 처리기로 넘긴다")
+	void handsOverFailedRecords() {
+		KafkaService kafkaService = kafkaService(KafkaProperties.Encoding.JSON);
+		TimeoutException exception = new TimeoutException("브로커 응답 없음");
+
+		kafkaService.sendLog(LOG_RECORD);
+		kafkaService.sendLog(LOG_RECORD);
+		assertTrue(producer.completeNext());
+		assertTrue(producer.errorNext(exception));
+
+		assertEquals(1, kafkaService.getSuccessCount());
+		assertEquals(1, kafkaService.getFailureCount());
+		assertEquals(1, failures.size());
+		assertEquals(TOPIC, failures.get(0).destination());
+		assertArrayEquals(LOG_RECORD, failures.get(0).logRecord());
+		assertSame(exception, failures.get(0).exception());
+	}
+
+	@Test
+	@DisplayName("프로듀서에 넣지 못한 로그는 예외를 던지지 않고 실패 처리기로 넘긴다")
+	void handsOverImmediateSendFailure() {
+		KafkaService kafkaService = kafkaService(KafkaProperties.Encoding.JSON);
+		producer.sendException = new KafkaException("버퍼 가득 참");
+
+		assertDoesNotThrow(() -> kafkaService.sendLog(LOG_RECORD));
+
+		assertEquals(1, kafkaService.getFailureCount());
+		assertEquals(1, failures.size());
+		assertArrayEquals(LOG_RECORD, failures.get(0).logRecord());
+	}
+
+	@Test
+	@DisplayName("실패 처리기가 예외를 던져도 전송 결과 집계는 계속된다")
+	void survivesFailingHandler() {
+		KafkaService kafkaService = new KafkaService(properties(KafkaProperties.Encoding.JSON), producer,
+			(destination, logRecord, exception) -> {
+				throw new IllegalStateException("스풀 기록 실패");
+			});
+
+		kafkaService.sendLog(LOG_RECORD);
+		kafkaService.sendLog(LOG_RECORD);
+		assertDoesNotThrow(() -> producer.errorNext(new TimeoutException("브로커 응답 없음")));
+		assertTrue(producer.completeNext());
+
+		assertEquals(1, kafkaService.getSuccessCount());
+		assertEquals(1, kafkaService.getFailureCount());
+	}
+
+	@Test
+	@DisplayName("Smile 인코딩이면 변환한 값과 content-type 헤더를 보내고, 실패하면 변환 전 JSON을 넘긴다")
+	void sendsSmileAndHandsOverJson() throws IOException {
+		KafkaService kafkaService = kafkaService(KafkaProperties.Encoding.SMILE);
+
+		kafkaService.sendLog(LOG_RECORD);
+		kafkaService.sendLog(LOG_RECORD);
+		assertTrue(producer.completeNext());
+		assertTrue(producer.errorNext(new TimeoutException("브로커 응답 없음")));
+
+		ProducerRecord<String, byte[]> sent = producer.history().get(0);
+		assertTrue(LogRecordDecoder.isSmile(sent.value()));
+		assertArrayEquals(LOG_RECORD, LogRecordDecoder.toJson(sent.value()));
+		Header contentType = sent.headers().lastHeader("content-type");
+		assertEquals(SmileTranscoder.CONTENT_TYPE, new String(contentType.value(), StandardCharsets.US_ASCII));
+
+		assertEquals(2L * LOG_RECORD.length, kafkaService.getSourceBytes());
+		assertEquals(2L * sent.value().length, kafkaService.getEncodedBytes());
+		assertArrayEquals(LOG_RECORD, failures.get(0).logRecord());
+	}
+
+	@Test
+	@DisplayName("닫으면 프로듀서도 닫는다")
+	void closesProducer() {
+		KafkaService kafkaService = kafkaService(KafkaProperties.Encoding.JSON);
+
+		kafkaService.close();
+
+		assertTrue(producer.closed());
+	}
+
+	private KafkaService kafkaService(KafkaProperties.Encoding encoding) {
+		return new KafkaService(properties(encoding), producer,
+			(destination, logRecord, exception) -> failures.add(new Failure(destination, logRecord, exception)));
+	}
+
+	private static KafkaProperties properties(KafkaProperties.Encoding encoding) {
+		KafkaProperties properties = new KafkaProperties();
+		properties.setBootstrapServers("localhost:9092");
+		properties.setTopicName(TOPIC);
+		properties.setEncoding(encoding);
+		return properties;
+	}
+
+	/**
+	 * 실패 처리기로 넘어온 로그입니다.
+	 */
+	private record Failure(String destination, byte[] logRecord, Exception exception) {
+	}
+}
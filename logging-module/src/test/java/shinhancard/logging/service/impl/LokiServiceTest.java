@@ -0,0 +1,218 @@
+package shinhancard.logging.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import shinhancard.logging.properties.LokiProperties;
+
+class LokiServiceTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final BlockingQueue<PushRequest> requests = new LinkedBlockingQueue<>();
+	private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+	private final List<byte[]> failedRecords = new CopyOnWriteArrayList<>();
+
+	private HttpServer server;
+	private LokiService lokiService;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/loki/api/v1/push", exchange -> {
+			try (InputStream body = exchange.getRequestBody()) {
+				requests.add(new PushRequest(exchange.getRequestHeaders().getFirst("Content-Encoding"),
+					body.readAllBytes()));
+			}
+			Integer status = statuses.poll();
+			exchange.sendResponseHeaders(status == null ? 204 : status, -1);
+			exchange.close();
+		});
+		server.start();
+	}
+
+	@AfterEach
+	void stopServer() {
+		if (lokiService != null) {
+			lokiService.close();
+		}
+		server.stop(0);
+	}
+
+	@Test
+	@DisplayName("레이블 조합별로 스트림을 나누어 한 번의 gzip 압축 요청으로 전송한다")
+	void batchesByLabelSetWithGzip() throws Exception {
+		LokiProperties properties = properties();
+		properties.setBatchSize(4);
+		properties.setLabelFields(List.of("context"));
+		lokiService = new LokiService(properties, this::onDeliveryFailure);
+
+		lokiService.sendLog(record("request", 1));
+		lokiService.sendLog(record("response", 2));
+		lokiService.sendLog(record("request", 3));
+		lokiService.sendLog(record("response", 4));
+
+		PushRequest request = requests.poll(5, TimeUnit.SECONDS);
+		assertNotNull(request);
+		assertEquals("gzip", request.contentEncoding());
+		JsonNode streams = request.json().get("streams");
+		assertEquals(2, streams.size());
+		assertStream(streams.get(0), "request", 1, 3);
+		assertStream(streams.get(1), "response", 2, 4);
+		assertNull(requests.poll(200, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	@DisplayName("gzip을 끄면 압축하지 않은 본문을 보낸다")
+	void sendsPlainBodyWithoutGzip() throws Exception {
+		LokiProperties properties = properties();
+		properties.setBatchSize(1);
+		properties.setGzip(false);
+		lokiService = new LokiService(properties, this::onDeliveryFailure);
+
+		lokiService.sendLog(record("request", 1));
+
+		PushRequest request = requests.poll(5, TimeUnit.SECONDS);
+		assertNotNull(request);
+		assertNull(request.contentEncoding());
+		JsonNode stream = request.json().get("streams").get(0);
+		assertEquals("filter-starter", stream.get("stream").get("job").asText());
+		assertEquals(new String(record("request", 1), StandardCharsets.UTF_8),
+			stream.get("values").get(0).get(1).asText());
+	}
+
+	@Test
+	@DisplayName("배치가 가득 차지 않아도 lingerMs가 지나면 전송한다")
+	void flushesAfterLinger() throws Exception {
+		LokiProperties properties = properties();
+		properties.setLingerMs(50);
+		lokiService = new LokiService(properties, this::onDeliveryFailure);
+
+		lokiService.sendLog(record("request", 1));
+
+		PushRequest request = requests.poll(5, TimeUnit.SECONDS);
+		assertNotNull(request);
+		assertEquals(1, request.json().get("streams").get(0).get("values").size());
+	}
+
+	@Test
+	@DisplayName("5xx와 429 응답은 재시도하고, 성공하면 실패 처리기로 넘기지 않는다")
+	void retriesServerErrorAndTooManyRequests() throws Exception {
+		statuses.add(503);
+		statuses.add(429);
+		LokiProperties properties = properties();
+		properties.setBatchSize(1);
+		lokiService = new LokiService(properties, this::onDeliveryFailure);
+
+		lokiService.sendLog(record("request", 1));
+
+		assertEquals(3, requests.size());
+		assertTrue(failedRecords.isEmpty());
+	}
+
+	@Test
+	@DisplayName("429를 제외한 4xx 응답은 재시도하지 않고 실패 처리기로 넘긴다")
+	void doesNotRetryClientError() throws Exception {
+		statuses.add(400);
+		LokiProperties properties = properties();
+		properties.setBatchSize(1);
+		lokiService = new LokiService(properties, this::onDeliveryFailure);
+
+		byte[] logRecord = record("request", 1);
+		lokiService.sendLog(logRecord);
+
+		assertEquals(1, requests.size());
+		assertEquals(1, failedRecords.size());
+		assertArrayEquals(logRecord, failedRecords.get(0));
+	}
+
+	@Test
+	@DisplayName("재시도 횟수를 모두 쓰면 배치의 로그를 실패 처리기로 넘긴다")
+	void handsOverAfterRetriesExhausted() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			statuses.add(500);
+		}
+		LokiProperties properties = properties();
+		properties.setBatchSize(2);
+		properties.setMaxRetries(2);
+		lokiService = new LokiService(properties, this::onDeliveryFailure);
+
+		lokiService.sendLog(record("request", 1));
+		lokiService.sendLog(record("request", 2));
+
+		assertEquals(3, requests.size());
+		assertEquals(2, failedRecords.size());
+	}
+
+	private LokiProperties properties() {
+		LokiProperties properties = new LokiProperties();
+		properties.setUrl("http://127.0.0.1:" + server.getAddress().getPort());
+		properties.setLingerMs(60_000);
+		properties.setRetryBackoffMs(1);
+		properties.setMaxRetryBackoffMs(10);
+		properties.setRequestTimeoutMs(5000);
+		return properties;
+	}
+
+	private void onDeliveryFailure(String destination, byte[] logRecord, Exception exception) {
+		failedRecords.add(logRecord);
+	}
+
+	private static byte[] record(String context, int sequence) {
+		return ("{\"context\":\"" + context + "\",\"sequence\":" + sequence + "}").getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static void assertStream(JsonNode stream, String context, int... sequences) throws IOException {
+		assertEquals("filter-starter", stream.get("stream").get("job").asText());
+		assertEquals(context, stream.get("stream").get("context").asText());
+		List<Integer> actual = new ArrayList<>();
+		for (JsonNode value : stream.get("values")) {
+			actual.add(OBJECT_MAPPER.readTree(value.get(1).asText()).get("sequence").asInt());
+		}
+		List<Integer> expected = new ArrayList<>();
+		for (int sequence : sequences) {
+			expected.add(sequence);
+		}
+		assertEquals(expected, actual);
+	}
+
+	/**
+	 * 서버가 받은 push 요청입니다.
+	 *
+	 * @param contentEncoding Content-Encoding 헤더 값
+	 * @param body 요청 본문
+	 */
+	private record PushRequest(String contentEncoding, byte[] body) {
+
+		JsonNode json() throws IOException {
+			InputStream in = new ByteArrayInputStream(body);
+			if ("gzip".equals(contentEncoding)) {
+				in = new GZIPInputStream(in);
+			}
+			return OBJECT_MAPPER.readTree(in);
+		}
+	}
+}
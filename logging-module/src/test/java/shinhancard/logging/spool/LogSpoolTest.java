@@ -0,0 +1,69 @@
+package shinhancard.logging.spool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import shinhancard.logging.properties.LogProperties;
+
+class LogSpoolTest {
+
+	private static final byte[] LOG_RECORD = "{\"uri\":\"/api/users\"}".getBytes(StandardCharsets.UTF_8);
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	@DisplayName("다시 열면 남아 있는 로그를 복구하여 다시 전송한다")
+	void recoversSegmentAfterReopen() throws IOException {
+		try (LogSpool spool = new LogSpool(spoolProperties())) {
+			assertTrue(spool.append(LOG_RECORD));
+		}
+
+		try (LogSpool spool = new LogSpool(spoolProperties())) {
+			assertEquals(1, spool.getPendingCount());
+			assertArrayEquals(LOG_RECORD, spool.peek());
+			spool.remove();
+			assertTrue(spool.isEmpty());
+		}
+	}
+
+	@Test
+	@DisplayName("알 수 없는 버전의 세그먼트는 읽지 않고 남겨 두며, 새 로그는 새 세그먼트에 기록한다")
+	void ignoresSegmentWithUnknownVersion() throws IOException {
+		CRC32 crc = new CRC32();
+		crc.update(LOG_RECORD);
+		ByteBuffer segment = ByteBuffer.allocate(4096)
+			.putInt(0x4C4F4753).putInt(2).putInt(16).putInt(0) // 매직 값, 알 수 없는 버전, 읽은 위치
+			.putInt(LOG_RECORD.length).putInt((int)crc.getValue()).putInt(0).put(LOG_RECORD);
+		Path unknown = directory.resolve("00000000000000000000.spool");
+		Files.write(unknown, segment.array());
+
+		try (LogSpool spool = new LogSpool(spoolProperties())) {
+			assertEquals(0, spool.getPendingCount());
+			assertTrue(spool.isEmpty());
+
+			byte[] logRecord = "{\"uri\":\"/api/orders\"}".getBytes(StandardCharsets.UTF_8);
+			assertTrue(spool.append(logRecord));
+			assertArrayEquals(logRecord, spool.peek());
+		}
+		assertArrayEquals(segment.array(), Files.readAllBytes(unknown));
+	}
+
+	private LogProperties.Spool spoolProperties() {
+		LogProperties.Spool spoolProperties = new LogProperties.Spool();
+		spoolProperties.setDirectory(directory.toString());
+		spoolProperties.setSegmentSize(4096);
+		spoolProperties.setMaxTotalSize(16384);
+		return spoolProperties;
+	}
+}
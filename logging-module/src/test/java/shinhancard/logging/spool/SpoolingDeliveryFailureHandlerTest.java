@@ -0,0 +1,137 @@
+package shinhancard.logging.spool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import shinhancard.logging.properties.LogProperties;
+
+class SpoolingDeliveryFailureHandlerTest {
+
+	private static final byte[] LOG_RECORD = "{\"uri\":\"/api/users\"}".getBytes(StandardCharsets.UTF_8);
+
+	@TempDir
+	private Path directory;
+
+	private final List<Exception> fallbackFailures = new ArrayList<>();
+	private LogSpool spool;
+
+	@AfterEach
+	void tearDown() {
+		if (spool != null) {
+			spool.close();
+		}
+	}
+
+	@Test
+	@DisplayName("Loki의 429와 5xx 응답으로 실패한 로그는 스풀에 보관한다")
+	void spoolsRetryableLokiFailures() throws IOException {
+		SpoolingDeliveryFailureHandler handler = handler(5);
+
+		handler.onDeliveryFailure("loki", LOG_RECORD, lokiFailure(429));
+		handler.onDeliveryFailure("loki", LOG_RECORD, lokiFailure(503));
+		handler.onDeliveryFailure("loki", LOG_RECORD, new IOException("connection reset"));
+
+		assertEquals(3, spool.getPendingCount());
+		assertTrue(fallbackFailures.isEmpty());
+	}
+
+	@Test
+	@DisplayName("로그 자체가 원인인 실패는 스풀에 보관하지 않고 대체 핸들러로 넘긴다")
+	void handsOverNonRetryableFailures() throws IOException {
+		SpoolingDeliveryFailureHandler handler = handler(5);
+		spool.append(LOG_RECORD);
+
+		handler.onDeliveryFailure("loki", LOG_RECORD, lokiFailure(400));
+		handler.onDeliveryFailure("logs", LOG_RECORD, new RecordTooLargeException("too large"));
+		handler.onDeliveryFailure("logs", LOG_RECORD, new IllegalStateException(new SerializationException("bad")));
+
+		assertEquals(1, spool.getPendingCount());
+		assertEquals(3, fallbackFailures.size());
+		assertTrue(spool.isReplayDue()); // 전송 대상의 장애가 아니므로 재전송을 미루지 않음
+	}
+
+	@Test
+	@DisplayName("다시 전송한 로그가 최대 재전송 횟수만큼 실패하면 대체 핸들러로 넘긴다")
+	void stopsReplayingAfterMaxAttempts() throws IOException {
+		SpoolingDeliveryFailureHandler handler = handler(2);
+		handler.onDeliveryFailure("loki", LOG_RECORD, lokiFailure(503));
+
+		replayAndFail(handler);
+		assertEquals(1, spool.getPendingCount());
+		assertTrue(fallbackFailures.isEmpty());
+
+		replayAndFail(handler);
+		assertTrue(spool.isEmpty());
+		assertEquals(1, fallbackFailures.size());
+		assertEquals(1, spool.getExhaustedCount());
+	}
+
+	@Test
+	@DisplayName("재전송 횟수는 스풀을 다시 열어도 이어서 센다")
+	void keepsReplayAttemptsAcrossRestart() throws IOException {
+		SpoolingDeliveryFailureHandler handler = handler(2);
+		handler.onDeliveryFailure("loki", LOG_RECORD, lokiFailure(503));
+		replayAndFail(handler);
+		spool.close();
+
+		handler = handler(2);
+		assertEquals(1, spool.getPendingCount());
+		replayAndFail(handler);
+
+		assertTrue(spool.isEmpty());
+		assertEquals(1, fallbackFailures.size());
+	}
+
+	@Test
+	@DisplayName("다시 전송하지 않은 새 로그는 재전송 횟수와 관계없이 보관한다")
+	void spoolsCopiedRecordAsNewRecord() throws IOException {
+		SpoolingDeliveryFailureHandler handler = handler(1);
+		handler.onDeliveryFailure("loki", LOG_RECORD, lokiFailure(503));
+
+		byte[] replayed = spool.peek();
+		spool.remove();
+		handler.onDeliveryFailure("loki", replayed.clone(), lokiFailure(503));
+
+		assertEquals(1, spool.getPendingCount());
+		assertTrue(fallbackFailures.isEmpty());
+	}
+
+	/**
+	 * 재전송 스레드처럼 스풀 맨 앞의 로그를 꺼내 전송한 뒤, 전송 대상이 비동기로 실패를 알린 경우를 흉내 냅니다.
+	 */
+	private void replayAndFail(SpoolingDeliveryFailureHandler handler) throws IOException {
+		byte[] logRecord = spool.peek();
+		assertArrayEquals(LOG_RECORD, logRecord);
+		spool.remove();
+		handler.onDeliveryFailure("loki", logRecord, lokiFailure(503));
+	}
+
+	private SpoolingDeliveryFailureHandler handler(int maxReplayAttempts) throws IOException {
+		LogProperties.Spool spoolProperties = new LogProperties.Spool();
+		spoolProperties.setSegmentSize(4096);
+		spoolProperties.setMaxTotalSize(16384);
+		spoolProperties.setMaxReplayAttempts(maxReplayAttempts);
+		spool = new LogSpool(spoolProperties, directory);
+		return new SpoolingDeliveryFailureHandler(spool,
+			(destination, logRecord, exception) -> fallbackFailures.add(exception));
+	}
+
+	private static WebClientResponseException lokiFailure(int status) {
+		return WebClientResponseException.create(status, "status " + status, HttpHeaders.EMPTY, new byte[0],
+			StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,97 @@
+package shinhancard.sql.fingerprint;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import shinhancard.common.buffer.Utf8CharSequence;
+import shinhancard.common.pattern.CompiledPatternSet;
+import shinhancard.common.pattern.PatternEngine;
+import shinhancard.sql.properties.SQLInjectionProperties;
+
+/**
+ * 요청 값과 본문 하나를 검사하는 시간을 {@link SQLFingerprintDetector}와 기본 정규식 패턴({@code LINEAR}, {@code REGEX})으로
+ * 비교합니다.
+ * <p>
+ * {@code value}는 SQL 키워드({@code insert}, {@code sleep})가 들어 있어 정규식 사전 검사를 통과하는 짧은 정상 값이고,
+ * {@code json10k}는 이 값이 반복되는 10KB JSON 본문(UTF-8 바이트)입니다. 어느 방식도 공격으로 판정하지 않는 입력이므로
+ * 끝까지 검사하는 시간을 측정합니다. 정규식 패턴은 따옴표나 {@code select}, {@code order} 같은 단어가 있으면 바로 일치하므로
+ * 이런 값은 입력으로 쓰지 않습니다. 기본 패턴의 {@code insert.*into} 같은 패턴 때문에 {@code REGEX}의 본문 검사 시간은
+ * 본문 길이의 제곱에 비례하므로 더 큰 본문은 비교하지 않습니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SQLFingerprintBenchmark {
+
+	private static final String VALUE = "insert coin, then sleep (about 8 hours)";
+
+	@Param({"value", "json10k"})
+	private String input;
+
+	private CharSequence body;
+	private SQLFingerprintDetector detector;
+	private CompiledPatternSet linear;
+	private CompiledPatternSet regex;
+
+	@Setup
+	public void setUp() {
+		if (input.equals("value")) {
+			body = VALUE;
+		} else {
+			StringBuilder json = new StringBuilder("{\"items\":[");
+			while (json.length() < 10 * 1024) {
+				json.append("{\"name\":\"홍길동\",\"memo\":\"insert coin, then sleep (about 8 hours)\",\"count\":3},");
+			}
+			json.setLength(json.length() - 1);
+			json.append("]}");
+			byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+			body = new Utf8CharSequence(bytes, 0, bytes.length);
+		}
+
+		detector = SQLFingerprintDetector.create(Set.of(), Set.of());
+		linear = compiled(PatternEngine.LINEAR);
+		regex = compiled(PatternEngine.REGEX);
+		if (detector.containsInjection(body) || linear.find(body) || regex.find(body)) {
+			throw new IllegalStateException("입력이 공격으로 판정되면 끝까지 검사하지 않습니다: " + input);
+		}
+	}
+
+	@Benchmark
+	public boolean fingerprint() {
+		return detector.containsInjection(body);
+	}
+
+	@Benchmark
+	public boolean patternLinear() {
+		return linear.find(body);
+	}
+
+	@Benchmark
+	public boolean patternRegex() {
+		return regex.find(body);
+	}
+
+	private static CompiledPatternSet compiled(PatternEngine patternEngine) {
+		SQLInjectionProperties properties = new SQLInjectionProperties();
+		properties.setPatternEngine(patternEngine);
+		properties.refresh();
+		return properties.getCompiledPatternSet();
+	}
+}
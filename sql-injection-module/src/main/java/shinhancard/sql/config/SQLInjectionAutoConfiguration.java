@@ -7,6 +7,9 @@ import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.Ordered;
 
+import shinhancard.common.config.CommonAutoConfiguration;
+import shinhancard.common.io.RejectionWriter;
+import shinhancard.common.wrapper.RequestBodyCapture;
 import shinhancard.sql.filter.SQLInjectionFilter;
 import shinhancard.sql.properties.SQLInjectionProperties;
 
@@ -16,7 +19,7 @@ import shinhancard.sql.properties.SQLInjectionProperties;
  * 이 클래스는 SQL 인젝션 필터를 자동으로 등록합니다.
  * </p>
  */
-@AutoConfiguration
+@AutoConfiguration(after = CommonAutoConfiguration.class)
 @EnableConfigurationProperties({SQLInjectionProperties.class})
 @ConditionalOnProperty(name = "filter.sql.enabled", havingValue = "true", matchIfMissing = true)
 public class SQLInjectionAutoConfiguration {
@@ -30,12 +33,15 @@ public class SQLInjectionAutoConfiguration {
 	/**
 	 * SQL 인젝션 필터를 Spring 컨텍스트에 등록합니다.
 	 *
+	 * @param requestBodyCapture 요청 본문 캐싱 기능
+	 * @param rejectionWriter 거부 응답 전송 기능
 	 * @return SQLInjectionFilter 등록을 위한 FilterRegistrationBean 객체
 	 */
 	@Bean
-	public FilterRegistrationBean<SQLInjectionFilter> sqlInjectionFilterRegistration() {
+	public FilterRegistrationBean<SQLInjectionFilter> sqlInjectionFilterRegistration(
+		RequestBodyCapture requestBodyCapture, RejectionWriter rejectionWriter) {
 		FilterRegistrationBean<SQLInjectionFilter> registrationBean = new FilterRegistrationBean<>();
-		registrationBean.setFilter(new SQLInjectionFilter(sqlInjectionProperties));
+		registrationBean.setFilter(new SQLInjectionFilter(sqlInjectionProperties, requestBodyCapture, rejectionWriter));
 		registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2); // SQL 인젝션 필터의 순서를 설정
 		return registrationBean;
 	}
@@ -2,7 +2,6 @@ package shinhancard.sql.filter;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.Optional;
 
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -12,9 +11,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import shinhancard.common.io.RejectionWriter;
 import shinhancard.common.io.ResponseCode;
-import shinhancard.common.io.ResponseVo;
+import shinhancard.common.trace.FilterTimings;
+import shinhancard.common.wrapper.RequestBodyCapture;
 import shinhancard.common.wrapper.WrappedHttpServletRequest;
+import shinhancard.sql.fingerprint.SQLFingerprintDetector;
 import shinhancard.sql.properties.SQLInjectionProperties;
 
 /**
@@ -23,12 +25,23 @@ import shinhancard.sql.properties.SQLInjectionProperties;
  * 이 필터는 요청 본문, 파라미터 및 쿠키에서 SQL 인젝션 패턴을 검사하여
  * 보안 위협을 방지합니다.
  * </p>
+ * <p>
+ * {@link SQLInjectionProperties.Detection#FINGERPRINT}이면 정규식 대신 {@link SQLFingerprintDetector}로 검사하며,
+ * JSON 본문은 문자열 값마다 검사합니다.
+ * </p>
+ * <p>
+ * 요청 본문은 문자열로 변환하지 않고 캐시된 UTF-8 바이트를 {@link WrappedHttpServletRequest#getBodyAsCharSequence()}로 검사합니다.
+ * </p>
  */
 @RequiredArgsConstructor
 @Slf4j
 public class SQLInjectionFilter extends OncePerRequestFilter {
 
+	private static final String TIMING_NAME = "sql"; // 필터별 처리 시간 기록 이름
+
 	private final SQLInjectionProperties sqlInjectionProperties;
+	private final RequestBodyCapture requestBodyCapture;
+	private final RejectionWriter rejectionWriter;
 
 	/**
 	 * 요청을 필터링하고 SQL 인젝션 패턴을 검사합니다.
@@ -42,9 +55,11 @@ public class SQLInjectionFilter extends OncePerRequestFilter {
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 		throws ServletException, IOException {
+		long startNanos = System.nanoTime();
+		FilterChain timedChain = FilterTimings.timed(request, TIMING_NAME, startNanos, filterChain);
 
-		// 요청을 래핑하여 본문을 캐싱합니다.
-		WrappedHttpServletRequest wrappedRequest = new WrappedHttpServletRequest(request);
+		// 앞선 필터가 캐싱한 본문이 있으면 재사용하고, 없으면 래핑하여 캐싱합니다.
+		WrappedHttpServletRequest wrappedRequest = requestBodyCapture.capture(request);
 
 		// SQL 인젝션 검사 수행
 		boolean isParameterSafe = validateRequestParameters(wrappedRequest);
@@ -52,22 +67,25 @@ public class SQLInjectionFilter extends OncePerRequestFilter {
 		boolean isCookiesSafe = validateCookies(wrappedRequest);
 
 		if (!isParameterSafe) {
-			handleSqlInjectionViolation(response, ResponseCode.SQL_INJECTION_PARAMETER_DETECTED);
+			handleSqlInjectionViolation(wrappedRequest, response, ResponseCode.SQL_INJECTION_PARAMETER_DETECTED);
+			FilterTimings.recordIfAbsent(request, TIMING_NAME, startNanos); // 요청을 거부한 시점까지 기록
 			return;
 		}
 
 		if (!isBodySafe) {
-			handleSqlInjectionViolation(response, ResponseCode.SQL_INJECTION_BODY_DETECTED);
+			handleSqlInjectionViolation(wrappedRequest, response, ResponseCode.SQL_INJECTION_BODY_DETECTED);
+			FilterTimings.recordIfAbsent(request, TIMING_NAME, startNanos); // 요청을 거부한 시점까지 기록
 			return;
 		}
 
 		if (!isCookiesSafe) {
-			handleSqlInjectionViolation(response, ResponseCode.SQL_INJECTION_COOKIE_DETECTED);
+			handleSqlInjectionViolation(wrappedRequest, response, ResponseCode.SQL_INJECTION_COOKIE_DETECTED);
+			FilterTimings.recordIfAbsent(request, TIMING_NAME, startNanos); // 요청을 거부한 시점까지 기록
 			return;
 		}
 
 		// 필터 체인을 계속 진행합니다.
-		filterChain.doFilter(wrappedRequest, response);
+		timedChain.doFilter(wrappedRequest, response);
 	}
 
 	/**
@@ -79,7 +97,7 @@ public class SQLInjectionFilter extends OncePerRequestFilter {
 	private boolean validateRequestParameters(WrappedHttpServletRequest request) {
 		return request.getParameterMap().entrySet().stream()
 			.flatMap(entry -> Arrays.stream(entry.getValue()))
-			.noneMatch(value -> value != null && sqlInjectionProperties.getCompiledPattern().matcher(value).find());
+			.noneMatch(value -> value != null && isInjection(value));
 	}
 
 	/**
@@ -89,8 +107,13 @@ public class SQLInjectionFilter extends OncePerRequestFilter {
 	 * @return 본문이 안전한 경우 true, 그렇지 않으면 false
 	 */
 	private boolean validateRequestBody(WrappedHttpServletRequest request) {
-		String body = request.getBody();
-		return body == null || !sqlInjectionProperties.getCompiledPattern().matcher(body).find();
+		CharSequence body = request.getBodyAsCharSequence();
+		if (body.isEmpty()) {
+			return true;
+		}
+		SQLFingerprintDetector detector = sqlInjectionProperties.getFingerprintDetector();
+		return detector != null ? !detector.containsInjection(body)
+			: !sqlInjectionProperties.getCompiledPatternSet().find(body);
 	}
 
 	/**
@@ -102,28 +125,36 @@ public class SQLInjectionFilter extends OncePerRequestFilter {
 	private boolean validateCookies(WrappedHttpServletRequest request) {
 		if (request.getCookies() != null) {
 			return Arrays.stream(request.getCookies())
-				.noneMatch(cookie -> cookie.getValue() != null && sqlInjectionProperties.getCompiledPattern()
-					.matcher(cookie.getValue())
-					.find());
+				.noneMatch(cookie -> cookie.getValue() != null && isInjection(cookie.getValue()));
 		}
 		return true;
 	}
 
+	/**
+	 * 설정한 탐지 방식으로 하나의 값을 검사합니다.
+	 *
+	 * @param value 검사할 값
+	 * @return SQL 인젝션이 탐지되면 true
+	 */
+	private boolean isInjection(String value) {
+		SQLFingerprintDetector detector = sqlInjectionProperties.getFingerprintDetector();
+		return detector != null ? detector.isInjection(value)
+			: sqlInjectionProperties.getCompiledPatternSet().find(value);
+	}
+
 	/**
 	 * SQL 인젝션 감지 시 에러 응답을 처리합니다.
 	 *
+	 * @param request   {@link HttpServletRequest} 객체
 	 * @param response  {@link HttpServletResponse} 객체
 	 * @param responseCode {@link ResponseCode} 에러 코드
 	 * @throws IOException 입출력 예외
 	 */
-	private void handleSqlInjectionViolation(HttpServletResponse response, ResponseCode responseCode) throws
-		IOException {
+	private void handleSqlInjectionViolation(HttpServletRequest request, HttpServletResponse response,
+		ResponseCode responseCode) throws IOException {
 		log.error("SQL 인젝션 예외 발생: {}", responseCode.getMessage());
 
-		response.sendError(
-			responseCode.getHttpStatus().value(),
-			ResponseVo.error(responseCode, Optional.empty()).toString()
-		);
+		rejectionWriter.reject(request, response, responseCode);
 
 		log.debug("SQL 인젝션 정책 위반: {} 응답을 전송했습니다.", responseCode);
 	}
@@ -0,0 +1,114 @@
+package shinhancard.sql.fingerprint;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link SQLTokenizer}가 만든 지문을 보관하는 변경할 수 없는 집합입니다.
+ * <p>
+ * 지문은 {@code int} 하나이므로 개방 주소법 해시 표에 그대로 담아, 조회할 때 객체를 만들지 않습니다.
+ * </p>
+ */
+final class FingerprintSet {
+
+	private static final int EMPTY = 0; // 토큰이 없는 지문은 담지 않음
+
+	private final int[] table;
+	private final int size;
+
+	/**
+	 * {@link FingerprintSet}을 생성합니다.
+	 *
+	 * @param fingerprints {@link SQLTokenizer#parse(String)}로 바꾼 지문 목록
+	 */
+	FingerprintSet(Collection<Integer> fingerprints) {
+		int capacity = Integer.highestOneBit(Math.max(fingerprints.size(), 1) * 2 - 1) << 1;
+		int[] slots = new int[capacity];
+		int count = 0;
+		for (int fingerprint : fingerprints) {
+			if (fingerprint == EMPTY) {
+				continue;
+			}
+			int slot = slot(fingerprint, capacity);
+			while (slots[slot] != EMPTY && slots[slot] != fingerprint) {
+				slot = (slot + 1) & (capacity - 1);
+			}
+			if (slots[slot] == EMPTY) {
+				slots[slot] = fingerprint;
+				count++;
+			}
+		}
+		this.table = slots;
+		this.size = count;
+	}
+
+	/**
+	 * 토큰 종류 문자에 대한 정규식 규칙으로 시작하는 지문을 모두 만듭니다.
+	 * <p>
+	 * 토큰 종류 문자를 하나씩 이어 붙여 나가면서 규칙과 일치하면 지문으로 추가하고,
+	 * 더 이어 붙여도 일치할 수 없으면({@link Matcher#hitEnd()}가 {@code false}) 그 뒤는 만들지 않습니다.
+	 * 토큰 {@value SQLTokenizer#MAX_TOKENS}개에서 잘린 지문은 이어서 규칙과 일치할 수 있으면 추가합니다.
+	 * </p>
+	 *
+	 * @param rule 규칙
+	 * @return {@link SQLTokenizer#parse(String)}로 바꾼 지문 목록
+	 */
+	static Set<Integer> expand(Pattern rule) {
+		Set<Integer> fingerprints = new LinkedHashSet<>();
+		expand(rule.matcher(""), new StringBuilder(SQLTokenizer.MAX_TOKENS), fingerprints);
+		return fingerprints;
+	}
+
+	private static void expand(Matcher matcher, StringBuilder prefix, Set<Integer> fingerprints) {
+		for (int i = 0; i < SQLTokenizer.TYPES.length(); i++) {
+			prefix.append(SQLTokenizer.TYPES.charAt(i));
+			matcher.reset(prefix);
+			boolean matched = matcher.lookingAt();
+			boolean extensible = matcher.hitEnd();
+			if (matched || (extensible && prefix.length() == SQLTokenizer.MAX_TOKENS)) {
+				fingerprints.add(SQLTokenizer.parse(prefix.toString()));
+			}
+			if ((matched || extensible) && prefix.length() < SQLTokenizer.MAX_TOKENS) {
+				expand(matcher, prefix, fingerprints);
+			}
+			prefix.setLength(prefix.length() - 1);
+		}
+	}
+
+	/**
+	 * 지문이 집합에 있는지 확인합니다.
+	 *
+	 * @param fingerprint 확인할 지문
+	 * @return 있으면 {@code true}
+	 */
+	boolean contains(int fingerprint) {
+		if (fingerprint == EMPTY) {
+			return false;
+		}
+		int slot = slot(fingerprint, table.length);
+		while (table[slot] != EMPTY) {
+			if (table[slot] == fingerprint) {
+				return true;
+			}
+			slot = (slot + 1) & (table.length - 1);
+		}
+		return false;
+	}
+
+	/**
+	 * 집합에 담긴 지문의 개수를 반환합니다.
+	 *
+	 * @return 지문 개수
+	 */
+	int size() {
+		return size;
+	}
+
+	private static int slot(int fingerprint, int capacity) {
+		int hash = fingerprint * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & (capacity - 1);
+	}
+}
@@ -0,0 +1,277 @@
+package shinhancard.sql.fingerprint;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+import shinhancard.common.buffer.Utf8CharSequence;
+
+/**
+ * 값을 SQL 토큰으로 나누어 만든 지문을 알려진 공격 지문과 비교하여 SQL 인젝션을 탐지합니다.
+ * <p>
+ * 값이 SQL 문의 어느 위치에 들어갈지 모르므로 값을 그대로 읽은 지문과, 작은따옴표 또는 큰따옴표 문자열 안에 들어간다고 가정하고
+ * 읽은 지문을 각각 확인합니다. 따옴표 문자열을 가정한 지문은 값에 그 따옴표가 있을 때만 확인합니다.
+ * 기본 지문 집합은 {@code fingerprint-rules.txt} 리소스의 규칙(토큰 종류 문자에 대한 정규식)과 일치하는 지문으로 컴파일하며,
+ * 설정으로 지문을 추가하거나 제외할 수 있습니다.
+ * </p>
+ * <p>
+ * 값 앞의 토큰 몇 개만 읽으므로 정규식처럼 값 전체를 여러 번 훑지 않고, 검사 중에 객체를 만들지 않습니다.
+ * 이 클래스는 변경할 수 없으며 스레드 안전합니다.
+ * </p>
+ */
+public final class SQLFingerprintDetector {
+
+	private static final String DEFAULT_RULES = "fingerprint-rules.txt";
+
+	private static final ThreadLocal<StringBuilder> UNESCAPE_BUFFERS = ThreadLocal.withInitial(StringBuilder::new);
+	private static final ThreadLocal<StringBuilder> DECODE_BUFFERS = ThreadLocal.withInitial(StringBuilder::new);
+
+	private final FingerprintSet fingerprints;
+
+	private SQLFingerprintDetector(FingerprintSet fingerprints) {
+		this.fingerprints = fingerprints;
+	}
+
+	/**
+	 * 기본 지문 집합에 지문을 추가하거나 제외하여 {@link SQLFingerprintDetector}를 생성합니다.
+	 *
+	 * @param additional 추가할 지문 목록 (예: {@code s&sos})
+	 * @param excluded 오탐이 있어 제외할 지문 목록
+	 * @return 생성된 {@link SQLFingerprintDetector}
+	 * @throws IllegalArgumentException 지문의 형식이 올바르지 않은 경우
+	 * @throws UncheckedIOException 기본 규칙을 읽지 못한 경우
+	 */
+	public static SQLFingerprintDetector create(Collection<String> additional, Collection<String> excluded) {
+		Set<Integer> fingerprints = FingerprintSet.expand(loadDefaultRules());
+		additional.forEach(fingerprint -> fingerprints.add(SQLTokenizer.parse(fingerprint.strip())));
+		excluded.forEach(fingerprint -> fingerprints.remove(SQLTokenizer.parse(fingerprint.strip())));
+		return new SQLFingerprintDetector(new FingerprintSet(fingerprints));
+	}
+
+	/**
+	 * 값이 SQL 인젝션 공격인지 확인합니다.
+	 *
+	 * @param value 요청 파라미터나 쿠키 값처럼 하나의 값
+	 * @return 공격 지문과 일치하면 {@code true}
+	 */
+	public boolean isInjection(CharSequence value) {
+		return isInjection(value, 0, value.length());
+	}
+
+	/**
+	 * 요청 본문에 SQL 인젝션 공격이 있는지 확인합니다.
+	 * <p>
+	 * 본문이 JSON 객체나 배열이면 이름과 값의 문자열마다 {@link #isInjection(CharSequence)}로 확인하고,
+	 * 그렇지 않으면 본문 전체를 하나의 값으로 확인합니다.
+	 * </p>
+	 * <p>
+	 * 본문이 {@link Utf8CharSequence}이면 JSON 문자열의 경계(따옴표와 역슬래시는 ASCII)를 바이트에서 찾고,
+	 * 문자열마다 스레드별 버퍼에 한 번만 디코딩하여 검사합니다.
+	 * </p>
+	 *
+	 * @param body 요청 본문
+	 * @return 공격 지문과 일치하는 값이 있으면 {@code true}
+	 */
+	public boolean containsInjection(CharSequence body) {
+		int length = body.length();
+		int position = 0;
+		while (position < length && Character.isWhitespace(body.charAt(position))) {
+			position++;
+		}
+		if (position == length || (body.charAt(position) != '{' && body.charAt(position) != '[')) {
+			return isInjection(body, 0, length);
+		}
+		if (body instanceof Utf8CharSequence bytes) {
+			return containsInjection(bytes);
+		}
+		while (position < length) {
+			if (body.charAt(position) != '"') {
+				position++;
+				continue;
+			}
+			int start = position + 1;
+			boolean escaped = false;
+			int end = start;
+			while (end < length && body.charAt(end) != '"') {
+				if (body.charAt(end) == '\\') {
+					escaped = true;
+					end++;
+				}
+				end++;
+			}
+			end = Math.min(end, length);
+			if (escaped ? isInjection(unescape(body, start, end)) : isInjection(body, start, end)) {
+				return true;
+			}
+			position = end + 1;
+		}
+		return false;
+	}
+
+	/**
+	 * 값과 일치한 공격 지문을 반환합니다. 오탐을 조사하여 제외할 지문을 찾을 때 사용합니다.
+	 *
+	 * @param value 확인할 값
+	 * @return 일치한 지문 (예: {@code s&sos}), 일치하지 않으면 {@code null}
+	 */
+	public String findFingerprint(CharSequence value) {
+		int fingerprint = match(value, 0, value.length());
+		return fingerprint == 0 ? null : SQLTokenizer.toString(fingerprint);
+	}
+
+	/**
+	 * 기본 규칙과 설정을 반영한 지문의 개수를 반환합니다.
+	 *
+	 * @return 지문 개수
+	 */
+	public int getFingerprintCount() {
+		return fingerprints.size();
+	}
+
+	/**
+	 * UTF-8 바이트로 된 JSON 본문에서 문자열의 경계를 바이트로 찾아 문자열마다 확인합니다.
+	 * ASCII 바이트는 여러 바이트로 인코딩된 문자 안에 나타나지 않으므로 문자로 찾은 경계와 같습니다.
+	 */
+	private boolean containsInjection(Utf8CharSequence body) {
+		int length = body.byteLength();
+		int position = 0;
+		while (position < length) {
+			if (body.byteAt(position) != '"') {
+				position++;
+				continue;
+			}
+			int start = position + 1;
+			boolean escaped = false;
+			int end = start;
+			byte b;
+			while (end < length && (b = body.byteAt(end)) != '"') {
+				if (b == '\\') {
+					escaped = true;
+					end++;
+				}
+				end++;
+			}
+			end = Math.min(end, length);
+			StringBuilder value = DECODE_BUFFERS.get();
+			value.setLength(0);
+			body.appendTo(value, start, end);
+			if (isInjection(escaped ? unescape(value, 0, value.length()) : value)) {
+				return true;
+			}
+			position = end + 1;
+		}
+		return false;
+	}
+
+	private boolean isInjection(CharSequence value, int start, int end) {
+		return match(value, start, end) != 0;
+	}
+
+	/**
+	 * 값을 그대로 읽은 지문, 작은따옴표와 큰따옴표 문자열 안에 들어간다고 가정한 지문을 차례로 확인합니다.
+	 *
+	 * @return 일치한 지문, 없으면 {@code 0}
+	 */
+	private int match(CharSequence value, int start, int end) {
+		int fingerprint = SQLTokenizer.fingerprint(value, start, end, (char)0);
+		if (fingerprints.contains(fingerprint)) {
+			return fingerprint;
+		}
+		boolean singleQuote = false;
+		boolean doubleQuote = false;
+		for (int i = start; i < end && !(singleQuote && doubleQuote); i++) {
+			char c = value.charAt(i);
+			singleQuote |= c == '\'';
+			doubleQuote |= c == '"';
+		}
+		if (singleQuote) {
+			fingerprint = SQLTokenizer.fingerprint(value, start, end, '\'');
+			if (fingerprints.contains(fingerprint)) {
+				return fingerprint;
+			}
+		}
+		if (doubleQuote) {
+			fingerprint = SQLTokenizer.fingerprint(value, start, end, '"');
+			if (fingerprints.contains(fingerprint)) {
+				return fingerprint;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * JSON 문자열의 이스케이프를 풀어 스레드별로 재사용하는 버퍼에 담습니다.
+	 */
+	private static CharSequence unescape(CharSequence body, int start, int end) {
+		StringBuilder buffer = UNESCAPE_BUFFERS.get();
+		buffer.setLength(0);
+		for (int i = start; i < end; i++) {
+			char c = body.charAt(i);
+			if (c != '\\' || i + 1 >= end) {
+				buffer.append(c);
+				continue;
+			}
+			char escape = body.charAt(++i);
+			switch (escape) {
+				case 'n' -> buffer.append('\n');
+				case 'r' -> buffer.append('\r');
+				case 't' -> buffer.append('\t');
+				case 'b' -> buffer.append('\b');
+				case 'f' -> buffer.append('\f');
+				case 'u' -> {
+					int code = i + 4 < end ? parseHex(body, i + 1, i + 5) : -1;
+					if (code < 0) {
+						buffer.append('\\').append(escape);
+					} else {
+						buffer.append((char)code);
+						i += 4;
+					}
+				}
+				default -> buffer.append(escape);
+			}
+		}
+		return buffer;
+	}
+
+	private static int parseHex(CharSequence body, int start, int end) {
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			int digit = Character.digit(body.charAt(i), 16);
+			if (digit < 0) {
+				return -1;
+			}
+			value = value * 16 + digit;
+		}
+		return value;
+	}
+
+	/**
+	 * 기본 규칙을 읽어 하나의 정규식으로 결합합니다. {@code #}으로 시작하는 줄과 빈 줄은 무시합니다.
+	 */
+	private static Pattern loadDefaultRules() {
+		InputStream stream = SQLFingerprintDetector.class.getResourceAsStream(DEFAULT_RULES);
+		if (stream == null) {
+			throw new UncheckedIOException(new IOException("기본 지문 규칙을 찾을 수 없습니다: " + DEFAULT_RULES));
+		}
+		StringJoiner rules = new StringJoiner("|");
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.strip();
+				if (!line.isEmpty() && !line.startsWith("#")) {
+					rules.add("(?:" + Pattern.compile(line).pattern() + ")");
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("기본 지문 규칙을 읽지 못했습니다: " + DEFAULT_RULES, e);
+		}
+		return Pattern.compile(rules.toString());
+	}
+}
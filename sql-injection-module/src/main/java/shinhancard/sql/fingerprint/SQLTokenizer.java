@@ -0,0 +1,452 @@
+package shinhancard.sql.fingerprint;
+
+/**
+ * 입력 값을 SQL 토큰 종류의 나열로 바꾸어 지문(fingerprint)을 만드는 토크나이저입니다.
+ * <p>
+ * 값 앞에서부터 최대 {@value #MAX_TOKENS}개의 토큰을 읽어, 토큰 종류를 한 글자씩 이어 붙인 지문을 만듭니다.
+ * 예를 들어 {@code 1' or '1'='1}을 작은따옴표 문자열 안에 들어간 값으로 읽으면 {@code s&sos}가 됩니다.
+ * 연속된 같은 종류의 식별자, 숫자, 문자열, 주석, 괄호는 하나로 합치고, 단항 연산자는 버립니다.
+ * 닫힌 블록 주석({@code /**}{@code /})은 MySQL과 같이 공백으로 취급하고, 값 끝까지 이어지는 주석만 주석 토큰으로 남깁니다.
+ * </p>
+ * <p>
+ * 지문은 토큰 종류마다 5비트씩 {@code int}에 담으며, 검사 중에 객체를 만들지 않습니다.
+ * 입력을 한 번만 앞으로 읽으므로 검사 시간은 읽은 길이에 비례합니다.
+ * </p>
+ */
+final class SQLTokenizer {
+
+	static final char STRING = 's';
+	static final char BAREWORD = 'n';
+	static final char NUMBER = '1';
+	static final char KEYWORD = 'k';
+	static final char UNION = 'U';
+	static final char STATEMENT = 'E';
+	static final char FUNCTION = 'f';
+	static final char LOGIC = '&';
+	static final char OPERATOR = 'o';
+	static final char COMMENT = 'c';
+	static final char SEMICOLON = ';';
+	static final char LEFT_PAREN = '(';
+	static final char RIGHT_PAREN = ')';
+	static final char COMMA = ',';
+	static final char VARIABLE = 'v';
+	static final char GROUP_BY = 'B';
+	static final char UNKNOWN = '?';
+
+	static final int MAX_TOKENS = 5;
+
+	static final String TYPES = "sn1kUEf&oc;(),vB?"; // 지문에 쓰는 토큰 종류 문자
+	private static final int BITS = 5;
+	private static final int MASK = (1 << BITS) - 1;
+
+	private static final char SKIP = 0; // 지문에 넣지 않는 토큰 (닫힌 블록 주석, MySQL 실행 주석의 시작과 끝)
+	private static final char GROUP = 'G'; // 뒤에 by가 오면 GROUP_BY, 아니면 BAREWORD
+	private static final int MAX_KEYWORD_LENGTH = 32;
+	private static final byte[] CODES = new byte[128]; // 토큰 종류 문자 -> 지문에 담는 5비트 값
+	private static final byte[] FLAGS = new byte[128]; // ASCII 문자별 속성
+	private static final int MERGED = 1; // 연속되면 하나로 합치는 토큰 종류
+	private static final int UNARY_CONTEXT = 2; // 이 토큰 뒤의 +, -, ~, !는 단항 연산자
+	private static final int UNARY = 4; // 단항 연산자 문자
+	private static final int OPERATOR_CHAR = 8; // 연산자를 이루는 문자
+	private static final String[] KEYWORDS = new String[512];
+	private static final char[] KEYWORD_TYPES = new char[KEYWORDS.length];
+
+	static {
+		for (int i = 0; i < TYPES.length(); i++) {
+			CODES[TYPES.charAt(i)] = (byte)(i + 1);
+		}
+		setFlag("sn1c()", MERGED);
+		setFlag("o&(,kEUB", UNARY_CONTEXT);
+		setFlag("+-~!", UNARY);
+		setFlag("=<>!|&^+-*/%~:", OPERATOR_CHAR);
+		register(STATEMENT, "select", "insert", "update", "delete", "drop", "create", "alter", "truncate", "exec",
+			"execute", "declare", "grant", "revoke", "shutdown", "waitfor", "call", "handler", "rename");
+		register(UNION, "union", "intersect", "except");
+		register(LOGIC, "and", "or", "xor");
+		register(OPERATOR, "like", "rlike", "regexp", "is", "not", "in", "between", "div", "mod", "sounds", "collate",
+			"exists");
+		register(KEYWORD, "from", "where", "having", "limit", "offset", "into", "values", "set", "table", "as", "on",
+			"join", "case", "when", "then", "else", "end", "top", "distinct", "all", "delay", "procedure", "outfile",
+			"dumpfile", "begin", "commit", "rollback", "use", "show", "describe");
+		register(NUMBER, "null", "true", "false");
+		register(GROUP, "order", "group");
+		register(FUNCTION, "sleep", "benchmark", "pg_sleep", "char", "chr", "concat", "concat_ws", "group_concat",
+			"version", "database", "user", "current_user", "system_user", "session_user", "schema", "md5", "sha1",
+			"sha2", "ascii", "ord", "hex", "unhex", "substring", "substr", "mid", "left", "right", "length", "len",
+			"char_length", "load_file", "extractvalue", "updatexml", "if", "ifnull", "isnull", "nullif", "coalesce",
+			"cast", "convert", "count", "now", "floor", "rand", "name_const", "exp", "elt", "make_set", "randomblob",
+			"sqlite_version", "lower", "upper", "trim", "replace", "reverse", "instr", "locate", "position",
+			"xp_cmdshell", "openrowset", "opendatasource", "dbms_pipe.receive_message", "utl_inaddr.get_host_name",
+			"utl_http.request", "dbms_lock.sleep", "json_keys", "gtid_subset", "polygon", "multipoint",
+			"geometrycollection", "db_name", "host_name", "suser_name", "is_srvrolemember", "current_database",
+			"getpgusername");
+	}
+
+	private SQLTokenizer() {
+	}
+
+	/**
+	 * 값의 지문을 만듭니다.
+	 *
+	 * @param input 검사할 문자열
+	 * @param start 시작 위치
+	 * @param end 끝 위치 (포함하지 않음)
+	 * @param quote 값이 따옴표 문자열 안에 들어간다고 가정할 때의 따옴표 문자, 그대로 읽으려면 {@code 0}
+	 * @return 지문, 토큰이 없으면 {@code 0}
+	 */
+	static int fingerprint(CharSequence input, int start, int end, char quote) {
+		int position = start;
+		int fingerprint = 0;
+		int count = 0;
+		char last = 0;
+		if (quote != 0) {
+			position = skipString(input, position, end, quote);
+			fingerprint = code(STRING);
+			count = 1;
+			last = STRING;
+		}
+		while (count < MAX_TOKENS) {
+			position = skipWhitespace(input, position, end);
+			if (position >= end) {
+				break;
+			}
+			long token = next(input, position, end);
+			int tokenEnd = (int)(token >>> 8);
+			char type = (char)(token & 0xFF);
+			boolean merged = type == last && (FLAGS[type] & MERGED) != 0;
+			boolean unary = type == OPERATOR && tokenEnd == position + 1 && (FLAGS[input.charAt(position)] & UNARY) != 0
+				&& (count == 0 || (FLAGS[last] & UNARY_CONTEXT) != 0);
+			position = tokenEnd;
+			if (type == SKIP || merged || unary) {
+				continue;
+			}
+			fingerprint |= code(type) << (BITS * count);
+			count++;
+			last = type;
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * 토큰 종류 문자로 이루어진 지문 문자열을 {@link #fingerprint(CharSequence, int, int, char)}와 같은 형태로 바꿉니다.
+	 *
+	 * @param fingerprint 지문 문자열 (예: {@code s&sos})
+	 * @return 지문
+	 * @throws IllegalArgumentException 비어 있거나, 너무 길거나, 알 수 없는 토큰 종류가 있는 경우
+	 */
+	static int parse(String fingerprint) {
+		if (fingerprint.isEmpty() || fingerprint.length() > MAX_TOKENS) {
+			throw new IllegalArgumentException("지문은 1~" + MAX_TOKENS + "개의 토큰이어야 합니다: " + fingerprint);
+		}
+		int packed = 0;
+		for (int i = 0; i < fingerprint.length(); i++) {
+			if (TYPES.indexOf(fingerprint.charAt(i)) < 0) {
+				throw new IllegalArgumentException("알 수 없는 토큰 종류: " + fingerprint);
+			}
+			packed |= code(fingerprint.charAt(i)) << (BITS * i);
+		}
+		return packed;
+	}
+
+	/**
+	 * 지문을 토큰 종류 문자로 이루어진 문자열로 바꿉니다.
+	 *
+	 * @param fingerprint 지문
+	 * @return 지문 문자열, 토큰이 없으면 빈 문자열
+	 */
+	static String toString(int fingerprint) {
+		StringBuilder builder = new StringBuilder(MAX_TOKENS);
+		for (int packed = fingerprint; packed != 0; packed >>>= BITS) {
+			builder.append(TYPES.charAt((packed & MASK) - 1));
+		}
+		return builder.toString();
+	}
+
+	private static int code(char type) {
+		return CODES[type];
+	}
+
+	/**
+	 * 다음 토큰을 읽습니다.
+	 *
+	 * @return 상위 비트에 토큰이 끝나는 위치, 하위 8비트에 토큰 종류를 담은 값
+	 */
+	private static long next(CharSequence input, int position, int end) {
+		char c = input.charAt(position);
+		int next = position + 1;
+		char following = next < end ? input.charAt(next) : 0;
+		switch (c) {
+			case '\'', '"':
+				return token(skipString(input, next, end, c), STRING);
+			case '`':
+				return token(skipTo(input, next, end, '`'), BAREWORD);
+			case '(', ')', ',', ';':
+				return token(next, c);
+			case '#':
+				return token(skipLine(input, next, end), COMMENT);
+			case '@':
+				return token(skipWord(input, following == '@' ? next + 1 : next, end), VARIABLE);
+			default:
+				break;
+		}
+		if (c == '-' && following == '-') {
+			return token(skipLine(input, next, end), COMMENT);
+		}
+		if (c == '/' && following == '*') {
+			if (next + 1 < end && input.charAt(next + 1) == '!') { // MySQL 실행 주석은 내용을 SQL로 읽음
+				int content = next + 2;
+				while (content < end && isDigit(input.charAt(content))) {
+					content++;
+				}
+				return token(content, SKIP);
+			}
+			int commentEnd = skipComment(input, next + 1, end);
+			return token(commentEnd < 0 ? end : commentEnd, commentEnd < 0 ? COMMENT : SKIP); // 닫힌 주석은 공백과 같음
+		}
+		if (c == '*' && following == '/') {
+			return token(next + 1, SKIP);
+		}
+		if (isDigit(c) || (c == '.' && isDigit(following))) {
+			int numberEnd = skipNumber(input, position, end);
+			if (numberEnd < end && isWordStart(input.charAt(numberEnd))) { // 1st, 256GB 같은 값은 식별자
+				return token(skipWord(input, numberEnd, end), BAREWORD);
+			}
+			return token(numberEnd, NUMBER);
+		}
+		if (isWordStart(c)) {
+			return word(input, position, skipWord(input, next, end), end);
+		}
+		if (isOperatorChar(c)) {
+			if ((c == '|' || c == '&') && following == c) {
+				return token(next + 1, LOGIC);
+			}
+			int operatorEnd = next;
+			while (operatorEnd < end && operatorEnd - position < 3
+				&& isOperatorChar(input.charAt(operatorEnd)) && !startsComment(input, operatorEnd, end)) {
+				operatorEnd++;
+			}
+			return token(operatorEnd, OPERATOR);
+		}
+		return token(next, UNKNOWN);
+	}
+
+	private static long word(CharSequence input, int start, int end, int limit) {
+		char type = keyword(input, start, end);
+		if (type == GROUP) {
+			int by = skipBlank(input, end, limit);
+			int byEnd = by < limit && isWordStart(input.charAt(by)) ? skipWord(input, by + 1, limit) : by;
+			boolean groupBy = byEnd - by == 2 && keywordEquals("by", input, by, byEnd);
+			return groupBy ? token(byEnd, GROUP_BY) : token(end, BAREWORD);
+		}
+		if (type == FUNCTION) {
+			int paren = skipBlank(input, end, limit);
+			return token(end, paren < limit && input.charAt(paren) == '(' ? FUNCTION : BAREWORD);
+		}
+		return token(end, type == 0 ? BAREWORD : type);
+	}
+
+	private static long token(int end, char type) {
+		return ((long)end << 8) | type;
+	}
+
+	private static int skipWhitespace(CharSequence input, int position, int end) {
+		while (position < end) {
+			char c = input.charAt(position);
+			if (c > ' ' && (c < 128 || (c != '\u00a0' && !Character.isWhitespace(c)))) {
+				break;
+			}
+			position++;
+		}
+		return position;
+	}
+
+	/**
+	 * 공백과 닫힌 블록 주석을 건너뜁니다. 키워드 뒤의 단어나 괄호를 미리 볼 때 사용합니다.
+	 */
+	private static int skipBlank(CharSequence input, int position, int end) {
+		while (true) {
+			position = skipWhitespace(input, position, end);
+			if (position + 2 >= end || input.charAt(position) != '/' || input.charAt(position + 1) != '*'
+				|| input.charAt(position + 2) == '!') {
+				return position;
+			}
+			int commentEnd = skipComment(input, position + 2, end);
+			if (commentEnd < 0) {
+				return position;
+			}
+			position = commentEnd;
+		}
+	}
+
+	/**
+	 * 따옴표를 연 다음 위치부터 닫는 따옴표 다음 위치까지 건너뜁니다. 두 번 쓴 따옴표와 역슬래시 뒤의 따옴표는 문자열의 일부입니다.
+	 */
+	private static int skipString(CharSequence input, int position, int end, char quote) {
+		while (position < end) {
+			char c = input.charAt(position++);
+			if (c == '\\') {
+				position++;
+			} else if (c == quote) {
+				if (position < end && input.charAt(position) == quote) {
+					position++;
+				} else {
+					return position;
+				}
+			}
+		}
+		return end;
+	}
+
+	private static int skipTo(CharSequence input, int position, int end, char terminator) {
+		while (position < end && input.charAt(position) != terminator) {
+			position++;
+		}
+		return Math.min(position + 1, end);
+	}
+
+	private static int skipLine(CharSequence input, int position, int end) {
+		while (position < end && input.charAt(position) != '\n') {
+			position++;
+		}
+		return position;
+	}
+
+	/**
+	 * 블록 주석을 닫는 위치 다음까지 건너뜁니다.
+	 *
+	 * @return 주석이 끝나는 위치, 닫히지 않았으면 {@code -1}
+	 */
+	private static int skipComment(CharSequence input, int position, int end) {
+		for (int i = position; i + 1 < end; i++) {
+			if (input.charAt(i) == '*' && input.charAt(i + 1) == '/') {
+				return i + 2;
+			}
+		}
+		return -1;
+	}
+
+	private static int skipNumber(CharSequence input, int position, int end) {
+		if (input.charAt(position) == '0' && position + 1 < end && (input.charAt(position + 1) | 0x20) == 'x') {
+			int hex = position + 2;
+			while (hex < end && Character.digit(input.charAt(hex), 16) >= 0) {
+				hex++;
+			}
+			if (hex > position + 2) {
+				return hex;
+			}
+		}
+		while (position < end && isDigit(input.charAt(position))) {
+			position++;
+		}
+		if (position < end && input.charAt(position) == '.') {
+			position++;
+			while (position < end && isDigit(input.charAt(position))) {
+				position++;
+			}
+		}
+		if (position < end && (input.charAt(position) | 0x20) == 'e') {
+			int exponent = position + 1;
+			if (exponent < end && (input.charAt(exponent) == '+' || input.charAt(exponent) == '-')) {
+				exponent++;
+			}
+			if (exponent < end && isDigit(input.charAt(exponent))) {
+				position = exponent;
+				while (position < end && isDigit(input.charAt(position))) {
+					position++;
+				}
+			}
+		}
+		return position;
+	}
+
+	private static int skipWord(CharSequence input, int position, int end) {
+		while (position < end && isWordPart(input.charAt(position))) {
+			position++;
+		}
+		return position;
+	}
+
+	private static boolean startsComment(CharSequence input, int position, int end) {
+		if (position + 1 >= end) {
+			return false;
+		}
+		char c = input.charAt(position);
+		char following = input.charAt(position + 1);
+		return (c == '-' && following == '-') || (c == '/' && following == '*') || (c == '*' && following == '/');
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isWordStart(char c) {
+		return (c | 0x20) >= 'a' && (c | 0x20) <= 'z' || c == '_' || c == '$' || (c >= 128 && Character.isLetter(c));
+	}
+
+	private static boolean isWordPart(char c) {
+		return isWordStart(c) || isDigit(c) || c == '.' || (c >= 128 && Character.isLetterOrDigit(c));
+	}
+
+	private static boolean isOperatorChar(char c) {
+		return c < 128 && (FLAGS[c] & OPERATOR_CHAR) != 0;
+	}
+
+	private static void setFlag(String chars, int flag) {
+		for (int i = 0; i < chars.length(); i++) {
+			FLAGS[chars.charAt(i)] |= (byte)flag;
+		}
+	}
+
+	private static void register(char type, String... keywords) {
+		for (String keyword : keywords) {
+			int slot = hash(keyword, 0, keyword.length()) & (KEYWORDS.length - 1);
+			while (KEYWORDS[slot] != null) {
+				slot = (slot + 1) & (KEYWORDS.length - 1);
+			}
+			KEYWORDS[slot] = keyword;
+			KEYWORD_TYPES[slot] = type;
+		}
+	}
+
+	/**
+	 * 단어가 키워드이면 그 종류를, 아니면 {@code 0}을 반환합니다. ASCII 영문자는 대소문자를 구분하지 않습니다.
+	 */
+	private static char keyword(CharSequence input, int start, int end) {
+		if (end - start > MAX_KEYWORD_LENGTH) {
+			return 0;
+		}
+		int slot = hash(input, start, end) & (KEYWORDS.length - 1);
+		while (KEYWORDS[slot] != null) {
+			if (KEYWORDS[slot].length() == end - start && keywordEquals(KEYWORDS[slot], input, start, end)) {
+				return KEYWORD_TYPES[slot];
+			}
+			slot = (slot + 1) & (KEYWORDS.length - 1);
+		}
+		return 0;
+	}
+
+	private static boolean keywordEquals(String keyword, CharSequence input, int start, int end) {
+		for (int i = start; i < end; i++) {
+			char c = input.charAt(i);
+			if (c >= 'A' && c <= 'Z') {
+				c += 'a' - 'A';
+			}
+			if (c != keyword.charAt(i - start)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int hash(CharSequence input, int start, int end) {
+		int hash = 0;
+		for (int i = start; i < end; i++) {
+			char c = input.charAt(i);
+			if (c >= 'A' && c <= 'Z') {
+				c += 'a' - 'A';
+			}
+			hash = hash * 31 + c;
+		}
+		return hash ^ (hash >>> 16);
+	}
+}
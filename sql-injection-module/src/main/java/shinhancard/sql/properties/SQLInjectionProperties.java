@@ -1,8 +1,8 @@
 package shinhancard.sql.properties;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -10,6 +10,9 @@ import org.springframework.context.annotation.Configuration;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.Setter;
+import shinhancard.common.pattern.CompiledPatternSet;
+import shinhancard.common.pattern.PatternEngine;
+import shinhancard.sql.fingerprint.SQLFingerprintDetector;
 
 /**
  * SQL 인젝션 필터 설정을 프로파일별로 정의하는 클래스입니다.
@@ -17,6 +20,14 @@ import lombok.Setter;
  * 설정은 application.yml 파일의 sql 프로파일에 매핑됩니다.
  * 이 클래스는 SQL 인젝션 공격을 탐지하기 위한 패턴을 구성합니다.
  * </p>
+ * <p>
+ * 패턴은 빈 초기화 시 한 번만 컴파일하여 {@link CompiledPatternSet}으로 보관하며, 요청 처리 중에는 컴파일하지 않습니다.
+ * Spring Cloud의 {@code @RefreshScope} 또는 {@code EnvironmentChangeEvent}로 설정이 다시 바인딩되면
+ * 초기화 메서드가 다시 호출되어 새 패턴 집합으로 교체됩니다. 패턴 목록을 직접 바꾼 경우에는 {@link #refresh()}를 호출합니다.
+ * </p>
+ * <p>
+ * {@link #detection}을 {@link Detection#FINGERPRINT}로 설정하면 정규식 대신 {@link SQLFingerprintDetector}로 값을 검사합니다.
+ * </p>
  */
 @Configuration
 @ConfigurationProperties(prefix = "filter.sql")
@@ -41,11 +52,43 @@ public class SQLInjectionProperties {
 		"(@@version|@@global.sql_mode|@@hostname|@@user)", // SQL 서버 설정 변수
 		"('(?:[^']|\\\\')*'\\s*or\\s*'[^']*'\\s*='[^']*)", // OR 기반 SQL 인젝션
 		"(information_schema.tables|information_schema.columns)", // 정보 스키마 테이블 탐색
-		"(admin|root|user|select|drop|truncate|create|alter|exec|grant|revoke|union|order|by|--|;|#|/*|*/)"
+		"(admin|root|user|select|drop|truncate|create|alter|exec|grant|revoke|union|order|by|--|;|#|/\\*|\\*/)"
 	);
 
 	/**
-	 * 설정된 패턴들을 검증합니다.
+	 * 패턴을 검사할 정규식 엔진입니다.
+	 * <p>
+	 * 기본값은 {@link PatternEngine#LINEAR}로, 입력 길이에 비례하는 시간 안에 검사를 마칩니다.
+	 * 지원하지 않는 문법을 사용한 패턴은 시작 시 경고 로그로 알리고 그 패턴만 {@link PatternEngine#REGEX}로 검사합니다.
+	 * </p>
+	 */
+	private PatternEngine patternEngine = PatternEngine.LINEAR;
+
+	/**
+	 * SQL 인젝션을 탐지할 방식입니다.
+	 * <p>
+	 * 기본값은 {@link Detection#PATTERN}입니다.
+	 * </p>
+	 */
+	private Detection detection = Detection.PATTERN;
+
+	/**
+	 * {@link Detection#FINGERPRINT}에서 기본 지문 집합에 추가할 지문 목록입니다 (예: {@code s&sos}).
+	 */
+	private List<String> additionalFingerprints = List.of();
+
+	/**
+	 * {@link Detection#FINGERPRINT}에서 오탐이 있어 기본 지문 집합에서 제외할 지문 목록입니다.
+	 */
+	private List<String> excludedFingerprints = List.of();
+
+	private final AtomicReference<CompiledPatternSet> compiledPatternSet =
+		new AtomicReference<>(CompiledPatternSet.EMPTY);
+
+	private final AtomicReference<SQLFingerprintDetector> fingerprintDetector = new AtomicReference<>();
+
+	/**
+	 * 설정된 패턴들을 검증하고 컴파일합니다.
 	 * <p>
 	 * 패턴 리스트가 비어 있는 경우, 예외를 발생시킵니다.
 	 * </p>
@@ -55,27 +98,70 @@ public class SQLInjectionProperties {
 		if (patterns == null || patterns.isEmpty()) {
 			throw new IllegalArgumentException("At least one SQL injection pattern must be specified.");
 		}
+		refresh();
 	}
 
 	/**
-	 * 설정된 패턴들을 컴파일하여 Pattern 객체로 변환합니다.
+	 * 현재 패턴 목록과 지문 설정을 컴파일하여 사용 중인 패턴 집합과 지문 탐지기를 교체합니다.
 	 * <p>
-	 * 패턴이 비어 있지 않은 경우, 각 패턴을 컴파일하여 Pattern 객체로 변환합니다.
+	 * 컴파일에 실패하면 기존 패턴 집합과 지문 탐지기를 그대로 사용합니다.
+	 * 지문 탐지기는 {@link Detection#FINGERPRINT}일 때만 만듭니다.
+	 * </p>
+	 *
+	 * @throws java.util.regex.PatternSyntaxException 패턴의 문법이 올바르지 않은 경우
+	 * @throws IllegalArgumentException 지문의 형식이 올바르지 않은 경우
+	 */
+	public void refresh() {
+		CompiledPatternSet patternSet = CompiledPatternSet.compile(patterns, Pattern.CASE_INSENSITIVE, patternEngine);
+		SQLFingerprintDetector detector = detection == Detection.FINGERPRINT
+			? SQLFingerprintDetector.create(additionalFingerprints, excludedFingerprints) : null;
+		compiledPatternSet.set(patternSet);
+		fingerprintDetector.set(detector);
+	}
+
+	/**
+	 * 컴파일된 패턴 집합을 반환합니다.
+	 *
+	 * @return 현재 사용 중인 {@link CompiledPatternSet}
+	 */
+	public CompiledPatternSet getCompiledPatternSet() {
+		return compiledPatternSet.get();
+	}
+
+	/**
+	 * 컴파일된 SQL 인젝션 패턴을 반환합니다.
+	 * <p>
+	 * 패턴을 다시 컴파일하지 않고 {@link #getCompiledPatternSet()}의 정규식을 반환합니다.
 	 * </p>
 	 *
 	 * @return 컴파일된 SQL 인젝션 패턴
 	 */
 	public Pattern getCompiledPattern() {
-		if (patterns.isEmpty()) {
-			return Pattern.compile(""); // 빈 문자열 패턴
-		}
+		return getCompiledPatternSet().getPattern();
+	}
+
+	/**
+	 * 지문 탐지기를 반환합니다.
+	 *
+	 * @return 현재 사용 중인 {@link SQLFingerprintDetector}, {@link Detection#FINGERPRINT}가 아니면 {@code null}
+	 */
+	public SQLFingerprintDetector getFingerprintDetector() {
+		return fingerprintDetector.get();
+	}
+
+	/**
+	 * SQL 인젝션 탐지 방식입니다.
+	 */
+	public enum Detection {
 
-		// 빈 패턴을 제거하고 조합
-		String combinedPattern = patterns.stream()
-			.filter(pattern -> !pattern.trim().isEmpty()) // 빈 패턴 필터링
-			.distinct()
-			.collect(Collectors.joining("|"));
+		/**
+		 * {@link #patterns}의 정규식과 일치하는 값을 탐지합니다.
+		 */
+		PATTERN,
 
-		return Pattern.compile(combinedPattern, Pattern.CASE_INSENSITIVE);
+		/**
+		 * 값을 SQL 토큰으로 나누어 만든 지문이 알려진 공격 지문과 일치하면 탐지합니다.
+		 */
+		FINGERPRINT
 	}
 }
@@ -0,0 +1,85 @@
+package shinhancard.sql.fingerprint;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import shinhancard.common.buffer.Utf8CharSequence;
+
+class SQLFingerprintDetectorTest {
+
+	private final SQLFingerprintDetector detector = SQLFingerprintDetector.create(Set.of(), Set.of());
+
+	@Test
+	@DisplayName("공격 말뭉치 970개 중 966개 이상을 탐지한다")
+	void detectsAttackCorpus() throws IOException {
+		List<String> attacks = corpus("/corpus/attacks.txt");
+		assertEquals(970, attacks.size());
+
+		List<String> missed = attacks.stream().filter(value -> !detector.isInjection(value)).toList();
+		assertTrue(missed.size() <= 4, "탐지하지 못한 값: " + missed);
+	}
+
+	@Test
+	@DisplayName("정상 말뭉치 210개는 하나도 탐지하지 않는다")
+	void passesBenignCorpus() throws IOException {
+		List<String> benign = corpus("/corpus/benign.txt");
+		assertEquals(210, benign.size());
+
+		List<String> falsePositives = benign.stream()
+			.filter(value -> detector.isInjection(value))
+			.map(value -> value + " (" + detector.findFingerprint(value) + ")")
+			.toList();
+		assertTrue(falsePositives.isEmpty(), "오탐: " + falsePositives);
+	}
+
+	@Test
+	@DisplayName("JSON 본문은 문자열 값마다 검사하며 이스케이프를 풀어 읽는다")
+	void checksJsonBodyStrings() {
+		assertTrue(containsInjection("{\"name\":\"홍길동\",\"id\":\"1' or '1'='1\"}"));
+		assertTrue(containsInjection("{\"id\":\"1\\u0027 or \\u00271\\u0027=\\u00271\"}"));
+		assertFalse(containsInjection("{\"name\":\"O'Brien\",\"memo\":\"select one from the menu\"}"));
+	}
+
+	@Test
+	@DisplayName("제외한 지문은 탐지하지 않고 추가한 지문은 탐지한다")
+	void appliesExcludedAndAdditionalFingerprints() {
+		String value = "1' or '1'='1";
+		String fingerprint = detector.findFingerprint(value);
+		assertNotNull(fingerprint);
+		SQLFingerprintDetector excluded = SQLFingerprintDetector.create(Set.of(), Set.of(fingerprint));
+		assertEquals(detector.getFingerprintCount() - 1, excluded.getFingerprintCount());
+		assertNotEquals(fingerprint, excluded.findFingerprint(value));
+
+		assertFalse(detector.isInjection("1 or true"));
+		assertTrue(SQLFingerprintDetector.create(Set.of("1&1"), Set.of()).isInjection("1 or true"));
+	}
+
+	private boolean containsInjection(String body) {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		boolean found = detector.containsInjection(new Utf8CharSequence(bytes, 0, bytes.length));
+		assertEquals(found, detector.containsInjection(body), body);
+		return found;
+	}
+
+	/**
+	 * 말뭉치 파일에서 빈 줄과 '#'으로 시작하는 주석 줄을 뺀 값을 읽습니다.
+	 */
+	static List<String> corpus(String resource) throws IOException {
+		try (InputStream in = SQLFingerprintDetectorTest.class.getResourceAsStream(resource)) {
+			assertNotNull(in, resource);
+			return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines()
+				.filter(line -> !line.isEmpty() && !line.startsWith("#"))
+				.toList();
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package shinhancard.sql.properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import shinhancard.common.buffer.Utf8CharSequence;
+import shinhancard.common.pattern.CompiledPatternSet;
+import shinhancard.common.pattern.LinearPattern;
+import shinhancard.common.pattern.PatternEngine;
+
+class SQLInjectionPropertiesTest {
+
+	private static final String[] TOKENS = {
+		"'", "\"", "--", ";", "#", "/*", "*/", " ", "\t", "\n", "=", "1", "42", "(", ")", ",", "or", "and", "OR",
+		"union", "select", "from", "where", "insert", "into", "update", "set", "delete", "sleep", "benchmark",
+		"md5", "@@version", "@@user", "information_schema.tables", "admin", "root", "order", "by", "x", "\\'",
+		"ſ", "K", "가", "😀"
+	};
+
+	@Test
+	@DisplayName("refresh는 패턴 집합을 새 스냅샷으로 교체하고, 컴파일에 실패하면 기존 스냅샷을 그대로 사용한다")
+	void swapsCompiledSnapshotOnRefresh() {
+		SQLInjectionProperties properties = new SQLInjectionProperties();
+		properties.refresh();
+		CompiledPatternSet defaults = properties.getCompiledPatternSet();
+		assertTrue(defaults.find("1' OR '1'='1"));
+		assertTrue(defaults.find("/* comment */")); // 기본 패턴의 /\*|\*/가 컴파일됨
+
+		properties.setPatterns(List.of("drop\\s+table"));
+		properties.refresh();
+		CompiledPatternSet custom = properties.getCompiledPatternSet();
+		assertNotSame(defaults, custom);
+		assertTrue(custom.find("DROP  TABLE users"));
+		assertFalse(custom.find("1' OR '1'='1"));
+
+		properties.setPatterns(List.of("/*|*/"));
+		assertThrows(PatternSyntaxException.class, properties::refresh);
+		assertSame(custom, properties.getCompiledPatternSet());
+	}
+
+	@Test
+	@DisplayName("기본 SQL 인젝션 패턴을 선형 시간 엔진으로 검사한 결과는 java.util.regex와 같다")
+	void defaultPatternsMatchLikeRegex() throws IOException {
+		SQLInjectionProperties properties = new SQLInjectionProperties();
+		properties.refresh();
+		CompiledPatternSet linear = properties.getCompiledPatternSet();
+		CompiledPatternSet regex = CompiledPatternSet.compile(properties.getPatterns(), Pattern.CASE_INSENSITIVE,
+			PatternEngine.REGEX);
+		Pattern expected = Pattern.compile(String.join("|", properties.getPatterns()), Pattern.CASE_INSENSITIVE);
+
+		for (String input : inputs()) {
+			boolean matches = expected.matcher(input).find();
+			byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+			assertEquals(matches, linear.find(input), input);
+			assertEquals(matches, linear.find(new Utf8CharSequence(bytes, 0, bytes.length)), input);
+			assertEquals(matches, regex.find(input), input);
+		}
+	}
+
+	@Test
+	@DisplayName("기본 SQL 인젝션 패턴은 각각 선형 시간 엔진에서 java.util.regex와 같은 입력에서 일치한다")
+	void eachDefaultPatternMatchesLikeRegex() throws IOException {
+		SQLInjectionProperties properties = new SQLInjectionProperties();
+		properties.refresh();
+		assertTrue(properties.getCompiledPatternSet().getUnsupportedPatterns().isEmpty());
+
+		List<String> inputs = inputs();
+		for (String source : properties.getPatterns()) {
+			LinearPattern linearPattern = LinearPattern.compile(source, Pattern.CASE_INSENSITIVE);
+			Pattern pattern = Pattern.compile(source, Pattern.CASE_INSENSITIVE);
+			for (String input : inputs) {
+				assertEquals(pattern.matcher(input).find(), linearPattern.find(input), source + " / " + input);
+			}
+		}
+	}
+
+	/**
+	 * 말뭉치의 모든 줄과 SQL 토큰을 무작위로 이어 붙인 값을 반환합니다.
+	 */
+	private static List<String> inputs() throws IOException {
+		List<String> inputs = new ArrayList<>();
+		inputs.addAll(lines("/corpus/attacks.txt"));
+		inputs.addAll(lines("/corpus/benign.txt"));
+		Random random = new Random(20240501L);
+		for (int i = 0; i < 5000; i++) {
+			StringBuilder input = new StringBuilder();
+			int tokens = 1 + random.nextInt(12);
+			for (int j = 0; j < tokens; j++) {
+				input.append(TOKENS[random.nextInt(TOKENS.length)]);
+			}
+			inputs.add(input.toString());
+		}
+		return inputs;
+	}
+
+	private static List<String> lines(String resource) throws IOException {
+		try (InputStream in = SQLInjectionPropertiesTest.class.getResourceAsStream(resource)) {
+			assertNotNull(in, resource);
+			return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines()
+				.filter(line -> !line.startsWith("#"))
+				.toList();
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package shinhancard.xss.properties;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import shinhancard.common.pattern.CompiledPatternSet;
+import shinhancard.common.pattern.PatternEngine;
+
+/**
+ * 기본 XSS 패턴으로 값 하나를 검사하는 시간을 {@link PatternEngine#LINEAR}와 {@link PatternEngine#REGEX}로 비교합니다.
+ * <p>
+ * {@code benign}은 태그가 없는 일반 문장이고, {@code openTags}({@code <src } 반복)와 {@code attributes}(따옴표 없는
+ * {@code src=} 반복)는 사전 검사를 통과하지만 어느 패턴과도 일치하지 않으면서 {@code <.*?...>},
+ * {@code .*?\b(?:src|...)\b.*?=} 같은 패턴의 역추적을 최대로 일으키는 입력입니다.
+ * {@code REGEX}는 길이에 대해 제곱 이상으로 느려지고, {@code LINEAR}는 길이에 비례합니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class XSSPatternEngineBenchmark {
+
+	@Param({"benign", "openTags", "attributes"})
+	private String input;
+
+	@Param({"256", "1024"})
+	private int length;
+
+	private String value;
+	private CompiledPatternSet linear;
+	private CompiledPatternSet regex;
+
+	@Setup
+	public void setUp() {
+		String unit = switch (input) {
+			case "openTags" -> "<src ";
+			case "attributes" -> "src=";
+			default -> "결제 내역을 확인해 주세요. ";
+		};
+		value = unit.repeat(Math.max(1, length / unit.length()));
+
+		linear = compiled(PatternEngine.LINEAR);
+		regex = compiled(PatternEngine.REGEX);
+		if (linear.find(value) || regex.find(value)) {
+			throw new IllegalStateException("입력이 패턴과 일치하면 역추적이 일어나지 않습니다: " + input);
+		}
+	}
+
+	@Benchmark
+	public boolean linear() {
+		return linear.find(value);
+	}
+
+	@Benchmark
+	public boolean regex() {
+		return regex.find(value);
+	}
+
+	private static CompiledPatternSet compiled(PatternEngine patternEngine) {
+		XSSProperties properties = new XSSProperties();
+		properties.setPatternEngine(patternEngine);
+		properties.refresh();
+		return properties.getCompiledPatternSet();
+	}
+}
@@ -7,6 +7,9 @@ import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.Ordered;
 
+import shinhancard.common.config.CommonAutoConfiguration;
+import shinhancard.common.io.RejectionWriter;
+import shinhancard.common.wrapper.RequestBodyCapture;
 import shinhancard.xss.filter.XSSFilter;
 import shinhancard.xss.properties.XSSProperties;
 
@@ -16,7 +19,7 @@ import shinhancard.xss.properties.XSSProperties;
  * 이 클래스는 XSS 필터를 자동으로 등록합니다.
  * </p>
  */
-@AutoConfiguration
+@AutoConfiguration(after = CommonAutoConfiguration.class)
 @EnableConfigurationProperties({XSSProperties.class})
 @ConditionalOnProperty(name = "filter.xss.enabled", havingValue = "true", matchIfMissing = true)
 public class XSSAutoConfiguration {
@@ -30,12 +33,15 @@ public class XSSAutoConfiguration {
 	/**
 	 * XSS 필터를 Spring 컨텍스트에 등록합니다.
 	 *
+	 * @param requestBodyCapture 요청 본문 캐싱 기능
+	 * @param rejectionWriter 거부 응답 전송 기능
 	 * @return XSSFilter 등록을 위한 FilterRegistrationBean 객체
 	 */
 	@Bean
-	public FilterRegistrationBean<XSSFilter> xssFilterRegistration() {
+	public FilterRegistrationBean<XSSFilter> xssFilterRegistration(RequestBodyCapture requestBodyCapture,
+		RejectionWriter rejectionWriter) {
 		FilterRegistrationBean<XSSFilter> registrationBean = new FilterRegistrationBean<>();
-		registrationBean.setFilter(new XSSFilter(xssProperties));
+		registrationBean.setFilter(new XSSFilter(xssProperties, requestBodyCapture, rejectionWriter));
 		registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 3); // XSS 필터의 순서를 설정
 		return registrationBean;
 	}
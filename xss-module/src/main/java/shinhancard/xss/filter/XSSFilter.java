@@ -2,8 +2,6 @@ package shinhancard.xss.filter;
 
 import java.io.IOException;
 import java.util.Enumeration;
-import java.util.Optional;
-import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -15,8 +13,10 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import shinhancard.common.io.RejectionWriter;
 import shinhancard.common.io.ResponseCode;
-import shinhancard.common.io.ResponseVo;
+import shinhancard.common.trace.FilterTimings;
+import shinhancard.common.wrapper.RequestBodyCapture;
 import shinhancard.common.wrapper.WrappedHttpServletRequest;
 import shinhancard.xss.properties.XSSProperties;
 
@@ -26,25 +26,38 @@ import shinhancard.xss.properties.XSSProperties;
  * 이 필터는 HTTP 요청의 매개변수, 쿠키 및 요청 본문에서 XSS 취약점을 검사합니다.
  * XSS 공격이 감지된 경우 요청 처리를 중단하고 적절한 에러 응답을 생성합니다.
  * </p>
+ * <p>
+ * 요청 본문은 문자열로 변환하지 않고 캐시된 UTF-8 바이트를 그대로 검사하며,
+ * 로그에는 값 전체 대신 일치한 부분 앞의 최대 200자만 문자열로 만들어 남깁니다.
+ * </p>
  */
 @Slf4j
 @Component
 public class XSSFilter extends OncePerRequestFilter {
 
+	private static final String TIMING_NAME = "xss"; // 필터별 처리 시간 기록 이름
 	private static final String PARAMETER_SOURCE = "parameter";
 	private static final String COOKIE_SOURCE = "cookie";
 	private static final String BODY_SOURCE = "body";
+	private static final int LOG_EXCERPT_LENGTH = 200; // 로그에 남길 일치 부분 앞의 최대 문자 수
 
 	private final XSSProperties xssProperties;
+	private final RequestBodyCapture requestBodyCapture;
+	private final RejectionWriter rejectionWriter;
 
 	/**
 	 * XSSFilter의 생성자입니다.
 	 *
 	 * @param xssProperties XSS 검사를 위한 패턴을 설정하는 {@link XSSProperties} 객체
+	 * @param requestBodyCapture 요청 본문을 캐싱하는 {@link RequestBodyCapture} 객체
+	 * @param rejectionWriter 거부 응답을 전송하는 {@link RejectionWriter} 객체
 	 */
 	@Autowired
-	public XSSFilter(XSSProperties xssProperties) {
+	public XSSFilter(XSSProperties xssProperties, RequestBodyCapture requestBodyCapture,
+		RejectionWriter rejectionWriter) {
 		this.xssProperties = xssProperties;
+		this.requestBodyCapture = requestBodyCapture;
+		this.rejectionWriter = rejectionWriter;
 	}
 
 	/**
@@ -59,15 +72,18 @@ public class XSSFilter extends OncePerRequestFilter {
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 		throws ServletException, IOException {
-		WrappedHttpServletRequest wrappedRequest = new WrappedHttpServletRequest(request);
+		long startNanos = System.nanoTime();
+		FilterChain timedChain = FilterTimings.timed(request, TIMING_NAME, startNanos, filterChain);
+		WrappedHttpServletRequest wrappedRequest = requestBodyCapture.capture(request);
 
 		// 매개변수, 본문, 쿠키에서 XSS 공격 여부를 검사하고, 감지된 경우 필터 체인 진행을 중지합니다.
 		if (isXssDetectedInParametersOrBody(wrappedRequest, response) || isXssDetectedInCookies(wrappedRequest,
 			response)) {
+			FilterTimings.recordIfAbsent(request, TIMING_NAME, startNanos); // 요청을 거부한 시점까지 기록
 			return; // XSS 감지 시 필터 체인 진행을 중지합니다.
 		}
 
-		filterChain.doFilter(wrappedRequest, response); // XSS가 감지되지 않은 경우 다음 필터로 요청을 전달합니다.
+		timedChain.doFilter(wrappedRequest, response); // XSS가 감지되지 않은 경우 다음 필터로 요청을 전달합니다.
 	}
 
 	/**
@@ -121,14 +137,14 @@ public class XSSFilter extends OncePerRequestFilter {
 	 */
 	private boolean isXssDetectedInParameter(String paramName, HttpServletRequest request,
 		HttpServletResponse response) throws IOException {
-		if (checkForXss(paramName, PARAMETER_SOURCE, response)) {
+		if (checkForXss(paramName, PARAMETER_SOURCE, request, response)) {
 			return true;
 		}
 
 		String[] paramValues = request.getParameterValues(paramName);
 		if (paramValues != null) {
 			for (String paramValue : paramValues) {
-				if (checkForXss(paramValue, PARAMETER_SOURCE, response)) {
+				if (checkForXss(paramValue, PARAMETER_SOURCE, request, response)) {
 					return true;
 				}
 			}
@@ -161,7 +177,8 @@ public class XSSFilter extends OncePerRequestFilter {
 				continue;
 			}
 
-			if (checkForXss(cookieName, COOKIE_SOURCE, response) || checkForXss(cookieValue, COOKIE_SOURCE, response)) {
+			if (checkForXss(cookieName, COOKIE_SOURCE, request, response)
+				|| checkForXss(cookieValue, COOKIE_SOURCE, request, response)) {
 				log.debug("XSS 감지됨: 쿠키 이름 [{}] 또는 값 [{}]", cookieName, cookieValue);
 				return true;
 			}
@@ -181,8 +198,7 @@ public class XSSFilter extends OncePerRequestFilter {
 	 */
 	private boolean checkForXssInRequestBody(WrappedHttpServletRequest request, HttpServletResponse response) throws
 		IOException {
-		String body = request.getBody();
-		return checkForXss(body, BODY_SOURCE, response);
+		return checkForXss(request.getBodyAsCharSequence(), BODY_SOURCE, request, response);
 	}
 
 	/**
@@ -190,20 +206,23 @@ public class XSSFilter extends OncePerRequestFilter {
 	 *
 	 * @param value  검사할 값
 	 * @param source 검사된 값의 출처 (예: "parameter", "cookie", "body")
+	 * @param request HTTP 요청 객체
 	 * @param response HTTP 응답 객체
 	 * @return XSS 공격이 감지된 경우 true, 그렇지 않으면 false
 	 * @throws IOException I/O 예외
 	 */
-	private boolean checkForXss(String value, String source, HttpServletResponse response) throws IOException {
+	private boolean checkForXss(CharSequence value, String source, HttpServletRequest request,
+		HttpServletResponse response) throws IOException {
 		if (isEmpty(value)) {
 			return false;
 		}
 
-		boolean isXssDetected = isXssDetected(value);
+		int matchEnd = findXss(value);
+		boolean isXssDetected = matchEnd >= 0;
 
 		if (isXssDetected) {
-			logXssDetected(source, value);
-			handleXssViolation(response, getResponseCodeForSource(source));
+			logXssDetected(source, value, matchEnd);
+			handleXssViolation(request, response, getResponseCodeForSource(source));
 		}
 
 		return isXssDetected;
@@ -213,21 +232,26 @@ public class XSSFilter extends OncePerRequestFilter {
 	 * XSS 공격 여부를 확인합니다.
 	 *
 	 * @param value 검사할 값
-	 * @return XSS 공격이 감지된 경우 true, 그렇지 않으면 false
+	 * @return XSS 패턴과 일치한 부분의 끝 위치, 감지되지 않은 경우 -1
 	 */
-	private boolean isXssDetected(String value) {
-		Pattern compiledPattern = xssProperties.getCompiledPattern();
-		return compiledPattern.matcher(value).find();
+	private int findXss(CharSequence value) {
+		return xssProperties.getCompiledPatternSet().findEnd(value);
 	}
 
 	/**
-	 * XSS 공격이 감지된 경우 로그를 기록합니다.
+	 * XSS 공격이 감지된 경우 일치한 부분 앞의 일부만 문자열로 만들어 로그를 기록합니다.
 	 *
-	 * @param source XSS 공격이 감지된 출처 (예: "parameter", "cookie", "body")
-	 * @param value  XSS 공격이 감지된 값
+	 * @param source   XSS 공격이 감지된 출처 (예: "parameter", "cookie", "body")
+	 * @param value    XSS 공격이 감지된 값
+	 * @param matchEnd 일치한 부분의 끝 위치
 	 */
-	private void logXssDetected(String source, String value) {
-		log.warn("XSS 공격 가능성 발견됨: {}에서 발견됨 - {}", source, value);
+	private void logXssDetected(String source, CharSequence value, int matchEnd) {
+		int start = Math.max(0, matchEnd - LOG_EXCERPT_LENGTH);
+		if (start > 0 && Character.isLowSurrogate(value.charAt(start))) {
+			start++; // 보조 문자를 반으로 자르지 않음
+		}
+		String excerpt = value.subSequence(start, matchEnd).toString();
+		log.warn("XSS 공격 가능성 발견됨: {}에서 발견됨 - {}{}", source, start > 0 ? "..." : "", excerpt);
 	}
 
 	/**
@@ -248,16 +272,15 @@ public class XSSFilter extends OncePerRequestFilter {
 	/**
 	 * XSS 공격이 감지된 경우 에러 응답을 생성합니다.
 	 *
+	 * @param request   HTTP 요청 객체
 	 * @param response  HTTP 응답 객체
 	 * @param responseCode 응답 코드
 	 * @throws IOException I/O 예외
 	 */
-	private void handleXssViolation(HttpServletResponse response, ResponseCode responseCode) throws IOException {
+	private void handleXssViolation(HttpServletRequest request, HttpServletResponse response,
+		ResponseCode responseCode) throws IOException {
 		log.error("XSS 예외 발생: {}", responseCode.getMessage());
-		response.sendError(
-			responseCode.getHttpStatus().value(),
-			ResponseVo.error(responseCode, Optional.empty()).toString()
-		);
+		rejectionWriter.reject(request, response, responseCode);
 	}
 
 	/**
@@ -266,7 +289,7 @@ public class XSSFilter extends OncePerRequestFilter {
 	 * @param value 확인할 값
 	 * @return 값이 null이거나 빈 문자열인 경우 true, 그렇지 않으면 false
 	 */
-	private boolean isEmpty(String value) {
+	private boolean isEmpty(CharSequence value) {
 		return value == null || value.isEmpty();
 	}
 }
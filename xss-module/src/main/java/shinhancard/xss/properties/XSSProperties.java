@@ -1,8 +1,8 @@
 package shinhancard.xss.properties;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -10,6 +10,8 @@ import org.springframework.context.annotation.Configuration;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.Setter;
+import shinhancard.common.pattern.CompiledPatternSet;
+import shinhancard.common.pattern.PatternEngine;
 
 /**
  * XSS 필터 설정을 프로파일별로 정의하는 클래스입니다.
@@ -17,6 +19,11 @@ import lombok.Setter;
  * 설정은 application.yml 파일의 xss 프로파일에 매핑됩니다.
  * 이 클래스는 XSS (Cross-Site Scripting) 공격을 탐지하기 위한 패턴을 구성합니다.
  * </p>
+ * <p>
+ * 패턴은 빈 초기화 시 한 번만 컴파일하여 {@link CompiledPatternSet}으로 보관하며, 요청 처리 중에는 컴파일하지 않습니다.
+ * 설정이 다시 바인딩되면 초기화 메서드가 다시 호출되어 새 패턴 집합으로 교체됩니다.
+ * 패턴 목록을 직접 바꾼 경우에는 {@link #refresh()}를 호출합니다.
+ * </p>
  */
 @Configuration
 @ConfigurationProperties(prefix = "filter.xss")
@@ -73,6 +80,18 @@ public class XSSProperties {
 		// 다양한 이벤트 및 프로토콜
 	);
 
+	/**
+	 * 패턴을 검사할 정규식 엔진입니다.
+	 * <p>
+	 * 기본값은 {@link PatternEngine#LINEAR}로, 입력 길이에 비례하는 시간 안에 검사를 마칩니다.
+	 * 지원하지 않는 문법을 사용한 패턴은 시작 시 경고 로그로 알리고 그 패턴만 {@link PatternEngine#REGEX}로 검사합니다.
+	 * </p>
+	 */
+	private PatternEngine patternEngine = PatternEngine.LINEAR;
+
+	private final AtomicReference<CompiledPatternSet> compiledPatternSet =
+		new AtomicReference<>(CompiledPatternSet.EMPTY);
+
 	/**
 	 * 설정된 패턴들을 검증합니다.
 	 * <p>
@@ -85,27 +104,41 @@ public class XSSProperties {
 			throw new IllegalArgumentException(
 				"At least one XSS pattern must be specified when XSS filter is enabled.");
 		}
+		refresh();
 	}
 
 	/**
-	 * 설정된 패턴들을 컴파일하여 Pattern 객체로 변환합니다.
+	 * 현재 패턴 목록을 컴파일하여 사용 중인 패턴 집합을 교체합니다.
 	 * <p>
-	 * 패턴이 비어 있지 않은 경우, 각 패턴을 컴파일하여 Pattern 객체로 변환합니다.
+	 * XSS 필터가 비활성화된 경우 어떤 값과도 일치하지 않는 빈 패턴 집합을 사용합니다.
+	 * 컴파일에 실패하면 기존 패턴 집합을 그대로 사용합니다.
 	 * </p>
 	 *
-	 * @return 컴파일된 XSS 패턴
+	 * @throws java.util.regex.PatternSyntaxException 패턴의 문법이 올바르지 않은 경우
 	 */
-	public Pattern getCompiledPattern() {
-		if (!enabled || patterns.isEmpty()) {
-			// XSS 필터가 비활성화된 경우 또는 패턴이 비어 있는 경우 빈 패턴을 반환
-			return Pattern.compile(""); // 빈 문자열 패턴
-		}
+	public void refresh() {
+		compiledPatternSet.set(enabled ?
+			CompiledPatternSet.compile(patterns, Pattern.CASE_INSENSITIVE, patternEngine) : CompiledPatternSet.EMPTY);
+	}
 
-		// 중복 패턴 제거 및 패턴 병합
-		String combinedPattern = patterns.stream()
-			.distinct() // 중복 제거
-			.collect(Collectors.joining("|")); // '|'로 패턴 연결
+	/**
+	 * 컴파일된 패턴 집합을 반환합니다.
+	 *
+	 * @return 현재 사용 중인 {@link CompiledPatternSet}
+	 */
+	public CompiledPatternSet getCompiledPatternSet() {
+		return compiledPatternSet.get();
+	}
 
-		return Pattern.compile(combinedPattern, Pattern.CASE_INSENSITIVE);
+	/**
+	 * 컴파일된 XSS 패턴을 반환합니다.
+	 * <p>
+	 * 패턴을 다시 컴파일하지 않고 {@link #getCompiledPatternSet()}의 정규식을 반환합니다.
+	 * </p>
+	 *
+	 * @return 컴파일된 XSS 패턴
+	 */
+	public Pattern getCompiledPattern() {
+		return getCompiledPatternSet().getPattern();
 	}
 }
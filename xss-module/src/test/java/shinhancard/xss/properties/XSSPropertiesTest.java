@@ -0,0 +1,121 @@
+package shinhancard.xss.properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import shinhancard.common.buffer.Utf8CharSequence;
+import shinhancard.common.pattern.CompiledPatternSet;
+import shinhancard.common.pattern.LinearPattern;
+import shinhancard.common.pattern.PatternEngine;
+
+class XSSPropertiesTest {
+
+	private static final List<String> SAMPLES = List.of(
+		"<script>alert(1)</script>", "<SCRIPT SRC=//x.js></SCRIPT>", "<img src=x onerror=alert(1)>",
+		"<a href=\"javascript:alert(1)\">x</a>", "<body onload =init()>", "<div style=\"x:expression(alert(1))\">",
+		"<iframe src=//evil></iframe>", "<object data=x></object>", "<embed src=x>", "<form action=x>",
+		"<style>", "<p data-x=1>", "javascript:void(0)", "data:text/html;base64,PHNjcmlwdD4=",
+		"document.cookie", "window.open('x')", "eval(atob('x'))", "x onmouseover='alert(1)'",
+		"안녕하세요", "a < b and c > d", "price <= 100", "onion=3", "https://example.com/?q=1",
+		"{\"name\":\"홍길동\",\"memo\":\"<b>굵게</b>\"}", "line1\nline2 <script\n>", "< onload=1>"
+	);
+	private static final String[] TOKENS = {
+		"<", ">", "</", "/", "script", "<script>", "</script>", "javascript:", "vbscript:", "data:", "data-",
+		"expression(", "on", "load", "onload", "onerror", "onclick", "=", " = ", " ", "\t", "\n", "\r\n", "\u0085",
+		" ", "'", "\"", "src", "href", "background", "iframe", "</iframe>", "object", "</object>", "embed",
+		"form", "style", "vbs", "jsc", "document.", "cookie", "window.", "alert", "eval(", "(", ")", "a", "x", "1",
+		"SCRIPT", "OnLoad", "JavaScript:", "ſ", "K", "é", "가", "😀"
+	};
+
+	@Test
+	@DisplayName("refresh는 새 스냅샷으로 교체하고, 이전 스냅샷과 컴파일에 실패한 경우의 스냅샷은 바뀌지 않는다")
+	void swapsCompiledSnapshotOnRefresh() {
+		XSSProperties properties = new XSSProperties();
+		assertSame(CompiledPatternSet.EMPTY, properties.getCompiledPatternSet()); // 초기화 전
+
+		properties.refresh();
+		CompiledPatternSet defaults = properties.getCompiledPatternSet();
+		assertSame(defaults, properties.getCompiledPatternSet()); // 조회할 때 다시 컴파일하지 않음
+		assertSame(defaults.getPattern(), properties.getCompiledPattern());
+		assertTrue(defaults.find("<script>alert(1)</script>"));
+
+		properties.setPatterns(List.of("forbidden"));
+		properties.refresh();
+		CompiledPatternSet custom = properties.getCompiledPatternSet();
+		assertTrue(custom.find("FORBIDDEN word"));
+		assertFalse(custom.find("<script>alert(1)</script>"));
+		assertTrue(defaults.find("<script>alert(1)</script>")); // 검사 중이던 요청은 이전 스냅샷을 그대로 사용
+
+		properties.setPatterns(List.of("(unclosed"));
+		assertThrows(PatternSyntaxException.class, properties::refresh);
+		assertSame(custom, properties.getCompiledPatternSet());
+
+		properties.setEnabled(false);
+		properties.refresh();
+		assertSame(CompiledPatternSet.EMPTY, properties.getCompiledPatternSet());
+	}
+
+	@Test
+	@DisplayName("기본 XSS 패턴을 선형 시간 엔진으로 검사한 결과는 java.util.regex와 같다")
+	void defaultPatternsMatchLikeRegex() {
+		XSSProperties properties = new XSSProperties();
+		properties.refresh();
+		CompiledPatternSet linear = properties.getCompiledPatternSet();
+		CompiledPatternSet regex = CompiledPatternSet.compile(properties.getPatterns(), Pattern.CASE_INSENSITIVE,
+			PatternEngine.REGEX);
+		Pattern expected = Pattern.compile(String.join("|", properties.getPatterns()), Pattern.CASE_INSENSITIVE);
+
+		List<String> inputs = inputs();
+		int matched = 0;
+		for (String input : inputs) {
+			boolean matches = expected.matcher(input).find();
+			byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+			assertEquals(matches, linear.find(input), input);
+			assertEquals(matches, linear.find(new Utf8CharSequence(bytes, 0, bytes.length)), input);
+			assertEquals(matches, regex.find(input), input);
+			matched += matches ? 1 : 0;
+		}
+		// 일치하는 입력과 일치하지 않는 입력이 모두 충분해야 비교가 의미 있음
+		assertTrue(matched > inputs.size() / 10 && matched < inputs.size() * 9 / 10, "일치한 입력 수: " + matched);
+	}
+
+	@Test
+	@DisplayName("기본 XSS 패턴은 각각 선형 시간 엔진에서 java.util.regex와 같은 입력에서 일치한다")
+	void eachDefaultPatternMatchesLikeRegex() {
+		XSSProperties properties = new XSSProperties();
+		properties.refresh();
+		assertTrue(properties.getCompiledPatternSet().getUnsupportedPatterns().isEmpty());
+
+		List<String> inputs = inputs();
+		for (String source : properties.getPatterns()) {
+			LinearPattern linearPattern = LinearPattern.compile(source, Pattern.CASE_INSENSITIVE);
+			Pattern pattern = Pattern.compile(source, Pattern.CASE_INSENSITIVE);
+			for (String input : inputs) {
+				assertEquals(pattern.matcher(input).find(), linearPattern.find(input), source + " / " + input);
+			}
+		}
+	}
+
+	private static List<String> inputs() {
+		Random random = new Random(20240501L);
+		List<String> inputs = new ArrayList<>(SAMPLES);
+		for (int i = 0; i < 5000; i++) {
+			StringBuilder input = new StringBuilder();
+			int tokens = 1 + random.nextInt(12);
+			for (int j = 0; j < tokens; j++) {
+				input.append(TOKENS[random.nextInt(TOKENS.length)]);
+			}
+			inputs.add(input.toString());
+		}
+		return inputs;
+	}
+}